@@ -35,8 +35,18 @@ public class JOGLDrawContext implements GLDrawContext {
 			.values().length];
 
 	private static final int FLOATS_PER_COLORED_TRI_VERTEX = 9;
+	private static final int TEXTURED_VERTEX_BYTES = 5 * 4;
+	private static final int COLORED_VERTEX_BYTES = 6 * 4;
 	private final GL2 gl2;
 	private final boolean canUseVBOs;
+	/**
+	 * The buffer all geometry that is not stored is copied to, if vertex buffers are supported.
+	 */
+	private final StreamVertexBuffer streamBuffer;
+	private final ByteBuffer quadBuffer = ByteBuffer.allocateDirect(4 * 2 * 4).order(ByteOrder.nativeOrder());
+	private final FloatBuffer quadFloatBuffer = quadBuffer.asFloatBuffer();
+	private final int[] objectIds = new int[1];
+	private final GLByteBufferWrapper geometryWriter = new GLByteBufferWrapper();
 
 	public JOGLDrawContext(GL2 gl2) {
 		this.gl2 = gl2;
@@ -51,10 +61,14 @@ public class JOGLDrawContext implements GLDrawContext {
 		gl2.glEnable(GL2.GL_TEXTURE_2D);
 
 		canUseVBOs = gl2.isExtensionAvailable("GL_ARB_vertex_buffer_object");
+		streamBuffer = canUseVBOs ? new StreamVertexBuffer(gl2) : null;
 	}
 
 	public void startFrame() {
 		gl2.glClear(GL2.GL_DEPTH_BUFFER_BIT);
+		if (streamBuffer != null) {
+			streamBuffer.startFrame();
+		}
 	}
 
 	@Override
@@ -64,28 +78,20 @@ public class JOGLDrawContext implements GLDrawContext {
 
 	@Override
 	public void fillQuad(float x1, float y1, float x2, float y2) {
-		ByteBuffer quadPoints = ByteBuffer.allocateDirect(4 * 2 * 4);
-		quadPoints.order(ByteOrder.nativeOrder());
-		FloatBuffer floatBuff = quadPoints.asFloatBuffer();
-		floatBuff.put(x1);
-		floatBuff.put(y1);
-
-		floatBuff.put(x1);
-		floatBuff.put(y2);
+		quadFloatBuffer.position(0);
+		quadFloatBuffer.put(x1);
+		quadFloatBuffer.put(y1);
 
-		floatBuff.put(x2);
-		floatBuff.put(y2);
+		quadFloatBuffer.put(x1);
+		quadFloatBuffer.put(y2);
 
-		floatBuff.put(x2);
-		floatBuff.put(y1);
+		quadFloatBuffer.put(x2);
+		quadFloatBuffer.put(y2);
 
-		floatBuff.position(0);
+		quadFloatBuffer.put(x2);
+		quadFloatBuffer.put(y1);
 
-		gl2.glBindTexture(GL.GL_TEXTURE_2D, 0);
-		gl2.glDisableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
-		gl2.glVertexPointer(2, GL2.GL_FLOAT, 0, floatBuff);
-		gl2.glDrawArrays(GL2.GL_QUADS, 0, 4);
-		gl2.glEnableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
+		drawUntextured(GL2.GL_QUADS, quadBuffer, 2, 4);
 	}
 
 	@Override
@@ -96,30 +102,100 @@ public class JOGLDrawContext implements GLDrawContext {
 		}
 		ByteBuffer floatBuff = generateTemporaryFloatBuffer(points);
 
+		drawUntextured(loop ? GL2.GL_LINE_LOOP : GL2.GL_LINE_STRIP, floatBuff,
+				3, points.length / 3);
+	}
+
+	private void drawUntextured(int mode, ByteBuffer buffer, int size,
+			int vertices) {
 		gl2.glBindTexture(GL.GL_TEXTURE_2D, 0);
 		gl2.glDisableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
-		gl2.glVertexPointer(3, GL2.GL_FLOAT, 0, floatBuff);
-		gl2.glDrawArrays(loop ? GL2.GL_LINE_LOOP : GL2.GL_LINE_STRIP, 0,
-				points.length / 3);
+		int offset = stream(buffer, vertices * size * 4);
+		if (offset >= 0) {
+			gl2.glVertexPointer(size, GL2.GL_FLOAT, 0, offset);
+		} else {
+			buffer.position(0);
+			gl2.glVertexPointer(size, GL2.GL_FLOAT, 0, buffer);
+		}
+		gl2.glDrawArrays(mode, 0, vertices);
+		if (offset >= 0) {
+			streamBuffer.unbind();
+		}
 		gl2.glEnableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
 	}
 
+	/**
+	 * Draws textured vertices of the form x,y,z,u,v and, if colored, four color bytes.
+	 * 
+	 * @param stream
+	 *            If the vertices should be copied to the stream buffer. Vertices that are stored in client memory are drawn from there.
+	 */
+	private void drawTextured(int textureid, int mode, ByteBuffer buffer,
+			int vertices, boolean colored, boolean stream) {
+		gl2.glBindTexture(GL.GL_TEXTURE_2D, textureid);
+
+		int stride = colored ? COLORED_VERTEX_BYTES : TEXTURED_VERTEX_BYTES;
+		int offset = stream ? stream(buffer, vertices * stride) : -1;
+		if (offset >= 0) {
+			gl2.glVertexPointer(3, GL2.GL_FLOAT, stride, offset);
+			gl2.glTexCoordPointer(2, GL2.GL_FLOAT, stride, offset + 3 * 4);
+			if (colored) {
+				gl2.glColorPointer(4, GL2.GL_UNSIGNED_BYTE, stride, offset + 5 * 4);
+			}
+		} else {
+			buffer.position(0);
+			gl2.glVertexPointer(3, GL2.GL_FLOAT, stride, buffer);
+			buffer.position(3 * 4);
+			gl2.glTexCoordPointer(2, GL2.GL_FLOAT, stride, buffer);
+			if (colored) {
+				buffer.position(5 * 4);
+				gl2.glColorPointer(4, GL2.GL_UNSIGNED_BYTE, stride, buffer);
+			}
+		}
+
+		if (colored) {
+			gl2.glEnableClientState(GL2.GL_COLOR_ARRAY);
+			gl2.glDrawArrays(mode, 0, vertices);
+			gl2.glDisableClientState(GL2.GL_COLOR_ARRAY);
+		} else {
+			gl2.glDrawArrays(mode, 0, vertices);
+		}
+
+		if (offset >= 0) {
+			streamBuffer.unbind();
+		}
+	}
+
+	/**
+	 * Copies the geometry to the stream buffer, if vertex buffers are supported.
+	 * 
+	 * @return The offset in the bound stream buffer or -1 if the geometry needs to be drawn from client memory.
+	 */
+	private int stream(ByteBuffer buffer, int bytes) {
+		if (streamBuffer == null) {
+			return -1;
+		} else {
+			return streamBuffer.upload(buffer, bytes);
+		}
+	}
+
 	private ByteBuffer reuseableBuffer = null;
+	private FloatBuffer reuseableFloatBuffer = null;
 	private ArrayList<ByteBuffer> geometries = new ArrayList<ByteBuffer>();
 
 	private ByteBuffer generateTemporaryFloatBuffer(float[] points) {
-		FloatBuffer buffer;
 		if (reuseableBuffer == null
 				|| reuseableBuffer.capacity() < points.length * 4) {
 			reuseableBuffer = ByteBuffer.allocateDirect(points.length * 4);
 			reuseableBuffer.order(ByteOrder.nativeOrder());
+			reuseableFloatBuffer = reuseableBuffer.asFloatBuffer();
 		} else {
 			reuseableBuffer.position(0);
 		}
 
-		buffer = reuseableBuffer.asFloatBuffer();
-		buffer.put(points);
-		buffer.position(0);
+		reuseableFloatBuffer.position(0);
+		reuseableFloatBuffer.put(points);
+		reuseableFloatBuffer.position(0);
 		return reuseableBuffer;
 	}
 
@@ -161,9 +237,8 @@ public class JOGLDrawContext implements GLDrawContext {
 		// 1 byte aligned.
 		gl2.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 1);
 
-		int[] textureIndexes = new int[1];
-		gl2.glGenTextures(1, textureIndexes, 0);
-		int texture = textureIndexes[0];
+		gl2.glGenTextures(1, objectIds, 0);
+		int texture = objectIds[0];
 		if (texture == 0) {
 			return -1;
 		}
@@ -200,40 +275,20 @@ public class JOGLDrawContext implements GLDrawContext {
 
 	@Override
 	public void deleteTexture(int textureid) {
-		gl2.glDeleteTextures(1, new int[] {
-				textureid
-		}, 0);
+		objectIds[0] = textureid;
+		gl2.glDeleteTextures(1, objectIds, 0);
 	}
 
 	@Override
 	public void drawQuadWithTexture(int textureid, float[] geometry) {
 		ByteBuffer buffer = generateTemporaryFloatBuffer(geometry);
-
-		drawQuadWithTexture(textureid, buffer, geometry.length / 5);
-	}
-
-	private void drawQuadWithTexture(int textureid, ByteBuffer buffer, int len) {
-		gl2.glBindTexture(GL.GL_TEXTURE_2D, textureid);
-		gl2.glVertexPointer(3, GL2.GL_FLOAT, 5 * 4, buffer);
-		buffer.position(3 * 4);
-		gl2.glTexCoordPointer(2, GL2.GL_FLOAT, 5 * 4, buffer);
-		gl2.glDrawArrays(GL2.GL_QUADS, 0, len);
+		drawTextured(textureid, GL2.GL_QUADS, buffer, geometry.length / 5, false, true);
 	}
 
 	@Override
 	public void drawTrianglesWithTexture(int textureid, float[] geometry) {
 		ByteBuffer buffer = generateTemporaryFloatBuffer(geometry);
-		drawTrianglesWithTexture(textureid, buffer, geometry.length / 5 / 3);
-	}
-
-	private void drawTrianglesWithTexture(int textureid, ByteBuffer buffer,
-			int triangles) {
-		gl2.glBindTexture(GL.GL_TEXTURE_2D, textureid);
-
-		gl2.glVertexPointer(3, GL2.GL_FLOAT, 5 * 4, buffer);
-		buffer.position(3 * 4);
-		gl2.glTexCoordPointer(2, GL2.GL_FLOAT, 5 * 4, buffer);
-		gl2.glDrawArrays(GL2.GL_TRIANGLES, 0, triangles * 3);
+		drawTextured(textureid, GL2.GL_TRIANGLES, buffer, geometry.length / 5 / 3 * 3, false, true);
 	}
 
 	@Override
@@ -246,17 +301,7 @@ public class JOGLDrawContext implements GLDrawContext {
 	@Override
 	public void drawTrianglesWithTextureColored(int textureid,
 			ByteBuffer buffer, int triangles) {
-		gl2.glBindTexture(GL.GL_TEXTURE_2D, textureid);
-
-		gl2.glVertexPointer(3, GL2.GL_FLOAT, 6 * 4, buffer);
-		buffer.position(3 * 4);
-		gl2.glTexCoordPointer(2, GL2.GL_FLOAT, 6 * 4, buffer);
-		buffer.position(5 * 4);
-		gl2.glColorPointer(4, GL2.GL_UNSIGNED_BYTE, 6 * 4, buffer);
-
-		gl2.glEnableClientState(GL2.GL_COLOR_ARRAY);
-		gl2.glDrawArrays(GL2.GL_TRIANGLES, 0, triangles * 3);
-		gl2.glDisableClientState(GL2.GL_COLOR_ARRAY);
+		drawTextured(textureid, GL2.GL_TRIANGLES, buffer, triangles * 3, true, true);
 	}
 
 	@Override
@@ -305,7 +350,7 @@ public class JOGLDrawContext implements GLDrawContext {
 
 			gl2.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
 		} else {
-			drawQuadWithTexture(textureid, geometries.get(geometryindex), 4);
+			drawTextured(textureid, GL2.GL_QUADS, geometries.get(geometryindex), 4, false, false);
 		}
 	}
 
@@ -323,10 +368,7 @@ public class JOGLDrawContext implements GLDrawContext {
 
 			gl2.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
 		} else {
-			ByteBuffer buffer = geometries.get(geometryindex);
-			buffer.rewind();
-			drawTrianglesWithTexture(textureid, buffer,
-					buffer.remaining() / 5 / 4);
+			drawTextured(textureid, GL2.GL_TRIANGLES, geometries.get(geometryindex), triangleCount * 3, false, false);
 		}
 	}
 
@@ -347,9 +389,7 @@ public class JOGLDrawContext implements GLDrawContext {
 
 			gl2.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
 		} else {
-			ByteBuffer buffer = geometries.get(geometryindex);
-			drawTrianglesWithTextureColored(textureid, buffer,
-					buffer.remaining() / 4 / 5);
+			drawTextured(textureid, GL2.GL_TRIANGLES, geometries.get(geometryindex), triangleCount * 3, true, false);
 		}
 	}
 
@@ -388,9 +428,8 @@ public class JOGLDrawContext implements GLDrawContext {
 	@Override
 	public void removeGeometry(int geometryindex) {
 		if (canUseVBOs) {
-			gl2.glDeleteBuffers(1, new int[] {
-					geometryindex
-			}, 0);
+			objectIds[0] = geometryindex;
+			gl2.glDeleteBuffers(1, objectIds, 0);
 		} else {
 			// TODO: unsupported!
 			geometries.set(geometryindex, null);
@@ -404,19 +443,15 @@ public class JOGLDrawContext implements GLDrawContext {
 			ByteBuffer buffer =
 					gl2.glMapBuffer(GL2.GL_ARRAY_BUFFER, GL2.GL_WRITE_ONLY)
 							.order(ByteOrder.nativeOrder());
-			return new GLByteBufferWrapper(buffer);
-
+			geometryWriter.buffer = buffer;
 		} else {
-			return new GLByteBufferWrapper(geometries.get(geometryindex));
+			geometryWriter.buffer = geometries.get(geometryindex);
 		}
+		return geometryWriter;
 	}
 
 	private static class GLByteBufferWrapper implements GLBuffer {
-		private final ByteBuffer buffer;
-
-		private GLByteBufferWrapper(ByteBuffer buffer) {
-			this.buffer = buffer;
-		}
+		private ByteBuffer buffer;
 
 		@Override
 		public void putFloat(float f) {
@@ -440,17 +475,16 @@ public class JOGLDrawContext implements GLDrawContext {
 			gl2.glUnmapBuffer(GL2.GL_ARRAY_BUFFER);
 			gl2.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
 		}
+		geometryWriter.buffer = null;
 	}
 
 	@Override
 	public int generateGeometry(int bytes) {
 		if (canUseVBOs) {
-			int[] vertexBuffIds = new int[] {
-					0
-			};
-			gl2.glGenBuffers(1, vertexBuffIds, 0);
+			objectIds[0] = 0;
+			gl2.glGenBuffers(1, objectIds, 0);
 
-			int vertexBufferId = vertexBuffIds[0];
+			int vertexBufferId = objectIds[0];
 			if (vertexBufferId == 0) {
 				return -1;
 			}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package go.graphics.swing.opengl;
+
+import java.nio.ByteBuffer;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+
+/**
+ * This is a vertex buffer that is used as a ring buffer for geometry that is only drawn once, like the content of a draw buffer.
+ * <p>
+ * The geometry is appended to the buffer. When the buffer is full or a new frame starts, its storage is orphaned. The driver can then hand out new
+ * storage while the old one is still used by the draw calls that were not executed yet, so writing never waits for the GPU.
+ */
+final class StreamVertexBuffer {
+	/**
+	 * The size of the buffer in bytes.
+	 */
+	static final int SIZE = 4 * 1024 * 1024;
+	private static final int ALIGNMENT = 32;
+
+	private final GL2 gl2;
+	private final int[] bufferIds = new int[1];
+	private int offset = SIZE;
+
+	StreamVertexBuffer(GL2 gl2) {
+		this.gl2 = gl2;
+	}
+
+	/**
+	 * Starts a new frame. The next geometry is written to new storage.
+	 */
+	void startFrame() {
+		offset = SIZE;
+	}
+
+	/**
+	 * Copies geometry to this buffer and binds the buffer.
+	 * 
+	 * @param data
+	 *            The geometry, starting at position 0.
+	 * @param bytes
+	 *            The number of bytes to copy.
+	 * @return The offset of the geometry in the bound buffer or -1 if the geometry does not fit. Then nothing is bound.
+	 */
+	int upload(ByteBuffer data, int bytes) {
+		if (bytes > SIZE) {
+			return -1;
+		}
+		if (bufferIds[0] == 0) {
+			gl2.glGenBuffers(1, bufferIds, 0);
+			if (bufferIds[0] == 0) {
+				return -1;
+			}
+		}
+
+		gl2.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferIds[0]);
+		if (offset + bytes > SIZE) {
+			gl2.glBufferData(GL.GL_ARRAY_BUFFER, SIZE, null, GL2.GL_STREAM_DRAW);
+			offset = 0;
+		}
+
+		int start = offset;
+		data.position(0);
+		gl2.glBufferSubData(GL.GL_ARRAY_BUFFER, start, bytes, data);
+		offset = (start + bytes + ALIGNMENT - 1) & ~(ALIGNMENT - 1);
+		return start;
+	}
+
+	/**
+	 * Unbinds the buffer after drawing.
+	 */
+	void unbind() {
+		gl2.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+	}
+}
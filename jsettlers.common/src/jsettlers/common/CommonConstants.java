@@ -51,6 +51,12 @@ public abstract class CommonConstants {
 
 	public static boolean ENABLE_AI = true;
 
+	/**
+	 * The maximum number of threads applying the rules of the AI players in parallel. If it is 1, the rules are applied on the game clock's
+	 * thread.
+	 */
+	public static int MAX_AI_WORKER_THREADS = Runtime.getRuntime().availableProcessors();
+
 	/**
 	 * Use only ai players for single player.
 	 */
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.map;
+
+/**
+ * This interface can be used by the user of the {@link IGraphicsGrid} to get notified if anything shown on an overview of the map (landscape,
+ * player, borders, buildings, settlers or the visible status) has changed. This allows to only redraw the changed regions of the map.
+ * <p />
+ * The methods may be called by any thread of the game logic and must therefore return quickly.
+ */
+public interface IGraphicsChangeListener {
+	/**
+	 * This method is called if anything visible on an overview of the map has changed in the given region.
+	 * 
+	 * @param minX
+	 *            The minimum x coordinate of the changed region (inclusive).
+	 * @param minY
+	 *            The minimum y coordinate of the changed region (inclusive).
+	 * @param maxX
+	 *            The maximum x coordinate of the changed region (inclusive).
+	 * @param maxY
+	 *            The maximum y coordinate of the changed region (inclusive).
+	 */
+	void regionChanged(int minX, int minY, int maxX, int maxY);
+}
@@ -126,6 +126,16 @@ public interface IGraphicsGrid {
 	 */
 	void setBackgroundListener(IGraphicsBackgroundListener backgroundListener);
 
+	/**
+	 * This method can be used to set a {@link IGraphicsChangeListener} to this {@link IGraphicsGrid}. <br>
+	 * 
+	 * @see IGraphicsChangeListener
+	 * 
+	 * @param changeListener
+	 *            listener to be set or null to remove the current listener.
+	 */
+	void setChangeListener(IGraphicsChangeListener changeListener);
+
 	/**
 	 * Gets the next x coordinate that might contain a drawable Object.
 	 * 
@@ -0,0 +1,198 @@
+package jsettlers.graphics.ui.layout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import jsettlers.graphics.ui.UIElement;
+import jsettlers.graphics.ui.UIPanel;
+
+public class MaterialInventoryLayout {
+public final jsettlers.graphics.ui.UIPanel _root;
+
+public MaterialInventoryLayout() {
+this(null);
+}
+
+public MaterialInventoryLayout(jsettlers.graphics.ui.ELayoutSize __size) {
+{
+jsettlers.graphics.ui.UIPanel __1;
+__1 = new jsettlers.graphics.ui.UIPanel();
+jsettlers.graphics.ui.Label __2;
+__2 = new jsettlers.graphics.ui.Label(jsettlers.graphics.localization.Labels.getString("stock_title"), go.graphics.text.EFontSize.NORMAL);
+__1.addChild(__2, 0.0f, 0.9305556f, 1.0f, 1.0f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __3;
+__3 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.PLANK);
+__1.addChild(__3, 0.042372882f, 0.78240746f, 0.19491525f, 0.8657408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __4;
+__4 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.PLANK);
+__1.addChild(__4, 0.042372882f, 0.7546296f, 0.19491525f, 0.787037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __5;
+__5 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.STONE);
+__1.addChild(__5, 0.19491525f, 0.78240746f, 0.34745762f, 0.8657408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __6;
+__6 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.STONE);
+__1.addChild(__6, 0.19491525f, 0.7546296f, 0.34745762f, 0.787037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __7;
+__7 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.TRUNK);
+__1.addChild(__7, 0.34745762f, 0.78240746f, 0.5f, 0.8657408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __8;
+__8 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.TRUNK);
+__1.addChild(__8, 0.34745762f, 0.7546296f, 0.5f, 0.787037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __9;
+__9 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.COAL);
+__1.addChild(__9, 0.5f, 0.78240746f, 0.65254235f, 0.8657408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __10;
+__10 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.COAL);
+__1.addChild(__10, 0.5f, 0.7546296f, 0.65254235f, 0.787037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __11;
+__11 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.IRONORE);
+__1.addChild(__11, 0.65254235f, 0.78240746f, 0.8050847f, 0.8657408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __12;
+__12 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.IRONORE);
+__1.addChild(__12, 0.65254235f, 0.7546296f, 0.8050847f, 0.787037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __13;
+__13 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.GOLDORE);
+__1.addChild(__13, 0.80508476f, 0.78240746f, 0.9576271f, 0.8657408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __14;
+__14 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.GOLDORE);
+__1.addChild(__14, 0.80508476f, 0.7546296f, 0.9576271f, 0.787037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __15;
+__15 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.IRON);
+__1.addChild(__15, 0.042372882f, 0.65740746f, 0.19491525f, 0.7407408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __16;
+__16 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.IRON);
+__1.addChild(__16, 0.042372882f, 0.6296296f, 0.19491525f, 0.662037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __17;
+__17 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.HAMMER);
+__1.addChild(__17, 0.19491525f, 0.65740746f, 0.34745762f, 0.7407408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __18;
+__18 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.HAMMER);
+__1.addChild(__18, 0.19491525f, 0.6296296f, 0.34745762f, 0.662037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __19;
+__19 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.BLADE);
+__1.addChild(__19, 0.34745762f, 0.65740746f, 0.5f, 0.7407408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __20;
+__20 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.BLADE);
+__1.addChild(__20, 0.34745762f, 0.6296296f, 0.5f, 0.662037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __21;
+__21 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.AXE);
+__1.addChild(__21, 0.5f, 0.65740746f, 0.65254235f, 0.7407408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __22;
+__22 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.AXE);
+__1.addChild(__22, 0.5f, 0.6296296f, 0.65254235f, 0.662037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __23;
+__23 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.SAW);
+__1.addChild(__23, 0.65254235f, 0.65740746f, 0.8050847f, 0.7407408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __24;
+__24 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.SAW);
+__1.addChild(__24, 0.65254235f, 0.6296296f, 0.8050847f, 0.662037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __25;
+__25 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.PICK);
+__1.addChild(__25, 0.80508476f, 0.65740746f, 0.9576271f, 0.7407408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __26;
+__26 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.PICK);
+__1.addChild(__26, 0.80508476f, 0.6296296f, 0.9576271f, 0.662037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __27;
+__27 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.FISHINGROD);
+__1.addChild(__27, 0.042372882f, 0.53240746f, 0.19491525f, 0.6157408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __28;
+__28 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.FISHINGROD);
+__1.addChild(__28, 0.042372882f, 0.5046296f, 0.19491525f, 0.537037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __29;
+__29 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.SCYTHE);
+__1.addChild(__29, 0.19491525f, 0.53240746f, 0.34745762f, 0.6157408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __30;
+__30 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.SCYTHE);
+__1.addChild(__30, 0.19491525f, 0.5046296f, 0.34745762f, 0.537037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __31;
+__31 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.SWORD);
+__1.addChild(__31, 0.34745762f, 0.53240746f, 0.5f, 0.6157408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __32;
+__32 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.SWORD);
+__1.addChild(__32, 0.34745762f, 0.5046296f, 0.5f, 0.537037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __33;
+__33 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.BOW);
+__1.addChild(__33, 0.5f, 0.53240746f, 0.65254235f, 0.6157408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __34;
+__34 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.BOW);
+__1.addChild(__34, 0.5f, 0.5046296f, 0.65254235f, 0.537037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __35;
+__35 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.SPEAR);
+__1.addChild(__35, 0.65254235f, 0.53240746f, 0.8050847f, 0.6157408f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __36;
+__36 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.SPEAR);
+__1.addChild(__36, 0.65254235f, 0.5046296f, 0.8050847f, 0.537037f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __37;
+__37 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.FISH);
+__1.addChild(__37, 0.042372882f, 0.40740737f, 0.19491525f, 0.49074072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __38;
+__38 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.FISH);
+__1.addChild(__38, 0.042372882f, 0.3796296f, 0.19491525f, 0.41203701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __39;
+__39 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.PIG);
+__1.addChild(__39, 0.19491525f, 0.40740737f, 0.34745762f, 0.49074072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __40;
+__40 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.PIG);
+__1.addChild(__40, 0.19491525f, 0.3796296f, 0.34745762f, 0.41203701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __41;
+__41 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.MEAT);
+__1.addChild(__41, 0.34745762f, 0.40740737f, 0.5f, 0.49074072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __42;
+__42 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.MEAT);
+__1.addChild(__42, 0.34745762f, 0.3796296f, 0.5f, 0.41203701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __43;
+__43 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.CROP);
+__1.addChild(__43, 0.5f, 0.40740737f, 0.65254235f, 0.49074072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __44;
+__44 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.CROP);
+__1.addChild(__44, 0.5f, 0.3796296f, 0.65254235f, 0.41203701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __45;
+__45 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.FLOUR);
+__1.addChild(__45, 0.65254235f, 0.40740737f, 0.8050847f, 0.49074072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __46;
+__46 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.FLOUR);
+__1.addChild(__46, 0.65254235f, 0.3796296f, 0.8050847f, 0.41203701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __47;
+__47 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.BREAD);
+__1.addChild(__47, 0.80508476f, 0.40740737f, 0.9576271f, 0.49074072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __48;
+__48 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.BREAD);
+__1.addChild(__48, 0.80508476f, 0.3796296f, 0.9576271f, 0.41203701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __49;
+__49 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.WATER);
+__1.addChild(__49, 0.042372882f, 0.28240737f, 0.19491525f, 0.36574072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __50;
+__50 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.WATER);
+__1.addChild(__50, 0.042372882f, 0.2546296f, 0.19491525f, 0.28703701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __51;
+__51 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.WINE);
+__1.addChild(__51, 0.19491525f, 0.28240737f, 0.34745762f, 0.36574072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __52;
+__52 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.WINE);
+__1.addChild(__52, 0.19491525f, 0.2546296f, 0.34745762f, 0.28703701f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton __53;
+__53 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.MaterialButton(jsettlers.common.material.EMaterialType.GOLD);
+__1.addChild(__53, 0.042372882f, 0.15740737f, 0.19491525f, 0.24074072f);
+jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount __54;
+__54 = new jsettlers.graphics.map.controls.original.panel.content.InventoryPanel.InventoryCount(jsettlers.common.material.EMaterialType.GOLD);
+__1.addChild(__54, 0.042372882f, 0.12962961f, 0.19491525f, 0.16203701f);
+this._root = __1;
+}
+}
+public <T> Collection<T> getAll(Class<T> ofType) {
+ArrayList<T> list = new ArrayList<>();
+collectAll(ofType, _root, list);
+return list;
+}
+
+@SuppressWarnings("unchecked")
+private <T> void collectAll(Class<T> ofType, UIPanel root, ArrayList<T> list) {
+for (UIElement c : root.getChildren()) {
+if (ofType.isAssignableFrom(c.getClass())) {
+list.add((T) c);
+}
+if (c instanceof UIPanel) {
+collectAll(ofType, (UIPanel) c, list);
+}
+}
+}
+}
@@ -0,0 +1,63 @@
+package jsettlers.graphics.ui.layout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import jsettlers.graphics.ui.UIElement;
+import jsettlers.graphics.ui.UIPanel;
+
+public class MaterialPriorityLayout {
+public final jsettlers.graphics.ui.UIPanel _root;
+public final jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.MaterialPriorityPanel panel;
+public final jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ChangeAcceptButton stock_accept;
+public final jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ChangeAcceptButton stock_reject;
+public final jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton all_up;
+public final jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton one_up;
+public final jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton one_down;
+public final jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton all_down;
+
+public MaterialPriorityLayout() {
+this(null);
+}
+
+public MaterialPriorityLayout(jsettlers.graphics.ui.ELayoutSize __size) {
+{
+jsettlers.graphics.ui.UIPanel __1;
+__1 = new jsettlers.graphics.ui.UIPanel();
+jsettlers.graphics.ui.Label __2;
+__2 = new jsettlers.graphics.ui.Label(jsettlers.graphics.localization.Labels.getString("stock_title"), go.graphics.text.EFontSize.NORMAL);
+__1.addChild(__2, 0.0f, 0.9305556f, 1.0f, 1.0f);
+this.panel = new jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.MaterialPriorityPanel();
+__1.addChild(this.panel, 0.042372882f, 0.1574074f, 0.9576271f, 0.9212963f);
+this.stock_accept = new jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ChangeAcceptButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_213", 0), jsettlers.graphics.localization.Labels.getString(""));
+__1.addChild(this.stock_accept, 0.016949153f, 0.03240738f, 0.16949151f, 0.11574072f);
+this.stock_reject = new jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ChangeAcceptButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_216", 0), jsettlers.graphics.localization.Labels.getString(""));
+__1.addChild(this.stock_reject, 0.16949153f, 0.03240738f, 0.32203388f, 0.11574072f);
+this.all_up = new jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_219", 0), jsettlers.graphics.localization.Labels.getString(""));
+__1.addChild(this.all_up, 0.37288135f, 0.03240738f, 0.5254237f, 0.11574072f);
+this.one_up = new jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_225", 0), jsettlers.graphics.localization.Labels.getString(""));
+__1.addChild(this.one_up, 0.5254237f, 0.03240738f, 0.67796606f, 0.11574072f);
+this.one_down = new jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_228", 0), jsettlers.graphics.localization.Labels.getString(""));
+__1.addChild(this.one_down, 0.6779661f, 0.03240738f, 0.8305085f, 0.11574072f);
+this.all_down = new jsettlers.graphics.map.controls.original.panel.content.MaterialPriorityContent.ReorderButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_222", 0), jsettlers.graphics.localization.Labels.getString(""));
+__1.addChild(this.all_down, 0.8305085f, 0.03240738f, 0.9830508f, 0.11574072f);
+this._root = __1;
+}
+}
+public <T> Collection<T> getAll(Class<T> ofType) {
+ArrayList<T> list = new ArrayList<>();
+collectAll(ofType, _root, list);
+return list;
+}
+
+@SuppressWarnings("unchecked")
+private <T> void collectAll(Class<T> ofType, UIPanel root, ArrayList<T> list) {
+for (UIElement c : root.getChildren()) {
+if (ofType.isAssignableFrom(c.getClass())) {
+list.add((T) c);
+}
+if (c instanceof UIPanel) {
+collectAll(ofType, (UIPanel) c, list);
+}
+}
+}
+}
@@ -0,0 +1,165 @@
+package jsettlers.graphics.ui.layout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import jsettlers.graphics.ui.UIElement;
+import jsettlers.graphics.ui.UIPanel;
+
+public class OccupiableSelectionLayout {
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel _root;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel background;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.NamePanel nameText;
+public final jsettlers.graphics.ui.UIPanel infantry_places;
+public final jsettlers.graphics.ui.UIPanel infantry_missing;
+public final jsettlers.graphics.ui.UIPanel bowman_places;
+public final jsettlers.graphics.ui.UIPanel bowman_missing;
+
+public OccupiableSelectionLayout() {
+this(null);
+}
+
+public OccupiableSelectionLayout(jsettlers.graphics.ui.ELayoutSize __size) {
+{
+this.background = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel();
+jsettlers.graphics.ui.SimpleActionButton __1;
+__1 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.ASK_DESTROY, jsettlers.common.images.ImageLink.fromName("original_3_GUI_198", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_198", 0));
+this.background.addChild(__1, 0.8305085f, 0.9074074f, 0.9830508f, 0.9907407f);
+jsettlers.graphics.ui.SimpleActionButton __2;
+__2 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.NEXT_OF_TYPE, jsettlers.common.images.ImageLink.fromName("original_3_GUI_381", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_381", 0));
+this.background.addChild(__2, 0.016949153f, 0.9074074f, 0.16949151f, 0.9907407f);
+this.nameText = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.NamePanel();
+this.background.addChild(this.nameText, 0.0f, 0.9398148f, 1.0f, 1.0f);
+this.infantry_places = new jsettlers.graphics.ui.UIPanel();
+jsettlers.graphics.ui.UIPanel __3;
+__3 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_places.addChild(__3, 0.0f, 0.0f, 0.21052632f, 1.0f);
+jsettlers.graphics.ui.UIPanel __4;
+__4 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_places.addChild(__4, 0.15789473f, 0.0f, 0.36842105f, 1.0f);
+jsettlers.graphics.ui.UIPanel __5;
+__5 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_places.addChild(__5, 0.31578946f, 0.0f, 0.5263158f, 1.0f);
+jsettlers.graphics.ui.UIPanel __6;
+__6 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_places.addChild(__6, 0.47368422f, 0.0f, 0.68421054f, 1.0f);
+jsettlers.graphics.ui.UIPanel __7;
+__7 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_places.addChild(__7, 0.6315789f, 0.0f, 0.84210527f, 1.0f);
+jsettlers.graphics.ui.UIPanel __8;
+__8 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_places.addChild(__8, 0.7894737f, 0.0f, 1.0f, 1.0f);
+this.background.addChild(this.infantry_places, 0.016949153f, 0.53240734f, 0.9830509f, 0.69907403f);
+this.infantry_missing = new jsettlers.graphics.ui.UIPanel();
+jsettlers.graphics.ui.UIPanel __9;
+__9 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_missing.addChild(__9, 0.0f, 0.5f, 0.15789473f, 1.0f);
+jsettlers.graphics.ui.UIPanel __10;
+__10 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_missing.addChild(__10, 0.15789473f, 0.5f, 0.31578946f, 1.0f);
+jsettlers.graphics.ui.UIPanel __11;
+__11 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_missing.addChild(__11, 0.31578946f, 0.5f, 0.4736842f, 1.0f);
+jsettlers.graphics.ui.UIPanel __12;
+__12 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_missing.addChild(__12, 0.47368422f, 0.5f, 0.6315789f, 1.0f);
+jsettlers.graphics.ui.UIPanel __13;
+__13 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_missing.addChild(__13, 0.6315789f, 0.5f, 0.78947365f, 1.0f);
+jsettlers.graphics.ui.UIPanel __14;
+__14 = new jsettlers.graphics.ui.UIPanel();
+this.infantry_missing.addChild(__14, 0.7894737f, 0.5f, 0.94736844f, 1.0f);
+this.background.addChild(this.infantry_missing, 0.016949153f, 0.53240734f, 0.9830509f, 0.69907403f);
+this.bowman_places = new jsettlers.graphics.ui.UIPanel();
+jsettlers.graphics.ui.UIPanel __15;
+__15 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_places.addChild(__15, 0.0f, 0.0f, 0.21052632f, 1.0f);
+jsettlers.graphics.ui.UIPanel __16;
+__16 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_places.addChild(__16, 0.15789473f, 0.0f, 0.36842105f, 1.0f);
+jsettlers.graphics.ui.UIPanel __17;
+__17 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_places.addChild(__17, 0.31578946f, 0.0f, 0.5263158f, 1.0f);
+jsettlers.graphics.ui.UIPanel __18;
+__18 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_places.addChild(__18, 0.47368422f, 0.0f, 0.68421054f, 1.0f);
+jsettlers.graphics.ui.UIPanel __19;
+__19 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_places.addChild(__19, 0.6315789f, 0.0f, 0.84210527f, 1.0f);
+jsettlers.graphics.ui.UIPanel __20;
+__20 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_places.addChild(__20, 0.7894737f, 0.0f, 1.0f, 1.0f);
+this.background.addChild(this.bowman_places, 0.3220339f, 0.7546296f, 1.2881356f, 0.9212963f);
+this.bowman_missing = new jsettlers.graphics.ui.UIPanel();
+jsettlers.graphics.ui.UIPanel __21;
+__21 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_missing.addChild(__21, 0.0f, 0.5f, 0.15789473f, 1.0f);
+jsettlers.graphics.ui.UIPanel __22;
+__22 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_missing.addChild(__22, 0.15789473f, 0.5f, 0.31578946f, 1.0f);
+jsettlers.graphics.ui.UIPanel __23;
+__23 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_missing.addChild(__23, 0.31578946f, 0.5f, 0.4736842f, 1.0f);
+jsettlers.graphics.ui.UIPanel __24;
+__24 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_missing.addChild(__24, 0.47368422f, 0.5f, 0.6315789f, 1.0f);
+jsettlers.graphics.ui.UIPanel __25;
+__25 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_missing.addChild(__25, 0.6315789f, 0.5f, 0.78947365f, 1.0f);
+jsettlers.graphics.ui.UIPanel __26;
+__26 = new jsettlers.graphics.ui.UIPanel();
+this.bowman_missing.addChild(__26, 0.7894737f, 0.5f, 0.94736844f, 1.0f);
+this.background.addChild(this.bowman_missing, 0.3220339f, 0.7546296f, 1.2881356f, 0.9212963f);
+jsettlers.graphics.ui.SimpleActionButton __27;
+__27 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.SOLDIERS_ALL, jsettlers.common.images.ImageLink.fromName("original_3_GUI_39", 0));
+this.background.addChild(__27, 0.042372882f, 0.19907406f, 0.19491525f, 0.2824074f);
+jsettlers.graphics.ui.SimpleActionButton __28;
+__28 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.SOLDIERS_ONE, jsettlers.common.images.ImageLink.fromName("original_3_GUI_42", 0));
+this.background.addChild(__28, 0.042372882f, 0.03240738f, 0.19491525f, 0.11574072f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton __29;
+__29 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton(jsettlers.graphics.action.EActionType.SOLDIERS_MORE, jsettlers.common.movable.ESoldierType.SWORDSMAN, jsettlers.common.images.ImageLink.fromName("original_3_GUI_27", 0));
+this.background.addChild(__29, 0.2881356f, 0.19907406f, 0.44067794f, 0.2824074f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierCount __30;
+__30 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierCount(jsettlers.common.movable.ESoldierType.SWORDSMAN);
+this.background.addChild(__30, 0.2881356f, 0.11574075f, 0.44067794f, 0.19907409f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton __31;
+__31 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton(jsettlers.graphics.action.EActionType.SOLDIERS_LESS, jsettlers.common.movable.ESoldierType.SWORDSMAN, jsettlers.common.images.ImageLink.fromName("original_3_GUI_36", 0));
+this.background.addChild(__31, 0.2881356f, 0.03240738f, 0.44067794f, 0.11574072f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton __32;
+__32 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton(jsettlers.graphics.action.EActionType.SOLDIERS_MORE, jsettlers.common.movable.ESoldierType.BOWMAN, jsettlers.common.images.ImageLink.fromName("original_3_GUI_21", 0));
+this.background.addChild(__32, 0.5423729f, 0.19907406f, 0.69491524f, 0.2824074f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierCount __33;
+__33 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierCount(jsettlers.common.movable.ESoldierType.BOWMAN);
+this.background.addChild(__33, 0.5423729f, 0.11574075f, 0.69491524f, 0.19907409f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton __34;
+__34 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton(jsettlers.graphics.action.EActionType.SOLDIERS_LESS, jsettlers.common.movable.ESoldierType.BOWMAN, jsettlers.common.images.ImageLink.fromName("original_3_GUI_30", 0));
+this.background.addChild(__34, 0.5423729f, 0.03240738f, 0.69491524f, 0.11574072f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton __35;
+__35 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton(jsettlers.graphics.action.EActionType.SOLDIERS_MORE, jsettlers.common.movable.ESoldierType.PIKEMAN, jsettlers.common.images.ImageLink.fromName("original_3_GUI_24", 0));
+this.background.addChild(__35, 0.7966102f, 0.19907406f, 0.9491525f, 0.2824074f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierCount __36;
+__36 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierCount(jsettlers.common.movable.ESoldierType.PIKEMAN);
+this.background.addChild(__36, 0.7966102f, 0.11574075f, 0.9491525f, 0.19907409f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton __37;
+__37 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SoldierButton(jsettlers.graphics.action.EActionType.SOLDIERS_LESS, jsettlers.common.movable.ESoldierType.PIKEMAN, jsettlers.common.images.ImageLink.fromName("original_3_GUI_34", 0));
+this.background.addChild(__37, 0.7966102f, 0.03240738f, 0.9491525f, 0.11574072f);
+this._root = this.background;
+}
+}
+public <T> Collection<T> getAll(Class<T> ofType) {
+ArrayList<T> list = new ArrayList<>();
+collectAll(ofType, _root, list);
+return list;
+}
+
+@SuppressWarnings("unchecked")
+private <T> void collectAll(Class<T> ofType, UIPanel root, ArrayList<T> list) {
+for (UIElement c : root.getChildren()) {
+if (ofType.isAssignableFrom(c.getClass())) {
+list.add((T) c);
+}
+if (c instanceof UIPanel) {
+collectAll(ofType, (UIPanel) c, list);
+}
+}
+}
+}
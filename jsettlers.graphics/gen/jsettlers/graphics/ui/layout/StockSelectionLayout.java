@@ -0,0 +1,153 @@
+package jsettlers.graphics.ui.layout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import jsettlers.graphics.ui.UIElement;
+import jsettlers.graphics.ui.UIPanel;
+
+public class StockSelectionLayout {
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel _root;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel background;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.PriorityButton priority;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.NamePanel nameText;
+
+public StockSelectionLayout() {
+this(null);
+}
+
+public StockSelectionLayout(jsettlers.graphics.ui.ELayoutSize __size) {
+{
+this.background = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel();
+this.priority = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.PriorityButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_192", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_195", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_378", 0));
+this.background.addChild(this.priority, 0.016949153f, 0.9074074f, 0.16949151f, 0.9907407f);
+jsettlers.graphics.ui.SimpleActionButton __1;
+__1 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.ASK_DESTROY, jsettlers.common.images.ImageLink.fromName("original_3_GUI_198", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_198", 0));
+this.background.addChild(__1, 0.8305085f, 0.9074074f, 0.9830508f, 0.9907407f);
+jsettlers.graphics.ui.SimpleActionButton __2;
+__2 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.NEXT_OF_TYPE, jsettlers.common.images.ImageLink.fromName("original_3_GUI_381", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_381", 0));
+this.background.addChild(__2, 0.16949153f, 0.9074074f, 0.32203388f, 0.9907407f);
+this.nameText = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.NamePanel();
+this.background.addChild(this.nameText, 0.0f, 0.9398148f, 1.0f, 1.0f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __3;
+__3 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__3, 0.042372882f, 0.42129627f, 0.19491525f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __4;
+__4 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__4, 0.19491525f, 0.42129627f, 0.34745762f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __5;
+__5 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.TRUNK);
+this.background.addChild(__5, 0.34745762f, 0.42129627f, 0.5f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __6;
+__6 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.COAL);
+this.background.addChild(__6, 0.5f, 0.42129627f, 0.65254235f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __7;
+__7 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.IRONORE);
+this.background.addChild(__7, 0.65254235f, 0.42129627f, 0.8050847f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __8;
+__8 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.GOLDORE);
+this.background.addChild(__8, 0.80508476f, 0.42129627f, 0.9576271f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __9;
+__9 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.IRON);
+this.background.addChild(__9, 0.042372882f, 0.33796296f, 0.19491525f, 0.4212963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __10;
+__10 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.HAMMER);
+this.background.addChild(__10, 0.19491525f, 0.33796296f, 0.34745762f, 0.4212963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __11;
+__11 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.BLADE);
+this.background.addChild(__11, 0.34745762f, 0.33796296f, 0.5f, 0.4212963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __12;
+__12 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.AXE);
+this.background.addChild(__12, 0.5f, 0.33796296f, 0.65254235f, 0.4212963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __13;
+__13 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.SAW);
+this.background.addChild(__13, 0.65254235f, 0.33796296f, 0.8050847f, 0.4212963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __14;
+__14 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.PICK);
+this.background.addChild(__14, 0.80508476f, 0.33796296f, 0.9576271f, 0.4212963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __15;
+__15 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.FISHINGROD);
+this.background.addChild(__15, 0.042372882f, 0.25462964f, 0.19491525f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __16;
+__16 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.SCYTHE);
+this.background.addChild(__16, 0.19491525f, 0.25462964f, 0.34745762f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __17;
+__17 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.SWORD);
+this.background.addChild(__17, 0.34745762f, 0.25462964f, 0.5f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __18;
+__18 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.BOW);
+this.background.addChild(__18, 0.5f, 0.25462964f, 0.65254235f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __19;
+__19 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.SPEAR);
+this.background.addChild(__19, 0.65254235f, 0.25462964f, 0.8050847f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __20;
+__20 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.GOLDORE);
+this.background.addChild(__20, 0.80508476f, 0.25462964f, 0.9576271f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __21;
+__21 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.FISH);
+this.background.addChild(__21, 0.042372882f, 0.17129627f, 0.19491525f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __22;
+__22 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.PIG);
+this.background.addChild(__22, 0.19491525f, 0.17129627f, 0.34745762f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __23;
+__23 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.MEAT);
+this.background.addChild(__23, 0.34745762f, 0.17129627f, 0.5f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __24;
+__24 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.CROP);
+this.background.addChild(__24, 0.5f, 0.17129627f, 0.65254235f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __25;
+__25 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.FLOUR);
+this.background.addChild(__25, 0.65254235f, 0.17129627f, 0.8050847f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __26;
+__26 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.BREAD);
+this.background.addChild(__26, 0.80508476f, 0.17129627f, 0.9576271f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __27;
+__27 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.WATER);
+this.background.addChild(__27, 0.042372882f, 0.08796296f, 0.19491525f, 0.1712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __28;
+__28 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.WINE);
+this.background.addChild(__28, 0.19491525f, 0.08796296f, 0.34745762f, 0.1712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __29;
+__29 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.GOLDORE);
+this.background.addChild(__29, 0.34745762f, 0.08796296f, 0.5f, 0.1712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __30;
+__30 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.KEG);
+this.background.addChild(__30, 0.5f, 0.08796296f, 0.65254235f, 0.1712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __31;
+__31 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.RICE);
+this.background.addChild(__31, 0.65254235f, 0.08796296f, 0.8050847f, 0.1712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __32;
+__32 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.GOLDORE);
+this.background.addChild(__32, 0.80508476f, 0.08796296f, 0.9576271f, 0.1712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __33;
+__33 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.GOLD);
+this.background.addChild(__33, 0.042372882f, 0.004629649f, 0.19491525f, 0.087962985f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __34;
+__34 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.GEMS);
+this.background.addChild(__34, 0.19491525f, 0.004629649f, 0.34745762f, 0.087962985f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __35;
+__35 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.SULFUR);
+this.background.addChild(__35, 0.34745762f, 0.004629649f, 0.5f, 0.087962985f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem __36;
+__36 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.StockControlItem(jsettlers.common.material.EMaterialType.GOLDORE);
+this.background.addChild(__36, 0.5f, 0.004629649f, 0.65254235f, 0.087962985f);
+this._root = this.background;
+}
+}
+public <T> Collection<T> getAll(Class<T> ofType) {
+ArrayList<T> list = new ArrayList<>();
+collectAll(ofType, _root, list);
+return list;
+}
+
+@SuppressWarnings("unchecked")
+private <T> void collectAll(Class<T> ofType, UIPanel root, ArrayList<T> list) {
+for (UIElement c : root.getChildren()) {
+if (ofType.isAssignableFrom(c.getClass())) {
+list.add((T) c);
+}
+if (c instanceof UIPanel) {
+collectAll(ofType, (UIPanel) c, list);
+}
+}
+}
+}
@@ -0,0 +1,282 @@
+package jsettlers.graphics.ui.layout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import jsettlers.graphics.ui.UIElement;
+import jsettlers.graphics.ui.UIPanel;
+
+public class TradingSelectionLayout {
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel _root;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel background;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.NamePanel nameText;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.LandTradingPath landTradingPath;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SeaTradingPath seaTradingPath;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton tradeAll;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton tradeNone;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton tradeMore5;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton tradeMore;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton tradeLess;
+public final jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton tradeLess5;
+
+public TradingSelectionLayout() {
+this(null);
+}
+
+public TradingSelectionLayout(jsettlers.graphics.ui.ELayoutSize __size) {
+{
+this.background = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.BuidlingBackgroundPanel();
+jsettlers.graphics.ui.SimpleActionButton __1;
+__1 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.ASK_DESTROY, jsettlers.common.images.ImageLink.fromName("original_3_GUI_198", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_198", 0));
+this.background.addChild(__1, 0.8305085f, 0.9074074f, 0.9830508f, 0.9907407f);
+jsettlers.graphics.ui.SimpleActionButton __2;
+__2 = new jsettlers.graphics.ui.SimpleActionButton(jsettlers.graphics.action.EActionType.NEXT_OF_TYPE, jsettlers.common.images.ImageLink.fromName("original_3_GUI_381", 0), jsettlers.common.images.ImageLink.fromName("original_3_GUI_381", 0));
+this.background.addChild(__2, 0.016949153f, 0.9074074f, 0.16949151f, 0.9907407f);
+this.nameText = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.NamePanel();
+this.background.addChild(this.nameText, 0.0f, 0.9398148f, 1.0f, 1.0f);
+this.landTradingPath = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.LandTradingPath(jsettlers.common.images.ImageLink.fromName("original_3_GUI_372", 0));
+this.background.addChild(this.landTradingPath, 0.09322034f, 0.8518518f, 0.8983051f, 0.9074074f);
+this.seaTradingPath = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.SeaTradingPath(jsettlers.common.images.ImageLink.fromName("original_3_GUI_375", 0));
+this.background.addChild(this.seaTradingPath, 0.09322034f, 0.8518518f, 0.8983051f, 0.9074074f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __3;
+__3 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__3, 0.042372882f, 0.7546297f, 0.19491525f, 0.837963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __4;
+__4 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__4, 0.042372882f, 0.7222222f, 0.19491525f, 0.7546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __5;
+__5 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__5, 0.19491525f, 0.7546297f, 0.34745762f, 0.837963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __6;
+__6 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__6, 0.19491525f, 0.7222222f, 0.34745762f, 0.7546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __7;
+__7 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.TRUNK);
+this.background.addChild(__7, 0.34745762f, 0.7546297f, 0.5f, 0.837963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __8;
+__8 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.TRUNK);
+this.background.addChild(__8, 0.34745762f, 0.7222222f, 0.5f, 0.7546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __9;
+__9 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.COAL);
+this.background.addChild(__9, 0.5f, 0.7546297f, 0.65254235f, 0.837963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __10;
+__10 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.COAL);
+this.background.addChild(__10, 0.5f, 0.7222222f, 0.65254235f, 0.7546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __11;
+__11 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.IRONORE);
+this.background.addChild(__11, 0.65254235f, 0.7546297f, 0.8050847f, 0.837963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __12;
+__12 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.IRONORE);
+this.background.addChild(__12, 0.65254235f, 0.7222222f, 0.8050847f, 0.7546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __13;
+__13 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.GOLDORE);
+this.background.addChild(__13, 0.80508476f, 0.7546297f, 0.9576271f, 0.837963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __14;
+__14 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.GOLDORE);
+this.background.addChild(__14, 0.80508476f, 0.7222222f, 0.9576271f, 0.7546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __15;
+__15 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.IRON);
+this.background.addChild(__15, 0.042372882f, 0.6296297f, 0.19491525f, 0.712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __16;
+__16 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.IRON);
+this.background.addChild(__16, 0.042372882f, 0.5972222f, 0.19491525f, 0.6296296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __17;
+__17 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.HAMMER);
+this.background.addChild(__17, 0.19491525f, 0.6296297f, 0.34745762f, 0.712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __18;
+__18 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.HAMMER);
+this.background.addChild(__18, 0.19491525f, 0.5972222f, 0.34745762f, 0.6296296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __19;
+__19 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.BLADE);
+this.background.addChild(__19, 0.34745762f, 0.6296297f, 0.5f, 0.712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __20;
+__20 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.BLADE);
+this.background.addChild(__20, 0.34745762f, 0.5972222f, 0.5f, 0.6296296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __21;
+__21 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.AXE);
+this.background.addChild(__21, 0.5f, 0.6296297f, 0.65254235f, 0.712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __22;
+__22 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.AXE);
+this.background.addChild(__22, 0.5f, 0.5972222f, 0.65254235f, 0.6296296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __23;
+__23 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.SAW);
+this.background.addChild(__23, 0.65254235f, 0.6296297f, 0.8050847f, 0.712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __24;
+__24 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.SAW);
+this.background.addChild(__24, 0.65254235f, 0.5972222f, 0.8050847f, 0.6296296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __25;
+__25 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.PICK);
+this.background.addChild(__25, 0.80508476f, 0.6296297f, 0.9576271f, 0.712963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __26;
+__26 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.PICK);
+this.background.addChild(__26, 0.80508476f, 0.5972222f, 0.9576271f, 0.6296296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __27;
+__27 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.FISHINGROD);
+this.background.addChild(__27, 0.042372882f, 0.5046297f, 0.19491525f, 0.587963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __28;
+__28 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.FISHINGROD);
+this.background.addChild(__28, 0.042372882f, 0.4722222f, 0.19491525f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __29;
+__29 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.SCYTHE);
+this.background.addChild(__29, 0.19491525f, 0.5046297f, 0.34745762f, 0.587963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __30;
+__30 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.SCYTHE);
+this.background.addChild(__30, 0.19491525f, 0.4722222f, 0.34745762f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __31;
+__31 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.SWORD);
+this.background.addChild(__31, 0.34745762f, 0.5046297f, 0.5f, 0.587963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __32;
+__32 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.SWORD);
+this.background.addChild(__32, 0.34745762f, 0.4722222f, 0.5f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __33;
+__33 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.BOW);
+this.background.addChild(__33, 0.5f, 0.5046297f, 0.65254235f, 0.587963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __34;
+__34 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.BOW);
+this.background.addChild(__34, 0.5f, 0.4722222f, 0.65254235f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __35;
+__35 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.SPEAR);
+this.background.addChild(__35, 0.65254235f, 0.5046297f, 0.8050847f, 0.587963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __36;
+__36 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.SPEAR);
+this.background.addChild(__36, 0.65254235f, 0.4722222f, 0.8050847f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __37;
+__37 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__37, 0.80508476f, 0.5046297f, 0.9576271f, 0.587963f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __38;
+__38 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__38, 0.80508476f, 0.4722222f, 0.9576271f, 0.5046296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __39;
+__39 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.FISH);
+this.background.addChild(__39, 0.042372882f, 0.37962964f, 0.19491525f, 0.46296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __40;
+__40 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.FISH);
+this.background.addChild(__40, 0.042372882f, 0.3472222f, 0.19491525f, 0.3796296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __41;
+__41 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.PIG);
+this.background.addChild(__41, 0.19491525f, 0.37962964f, 0.34745762f, 0.46296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __42;
+__42 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.PIG);
+this.background.addChild(__42, 0.19491525f, 0.3472222f, 0.34745762f, 0.3796296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __43;
+__43 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.MEAT);
+this.background.addChild(__43, 0.34745762f, 0.37962964f, 0.5f, 0.46296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __44;
+__44 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.MEAT);
+this.background.addChild(__44, 0.34745762f, 0.3472222f, 0.5f, 0.3796296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __45;
+__45 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.CROP);
+this.background.addChild(__45, 0.5f, 0.37962964f, 0.65254235f, 0.46296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __46;
+__46 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.CROP);
+this.background.addChild(__46, 0.5f, 0.3472222f, 0.65254235f, 0.3796296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __47;
+__47 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.FLOUR);
+this.background.addChild(__47, 0.65254235f, 0.37962964f, 0.8050847f, 0.46296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __48;
+__48 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.FLOUR);
+this.background.addChild(__48, 0.65254235f, 0.3472222f, 0.8050847f, 0.3796296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __49;
+__49 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.BREAD);
+this.background.addChild(__49, 0.80508476f, 0.37962964f, 0.9576271f, 0.46296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __50;
+__50 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.BREAD);
+this.background.addChild(__50, 0.80508476f, 0.3472222f, 0.9576271f, 0.3796296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __51;
+__51 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.WATER);
+this.background.addChild(__51, 0.042372882f, 0.25462964f, 0.19491525f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __52;
+__52 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.WATER);
+this.background.addChild(__52, 0.042372882f, 0.22222221f, 0.19491525f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __53;
+__53 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.WINE);
+this.background.addChild(__53, 0.19491525f, 0.25462964f, 0.34745762f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __54;
+__54 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.WINE);
+this.background.addChild(__54, 0.19491525f, 0.22222221f, 0.34745762f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __55;
+__55 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__55, 0.34745762f, 0.25462964f, 0.5f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __56;
+__56 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__56, 0.34745762f, 0.22222221f, 0.5f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __57;
+__57 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__57, 0.5f, 0.25462964f, 0.65254235f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __58;
+__58 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__58, 0.5f, 0.22222221f, 0.65254235f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __59;
+__59 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.RICE);
+this.background.addChild(__59, 0.65254235f, 0.25462964f, 0.8050847f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __60;
+__60 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.RICE);
+this.background.addChild(__60, 0.65254235f, 0.22222221f, 0.8050847f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __61;
+__61 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__61, 0.80508476f, 0.25462964f, 0.9576271f, 0.33796299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __62;
+__62 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__62, 0.80508476f, 0.22222221f, 0.9576271f, 0.2546296f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __63;
+__63 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.GOLD);
+this.background.addChild(__63, 0.042372882f, 0.12962964f, 0.19491525f, 0.21296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __64;
+__64 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.GOLD);
+this.background.addChild(__64, 0.042372882f, 0.09722221f, 0.19491525f, 0.12962961f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __65;
+__65 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.GEMS);
+this.background.addChild(__65, 0.19491525f, 0.12962964f, 0.34745762f, 0.21296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __66;
+__66 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.GEMS);
+this.background.addChild(__66, 0.19491525f, 0.09722221f, 0.34745762f, 0.12962961f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __67;
+__67 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__67, 0.34745762f, 0.12962964f, 0.5f, 0.21296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __68;
+__68 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__68, 0.34745762f, 0.09722221f, 0.5f, 0.12962961f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __69;
+__69 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__69, 0.5f, 0.12962964f, 0.65254235f, 0.21296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __70;
+__70 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.STONE);
+this.background.addChild(__70, 0.5f, 0.09722221f, 0.65254235f, 0.12962961f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton __71;
+__71 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialButton(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__71, 0.65254235f, 0.12962964f, 0.8050847f, 0.21296299f);
+jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount __72;
+__72 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingMaterialCount(jsettlers.common.material.EMaterialType.PLANK);
+this.background.addChild(__72, 0.65254235f, 0.09722221f, 0.8050847f, 0.12962961f);
+this.tradeAll = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_384", 0), jsettlers.graphics.localization.Labels.getString(""));
+this.background.addChild(this.tradeAll, 0.016949153f, 0.004629649f, 0.16949151f, 0.087962985f);
+this.tradeNone = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_387", 0), jsettlers.graphics.localization.Labels.getString(""));
+this.background.addChild(this.tradeNone, 0.16949153f, 0.004629649f, 0.32203388f, 0.087962985f);
+this.tradeMore5 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_219", 0), jsettlers.graphics.localization.Labels.getString(""));
+this.background.addChild(this.tradeMore5, 0.37288135f, 0.004629649f, 0.5254237f, 0.087962985f);
+this.tradeMore = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_225", 0), jsettlers.graphics.localization.Labels.getString(""));
+this.background.addChild(this.tradeMore, 0.5254237f, 0.004629649f, 0.67796606f, 0.087962985f);
+this.tradeLess = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_228", 0), jsettlers.graphics.localization.Labels.getString(""));
+this.background.addChild(this.tradeLess, 0.6779661f, 0.004629649f, 0.8305085f, 0.087962985f);
+this.tradeLess5 = new jsettlers.graphics.map.controls.original.panel.selection.BuildingSelectionContent.TradingButton(jsettlers.common.images.ImageLink.fromName("original_3_GUI_222", 0), jsettlers.graphics.localization.Labels.getString(""));
+this.background.addChild(this.tradeLess5, 0.8305085f, 0.004629649f, 0.9830508f, 0.087962985f);
+this._root = this.background;
+}
+}
+public <T> Collection<T> getAll(Class<T> ofType) {
+ArrayList<T> list = new ArrayList<>();
+collectAll(ofType, _root, list);
+return list;
+}
+
+@SuppressWarnings("unchecked")
+private <T> void collectAll(Class<T> ofType, UIPanel root, ArrayList<T> list) {
+for (UIElement c : root.getChildren()) {
+if (ofType.isAssignableFrom(c.getClass())) {
+list.add((T) c);
+}
+if (c instanceof UIPanel) {
+collectAll(ofType, (UIPanel) c, list);
+}
+}
+}
+}
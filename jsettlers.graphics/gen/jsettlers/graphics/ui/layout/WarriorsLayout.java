@@ -0,0 +1,57 @@
+package jsettlers.graphics.ui.layout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import jsettlers.graphics.ui.UIElement;
+import jsettlers.graphics.ui.UIPanel;
+
+public class WarriorsLayout {
+public final jsettlers.graphics.ui.UIPanel _root;
+
+public WarriorsLayout() {
+this(null);
+}
+
+public WarriorsLayout(jsettlers.graphics.ui.ELayoutSize __size) {
+{
+jsettlers.graphics.ui.UIPanel __1;
+__1 = new jsettlers.graphics.ui.UIPanel();
+jsettlers.graphics.ui.Label __2;
+__2 = new jsettlers.graphics.ui.Label(jsettlers.graphics.localization.Labels.getString("warriors_title"), go.graphics.text.EFontSize.NORMAL);
+__1.addChild(__2, 0.0f, 0.9305556f, 1.0f, 1.0f);
+jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.CombatStrengthLabel __3;
+__3 = new jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.CombatStrengthLabel();
+__1.addChild(__3, 0.0f, 0.85648143f, 1.0f, 0.9259259f);
+jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeProgressLabel __4;
+__4 = new jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeProgressLabel();
+__1.addChild(__4, 0.0f, 0.7175926f, 1.0f, 0.787037f);
+jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeButton __5;
+__5 = new jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeButton(jsettlers.common.movable.ESoldierType.SWORDSMAN);
+__1.addChild(__5, 0.050847456f, 0.6111111f, 0.34745765f, 0.7175926f);
+jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeButton __6;
+__6 = new jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeButton(jsettlers.common.movable.ESoldierType.BOWMAN);
+__1.addChild(__6, 0.34745762f, 0.6111111f, 0.64406776f, 0.7175926f);
+jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeButton __7;
+__7 = new jsettlers.graphics.map.controls.original.panel.content.WarriorsPanel.UpgradeButton(jsettlers.common.movable.ESoldierType.PIKEMAN);
+__1.addChild(__7, 0.6440678f, 0.6111111f, 0.940678f, 0.7175926f);
+this._root = __1;
+}
+}
+public <T> Collection<T> getAll(Class<T> ofType) {
+ArrayList<T> list = new ArrayList<>();
+collectAll(ofType, _root, list);
+return list;
+}
+
+@SuppressWarnings("unchecked")
+private <T> void collectAll(Class<T> ofType, UIPanel root, ArrayList<T> list) {
+for (UIElement c : root.getChildren()) {
+if (ofType.isAssignableFrom(c.getClass())) {
+list.add((T) c);
+}
+if (c instanceof UIPanel) {
+collectAll(ofType, (UIPanel) c, list);
+}
+}
+}
+}
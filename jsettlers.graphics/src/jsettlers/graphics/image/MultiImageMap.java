@@ -16,6 +16,10 @@ package jsettlers.graphics.image;
 
 import go.graphics.GLDrawContext;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -23,6 +27,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.ShortBuffer;
+import java.util.ArrayList;
 
 import jsettlers.common.resources.ResourceManager;
 import jsettlers.graphics.map.draw.GLPreloadTask;
@@ -37,10 +42,14 @@ import jsettlers.graphics.sequence.Sequence;
 
 /**
  * This is a map of multile images of one sequence. It always contains the settler image and the torso
+ * <p>
+ * The map is cached in two files: One contains the texture and the other one the position and size of each image, so that the images can be
+ * created from the cache without reading the dat file.
  * 
  * @author michael
  */
 public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
+	private static final int LAYOUT_VERSION = 1;
 
 	private final int width;
 	private final int height;
@@ -53,14 +62,31 @@ public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
 	private int textureIndex = -1;
 	private ShortBuffer buffers;
 	private ByteBuffer byteBuffer;
+	private ByteArrayOutputStream layout;
 
 	private final File cacheFile;
+	private final File layoutFile;
+	private final long source;
 
-	public MultiImageMap(int width, int height, String id) {
+	/**
+	 * Creates a new image map.
+	 * 
+	 * @param width
+	 *            The width of the texture.
+	 * @param height
+	 *            The height of the texture.
+	 * @param id
+	 *            The id used for the cache file names.
+	 * @param source
+	 *            A value identifying the images in the map. A cache that was written with another value is not used.
+	 */
+	public MultiImageMap(int width, int height, String id, long source) {
 		this.width = width;
 		this.height = height;
+		this.source = source;
 		File root = new File(ResourceManager.getSaveDirectory(), "cache");
 		cacheFile = new File(root, "cache-" + id);
+		layoutFile = new File(root, "cache-" + id + ".layout");
 	}
 
 	private void allocateBuffers() {
@@ -72,6 +98,13 @@ public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
 	public synchronized void addSequences(AdvancedDatFileReader dfr, int[] sequenceIndexes,
 			Sequence<Image>[] addTo) throws IOException {
 		allocateBuffers();
+		layout = new ByteArrayOutputStream();
+		DataOutputStream layoutOut = new DataOutputStream(layout);
+		layoutOut.writeInt(LAYOUT_VERSION);
+		layoutOut.writeInt(width);
+		layoutOut.writeInt(height);
+		layoutOut.writeLong(source);
+		layoutOut.writeInt(sequenceIndexes.length);
 
 		ImageMetadata settlermeta = new ImageMetadata();
 		ImageMetadata torsometa = new ImageMetadata();
@@ -80,6 +113,9 @@ public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
 			long[] torsos = dfr.getTorsoPointers(seqindex);
 
 			Image[] images = new Image[settlers.length];
+			layoutOut.writeInt(seqindex);
+			layoutOut.writeInt(settlers.length);
+			layoutOut.writeBoolean(torsos != null);
 			for (int i = 0; i < settlers.length; i++) {
 				// System.out.println("Processing seq + " + seqindex +
 				// ", image " + i + ":");
@@ -112,6 +148,12 @@ public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
 						new MultiImageImage(this, settlermeta, settlerx,
 								settlery, torsos == null ? null : torsometa,
 								torsox, torsoy);
+				writeMetadata(layoutOut, settlermeta);
+				layoutOut.writeInt(settlerx);
+				layoutOut.writeInt(settlery);
+				writeMetadata(layoutOut, torsometa);
+				layoutOut.writeInt(torsox);
+				layoutOut.writeInt(torsoy);
 			}
 			addTo[seqindex] = new ArraySequence<Image>(images);
 		}
@@ -123,13 +165,98 @@ public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
 	}
 
 	/**
-	 * Forces the regeneration of the cache file.
+	 * Creates the images of the sequences from the cache files. The texture is loaded from the cache when it is needed.
+	 * 
+	 * @param addTo
+	 *            The array to add the sequences to.
+	 * @return <code>false</code> if the cache could not be read. In that case, {@link #addSequences(AdvancedDatFileReader, int[], Sequence[])}
+	 *         needs to be used.
+	 */
+	public synchronized boolean addCachedSequences(Sequence<Image>[] addTo) {
+		ImageMetadata settlermeta = new ImageMetadata();
+		ImageMetadata torsometa = new ImageMetadata();
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(layoutFile)));
+			try {
+				if (in.readInt() != LAYOUT_VERSION || in.readInt() != width || in.readInt() != height || in.readLong() != source) {
+					return false;
+				}
+
+				int sequences = in.readInt();
+				ArrayList<Sequence<Image>> loaded = new ArrayList<Sequence<Image>>(sequences);
+				int[] seqindexes = new int[sequences];
+				for (int s = 0; s < sequences; s++) {
+					int seqindex = in.readInt();
+					int length = in.readInt();
+					boolean hasTorsos = in.readBoolean();
+
+					Image[] images = new Image[length];
+					for (int i = 0; i < length; i++) {
+						readMetadata(in, settlermeta);
+						int settlerx = in.readInt();
+						int settlery = in.readInt();
+						readMetadata(in, torsometa);
+						int torsox = in.readInt();
+						int torsoy = in.readInt();
+						images[i] = new MultiImageImage(this, settlermeta, settlerx, settlery, hasTorsos ? torsometa : null, torsox, torsoy);
+					}
+					seqindexes[s] = seqindex;
+					loaded.add(new ArraySequence<Image>(images));
+				}
+
+				for (int s = 0; s < sequences; s++) {
+					addTo[seqindexes[s]] = loaded.get(s);
+				}
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		} catch (IndexOutOfBoundsException e) {
+			e.printStackTrace();
+			return false;
+		}
+
+		textureValid = false;
+		ImageProvider.getInstance().addPreloadTask(this);
+		return true;
+	}
+
+	private static void readMetadata(DataInputStream in, ImageMetadata metadata) throws IOException {
+		metadata.width = in.readInt();
+		metadata.height = in.readInt();
+		metadata.offsetX = in.readInt();
+		metadata.offsetY = in.readInt();
+	}
+
+	private static void writeMetadata(DataOutputStream out, ImageMetadata metadata) throws IOException {
+		out.writeInt(metadata.width);
+		out.writeInt(metadata.height);
+		out.writeInt(metadata.offsetX);
+		out.writeInt(metadata.offsetY);
+	}
+
+	private void writeLayout() throws IOException {
+		File tempFile = new File(layoutFile.getParentFile(), layoutFile.getName() + ".tmp");
+		FileOutputStream out = new FileOutputStream(tempFile);
+		try {
+			layout.writeTo(out);
+		} finally {
+			out.close();
+		}
+		tempFile.renameTo(layoutFile);
+	}
+
+	/**
+	 * Forces the regeneration of the cache files.
 	 */
 	public synchronized void writeCache() {
 		FileOutputStream out = null;
 		try {
 			cacheFile.getParentFile().mkdirs();
 			cacheFile.delete();
+			layoutFile.delete();
 			File tempFile = new File(cacheFile.getParentFile(), cacheFile.getName() + ".tmp");
 			out = new FileOutputStream(tempFile);
 
@@ -145,9 +272,11 @@ public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
 			}
 
 			tempFile.renameTo(cacheFile);
+			writeLayout();
 
 			buffers = null;
 			byteBuffer = null;
+			layout = null;
 		} catch (IOException e) {
 			if (out != null) {
 				try {
@@ -160,7 +289,7 @@ public class MultiImageMap implements ImageArrayProvider, GLPreloadTask {
 	}
 
 	public synchronized boolean hasCache() {
-		return cacheFile.isFile();
+		return cacheFile.isFile() && layoutFile.isFile();
 	}
 
 	@Override
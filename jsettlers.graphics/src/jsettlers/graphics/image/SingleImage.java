@@ -42,6 +42,11 @@ public class SingleImage extends Image implements ImageDataPrivider {
 
 	private int texture = -1;
 	private int geometryindex = -1;
+	/**
+	 * The texture coordinates of the top left corner of this image. They are not 0 if the image is placed in the {@link TextureAtlas}.
+	 */
+	private float textureOffsetU = 0;
+	private float textureOffsetV = 0;
 
 	/**
 	 * Creates a new image by the given buffer.
@@ -130,10 +135,23 @@ public class SingleImage extends Image implements ImageDataPrivider {
 
 	/**
 	 * Generates the texture, if needed, and returns the index of that texutre.
+	 * <p>
+	 * Small images are placed in the {@link TextureAtlas} and share their texture with other images.
 	 * 
 	 * @return The gl index or 0 if the texture is not allocated.
 	 */
 	public int getTextureIndex(GLDrawContext gl) {
+		if (texture < 0 && textureWidth == 0 && TextureAtlas.accepts(width, height)) {
+			data.position(0);
+			TextureAtlas.Region region = TextureAtlas.getInstance().add(gl, data, width, height);
+			if (region != null) {
+				textureWidth = TextureAtlas.PAGE_SIZE;
+				textureHeight = TextureAtlas.PAGE_SIZE;
+				textureOffsetU = (float) region.x / TextureAtlas.PAGE_SIZE;
+				textureOffsetV = (float) region.y / TextureAtlas.PAGE_SIZE;
+				texture = region.texture;
+			}
+		}
 		if (texture < 0) {
 			if (textureWidth == 0) {
 				textureWidth = gl.makeWidthValid(width);
@@ -160,19 +178,23 @@ public class SingleImage extends Image implements ImageDataPrivider {
 
 		tmpBuffer[0] = left;
 		tmpBuffer[1] = top;
+		tmpBuffer[3] = convertU(0);
+		tmpBuffer[4] = convertV(0);
 
 		tmpBuffer[5] = left;
 		tmpBuffer[6] = bottom;
-		tmpBuffer[9] = (float) height / textureHeight;
+		tmpBuffer[8] = convertU(0);
+		tmpBuffer[9] = convertV(1);
 
 		tmpBuffer[10] = right;
 		tmpBuffer[11] = bottom;
-		tmpBuffer[13] = (float) width / textureWidth;
-		tmpBuffer[14] = (float) height / textureHeight;
+		tmpBuffer[13] = convertU(1);
+		tmpBuffer[14] = convertV(1);
 
 		tmpBuffer[15] = right;
 		tmpBuffer[16] = top;
-		tmpBuffer[18] = (float) width / textureWidth;
+		tmpBuffer[18] = convertU(1);
+		tmpBuffer[19] = convertV(0);
 
 		gl.drawQuadWithTexture(textureIndex, tmpBuffer);
 	}
@@ -241,44 +263,48 @@ public class SingleImage extends Image implements ImageDataPrivider {
 	private float[] getGeometry() {
 		int left = getOffsetX();
 		int top = -getOffsetY();
+		float umin = convertU(0);
+		float umax = convertU(1);
+		float vmin = convertV(0);
+		float vmax = convertV(1);
 		return new float[] {
 				// bottom right
 				left + this.width,
 				top,
 				0,
-				(float) width / textureWidth,
-				0,
+				umax,
+				vmin,
 				// top left
 				left,
 				top,
 				0,
-				0,
-				0,
+				umin,
+				vmin,
 				// top right
 				left + this.width,
 				top - this.height,
 				0,
-				(float) width / textureWidth,
-				(float) height / textureHeight,
+				umax,
+				vmax,
 
 				// top right
 				left + this.width,
 				top - this.height,
 				0,
-				(float) width / textureWidth,
-				(float) height / textureHeight,
+				umax,
+				vmax,
 				// bottom left
 				left,
 				top,
 				0,
-				0,
-				0,
+				umin,
+				vmin,
 				// top left
 				left,
 				top - this.height,
 				0,
-				0,
-				(float) height / textureHeight,
+				umin,
+				vmax,
 		};
 	}
 
@@ -307,16 +333,16 @@ public class SingleImage extends Image implements ImageDataPrivider {
 		int textureIndex = getTextureIndex(gl);
 		buffer.addImage(textureIndex, viewX + getOffsetX(), viewY
 				- getOffsetY(), viewX + getOffsetX() + width, viewY
-				- getOffsetY() - height, 0, 0, getTextureScaleX(),
-				getTextureScaleY(), iColor);
+				- getOffsetY() - height, convertU(0), convertV(0), convertU(1),
+				convertV(1), iColor);
 	}
 
 	protected float convertU(float relativeU) {
-		return relativeU * getTextureScaleX();
+		return textureOffsetU + relativeU * getTextureScaleX();
 	}
 
 	protected float convertV(float relativeV) {
-		return relativeV * getTextureScaleY();
+		return textureOffsetV + relativeV * getTextureScaleY();
 	}
 
 	/**
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image;
+
+import go.graphics.GLDrawContext;
+
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+
+/**
+ * This atlas packs small {@link SingleImage}s into a few big textures. Images that share a texture can be drawn by the draw buffer without a texture
+ * switch.
+ * <p>
+ * The images are placed row by row when they are first needed on the OpenGL thread. Each image gets a border of one pixel that repeats its last
+ * column and row, so that rounding of texture coordinates does not sample the neighboring image.
+ */
+public final class TextureAtlas {
+	/**
+	 * The width and height of one atlas texture.
+	 */
+	public static final int PAGE_SIZE = 2048;
+	/**
+	 * Images that are wider or higher get a texture of their own.
+	 */
+	public static final int MAX_IMAGE_SIZE = 512;
+	private static final int BORDER = 1;
+
+	private static TextureAtlas instance;
+
+	private final ArrayList<Page> pages = new ArrayList<Page>();
+
+	/**
+	 * The position of an image in the atlas.
+	 */
+	public static final class Region {
+		public final int texture;
+		public final int x;
+		public final int y;
+
+		Region(int texture, int x, int y) {
+			this.texture = texture;
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	private static final class Page {
+		private final int texture;
+		private int drawx = 0;
+		private int linetop = 0;
+		private int linebottom = 0;
+
+		Page(int texture) {
+			this.texture = texture;
+		}
+
+		Region place(int width, int height) {
+			if (drawx + width > PAGE_SIZE) {
+				linetop = linebottom;
+				drawx = 0;
+			}
+			if (linetop + height > PAGE_SIZE) {
+				return null;
+			}
+
+			Region region = new Region(texture, drawx, linetop);
+			drawx += width;
+			linebottom = Math.max(linebottom, linetop + height);
+			return region;
+		}
+	}
+
+	private TextureAtlas() {
+	}
+
+	public static synchronized TextureAtlas getInstance() {
+		if (instance == null) {
+			instance = new TextureAtlas();
+		}
+		return instance;
+	}
+
+	/**
+	 * Forgets all atlas textures. This needs to be called when the OpenGL context was lost.
+	 */
+	public static synchronized void invalidate() {
+		instance = null;
+	}
+
+	/**
+	 * Checks if an image of the given size is packed into the atlas.
+	 * 
+	 * @param width
+	 *            The width of the image.
+	 * @param height
+	 *            The height of the image.
+	 * @return <code>true</code> if {@link #add(GLDrawContext, ShortBuffer, int, int)} accepts the image.
+	 */
+	public static boolean accepts(int width, int height) {
+		return width > 0 && height > 0 && width <= MAX_IMAGE_SIZE && height <= MAX_IMAGE_SIZE;
+	}
+
+	/**
+	 * Adds an image to the atlas and uploads its data to the atlas texture. This needs to be called on the OpenGL thread.
+	 * 
+	 * @param gl
+	 *            The context to use.
+	 * @param data
+	 *            The image data with width * height colors in 5-5-5-1-Format.
+	 * @param width
+	 *            The width of the image.
+	 * @param height
+	 *            The height of the image.
+	 * @return The position of the image or <code>null</code> if the image needs a texture of its own.
+	 */
+	public synchronized Region add(GLDrawContext gl, ShortBuffer data, int width, int height) {
+		if (!accepts(width, height)) {
+			return null;
+		}
+
+		int paddedWidth = width + BORDER;
+		int paddedHeight = height + BORDER;
+
+		Region region = null;
+		if (!pages.isEmpty()) {
+			region = pages.get(pages.size() - 1).place(paddedWidth, paddedHeight);
+		}
+		if (region == null) {
+			Page page = createPage(gl);
+			if (page == null) {
+				return null;
+			}
+			region = page.place(paddedWidth, paddedHeight);
+		}
+
+		gl.updateTexture(region.texture, region.x, region.y, paddedWidth, paddedHeight, addBorder(data, width, height));
+		return region;
+	}
+
+	private Page createPage(GLDrawContext gl) {
+		if (gl.makeWidthValid(PAGE_SIZE) != PAGE_SIZE || gl.makeHeightValid(PAGE_SIZE) != PAGE_SIZE) {
+			return null;
+		}
+
+		int texture = gl.generateTexture(PAGE_SIZE, PAGE_SIZE, ShortBuffer.allocate(PAGE_SIZE * PAGE_SIZE));
+		if (texture < 0) {
+			return null;
+		}
+		System.out.println("opengl atlas texture: " + texture);
+
+		Page page = new Page(texture);
+		pages.add(page);
+		return page;
+	}
+
+	private static ShortBuffer addBorder(ShortBuffer data, int width, int height) {
+		int paddedWidth = width + BORDER;
+		short[] padded = new short[paddedWidth * (height + BORDER)];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				padded[y * paddedWidth + x] = data.get(y * width + x);
+			}
+			for (int x = width; x < paddedWidth; x++) {
+				padded[y * paddedWidth + x] = padded[y * paddedWidth + width - 1];
+			}
+		}
+		for (int y = height; y < height + BORDER; y++) {
+			System.arraycopy(padded, (height - 1) * paddedWidth, padded, y * paddedWidth, paddedWidth);
+		}
+		return ShortBuffer.wrap(padded);
+	}
+
+	/**
+	 * Gets the number of atlas textures in use.
+	 * 
+	 * @return The number of pages.
+	 */
+	public synchronized int getPageCount() {
+		return pages.size();
+	}
+}
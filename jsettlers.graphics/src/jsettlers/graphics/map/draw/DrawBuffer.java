@@ -19,9 +19,16 @@ import java.nio.ByteOrder;
 
 import jsettlers.graphics.map.IGLProvider;
 
+/**
+ * This buffer collects textured triangles and draws them with one draw call per texture.
+ * <p>
+ * The triangles are collected in one bucket per texture. Every image gets its own depth, and the drawing uses the depth and the alpha test without
+ * blending, so the buckets can be drawn in any order. A bucket is only drawn before {@link #flush()} if it is full or if more textures are used than
+ * there are buckets. Most images are packed in a few atlas textures, so a frame normally needs only a few draw calls.
+ */
 public class DrawBuffer {
 
-	private static final int BUFFERS = 5;
+	private static final int BUFFERS = 16;
 	private final IGLProvider context;
 	private float z;
 
@@ -58,6 +65,9 @@ public class DrawBuffer {
 		}
 
 		protected void draw() {
+			if (currentTriangles == 0) {
+				return;
+			}
 			// System.out.println("draw " + currentTriangles + " tris of " + currentTexture);
 			byteBuffer.rewind();
 			context.getGl().drawTrianglesWithTextureColored(currentTexture, byteBuffer, currentTriangles);
@@ -116,12 +126,21 @@ public class DrawBuffer {
 	}
 
 	public Buffer getBuffer(int texture) {
+		Buffer emptyBuffer = null;
 		for (int i = 0; i < BUFFERS; i++) {
-			if (drawBuffers[i].currentTexture == texture) {
-				return drawBuffers[i];
+			Buffer buffer = drawBuffers[i];
+			if (buffer.currentTexture == texture) {
+				return buffer;
+			} else if (emptyBuffer == null && buffer.currentTriangles == 0) {
+				emptyBuffer = buffer;
 			}
 		}
 
+		if (emptyBuffer != null) {
+			emptyBuffer.currentTexture = texture;
+			return emptyBuffer;
+		}
+
 		lastFreedBuffer++;
 		if (lastFreedBuffer >= BUFFERS) {
 			lastFreedBuffer = 0;
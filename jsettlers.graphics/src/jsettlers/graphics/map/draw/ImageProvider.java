@@ -35,6 +35,7 @@ import jsettlers.graphics.image.ImageIndexFile;
 import jsettlers.graphics.image.LandscapeImage;
 import jsettlers.graphics.image.NullImage;
 import jsettlers.graphics.image.SingleImage;
+import jsettlers.graphics.image.TextureAtlas;
 import jsettlers.graphics.reader.AdvancedDatFileReader;
 import jsettlers.graphics.reader.DatFileSet;
 import jsettlers.graphics.reader.DatFileType;
@@ -296,6 +297,7 @@ public final class ImageProvider {
 	public void invalidateAll() {
 		readers.clear();
 		Background.invalidateTexture();
+		TextureAtlas.invalidate();
 	}
 
 	private File findFileInPaths(String fileName) {
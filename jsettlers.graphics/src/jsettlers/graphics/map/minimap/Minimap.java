@@ -19,7 +19,6 @@ import go.graphics.GLDrawContext;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.ShortBuffer;
-import java.util.LinkedList;
 
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.map.shapes.MapRectangle;
@@ -52,9 +51,14 @@ public final class Minimap {
 	private final MapDrawContext context;
 
 	private MapRectangle mapViewport;
-	private short[][] buffer;
-	private final LinkedList<Integer> updatedLines = new LinkedList<Integer>();
-	private final LineLoader lineLoader;
+	private short[] buffer;
+	private ShortBuffer uploadBuffer;
+	private boolean areaUpdated = false;
+	private int updatedMinX;
+	private int updatedMinY;
+	private int updatedMaxX;
+	private int updatedMaxY;
+	private final MinimapUpdater updater;
 	private boolean stopped = false;
 
 	public Minimap(MapDrawContext context, MinimapMode modeSettings) {
@@ -62,10 +66,8 @@ public final class Minimap {
 		IGraphicsGrid map = context.getMap();
 		stride = MiniMapLayoutProperties.getStride(map.getWidth()) / map.getWidth();
 		converter = new MapCoordinateConverter(map.getWidth(), map.getHeight(), 1, 1);
-		lineLoader = new LineLoader(this, modeSettings);
-		Thread minimapThread = new Thread(lineLoader, "minimap loader");
-		minimapThread.setDaemon(true);
-		minimapThread.start();
+		updater = new MinimapUpdater(this, modeSettings);
+		updater.start();
 	}
 
 	public void setSize(int width, int height) {
@@ -75,6 +77,7 @@ public final class Minimap {
 			imageIsValid = false;
 			update_syncobj.notifyAll();
 		}
+		updater.invalidateAll();
 	}
 
 	public void draw(GLDrawContext context) {
@@ -83,31 +86,34 @@ public final class Minimap {
 				if (imageIndex > 0) {
 					context.deleteTexture(imageIndex);
 				}
-				ShortBuffer data =
+				uploadBuffer =
 						ByteBuffer.allocateDirect(width * height * 2)
 								.order(ByteOrder.nativeOrder()).asShortBuffer();
-				for (int i = 0; i < width * height; i++) {
-					data.put(LineLoader.BLACK);
+				if (buffer != null && buffer.length == width * height) {
+					uploadBuffer.put(buffer);
+				} else {
+					for (int i = 0; i < width * height; i++) {
+						uploadBuffer.put(MinimapUpdater.BLACK);
+					}
 				}
-				data.position(0);
-				imageIndex = context.generateTexture(width, height, data);
-				updatedLines.clear();
+				uploadBuffer.position(0);
+				imageIndex = context.generateTexture(width, height, uploadBuffer);
+				areaUpdated = false;
 				imageIsValid = true;
 			}
 
-			if (!updatedLines.isEmpty()) {
-				ShortBuffer currData =
-						ByteBuffer.allocateDirect(width * 2)
-								.order(ByteOrder.nativeOrder()).asShortBuffer();
-				for (Integer currLine : updatedLines) {
-					currData.position(0);
-					currData.put(buffer[currLine]);
-					currData.position(0);
+			if (areaUpdated) {
+				if (buffer.length == width * height) { // the buffer may still have the old size after a resize
+					int areaWidth = updatedMaxX - updatedMinX + 1;
+					uploadBuffer.clear();
+					for (int line = updatedMinY; line <= updatedMaxY; line++) {
+						uploadBuffer.put(buffer, updatedMinX + line * width, areaWidth);
+					}
+					uploadBuffer.flip();
 
-					context.updateTexture(imageIndex, 0, currLine, width, 1,
-							currData);
+					context.updateTexture(imageIndex, updatedMinX, updatedMinY, areaWidth, updatedMaxY - updatedMinY + 1, uploadBuffer);
 				}
-				updatedLines.clear();
+				areaUpdated = false;
 			}
 			update_syncobj.notifyAll();
 		}
@@ -201,14 +207,24 @@ public final class Minimap {
 	}
 
 	/**
-	 * Sets the data
+	 * Marks the given area of the buffer array as changed. It is uploaded to the texture the next time the minimap is drawn.
 	 *
-	 * @param line
-	 * @param data
+	 * @param minX
+	 *            The minimum x coordinate of the changed area (inclusive).
+	 * @param minY
+	 *            The minimum line of the changed area (inclusive).
+	 * @param maxX
+	 *            The maximum x coordinate of the changed area (inclusive).
+	 * @param maxY
+	 *            The maximum line of the changed area (inclusive).
 	 */
-	public void setUpdatedLine(int line) {
+	void setUpdatedArea(int minX, int minY, int maxX, int maxY) {
 		synchronized (update_syncobj) {
-			updatedLines.add(line);
+			updatedMinX = minX;
+			updatedMinY = minY;
+			updatedMaxX = maxX;
+			updatedMaxY = maxY;
+			areaUpdated = true;
 		}
 	}
 
@@ -248,30 +264,31 @@ public final class Minimap {
 	}
 
 	/**
-	 * a call to this method blocks until it's ok to update a line.
+	 * a call to this method blocks until the last updated area has been uploaded and it's ok to update the buffer.
+	 *
+	 * @throws InterruptedException
+	 *             If the thread has been interrupted while waiting.
 	 */
-	public void blockUntilUpdateAllowedOrStopped() {
+	void blockUntilUpdateAllowedOrStopped() throws InterruptedException {
 		synchronized (update_syncobj) {
-			while (!stopped
-					&& (!updatedLines.isEmpty() || width < 1 || height < 1)) {
-				try {
-					update_syncobj.wait();
-				} catch (InterruptedException e) {
-					e.printStackTrace();
-				}
+			while (!stopped && (areaUpdated || width < 1 || height < 1)) {
+				update_syncobj.wait();
 			}
 		}
 	}
 
-	public void setBufferArray(short[][] buffer) {
-		this.buffer = buffer;
+	void setBufferArray(short[] buffer) {
+		synchronized (update_syncobj) {
+			this.buffer = buffer;
+			areaUpdated = false;
+		}
 	}
 
 	public void stop() {
-		lineLoader.stop();
-		stopped = true;
+		updater.stop();
 		synchronized (update_syncobj) {
-
+			stopped = true;
+			update_syncobj.notifyAll();
 		}
 	}
 }
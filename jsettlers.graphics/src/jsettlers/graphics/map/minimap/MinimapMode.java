@@ -32,9 +32,28 @@ public class MinimapMode {
 		ALL
 	}
 
+	/**
+	 * A listener that is informed when the mode of the minimap has been changed.
+	 */
+	public interface IMinimapModeListener {
+		void minimapModeChanged();
+	}
+
 	private boolean displayBuildings = true;
 	private OccupiedAreaMode displayOccupied = OccupiedAreaMode.BORDERS;
 	private SettlersMode displaySettlers = SettlersMode.SOILDERS;
+	private IMinimapModeListener listener;
+
+	public void setListener(IMinimapModeListener listener) {
+		this.listener = listener;
+	}
+
+	private void notifyListener() {
+		IMinimapModeListener listener = this.listener;
+		if (listener != null) {
+			listener.minimapModeChanged();
+		}
+	}
 
 	public boolean getDisplayBuildings() {
 		return displayBuildings;
@@ -42,6 +61,7 @@ public class MinimapMode {
 
 	public void setDisplayBuildings(boolean displayBuildings) {
 		this.displayBuildings = displayBuildings;
+		notifyListener();
 	}
 
 	public OccupiedAreaMode getDisplayOccupied() {
@@ -50,6 +70,7 @@ public class MinimapMode {
 
 	public void setDisplayOccupied(OccupiedAreaMode displayOccupied) {
 		this.displayOccupied = displayOccupied;
+		notifyListener();
 	}
 
 	public SettlersMode getDisplaySettlers() {
@@ -58,5 +79,6 @@ public class MinimapMode {
 
 	public void setDisplaySettlers(SettlersMode displaySettlers) {
 		this.displaySettlers = displaySettlers;
+		notifyListener();
 	}
 }
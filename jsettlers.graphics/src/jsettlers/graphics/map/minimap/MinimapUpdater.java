@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.map.minimap;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import jsettlers.common.Color;
+import jsettlers.common.CommonConstants;
+import jsettlers.common.buildings.IBuilding;
+import jsettlers.common.map.IGraphicsChangeListener;
+import jsettlers.common.map.IGraphicsGrid;
+import jsettlers.common.mapobject.EMapObjectType;
+import jsettlers.common.mapobject.IMapObject;
+import jsettlers.common.movable.IMovable;
+import jsettlers.graphics.map.MapDrawContext;
+import jsettlers.graphics.map.minimap.MinimapMode.IMinimapModeListener;
+import jsettlers.graphics.map.minimap.MinimapMode.OccupiedAreaMode;
+import jsettlers.graphics.map.minimap.MinimapMode.SettlersMode;
+
+/**
+ * This class calculates the image of the {@link Minimap}.
+ * <p />
+ * The map is divided into blocks of {@link #BLOCK_SIZE} x {@link #BLOCK_SIZE} positions. The grid reports all changes via the
+ * {@link IGraphicsChangeListener} interface, which marks the blocks containing the changes as dirty. The updater thread only recalculates the
+ * pixels of the dirty blocks and hands the changed area to the {@link Minimap} to be uploaded to the texture. If nothing changes, the thread
+ * sleeps.
+ */
+class MinimapUpdater implements Runnable, IGraphicsChangeListener, IMinimapModeListener {
+	protected static final short BLACK = 0x0001;
+	private static final short TRANSPARENT = 0;
+	private static final int BLOCK_SIZE = 8;
+	/**
+	 * The minimum time between two updates of the minimap image.
+	 */
+	private static final int UPDATE_PERIOD_MS = 100;
+
+	/**
+	 * The minimap we work for.
+	 */
+	private final Minimap minimap;
+	private final MinimapMode modeSettings;
+	private final Thread thread;
+
+	private final short mapWidth;
+	private final short mapHeight;
+	private final int blocksPerLine;
+	private final boolean[] dirtyBlocks;
+	private volatile boolean dirty = false;
+	private volatile boolean stopped = false;
+
+	private int width = 0;
+	private int height = 0;
+	/**
+	 * The minimap image, including settlers.
+	 */
+	private short[] buffer = new short[0];
+	/**
+	 * The explored landscape.
+	 */
+	private short[] landscape = new short[0];
+	private boolean[] dirtyPixels = new boolean[0];
+
+	public MinimapUpdater(Minimap minimap, MinimapMode modeSettings) {
+		this.minimap = minimap;
+		this.modeSettings = modeSettings;
+
+		IGraphicsGrid map = minimap.getContext().getMap();
+		this.mapWidth = map.getWidth();
+		this.mapHeight = map.getHeight();
+		this.blocksPerLine = (mapWidth + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		this.dirtyBlocks = new boolean[blocksPerLine * ((mapHeight + BLOCK_SIZE - 1) / BLOCK_SIZE)];
+
+		this.thread = new Thread(this, "minimap updater");
+		this.thread.setDaemon(true);
+	}
+
+	/**
+	 * Registers this updater at the map and starts its thread.
+	 */
+	public void start() {
+		minimap.getContext().getMap().setChangeListener(this);
+		modeSettings.setListener(this);
+		thread.start();
+	}
+
+	@Override
+	public void run() {
+		while (!stopped) {
+			try {
+				waitForChanges();
+				minimap.blockUntilUpdateAllowedOrStopped();
+				if (!stopped) {
+					updateImage();
+					Thread.sleep(UPDATE_PERIOD_MS);
+				}
+			} catch (InterruptedException e) {
+				// stopped
+			} catch (Throwable e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void waitForChanges() {
+		while (!dirty && !stopped) {
+			LockSupport.park(this);
+		}
+	}
+
+	@Override
+	public void regionChanged(int minX, int minY, int maxX, int maxY) {
+		int minBlockX = Math.max(0, minX) / BLOCK_SIZE;
+		int minBlockY = Math.max(0, minY) / BLOCK_SIZE;
+		int maxBlockX = Math.min(mapWidth - 1, maxX) / BLOCK_SIZE;
+		int maxBlockY = Math.min(mapHeight - 1, maxY) / BLOCK_SIZE;
+
+		for (int blockY = minBlockY; blockY <= maxBlockY; blockY++) {
+			for (int blockX = minBlockX; blockX <= maxBlockX; blockX++) {
+				dirtyBlocks[blockX + blockY * blocksPerLine] = true;
+			}
+		}
+
+		boolean wasDirty = dirty;
+		dirty = true;
+		if (!wasDirty) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	@Override
+	public void minimapModeChanged() {
+		invalidateAll();
+	}
+
+	/**
+	 * Lets the whole minimap image be recalculated.
+	 */
+	public void invalidateAll() {
+		regionChanged(0, 0, mapWidth - 1, mapHeight - 1);
+	}
+
+	/**
+	 * Recalculates the dirty pixels and hands the changed area to the minimap.
+	 */
+	private void updateImage() {
+		int width = minimap.getWidth();
+		int height = minimap.getHeight();
+		if (width != this.width || height != this.height) {
+			resize(width, height);
+		}
+
+		dirty = false;
+		markDirtyPixels();
+
+		final MapDrawContext context = minimap.getContext();
+		final IGraphicsGrid map = context.getMap();
+
+		int minX = width;
+		int minY = height;
+		int maxX = -1;
+		int maxY = -1;
+		for (int line = 0; line < height; line++) {
+			for (int x = 0, index = line * width; x < width; x++, index++) {
+				if (dirtyPixels[index]) {
+					dirtyPixels[index] = false;
+					calculatePixel(map, context, x, line);
+
+					minX = Math.min(minX, x);
+					maxX = Math.max(maxX, x);
+					minY = Math.min(minY, line);
+					maxY = line;
+				}
+			}
+		}
+
+		if (maxX >= 0) {
+			minimap.setUpdatedArea(minX, minY, maxX, maxY);
+		}
+	}
+
+	private void resize(int width, int height) {
+		this.width = width;
+		this.height = height;
+		buffer = new short[width * height];
+		landscape = new short[width * height];
+		dirtyPixels = new boolean[width * height];
+		Arrays.fill(buffer, BLACK);
+		Arrays.fill(landscape, TRANSPARENT);
+		Arrays.fill(dirtyPixels, true);
+		minimap.setBufferArray(buffer);
+	}
+
+	/**
+	 * Marks all pixels showing a part of a dirty block as dirty. Because the colors of a pixel also depend on the neighbored positions, a margin
+	 * of one pixel is added.
+	 */
+	private void markDirtyPixels() {
+		for (int block = 0; block < dirtyBlocks.length; block++) {
+			if (!dirtyBlocks[block]) {
+				continue;
+			}
+			dirtyBlocks[block] = false;
+
+			int blockMinX = (block % blocksPerLine) * BLOCK_SIZE;
+			int blockMinY = (block / blocksPerLine) * BLOCK_SIZE;
+			int blockMaxX = Math.min(blockMinX + BLOCK_SIZE, mapWidth) - 1;
+			int blockMaxY = Math.min(blockMinY + BLOCK_SIZE, mapHeight) - 1;
+
+			int minX = Math.max(0, blockMinX * width / mapWidth - 1);
+			int maxX = Math.min(width - 1, blockMaxX * width / mapWidth + 1);
+			// the lines are counted from the top of the map
+			int minLine = Math.max(0, (mapHeight - 1 - blockMaxY) * height / mapHeight - 1);
+			int maxLine = Math.min(height - 1, (mapHeight - blockMinY) * height / mapHeight + 1);
+
+			for (int line = minLine; line <= maxLine; line++) {
+				Arrays.fill(dirtyPixels, minX + line * width, maxX + line * width + 1, true);
+			}
+		}
+	}
+
+	private void calculatePixel(IGraphicsGrid map, MapDrawContext context, int x, int line) {
+		int mapLineHeight = mapHeight / height + 1;
+
+		// first map tile in line
+		int mapMaxY = (int) ((1 - (float) line / height) * mapHeight);
+		// first map line not in line
+		int mapMinY = (int) ((1 - (float) (line + 1) / height) * mapHeight);
+		if (mapMinY == mapMaxY) {
+			if (mapMaxY == mapHeight) {
+				mapMinY = mapHeight - 1;
+			} else {
+				mapMaxY = mapMinY - 1;
+			}
+		}
+
+		int mapMinX = (int) ((float) x / width * mapWidth);
+		int mapMaxX = (int) ((float) (x + 1) / width * mapWidth);
+
+		if (mapMinX != 0 && mapMaxX == mapMinX) {
+			mapMinX = mapMaxX - 1;
+		}
+		int centerX = (mapMaxX + mapMinX) / 2;
+		int centerY = (mapMaxY + mapMinY) / 2;
+		int index = x + line * width;
+
+		short color = TRANSPARENT;
+		byte visibleStatus = map.getVisibleStatus(centerX, centerY);
+		if (visibleStatus > CommonConstants.FOG_OF_WAR_EXPLORED) {
+			color = getSettlerForArea(map, context, mapMinX, mapMinY, mapMaxX, mapMaxY);
+		}
+
+		if (visibleStatus > CommonConstants.FOG_OF_WAR_EXPLORED || landscape[index] == TRANSPARENT) {
+			float basecolor = ((float) visibleStatus) / CommonConstants.FOG_OF_WAR_VISIBLE;
+			int dheight = map.getHeightAt(centerX, mapMinY) - map.getHeightAt(centerX, Math.min(mapMinY + mapLineHeight, mapHeight - 1));
+			basecolor *= (1 + .15f * dheight);
+
+			short landscapeColor;
+			if (basecolor >= 0) {
+				landscapeColor = getColorForArea(map, mapMinX, mapMinY, mapMaxX, mapMaxY).toShortColor(basecolor);
+			} else {
+				landscapeColor = BLACK;
+			}
+			if (color == TRANSPARENT) {
+				color = landscapeColor;
+			}
+			landscape[index] = landscapeColor;
+		}
+
+		if (color != TRANSPARENT) {
+			buffer[index] = color;
+		} else {
+			buffer[index] = landscape[index];
+		}
+	}
+	private Color getColorForArea(IGraphicsGrid map, int mapminX, int mapminY, int mapmaxX, int mapmaxY) {
+		int centerx = (mapmaxX + mapminX) / 2;
+		int centery = (mapmaxY + mapminY) / 2;
+
+		return map.getLandscapeTypeAt(centerx, centery).color;
+	}
+
+	private short getSettlerForArea(IGraphicsGrid map, MapDrawContext context, int mapminX, int mapminY, int mapmaxX, int mapmaxY) {
+		SettlersMode displaySettlers = this.modeSettings.getDisplaySettlers();
+		OccupiedAreaMode displayOccupied = this.modeSettings.getDisplayOccupied();
+		boolean displayBuildings = this.modeSettings.getDisplayBuildings();
+
+		short occupiedColor = TRANSPARENT;
+		short settlerColor = TRANSPARENT;
+		short buildingColor = TRANSPARENT;
+
+		for (int y = mapminY; y < mapmaxY && (displayOccupied != OccupiedAreaMode.NONE || displayBuildings || displaySettlers != SettlersMode.NONE); y++) {
+			for (int x = mapminX; x < mapmaxX
+					&& (displayOccupied != OccupiedAreaMode.NONE || displayBuildings || displaySettlers != SettlersMode.NONE); x++) {
+				boolean visible = map.getVisibleStatus(x, y) > CommonConstants.FOG_OF_WAR_EXPLORED;
+				if (visible && displaySettlers != SettlersMode.NONE) {
+					IMovable settler = map.getMovableAt(x, y);
+					if (settler != null && (displaySettlers == SettlersMode.ALL || settler.getMovableType().isMoveToAble())) {
+						settlerColor = context.getPlayerColor(settler.getPlayerId()).toShortColor(1);
+						// don't search any more.
+						displaySettlers = SettlersMode.NONE;
+					} else if (displaySettlers != SettlersMode.NONE) {
+						IMapObject object = map.getMapObjectsAt(x, y);
+						IBuilding building = (object != null) ? (IBuilding) object.getMapObject(EMapObjectType.BUILDING) : null;
+
+						if (building instanceof IBuilding.IOccupyed) {
+							IBuilding.IOccupyed occupyed = (IBuilding.IOccupyed) building;
+							if (occupyed.isOccupied()) {
+								settlerColor = context.getPlayerColor(occupyed.getPlayerId()).toShortColor(1);
+							}
+						}
+					}
+				}
+
+				if (visible && displayOccupied == OccupiedAreaMode.BORDERS) {
+					if (map.isBorder(x, y)) {
+						byte player = map.getPlayerIdAt(x, y);
+						Color playerColor = context.getPlayerColor(player);
+						occupiedColor = playerColor.toShortColor(1);
+						displayOccupied = OccupiedAreaMode.NONE;
+					}
+
+				} else if (visible && displayOccupied == OccupiedAreaMode.AREA) {
+					byte player = map.getPlayerIdAt(x, y);
+					if (player >= 0 && !map.getLandscapeTypeAt(x, y).isBlocking) {
+						Color playerColor = context.getPlayerColor(player);
+						// Now add a landscape below that....
+						Color landscape = getColorForArea(map, mapminX, mapminY, mapmaxX, mapmaxY);
+						playerColor = landscape.toGreyScale().overlay(playerColor);
+						occupiedColor = playerColor.toShortColor(1);
+						displayOccupied = OccupiedAreaMode.NONE;
+					}
+				}
+
+				if (displayBuildings) {
+					if (map.isBuilding(x, y)) {
+						buildingColor = BLACK;
+					}
+				}
+			}
+		}
+		return settlerColor != TRANSPARENT ? settlerColor : buildingColor != TRANSPARENT ? buildingColor : occupiedColor;
+	}
+
+	/**
+	 * Stops the execution of this updater.
+	 */
+	public void stop() {
+		stopped = true;
+		minimap.getContext().getMap().setChangeListener(null);
+		modeSettings.setListener(null);
+		thread.interrupt();
+	}
+}
@@ -79,4 +79,14 @@ public class SimpleMessage implements Message {
 		String message = Labels.getString("cannot_find_work_" + building.getBuildingType());
 		return new SimpleMessage(EMessageType.NOTHING_FOUND_IN_SEARCH_AREA, message, (byte) -1, building.getPos());
 	}
+
+	public static Message gameSaved(long totalMs, long pausedMs) {
+		String message = Labels.getString("game_saved", totalMs, pausedMs);
+		return new SimpleMessage(EMessageType.GAME_SAVED, message, (byte) -1, null);
+	}
+
+	public static Message gameSavingFailed() {
+		String message = Labels.getString("game_saving_failed");
+		return new SimpleMessage(EMessageType.GAME_SAVED, message, (byte) -1, null);
+	}
 }
@@ -17,6 +17,7 @@ package jsettlers.graphics.reader;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.Arrays;
 
 import jsettlers.graphics.image.GuiImage;
 import jsettlers.graphics.image.Image;
@@ -641,8 +642,9 @@ public class AdvancedDatFileReader implements DatFileSet {
 			String id) throws IOException {
 		initializeIfNeeded();
 
-		MultiImageMap map = new MultiImageMap(width, height, id);
-		if (!map.hasCache()) {
+		long source = (file.length() * 31 + file.lastModified()) * 31 + Arrays.hashCode(sequences); // a changed dat file invalidates the cache
+		MultiImageMap map = new MultiImageMap(width, height, id, source);
+		if (!map.hasCache() || !map.addCachedSequences(settlersequences)) {
 			map.addSequences(this, sequences, settlersequences);
 			map.writeCache();
 		}
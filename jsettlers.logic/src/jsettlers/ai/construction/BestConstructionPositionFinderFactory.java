@@ -30,9 +30,22 @@ import static jsettlers.common.landscape.EResourceType.COAL;
 import static jsettlers.common.landscape.EResourceType.GOLDORE;
 import static jsettlers.common.landscape.EResourceType.IRONORE;
 import jsettlers.common.buildings.EBuildingType;
+import jsettlers.logic.constants.ExtendedRandom;
 
 public class BestConstructionPositionFinderFactory {
 
+	private final ExtendedRandom random;
+
+	/**
+	 * 
+	 * @param random
+	 *            The random used by the created finders. Every AI player needs its own random to be deterministic when the AI players are
+	 *            executed in parallel.
+	 */
+	public BestConstructionPositionFinderFactory(ExtendedRandom random) {
+		this.random = random;
+	}
+
 	public final IBestConstructionPositionFinder getBestConstructionPositionFinderFor(EBuildingType type) {
 		switch (type) {
 		case STONECUTTER:
@@ -46,7 +59,7 @@ public class BestConstructionPositionFinderFactory {
 		case TOWER:
 		case BIG_TOWER:
 		case CASTLE:
-			return new BestMilitaryConstructionPositionFinder(type);
+			return new BestMilitaryConstructionPositionFinder(type, random);
 		case FARM:
 			return new BestFarmConstructionPositionFinder();
 		case WINEGROWER:
@@ -16,7 +16,15 @@ package jsettlers.ai.highlevel;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import jsettlers.common.CommonConstants;
 import jsettlers.common.logging.StatisticsStopWatch;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.player.PlayerSetting;
@@ -25,32 +33,55 @@ import jsettlers.network.synchronic.timer.INetworkTimerable;
 
 /**
  * The AiExecutor holds all IWhatToDoAi high level KIs and executes them when NetworkTimer notifies it.
+ * <p />
+ * The AI players apply their rules in parallel on worker threads. The game clock waits for them, so they all see the same state of the game and
+ * the statistics, which are not modified until the next step. The tasks scheduled by the AI players are collected and handed to the
+ * {@link ITaskScheduler} in the order of the players afterwards. Therefore the decisions are deterministic for the same seed.
  * 
  * @author codingberlin
  */
 public class AiExecutor implements INetworkTimerable {
+	private static final long WORKER_KEEP_ALIVE_SECONDS = 10;
 
-	private final List<IWhatToDoAi> whatToDoAis;
+	private final List<AiPlayer> aiPlayers;
 	private final AiStatistics aiStatistics;
+	private final ITaskScheduler taskScheduler;
+	private final ThreadPoolExecutor workers;
 	private final StatisticsStopWatch updateStatisticsStopWatch = new StatisticsStopWatch();
 	private final StatisticsStopWatch applyRulesStopWatch = new StatisticsStopWatch();
+	private long numberOfStatisticsUpdates;
+	private long numberOfUpdatedPositions;
 
 	public AiExecutor(PlayerSetting[] playerSettings, MainGrid mainGrid, ITaskScheduler taskScheduler) {
 		aiStatistics = new AiStatistics(mainGrid);
-		this.whatToDoAis = new ArrayList<IWhatToDoAi>();
+		this.taskScheduler = taskScheduler;
+		this.aiPlayers = new ArrayList<AiPlayer>();
 		WhatToDoAiFactory aiFactory = new WhatToDoAiFactory();
 		for (byte playerId = 0; playerId < playerSettings.length; playerId++) {
 			PlayerSetting playerSetting = playerSettings[playerId];
 			if (playerSetting.isAvailable() && playerSetting.isAi()) {
-				whatToDoAis.add(aiFactory.buildWhatToDoAi(
+				BufferedTaskScheduler playerTaskScheduler = new BufferedTaskScheduler();
+				aiPlayers.add(new AiPlayer(aiFactory.buildWhatToDoAi(
 						playerSettings[playerId].getAiType(),
 						aiStatistics,
 						mainGrid.getPartitionsGrid().getPlayer(playerId),
 						mainGrid,
 						mainGrid.getMovableGrid(),
-						taskScheduler));
+						playerTaskScheduler), playerTaskScheduler));
 			}
 		}
+
+		int numberOfWorkers = Math.max(1, Math.min(aiPlayers.size(), CommonConstants.MAX_AI_WORKER_THREADS));
+		workers = new ThreadPoolExecutor(numberOfWorkers, numberOfWorkers, WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "AiWorkerThread");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		workers.allowCoreThreadTimeOut(true);
 	}
 
 	@Override
@@ -58,13 +89,61 @@ public class AiExecutor implements INetworkTimerable {
 		updateStatisticsStopWatch.restart();
 		aiStatistics.updateStatistics();
 		updateStatisticsStopWatch.stop("computerplayer:updateStatistics()");
+		numberOfStatisticsUpdates++;
+		numberOfUpdatedPositions += aiStatistics.getNumberOfUpdatedPositions();
 		applyRulesStopWatch.restart();
-		for (IWhatToDoAi whatToDoAi : whatToDoAis) {
-			whatToDoAi.applyRules();
-		}
+		applyRules();
 		applyRulesStopWatch.stop("computerplayer:applyRules()");
 	}
 
+	private void applyRules() {
+		if (workers.getMaximumPoolSize() <= 1) {
+			for (AiPlayer aiPlayer : aiPlayers) {
+				aiPlayer.call();
+			}
+		} else {
+			List<Future<Void>> results = new ArrayList<Future<Void>>(aiPlayers.size());
+			for (AiPlayer aiPlayer : aiPlayers) {
+				results.add(workers.submit(aiPlayer));
+			}
+			awaitResults(results);
+		}
+
+		for (AiPlayer aiPlayer : aiPlayers) {
+			aiPlayer.taskScheduler.flushTo(taskScheduler);
+		}
+	}
+
+	/**
+	 * Waits until all AI players have applied their rules. The tasks they scheduled must be forwarded in any case, otherwise this client would
+	 * diverge from the other clients of the game. Therefore an interruption does not abort the waiting, it is only passed on afterwards.
+	 */
+	private static void awaitResults(List<Future<Void>> results) {
+		boolean interrupted = false;
+		try {
+			for (Future<Void> result : results) {
+				while (true) {
+					try {
+						result.get();
+						break;
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	public AiStatistics getAiStatistics() {
+		return aiStatistics;
+	}
+
 	public StatisticsStopWatch getUpdateStatisticsStopWatch() {
 		return updateStatisticsStopWatch;
 	}
@@ -72,4 +151,29 @@ public class AiExecutor implements INetworkTimerable {
 	public StatisticsStopWatch getApplyRulesStopWatch() {
 		return applyRulesStopWatch;
 	}
+
+	/**
+	 * 
+	 * @return The average number of positions that needed to be updated by one update of the statistics. Together with
+	 *         {@link #getUpdateStatisticsStopWatch()} this shows how the costs of the updates depend on the number of changes on the map.
+	 */
+	public long getAverageNumberOfUpdatedPositions() {
+		return numberOfStatisticsUpdates > 0 ? numberOfUpdatedPositions / numberOfStatisticsUpdates : 0;
+	}
+
+	private static class AiPlayer implements Callable<Void> {
+		private final IWhatToDoAi whatToDoAi;
+		private final BufferedTaskScheduler taskScheduler;
+
+		AiPlayer(IWhatToDoAi whatToDoAi, BufferedTaskScheduler taskScheduler) {
+			this.whatToDoAi = whatToDoAi;
+			this.taskScheduler = taskScheduler;
+		}
+
+		@Override
+		public Void call() {
+			whatToDoAi.applyRules();
+			return null;
+		}
+	}
 }
@@ -1,6 +1,7 @@
 package jsettlers.ai.highlevel;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
 
 import jsettlers.common.map.shapes.IMapArea;
@@ -73,9 +74,19 @@ public class AiPositions implements IMapArea {
 
 	}
 
-	private boolean sorted = false;
 	private int[] points = new int[MIN_SIZE];
 	private int size = 0;
+	/**
+	 * The points in [0, sortedSize) are sorted. The points in [sortedSize, size) have been added afterwards and are merged into the sorted part
+	 * by {@link #ensureSorted()}.
+	 */
+	private int sortedSize = 0;
+	/**
+	 * Indexes of points in the sorted part that have been removed. They are dropped by {@link #ensureSorted()}. This way, a batch of
+	 * modifications only costs one merge instead of a sort per modification.
+	 */
+	private final BitSet removedIndexes = new BitSet();
+	private int removedCount = 0;
 
 	public void add(int x, int y) {
 		if (!contains(x, y)) {
@@ -96,19 +107,22 @@ public class AiPositions implements IMapArea {
 		}
 		points[size] = pos;
 		size++;
-		sorted = false;
 	}
 
 	public void remove(int x, int y) {
-		ensureSorted();
-		int index = indexOf(x, y);
-		if (index >= 0) {
-			if (index < size - 1) {
-				points[index] = points[size - 1];
-				sorted = false;
+		int pos = pack(x, y);
+		for (int i = sortedSize; i < size; i++) {
+			if (points[i] == pos) {
+				size--;
+				points[i] = points[size];
+				return;
 			}
-			// TODO: shrink array.
-			size--;
+		}
+
+		int index = Arrays.binarySearch(points, 0, sortedSize, pos);
+		if (index >= 0 && !removedIndexes.get(index)) {
+			removedIndexes.set(index);
+			removedCount++;
 		}
 	}
 
@@ -132,11 +146,34 @@ public class AiPositions implements IMapArea {
 		return new PositionsIterator();
 	}
 
-	private void ensureSorted() {
-		if (!sorted) {
-			Arrays.sort(points, 0, size);
-			sorted = true;
+	/**
+	 * Applies all pending modifications. Afterwards, reading this set does not modify it any more, so it can be read by multiple threads.
+	 */
+	void ensureSorted() {
+		if (sortedSize == size && removedCount == 0) {
+			return;
+		}
+
+		Arrays.sort(points, sortedSize, size);
+		int[] merged = new int[Math.max(MIN_SIZE, Integer.highestOneBit(size - removedCount) * 2)];
+		int mergedSize = 0;
+		int sortedIndex = 0;
+		int addedIndex = sortedSize;
+		while (sortedIndex < sortedSize || addedIndex < size) {
+			if (sortedIndex < sortedSize && removedIndexes.get(sortedIndex)) {
+				sortedIndex++;
+			} else if (addedIndex >= size || (sortedIndex < sortedSize && points[sortedIndex] <= points[addedIndex])) {
+				merged[mergedSize++] = points[sortedIndex++];
+			} else {
+				merged[mergedSize++] = points[addedIndex++];
+			}
 		}
+
+		points = merged;
+		size = mergedSize;
+		sortedSize = mergedSize;
+		removedIndexes.clear();
+		removedCount = 0;
 	}
 
 	private static int pack(int x, int y) {
@@ -157,7 +194,10 @@ public class AiPositions implements IMapArea {
 
 	public void clear() {
 		size = 0;
+		sortedSize = 0;
 		points = new int[MIN_SIZE];
+		removedIndexes.clear();
+		removedCount = 0;
 	}
 
 	public ShortPoint2D getNearestPoint(ShortPoint2D point) {
@@ -165,6 +205,7 @@ public class AiPositions implements IMapArea {
 	}
 
 	public ShortPoint2D getNearestPoint(ShortPoint2D center, int maxDistance, AiPositionFilter filter) {
+		ensureSorted();
 		int resX = -1, resY = -1;
 		int median = findClosestIndex(center.x, center.y);
 		if (median >= size) {
@@ -206,6 +247,7 @@ public class AiPositions implements IMapArea {
 	}
 
 	public int size() {
+		ensureSorted();
 		return size;
 	}
 
@@ -225,12 +267,13 @@ public class AiPositions implements IMapArea {
 			pointsStr.append(",");
 			pointsStr.append(p.y);
 		}
-		return "AiPositions [sorted=" + sorted + ", size=" + size + ", points="
+		return "AiPositions [size=" + size() + ", points="
 				+ pointsStr + "]";
 	}
 
 	public ShortPoint2D getBestRatedPoint(PositionRater rater) {
 		// TODO: Parallel ?
+		ensureSorted();
 		int currentBestRating = PositionRater.RATE_INVALID;
 		ShortPoint2D currentBest = null;
 		for (int i = 0; i < size; i++) {
@@ -21,11 +21,15 @@ import static jsettlers.common.movable.EMovableType.SWORDSMAN_L2;
 import static jsettlers.common.movable.EMovableType.SWORDSMAN_L3;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.Vector;
 
@@ -48,6 +52,7 @@ import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.WorkAreaBuilding;
 import jsettlers.logic.buildings.workers.MineBuilding;
+import jsettlers.logic.map.grid.IGridChangedListener;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.grid.flags.FlagsGrid;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
@@ -56,12 +61,16 @@ import jsettlers.logic.map.grid.objects.AbstractHexMapObject;
 import jsettlers.logic.map.grid.objects.ObjectsGrid;
 import jsettlers.logic.map.grid.partition.PartitionsGrid;
 import jsettlers.logic.movable.Movable;
+import jsettlers.logic.player.EconomyStatistic;
 import jsettlers.logic.player.Player;
 import jsettlers.logic.player.Team;
 
 /**
  * This class calculates statistics based on the grids which are used by highlevel and lowlevel KI. The statistics are calculated once and read
  * multiple times within one AiExecutor step triggerd by the game clock.
+ * <p />
+ * The position based statistics are not recalculated from the whole map. Instead, the grid reports changed positions via an
+ * {@link IGridChangedListener} and only the contributions of these positions are updated.
  *
  * @author codingberlin
  */
@@ -71,7 +80,20 @@ public class AiStatistics {
 	private static final int MINE_REMAINING_RESOURCE_AMOUNT_WHEN_DEAD = 200;
 	private static final float MINE_PRODUCTIVITY_WHEN_DEAD = 0.1f;
 
+	private static final int FREE_TREE = 1 << 0;
+	private static final int FREE_STONE = 1 << 1;
+	private static final int FREE_RIVER = 1 << 2;
+	private static final int LAND = 1 << 3;
+	private static final int BORDER_LAND = 1 << 4;
+	private static final int STONE_OF_PLAYER = 1 << 5;
+	private static final int TREE_OF_PLAYER = 1 << 6;
+	private static final int RIVER_OF_PLAYER = 1 << 7;
+	private static final int BLOCKED_PARTITION = 1 << 8;
+	private static final int PLAYER_FLAGS = LAND | BORDER_LAND | STONE_OF_PLAYER | TREE_OF_PLAYER | RIVER_OF_PLAYER | BLOCKED_PARTITION;
+	private static final byte NO_RESOURCE = -1;
+
 	private final Queue<Building> buildings;
+	private final Queue<Movable> movables;
 	private PlayerStatistic[] playerStatistics;
 	private Map<EMapObjectType, AiPositions> sortedCuttableObjectsInDefaultPartition;
 	private AiPositions[] sortedResourceTypes;
@@ -84,8 +106,25 @@ public class AiStatistics {
 	private final FlagsGrid flagsGrid;
 	private final AbstractConstructionMarkableMap constructionMarksGrid;
 
+	/**
+	 * The contributions of every position to the position sets, as they have been registered when the position was updated the last time.
+	 */
+	private final short[] registeredFlags;
+	private final byte[] registeredPlayers;
+	private final byte[] registeredResources;
+	/**
+	 * The positions reported as changed since the last update. They are reported by the game thread, so the access is synchronized on this set.
+	 */
+	private final BitSet changedPositions;
+	private int[] changedPositionsQueue = new int[64];
+	private int numberOfChangedPositions = 0;
+	private boolean allPositionsChanged = true;
+	private int numberOfUpdatedPositions;
+	private final byte[] cornerPlayerIds = new byte[4];
+
 	public AiStatistics(MainGrid mainGrid) {
 		this.buildings = Building.getAllBuildings();
+		this.movables = Movable.getAllMovables();
 		this.mainGrid = mainGrid;
 		this.landscapeGrid = mainGrid.getLandscapeGrid();
 		this.objectsGrid = mainGrid.getObjectsGrid();
@@ -99,10 +138,22 @@ public class AiStatistics {
 		}
 		sortedRiversInDefaultPartition = new AiPositions();
 		sortedCuttableObjectsInDefaultPartition = new HashMap<EMapObjectType, AiPositions>();
+		sortedCuttableObjectsInDefaultPartition.put(TREE_ADULT, new AiPositions());
+		sortedCuttableObjectsInDefaultPartition.put(STONE, new AiPositions());
 		sortedResourceTypes = new AiPositions[EResourceType.values.length];
 		for (int i = 0; i < sortedResourceTypes.length; i++) {
 			sortedResourceTypes[i] = new AiPositions();
 		}
+
+		int numberOfPositions = mainGrid.getWidth() * mainGrid.getHeight();
+		this.registeredFlags = new short[numberOfPositions];
+		this.registeredPlayers = new byte[numberOfPositions];
+		this.registeredResources = new byte[numberOfPositions];
+		Arrays.fill(registeredPlayers, (byte) -1);
+		Arrays.fill(registeredResources, NO_RESOURCE);
+		this.changedPositions = new BitSet(numberOfPositions);
+
+		mainGrid.addGridChangedListener(new GridChangedListener());
 	}
 
 	public byte getFlatternEffortAtPositionForBuilding(final ShortPoint2D position, final EBuildingType buildingType) {
@@ -117,14 +168,35 @@ public class AiStatistics {
 		for (PlayerStatistic playerStatistic : playerStatistics) {
 			playerStatistic.clearAll();
 		}
-		sortedRiversInDefaultPartition.clear();
-		sortedCuttableObjectsInDefaultPartition.clear();
-		for (AiPositions xCoordinatesMap : sortedResourceTypes) {
-			xCoordinatesMap.clear();
-		}
 
 		updateBuildingStatistics();
 		updateMapStatistics();
+		applyPendingModifications();
+	}
+
+	/**
+	 * Applies the pending modifications of all position sets. Afterwards, the statistics are not modified by reading them, so the AI players can
+	 * read them in parallel.
+	 */
+	private void applyPendingModifications() {
+		for (AiPositions positions : sortedCuttableObjectsInDefaultPartition.values()) {
+			positions.ensureSorted();
+		}
+		for (AiPositions positions : sortedResourceTypes) {
+			positions.ensureSorted();
+		}
+		sortedRiversInDefaultPartition.ensureSorted();
+		for (PlayerStatistic playerStatistic : playerStatistics) {
+			playerStatistic.applyPendingModifications();
+		}
+	}
+
+	/**
+	 * 
+	 * @return The number of positions that needed to be updated by the last call to {@link #updateStatistics()}.
+	 */
+	public int getNumberOfUpdatedPositions() {
+		return numberOfUpdatedPositions;
 	}
 
 	private void updateBuildingStatistics() {
@@ -157,7 +229,6 @@ public class AiStatistics {
 	}
 
 	private void updateBuildingsNumbers(PlayerStatistic playerStatistic, Building building, EBuildingType type) {
-		playerStatistic.totalBuildingsNumbers[type.ordinal]++;
 		if (building.getStateProgress() == 1f) {
 			playerStatistic.buildingsNumbers[type.ordinal]++;
 		}
@@ -167,7 +238,6 @@ public class AiStatistics {
 	}
 
 	private void updateNumberOfNotFinishedBuildings(PlayerStatistic playerStatistic, Building building) {
-		playerStatistic.numberOfTotalBuildings++;
 		if (building.getStateProgress() < 1f) {
 			playerStatistic.numberOfNotFinishedBuildings++;
 			if (building.getBuildingType() == EBuildingType.TOWER) {
@@ -180,106 +250,217 @@ public class AiStatistics {
 
 	private void updateMapStatistics() {
 		updatePartitionIdsToBuildOn();
-		updateResources();
+		updateChangedPositions();
+		updateMovables();
+		updatePlayerLand();
+	}
+
+	/**
+	 * Updates the registered contributions of all positions reported by the {@link GridChangedListener} since the last update. Therefore the
+	 * costs of an update depend on the number of changes on the map and not on the size of the map.
+	 */
+	private void updateChangedPositions() {
+		boolean updateAllPositions;
+		int[] changedIndexes;
+		synchronized (changedPositions) {
+			updateAllPositions = allPositionsChanged;
+			changedIndexes = Arrays.copyOf(changedPositionsQueue, numberOfChangedPositions);
+			allPositionsChanged = false;
+			changedPositions.clear();
+			numberOfChangedPositions = 0;
+		}
+
 		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-				Movable movable = movableGrid.getMovableAt(x, y);
-				if (movable != null) {
-					byte movablePlayerId = movable.getPlayerId();
-					PlayerStatistic movablePlayerStatistic = playerStatistics[movablePlayerId];
-					EMovableType movableType = movable.getMovableType();
-					if (!movablePlayerStatistic.movablePositions.containsKey(movableType)) {
-						movablePlayerStatistic.movablePositions.put(movableType, new Vector<ShortPoint2D>());
-					}
-					movablePlayerStatistic.movablePositions.get(movableType).add(movable.getPos());
-					if (player != null
-							&& player.playerId != movablePlayerId
-							&& EMovableType.isSoldier(movableType)
-							&& getEnemiesOf(player.playerId).contains(movablePlayerId)) {
-						playerStatistics[player.playerId].enemyTroopsInTown.addNoCollission(movable.getPos().x, movable.getPos().y);
-					}
-				}
-				if (player == null) {
-					updateFreeLand(x, y);
-				} else if (partitionsGrid.getPartitionIdAt(x, y) == playerStatistics[player.playerId].partitionIdToBuildOn) {
-					updatePlayerLand(x, y, player);
+		if (updateAllPositions) {
+			short height = mainGrid.getHeight();
+			for (short x = 0; x < width; x++) {
+				for (short y = 0; y < height; y++) {
+					updatePosition(x, y);
 				}
 			}
+			numberOfUpdatedPositions = width * height;
+		} else {
+			for (int index : changedIndexes) {
+				updatePosition((short) (index % width), (short) (index / width));
+			}
+			numberOfUpdatedPositions = changedIndexes.length;
+		}
+	}
+
+	private void updatePosition(short x, short y) {
+		int index = x + y * mainGrid.getWidth();
+
+		int flags = 0;
+		byte playerId = -1;
+		Player player = partitionsGrid.getPlayerAt(x, y);
+		if (player == null) {
+			flags = calculateFreeLandFlags(x, y);
+		} else {
+			playerId = player.playerId;
+			flags = calculatePlayerLandFlags(x, y, playerId);
+		}
+		updatePositionSets(x, y, index, flags, playerId);
+
+		byte resource = NO_RESOURCE;
+		if (landscapeGrid.getResourceAmountAt(x, y) > 0) {
+			resource = landscapeGrid.getResourceTypeAt(x, y).ordinal;
+		}
+		byte oldResource = registeredResources[index];
+		if (resource != oldResource) {
+			if (oldResource != NO_RESOURCE) {
+				sortedResourceTypes[oldResource].remove(x, y);
+			}
+			if (resource != NO_RESOURCE) {
+				sortedResourceTypes[resource].addNoCollission(x, y);
+			}
+			registeredResources[index] = resource;
 		}
 	}
 
-	private void updatePlayerLand(short x, short y, Player player) {
-		int playerId = player.playerId;
-		PlayerStatistic playerStatistic = playerStatistics[playerId];
-		updateBorderlandNextToFreeLand(playerStatistic, x, y);
-		playerStatistic.landToBuildOn.addNoCollission(x, y);
+	private int calculateFreeLandFlags(short x, short y) {
+		int flags = 0;
+		if (objectsGrid.hasCuttableObject(x, y, TREE_ADULT)) {
+			flags |= FREE_TREE;
+		}
+		if (objectsGrid.hasCuttableObject(x, y, STONE)) {
+			flags |= FREE_STONE;
+		}
+		if (landscapeGrid.getLandscapeTypeAt(x, y).isRiver()) {
+			flags |= FREE_RIVER;
+		}
+		return flags;
+	}
+
+	private int calculatePlayerLandFlags(short x, short y, byte playerId) {
+		int flags = LAND;
+		if (partitionsGrid.isInBlockedPartition(x, y)) {
+			flags |= BLOCKED_PARTITION;
+		}
+		if (isBorderLandNextToFreeLand(x, y)) {
+			flags |= BORDER_LAND;
+		}
 		AbstractHexMapObject o = objectsGrid.getObjectsAt(x, y);
 		if (o != null) {
-			if (o.hasCuttableObject(STONE) && isCuttableByPlayer(x, y, player.playerId)) {
-				playerStatistic.stones.addNoCollission(x, y);
-			} else if (o.hasCuttableObject(TREE_ADULT) && isCuttableByPlayer(x, y, player.playerId)) {
-				playerStatistic.trees.addNoCollission(x, y);
+			if (o.hasCuttableObject(STONE) && isCuttableByPlayer(x, y, playerId)) {
+				flags |= STONE_OF_PLAYER;
+			} else if (o.hasCuttableObject(TREE_ADULT) && isCuttableByPlayer(x, y, playerId)) {
+				flags |= TREE_OF_PLAYER;
 			}
 		}
-		ELandscapeType landscape = landscapeGrid.getLandscapeTypeAt(x, y);
-		if (landscape.isRiver()) {
-			playerStatistic.rivers.addNoCollission(x, y);
+		if (landscapeGrid.getLandscapeTypeAt(x, y).isRiver()) {
+			flags |= RIVER_OF_PLAYER;
 		}
+		return flags;
 	}
 
-	private boolean isCuttableByPlayer(short x, short y, byte playerId) {
-		byte[] playerIds = new byte[4];
-		playerIds[0] = partitionsGrid.getPlayerIdAt(x - 2, y - 2);
-		playerIds[1] = partitionsGrid.getPlayerIdAt(x - 2, y + 2);
-		playerIds[2] = partitionsGrid.getPlayerIdAt(x + 2, y - 2);
-		playerIds[3] = partitionsGrid.getPlayerIdAt(x + 2, y + 2);
-		for (byte positionPlayerId : playerIds) {
-			if (positionPlayerId != playerId) {
-				return false;
+	private void updatePositionSets(short x, short y, int index, int flags, byte playerId) {
+		int oldFlags = registeredFlags[index];
+		byte oldPlayerId = registeredPlayers[index];
+
+		updatePositionSet(sortedCuttableObjectsInDefaultPartition.get(TREE_ADULT), x, y, oldFlags, flags, FREE_TREE);
+		updatePositionSet(sortedCuttableObjectsInDefaultPartition.get(STONE), x, y, oldFlags, flags, FREE_STONE);
+		updatePositionSet(sortedRiversInDefaultPartition, x, y, oldFlags, flags, FREE_RIVER);
+
+		int oldPlayerFlags = oldFlags & PLAYER_FLAGS;
+		int newPlayerFlags = flags & PLAYER_FLAGS;
+		if (oldPlayerId != playerId || (oldPlayerFlags & BLOCKED_PARTITION) != (newPlayerFlags & BLOCKED_PARTITION)) {
+			if (oldPlayerId >= 0) {
+				playerStatistics[oldPlayerId].getPositionsOfPlayer(oldPlayerFlags).updatePosition(x, y, oldPlayerFlags, 0);
+			}
+			if (playerId >= 0) {
+				playerStatistics[playerId].getPositionsOfPlayer(newPlayerFlags).updatePosition(x, y, 0, newPlayerFlags);
 			}
+		} else if (playerId >= 0 && oldPlayerFlags != newPlayerFlags) {
+			playerStatistics[playerId].getPositionsOfPlayer(newPlayerFlags).updatePosition(x, y, oldPlayerFlags, newPlayerFlags);
 		}
-		return true;
+
+		registeredFlags[index] = (short) flags;
+		registeredPlayers[index] = playerId;
 	}
 
-	private void updateFreeLand(short x, short y) {
-		if (objectsGrid.hasCuttableObject(x, y, TREE_ADULT)) {
-			AiPositions trees = sortedCuttableObjectsInDefaultPartition.get(TREE_ADULT);
-			if (trees == null) {
-				trees = new AiPositions();
-				sortedCuttableObjectsInDefaultPartition.put(TREE_ADULT, trees);
+	private static void updatePositionSet(AiPositions positions, short x, short y, int oldFlags, int newFlags, int flag) {
+		boolean wasContained = (oldFlags & flag) != 0;
+		boolean isContained = (newFlags & flag) != 0;
+		if (wasContained && !isContained) {
+			positions.remove(x, y);
+		} else if (!wasContained && isContained) {
+			positions.addNoCollission(x, y);
+		}
+	}
+
+	private void updateMovables() {
+		for (PlayerStatistic playerStatistic : playerStatistics) {
+			playerStatistic.clearMovables();
+		}
+
+		for (Movable movable : movables) {
+			ShortPoint2D position = movable.getPos();
+			if (movableGrid.getMovableAt(position.x, position.y) == movable) {
+				playerStatistics[movable.getPlayerId()].getMovablePositionsOf(movable.getMovableType()).addNoCollission(position.x, position.y);
 			}
-			trees.addNoCollission(x, y);
 		}
-		if (objectsGrid.hasCuttableObject(x, y, STONE)) {
-			AiPositions stones = sortedCuttableObjectsInDefaultPartition.get(STONE);
-			if (stones == null) {
-				stones = new AiPositions();
-				sortedCuttableObjectsInDefaultPartition.put(STONE, stones);
+
+		boolean[][] enemies = new boolean[playerStatistics.length][playerStatistics.length];
+		for (byte playerId = 0; playerId < playerStatistics.length; playerId++) {
+			for (Byte enemyId : getEnemiesOf(playerId)) {
+				enemies[playerId][enemyId] = true;
 			}
-			stones.addNoCollission(x, y);
 		}
-		ELandscapeType landscape = landscapeGrid.getLandscapeTypeAt(x, y);
-		if (landscape.isRiver()) {
-			sortedRiversInDefaultPartition.addNoCollission(x, y);
+
+		for (byte movablePlayerId = 0; movablePlayerId < playerStatistics.length; movablePlayerId++) {
+			for (Entry<EMovableType, AiPositions> movablePositions : playerStatistics[movablePlayerId].sortedMovablePositions.entrySet()) {
+				List<ShortPoint2D> positions = new Vector<ShortPoint2D>();
+				boolean isSoldier = EMovableType.isSoldier(movablePositions.getKey());
+				for (ShortPoint2D position : movablePositions.getValue()) {
+					positions.add(position);
+					if (isSoldier) {
+						Player player = partitionsGrid.getPlayerAt(position.x, position.y);
+						if (player != null && player.playerId != movablePlayerId && enemies[player.playerId][movablePlayerId]) {
+							playerStatistics[player.playerId].enemyTroopsInTown.addNoCollission(position.x, position.y);
+						}
+					}
+				}
+				if (!positions.isEmpty()) {
+					playerStatistics[movablePlayerId].movablePositions.put(movablePositions.getKey(), positions);
+				}
+			}
 		}
 	}
 
-	private void updateResources() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				if (landscapeGrid.getResourceAmountAt(x, y) > 0) {
-					EResourceType resourceType = landscapeGrid.getResourceTypeAt(x, y);
-					sortedResourceTypes[resourceType.ordinal].addNoCollission(x, y);
-				}
+	/**
+	 * Publishes the registered positions of the partition every player builds on. If the partition contains all registered positions of the
+	 * player, the registered sets can be used without copying them.
+	 */
+	private void updatePlayerLand() {
+		for (PlayerStatistic playerStatistic : playerStatistics) {
+			ShortPoint2D referencePosition = playerStatistic.referencePosition;
+			if (playerStatistic.partitionIdToBuildOn == Short.MIN_VALUE) {
+				playerStatistic.usePositions(playerStatistic.filteredPositions.clear());
+			} else if (partitionsGrid.isInBlockedPartition(referencePosition.x, referencePosition.y)) {
+				playerStatistic.usePositions(playerStatistic.positionsInBlockedPartition);
+			} else if (partitionsGrid.getPartitionAt(referencePosition.x, referencePosition.y).getNumberOfElements() == playerStatistic.positions.land
+					.size()) {
+				playerStatistic.usePositions(playerStatistic.positions);
+			} else {
+				playerStatistic.usePositions(playerStatistic.filteredPositions.filter(playerStatistic.positions, playerStatistic.partitionIdToBuildOn));
 			}
 		}
 	}
 
+	private boolean isCuttableByPlayer(short x, short y, byte playerId) {
+		byte[] playerIds = cornerPlayerIds;
+		playerIds[0] = partitionsGrid.getPlayerIdAt(x - 2, y - 2);
+		playerIds[1] = partitionsGrid.getPlayerIdAt(x - 2, y + 2);
+		playerIds[2] = partitionsGrid.getPlayerIdAt(x + 2, y - 2);
+		playerIds[3] = partitionsGrid.getPlayerIdAt(x + 2, y + 2);
+		for (byte positionPlayerId : playerIds) {
+			if (positionPlayerId != playerId) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private void updatePartitionIdsToBuildOn() {
 		for (byte playerId = 0; playerId < playerStatistics.length; playerId++) {
 			ShortPoint2D referencePosition = null;
@@ -297,17 +478,17 @@ public class AiStatistics {
 		}
 	}
 
-	private void updateBorderlandNextToFreeLand(PlayerStatistic playerStatistic, short x, short y) {
+	private boolean isBorderLandNextToFreeLand(short x, short y) {
 		for (EDirection dir : EDirection.values) {
 			int lx = x + dir.gridDeltaX * BORDER_LAND_WIDTH;
 			int ly = y + dir.gridDeltaY * BORDER_LAND_WIDTH;
 			if (mainGrid.isInBounds(lx, ly)) {
 				if (partitionsGrid.isDefaultPartition(partitionsGrid.getPartitionIdAt(lx, ly))) {
-					playerStatistic.borderLandNextToFreeLand.addNoCollission(x, y);
-					break;
+					return true;
 				}
 			}
 		}
+		return false;
 	}
 
 	public List<ShortPoint2D> getHinterlandTowerPositionsOfPlayer(byte playerId) {
@@ -376,7 +557,8 @@ public class AiStatistics {
 	}
 
 	public int getTotalNumberOfBuildingTypeForPlayer(EBuildingType type, byte playerId) {
-		return playerStatistics[playerId].totalBuildingsNumbers[type.ordinal];
+		EconomyStatistic economyStatistic = partitionsGrid.getPlayer(playerId).getEconomyStatistic();
+		return economyStatistic.getNumberOfBuildings(type) + economyStatistic.getNumberOfBuildingsUnderConstruction(type);
 	}
 
 	public int getNumberOfBuildingTypeForPlayer(EBuildingType type, byte playerId) {
@@ -388,7 +570,7 @@ public class AiStatistics {
 	}
 
 	public int getNumberOfTotalBuildingsForPlayer(byte playerId) {
-		return playerStatistics[playerId].numberOfTotalBuildings;
+		return partitionsGrid.getPlayer(playerId).getEconomyStatistic().getNumberOfBuildings();
 	}
 
 	public List<ShortPoint2D> getBuildingPositionsOfTypeForPlayer(EBuildingType type, byte playerId) {
@@ -487,14 +669,16 @@ public class AiStatistics {
 			return points;
 		}
 
-		Collections.sort(points, new Comparator<ShortPoint2D>() {
+		// don't sort the given list, it might be read by other AI players at the same time
+		List<ShortPoint2D> sortedPoints = new ArrayList<ShortPoint2D>(points);
+		Collections.sort(sortedPoints, new Comparator<ShortPoint2D>() {
 			@Override
 			public int compare(ShortPoint2D o1, ShortPoint2D o2) {
 				return o1.getOnGridDistTo(referencePoint) - o2.getOnGridDistTo(referencePoint);
 			}
 		});
 
-		return points.subList(0, amountOfPointsToDetect);
+		return sortedPoints.subList(0, amountOfPointsToDetect);
 	}
 
 	public int getNumberOfMaterialTypeForPlayer(EMaterialType type, byte playerId) {
@@ -564,9 +748,117 @@ public class AiStatistics {
 		return playerStatistics[playerId].referencePosition;
 	}
 
+	AiPositions getCuttableObjectsInDefaultPartition(EMapObjectType cuttableObject) {
+		return sortedCuttableObjectsInDefaultPartition.get(cuttableObject);
+	}
+
+	AiPositions getRiversInDefaultPartition() {
+		return sortedRiversInDefaultPartition;
+	}
+
+	AiPositions getResourcePositions(EResourceType resourceType) {
+		return sortedResourceTypes[resourceType.ordinal];
+	}
+
+	private void addChangedPosition(int x, int y) {
+		if (!mainGrid.isInBounds(x, y)) {
+			return;
+		}
+
+		int index = x + y * mainGrid.getWidth();
+		synchronized (changedPositions) {
+			if (!allPositionsChanged && !changedPositions.get(index)) {
+				changedPositions.set(index);
+				if (numberOfChangedPositions == changedPositionsQueue.length) {
+					changedPositionsQueue = Arrays.copyOf(changedPositionsQueue, changedPositionsQueue.length * 2);
+				}
+				changedPositionsQueue[numberOfChangedPositions++] = index;
+			}
+		}
+	}
+
+	/**
+	 * Collects the positions whose contributions to the statistics need to be updated.
+	 */
+	private class GridChangedListener implements IGridChangedListener {
+		@Override
+		public void positionChangedAt(int x, int y) {
+			addChangedPosition(x, y);
+		}
+
+		@Override
+		public void playerChangedAt(int x, int y) {
+			addChangedPosition(x, y);
+
+			// positions checking this position in isCuttableByPlayer()
+			addChangedPosition(x - 2, y - 2);
+			addChangedPosition(x - 2, y + 2);
+			addChangedPosition(x + 2, y - 2);
+			addChangedPosition(x + 2, y + 2);
+
+			// positions checking this position in isBorderLandNextToFreeLand()
+			for (EDirection dir : EDirection.values) {
+				addChangedPosition(x - dir.gridDeltaX * BORDER_LAND_WIDTH, y - dir.gridDeltaY * BORDER_LAND_WIDTH);
+			}
+		}
+	}
+
+	/**
+	 * The sets of positions a player owns.
+	 */
+	private class PlayerPositions {
+		final AiPositions land = new AiPositions();
+		final AiPositions borderLandNextToFreeLand = new AiPositions();
+		final AiPositions stones = new AiPositions();
+		final AiPositions trees = new AiPositions();
+		final AiPositions rivers = new AiPositions();
+
+		void updatePosition(short x, short y, int oldFlags, int newFlags) {
+			updatePositionSet(land, x, y, oldFlags, newFlags, LAND);
+			updatePositionSet(borderLandNextToFreeLand, x, y, oldFlags, newFlags, BORDER_LAND);
+			updatePositionSet(stones, x, y, oldFlags, newFlags, STONE_OF_PLAYER);
+			updatePositionSet(trees, x, y, oldFlags, newFlags, TREE_OF_PLAYER);
+			updatePositionSet(rivers, x, y, oldFlags, newFlags, RIVER_OF_PLAYER);
+		}
+
+		void applyPendingModifications() {
+			land.ensureSorted();
+			borderLandNextToFreeLand.ensureSorted();
+			stones.ensureSorted();
+			trees.ensureSorted();
+			rivers.ensureSorted();
+		}
+
+		PlayerPositions clear() {
+			land.clear();
+			borderLandNextToFreeLand.clear();
+			stones.clear();
+			trees.clear();
+			rivers.clear();
+			return this;
+		}
+
+		PlayerPositions filter(PlayerPositions source, short partitionId) {
+			clear();
+			filter(source.land, land, partitionId);
+			filter(source.borderLandNextToFreeLand, borderLandNextToFreeLand, partitionId);
+			filter(source.stones, stones, partitionId);
+			filter(source.trees, trees, partitionId);
+			filter(source.rivers, rivers, partitionId);
+			return this;
+		}
+
+		private void filter(AiPositions source, AiPositions target, short partitionId) {
+			for (ShortPoint2D position : source) {
+				if (partitionsGrid.getPartitionIdAt(position.x, position.y) == partitionId) {
+					target.addNoCollission(position.x, position.y);
+				}
+			}
+		}
+	}
+
 	private class PlayerStatistic {
 		ShortPoint2D referencePosition;
-		int[] totalBuildingsNumbers;
 		int[] buildingsNumbers;
 		int[] unoccupiedBuildingsNumbers;
 		Map<EBuildingType, List<ShortPoint2D>> buildingPositions;
@@ -574,8 +866,12 @@ public class AiStatistics {
 		List<ShortPoint2D> wineGrowerWorkAreas;
 		short partitionIdToBuildOn;
 		IPartitionData materials;
+		final PlayerPositions positions;
+		final PlayerPositions positionsInBlockedPartition;
+		final PlayerPositions filteredPositions;
 		AiPositions landToBuildOn;
 		AiPositions borderLandNextToFreeLand;
+		Map<EMovableType, AiPositions> sortedMovablePositions;
 		Map<EMovableType, List<ShortPoint2D>> movablePositions;
 		AiPositions stones;
 		AiPositions trees;
@@ -583,21 +879,19 @@ public class AiStatistics {
 		AiPositions enemyTroopsInTown;
 		AiPositions deadMines;
 		int numberOfNotFinishedBuildings;
-		int numberOfTotalBuildings;
 		int numberOfNotOccupiedTowers;
 		IMaterialProductionSettings materialProduction;
 
 		PlayerStatistic() {
 			buildingPositions = new HashMap<EBuildingType, List<ShortPoint2D>>();
-			stones = new AiPositions();
-			trees = new AiPositions();
-			rivers = new AiPositions();
-			landToBuildOn = new AiPositions();
+			positions = new PlayerPositions();
+			positionsInBlockedPartition = new PlayerPositions();
+			filteredPositions = new PlayerPositions();
+			usePositions(filteredPositions);
 			enemyTroopsInTown = new AiPositions();
 			deadMines = new AiPositions();
-			borderLandNextToFreeLand = new AiPositions();
+			sortedMovablePositions = new EnumMap<EMovableType, AiPositions>(EMovableType.class);
 			movablePositions = new HashMap<EMovableType, List<ShortPoint2D>>();
-			totalBuildingsNumbers = new int[EBuildingType.NUMBER_OF_BUILDINGS];
 			buildingsNumbers = new int[EBuildingType.NUMBER_OF_BUILDINGS];
 			unoccupiedBuildingsNumbers = new int[EBuildingType.NUMBER_OF_BUILDINGS];
 			farmWorkAreas = new Vector<ShortPoint2D>();
@@ -605,28 +899,59 @@ public class AiStatistics {
 			clearIntegers();
 		}
 
+		PlayerPositions getPositionsOfPlayer(int flags) {
+			return (flags & BLOCKED_PARTITION) != 0 ? positionsInBlockedPartition : positions;
+		}
+
+		void usePositions(PlayerPositions playerPositions) {
+			landToBuildOn = playerPositions.land;
+			borderLandNextToFreeLand = playerPositions.borderLandNextToFreeLand;
+			stones = playerPositions.stones;
+			trees = playerPositions.trees;
+			rivers = playerPositions.rivers;
+		}
+
+		AiPositions getMovablePositionsOf(EMovableType movableType) {
+			AiPositions sortedPositions = sortedMovablePositions.get(movableType);
+			if (sortedPositions == null) {
+				sortedPositions = new AiPositions();
+				sortedMovablePositions.put(movableType, sortedPositions);
+			}
+			return sortedPositions;
+		}
+
+		void applyPendingModifications() {
+			positions.applyPendingModifications();
+			positionsInBlockedPartition.applyPendingModifications();
+			filteredPositions.applyPendingModifications();
+			for (AiPositions sortedPositions : sortedMovablePositions.values()) {
+				sortedPositions.ensureSorted();
+			}
+			enemyTroopsInTown.ensureSorted();
+			deadMines.ensureSorted();
+		}
+
+		void clearMovables() {
+			for (AiPositions sortedPositions : sortedMovablePositions.values()) {
+				sortedPositions.clear();
+			}
+			movablePositions.clear();
+			enemyTroopsInTown.clear();
+		}
+
 		public void clearAll() {
 			materials = null;
 			buildingPositions.clear();
-			enemyTroopsInTown.clear();
 			deadMines.clear();
-			stones.clear();
-			trees.clear();
-			rivers.clear();
-			landToBuildOn.clear();
-			borderLandNextToFreeLand.clear();
-			movablePositions.clear();
 			farmWorkAreas.clear();
 			wineGrowerWorkAreas.clear();
 			clearIntegers();
 		}
 
 		private void clearIntegers() {
-			clearIntegerArray(totalBuildingsNumbers);
 			clearIntegerArray(buildingsNumbers);
 			clearIntegerArray(unoccupiedBuildingsNumbers);
 			numberOfNotFinishedBuildings = 0;
-			numberOfTotalBuildings = 0;
 			numberOfNotOccupiedTowers = 0;
 			partitionIdToBuildOn = Short.MIN_VALUE;
 		}
@@ -63,6 +63,8 @@ import jsettlers.input.tasks.EGuiAction;
 import jsettlers.input.tasks.MoveToGuiTask;
 import jsettlers.input.tasks.WorkAreaGuiTask;
 import jsettlers.logic.buildings.military.OccupyingBuilding;
+import jsettlers.logic.constants.ExtendedRandom;
+import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.network.client.interfaces.ITaskScheduler;
 
@@ -102,7 +104,7 @@ public class WhatToDoAi implements IWhatToDoAi {
 		this.economyMinister = economyMinister;
 		buildingNeeds = new HashMap<EBuildingType, List<BuildingCount>>();
 		buildingIsNeededBy = new HashMap<EBuildingType, List<EBuildingType>>();
-		bestConstructionPositionFinderFactory = new BestConstructionPositionFinderFactory();
+		bestConstructionPositionFinderFactory = new BestConstructionPositionFinderFactory(new ExtendedRandom(MatchConstants.aiRandom().nextLong()));
 		initializeBuildingLists();
 		System.out.println(this);
 	}
@@ -14,33 +14,47 @@
  *******************************************************************************/
 package jsettlers.algorithms.borders;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 
 /**
  * This thread calculates the positions that represent the border between the areas occupied by different players.
+ * <p />
+ * Positions that need to be checked are marked in a bitmap with one bit per position. Requests for the same position are therefore coalesced
+ * and the memory needed does not grow with the number of requests. The thread processes all marked positions line by line.
  * 
  * @author Andreas Eberle
  * 
  */
 public class BordersThread implements Runnable {
+	private static final int BITS_PER_WORD = 64;
 
 	private final IBordersThreadGrid grid;
-	private final LinkedBlockingQueue<ShortPoint2D> positionsQueue = new LinkedBlockingQueue<ShortPoint2D>();
 	private final Thread bordersThread;
+	private final short width;
+	private final short height;
+	private final int wordsPerLine;
+	private final AtomicLongArray dirtyPositions;
 
-	private boolean canceled = false;
+	private volatile boolean dirty = false;
+	private volatile boolean canceled = false;
 
 	/**
-	 * This constructor creates a new instance of {@link BordersThread} and automatically launches a thread for it called "bordersThread".
+	 * This constructor creates a new instance of {@link BordersThread}. The thread called "bordersThread" is launched by {@link #start()}.
 	 * 
 	 * @param grid
 	 *            the grid on that the {@link BordersThread} will be operating
 	 */
 	public BordersThread(IBordersThreadGrid grid) {
 		this.grid = grid;
+		this.width = grid.getWidth();
+		this.height = grid.getHeight();
+		this.wordsPerLine = (width + BITS_PER_WORD - 1) / BITS_PER_WORD;
+		this.dirtyPositions = new AtomicLongArray(wordsPerLine * height);
+
 		this.bordersThread = new Thread(this);
 		this.bordersThread.setName("BordersThread");
 		this.bordersThread.setDaemon(true);
@@ -49,75 +63,150 @@ public class BordersThread implements Runnable {
 	@Override
 	public void run() {
 		while (!canceled) {
-			ShortPoint2D position = null;
-			while (position == null && !canceled) {
-				try {
-					position = positionsQueue.take();
-				} catch (InterruptedException e) {
-				}
+			while (!dirty && !canceled) {
+				LockSupport.park(this);
 			}
 			if (!canceled) {
-				calculateForPosition(position);
+				dirty = false;
+				calculateDirtyPositions();
 			}
 		}
 	}
 
-	private void calculateForPosition(ShortPoint2D position) {
-		short x = position.x;
-		short y = position.y;
+	/**
+	 * Calculates the borders of all positions marked as dirty. The marks are removed before a position is calculated, so changes during the
+	 * calculation mark it again.
+	 */
+	void calculateDirtyPositions() {
+		for (int y = 0; y < height && !canceled; y++) {
+			int lineStart = y * wordsPerLine;
+			for (int word = 0; word < wordsPerLine; word++) {
+				long bits = dirtyPositions.getAndSet(lineStart + word, 0);
+
+				while (bits != 0) {
+					int bit = Long.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
+					calculateForPosition((short) (word * BITS_PER_WORD + bit), (short) y);
+				}
+			}
+		}
+	}
 
+	/**
+	 * A position is a border position if it is occupied by a player, is no blocked landscape and has a neighbor that is no blocked landscape and
+	 * is not occupied by the same player.
+	 */
+	private void calculateForPosition(short x, short y) {
 		byte player = grid.getPlayerIdAt(x, y);
 		boolean isBorder = false;
 
-		if (grid.getBlockedPartition(x, y) > 0) { // the position is not a blocked landscape
+		if (player >= 0 && grid.getBlockedPartition(x, y) > 0) {
 			for (EDirection currDir : EDirection.values) {
 				short currNeighborX = currDir.getNextTileX(x);
 				short currNeighborY = currDir.getNextTileY(y);
 
-				if (!grid.isInBounds(currNeighborX, currNeighborY)) {
-					continue;
+				if (grid.isInBounds(currNeighborX, currNeighborY) && grid.getPlayerIdAt(currNeighborX, currNeighborY) != player
+						&& grid.getBlockedPartition(currNeighborX, currNeighborY) > 0) {
+					isBorder = true;
+					break;
 				}
+			}
+		}
 
-				byte neighborPlayer = grid.getPlayerIdAt(currNeighborX, currNeighborY);
-				boolean neighborIsBorder = false;
+		grid.setBorderAt(x, y, isBorder);
+	}
 
-				if (neighborPlayer != player && grid.getBlockedPartition(currNeighborX, currNeighborY) > 0) {
-					isBorder = true;
-				}
+	/**
+	 * Lets the border state of the given position and its neighbors be recalculated. This needs to be called when the player of the position
+	 * changed.
+	 * 
+	 * @param position
+	 *            The position that changed.
+	 */
+	public void checkPosition(ShortPoint2D position) {
+		checkPosition(position.x, position.y);
+	}
 
-				if (neighborPlayer >= 0) { // this position is occupied by a player
+	/**
+	 * Lets the border state of the given position and its neighbors be recalculated. This needs to be called when the player of the position
+	 * changed.
+	 * 
+	 * @param x
+	 *            x coordinate of the position that changed.
+	 * @param y
+	 *            y coordinate of the position that changed.
+	 */
+	public void checkPosition(int x, int y) {
+		if (canceled) {
+			return;
+		}
 
-					for (EDirection currNeighborDir : EDirection.values) {
-						short nextX = currNeighborDir.getNextTileX(currNeighborX);
-						short nextY = currNeighborDir.getNextTileY(currNeighborY);
+		markDirty(x, y);
+		for (EDirection currDir : EDirection.values) {
+			markDirty(x + currDir.gridDeltaX, y + currDir.gridDeltaY);
+		}
+		notifyDirty();
+	}
 
-						if (grid.isInBounds(nextX, nextY) && grid.getPlayerIdAt(nextX, nextY) != neighborPlayer
-								&& grid.getBlockedPartition(nextX, nextY) > 0) {
-							neighborIsBorder = true;
-							break;
-						}
-					}
-				} // else the position is not occupied -> don't display a border here
+	/**
+	 * Lets the border state of all positions in the given area be recalculated.
+	 * 
+	 * @param x
+	 *            The minimum x coordinate of the area.
+	 * @param y
+	 *            The minimum y coordinate of the area.
+	 * @param width
+	 *            The width of the area.
+	 * @param height
+	 *            The height of the area.
+	 */
+	public void checkArea(int x, int y, short width, short height) {
+		int minX = Math.max(0, x);
+		int maxX = Math.min(this.width, x + width) - 1;
+		int maxY = Math.min(this.height, y + height) - 1;
+		if (canceled || minX > maxX) {
+			return;
+		}
 
-				grid.setBorderAt(currNeighborX, currNeighborY, neighborIsBorder);
+		int minWord = minX / BITS_PER_WORD;
+		int maxWord = maxX / BITS_PER_WORD;
+		for (int currY = Math.max(0, y); currY <= maxY; currY++) {
+			int lineStart = currY * wordsPerLine;
+			for (int word = minWord; word <= maxWord; word++) {
+				long mask = -1L;
+				if (word == minWord) {
+					mask &= -1L << (minX % BITS_PER_WORD);
+				}
+				if (word == maxWord) {
+					mask &= -1L >>> (BITS_PER_WORD - 1 - maxX % BITS_PER_WORD);
+				}
+				setBits(lineStart + word, mask);
 			}
 		}
-
-		grid.setBorderAt(x, y, isBorder && player >= 0);
+		notifyDirty();
 	}
 
-	public void checkPosition(ShortPoint2D position) {
-		this.positionsQueue.offer(position);
+	private void markDirty(int x, int y) {
+		if (x >= 0 && x < width && y >= 0 && y < height) {
+			setBits(y * wordsPerLine + x / BITS_PER_WORD, 1L << (x % BITS_PER_WORD));
+		}
 	}
 
-	public void checkArea(int x, int y, short width, short height) {
-		int endX = x + width;
-		int endY = y + height;
-
-		for (; y < endY; y += 2) {
-			for (int currX = x; currX < endX; currX += 2) {
-				this.positionsQueue.offer(new ShortPoint2D(currX, y));
+	private void setBits(int index, long mask) {
+		long bits;
+		do {
+			bits = dirtyPositions.get(index);
+			if ((bits | mask) == bits) {
+				return; // already marked
 			}
+		} while (!dirtyPositions.compareAndSet(index, bits, bits | mask));
+	}
+
+	private void notifyDirty() {
+		boolean wasDirty = dirty;
+		dirty = true;
+		if (!wasDirty) {
+			LockSupport.unpark(bordersThread);
 		}
 	}
 
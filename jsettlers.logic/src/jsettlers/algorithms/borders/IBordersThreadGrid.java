@@ -22,6 +22,16 @@ package jsettlers.algorithms.borders;
  */
 public interface IBordersThreadGrid {
 
+	/**
+	 * @return width of the grid.
+	 */
+	short getWidth();
+
+	/**
+	 * @return height of the grid.
+	 */
+	short getHeight();
+
 	/**
 	 * Gives the player currently occupying the given position.
 	 * 
@@ -78,4 +78,18 @@ public abstract class AbstractConstructionMarkableMap {
 	public abstract boolean canConstructAt(short x, short y, EBuildingType type, byte playerId);
 
 	public abstract byte getConstructionMarkValue(int mapX, int mapY, final RelativePoint[] flattenPositions);
+
+	/**
+	 * Sets the listener that needs to be informed about changes of positions that can influence the construction marks.
+	 * 
+	 * @param listener
+	 *            The listener or <code>null</code> to remove the current one.
+	 */
+	public abstract void setConstructionChangedListener(IConstructionChangedListener listener);
+
+	/**
+	 * @return A counter that changes whenever the partitions of the map are merged or divided. Such changes can influence the construction marks
+	 *         of arbitrary positions without informing the {@link IConstructionChangedListener}.
+	 */
+	public abstract int getPartitionsVersion();
 }
@@ -30,6 +30,7 @@ import jsettlers.network.client.interfaces.IPausingSupplier;
  */
 public final class ConstructionMarksThread implements Runnable {
 
+	private final AbstractConstructionMarkableMap map;
 	private final NewConstructionMarksAlgorithm algorithm;
 	private final IPausingSupplier pausingSupplier;
 	private final Thread thread;
@@ -43,7 +44,9 @@ public final class ConstructionMarksThread implements Runnable {
 	private EBuildingType buildingType = null;
 
 	public ConstructionMarksThread(AbstractConstructionMarkableMap map, IPausingSupplier pausingSupplier, byte player) {
+		this.map = map;
 		this.algorithm = new NewConstructionMarksAlgorithm(map, player);
+		map.setConstructionChangedListener(algorithm);
 		this.pausingSupplier = pausingSupplier;
 
 		thread = new Thread(this, "ConstructionMarksThread");
@@ -99,6 +102,7 @@ public final class ConstructionMarksThread implements Runnable {
 
 	public void cancel() {
 		canceled = true;
+		map.setConstructionChangedListener(null);
 		thread.interrupt();
 	}
 }
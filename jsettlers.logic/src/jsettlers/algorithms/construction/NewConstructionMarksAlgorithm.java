@@ -14,61 +14,248 @@
  *******************************************************************************/
 package jsettlers.algorithms.construction;
 
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import jsettlers.common.buildings.BuildingAreaBitSet;
 import jsettlers.common.landscape.ELandscapeType;
-import jsettlers.common.map.shapes.IMapArea;
 import jsettlers.common.map.shapes.MapRectangle;
-import jsettlers.common.map.shapes.MapShapeFilter;
 import jsettlers.common.position.RelativePoint;
-import jsettlers.common.position.ShortPoint2D;
 
 /**
  * Algorithm to calculate the construction marks for the user.
+ * <p />
+ * The map is divided into tiles of {@link #TILE_SIZE}x{@link #TILE_SIZE} positions. The marks of a tile are only calculated when it becomes
+ * visible or when a position influencing them changed. Therefore the marks set on the map are used as cache for the current building type. The
+ * changes are reported by the {@link AbstractConstructionMarkableMap} via the {@link IConstructionChangedListener} interface.
  * 
  * @author Andreas Eberle
  * 
  */
-public final class NewConstructionMarksAlgorithm {
+public final class NewConstructionMarksAlgorithm implements IConstructionChangedListener {
+	private static final int TILE_SIZE_SHIFT = 4;
+	static final int TILE_SIZE = 1 << TILE_SIZE_SHIFT;
+	/**
+	 * The changes are collected in cells of 4x4 positions, so that a change only invalidates the tiles near it.
+	 */
+	private static final int CELL_SIZE_SHIFT = 2;
+	private static final int CELL_SIZE = 1 << CELL_SIZE_SHIFT;
+
+	private static final byte TILE_EMPTY = 0;
+	private static final byte TILE_OUTDATED = 1;
+	private static final byte TILE_VALID = 2;
+
 	private final AbstractConstructionMarkableMap map;
 	private final byte playerId;
 
-	private MapRectangle lastArea = null;
+	private final int mapWidth;
+	private final int mapHeight;
+	private final int tilesPerLine;
+	private final int tileLines;
+	private final int cellsPerLine;
+
+	/**
+	 * The states of the tiles. Only accessed by the thread calculating the marks.
+	 */
+	private final byte[] tileStates;
+	private final boolean[] visibleTiles;
+	/**
+	 * Bitmap of the cells containing changed positions. Written by the game logic.
+	 */
+	private final AtomicLongArray changedCells;
+	private final BitSet doneSet = new BitSet(TILE_SIZE * TILE_SIZE);
+
+	private BuildingAreaBitSet buildingArea;
+	private ELandscapeType[] landscapeTypes;
+	private RelativePoint[] flattenPositions;
+	private boolean binaryConstructionMarkValues;
+	private int partitionsVersion;
+
+	/**
+	 * The bounds of the offsets of all positions influencing a construction mark relative to the mark's position.
+	 */
+	private int minDx;
+	private int maxDx;
+	private int minDy;
+	private int maxDy;
 
 	public NewConstructionMarksAlgorithm(AbstractConstructionMarkableMap map, byte player) {
 		this.map = map;
 		this.playerId = player;
+
+		this.mapWidth = map.getWidth();
+		this.mapHeight = map.getHeight();
+		this.tilesPerLine = (mapWidth + TILE_SIZE - 1) >> TILE_SIZE_SHIFT;
+		this.tileLines = (mapHeight + TILE_SIZE - 1) >> TILE_SIZE_SHIFT;
+		this.tileStates = new byte[tilesPerLine * tileLines];
+		this.visibleTiles = new boolean[tilesPerLine * tileLines];
+		this.cellsPerLine = (mapWidth + CELL_SIZE - 1) >> CELL_SIZE_SHIFT;
+		this.changedCells = new AtomicLongArray((cellsPerLine * ((mapHeight + CELL_SIZE - 1) >> CELL_SIZE_SHIFT) + 63) / 64);
+	}
+
+	@Override
+	public void positionChangedAt(int x, int y) {
+		if (x < 0 || y < 0 || x >= mapWidth || y >= mapHeight) {
+			return;
+		}
+
+		int cellIndex = (x >> CELL_SIZE_SHIFT) + (y >> CELL_SIZE_SHIFT) * cellsPerLine;
+		int wordIndex = cellIndex >> 6;
+		long bit = 1L << cellIndex;
+
+		long word;
+		do {
+			word = changedCells.get(wordIndex);
+		} while ((word & bit) == 0 && !changedCells.compareAndSet(wordIndex, word, word | bit));
 	}
 
 	public void calculateConstructMarks(final MapRectangle mapArea, final BuildingAreaBitSet buildingArea, final ELandscapeType[] landscapeTypes,
 			RelativePoint[] flattenPositions, boolean binaryConstructionMarkValues) {
-		if (lastArea != null) {
-			removeConstructionMarks(lastArea, mapArea);
+		if (this.buildingArea != buildingArea || this.landscapeTypes != landscapeTypes || this.flattenPositions != flattenPositions
+				|| this.binaryConstructionMarkValues != binaryConstructionMarkValues) {
+			removeConstructionMarks();
+			setBuilding(buildingArea, landscapeTypes, flattenPositions, binaryConstructionMarkValues);
+		} else {
+			invalidateChangedTiles();
+		}
+
+		markVisibleTiles(mapArea);
+
+		for (int tileY = 0; tileY < tileLines; tileY++) {
+			for (int tileX = 0; tileX < tilesPerLine; tileX++) {
+				int tileIndex = tileX + tileY * tilesPerLine;
+
+				if (visibleTiles[tileIndex]) {
+					if (tileStates[tileIndex] != TILE_VALID) {
+						calculateTile(tileX, tileY);
+						tileStates[tileIndex] = TILE_VALID;
+					}
+				} else if (tileStates[tileIndex] != TILE_EMPTY) {
+					removeTileMarks(tileX, tileY);
+					tileStates[tileIndex] = TILE_EMPTY;
+				}
+			}
+		}
+	}
+
+	private void setBuilding(BuildingAreaBitSet buildingArea, ELandscapeType[] landscapeTypes, RelativePoint[] flattenPositions,
+			boolean binaryConstructionMarkValues) {
+		this.buildingArea = buildingArea;
+		this.landscapeTypes = landscapeTypes;
+		this.flattenPositions = flattenPositions;
+		this.binaryConstructionMarkValues = binaryConstructionMarkValues;
+
+		minDx = buildingArea.minX;
+		maxDx = buildingArea.maxX;
+		minDy = buildingArea.minY;
+		maxDy = buildingArea.maxY;
+		if (flattenPositions != null) {
+			for (RelativePoint curr : flattenPositions) {
+				minDx = Math.min(minDx, curr.getDx());
+				maxDx = Math.max(maxDx, curr.getDx());
+				minDy = Math.min(minDy, curr.getDy());
+				maxDy = Math.max(maxDy, curr.getDy());
+			}
+		}
+
+		// all tiles are empty now, so the changes reported until now are irrelevant
+		for (int i = 0; i < changedCells.length(); i++) {
+			changedCells.set(i, 0);
+		}
+		partitionsVersion = map.getPartitionsVersion();
+	}
+
+	/**
+	 * Marks all tiles as outdated that contain positions whose construction marks can be influenced by the changed positions.
+	 */
+	private void invalidateChangedTiles() {
+		int currentPartitionsVersion = map.getPartitionsVersion();
+		if (currentPartitionsVersion != partitionsVersion) {
+			partitionsVersion = currentPartitionsVersion;
+			for (int i = 0; i < tileStates.length; i++) {
+				if (tileStates[i] == TILE_VALID) {
+					tileStates[i] = TILE_OUTDATED;
+				}
+			}
+		}
+
+		for (int wordIndex = 0; wordIndex < changedCells.length(); wordIndex++) {
+			long word = changedCells.get(wordIndex) == 0 ? 0 : changedCells.getAndSet(wordIndex, 0);
+
+			while (word != 0) {
+				int cellIndex = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+
+				int cellMinX = (cellIndex % cellsPerLine) << CELL_SIZE_SHIFT;
+				int cellMinY = (cellIndex / cellsPerLine) << CELL_SIZE_SHIFT;
+
+				// a mark at position p depends on the positions p + (dx, dy) with minDx <= dx <= maxDx and minDy <= dy <= maxDy.
+				int fromTileX = Math.max(0, (cellMinX - maxDx) >> TILE_SIZE_SHIFT);
+				int toTileX = Math.min(tilesPerLine - 1, (cellMinX + CELL_SIZE - 1 - minDx) >> TILE_SIZE_SHIFT);
+				int fromTileY = Math.max(0, (cellMinY - maxDy) >> TILE_SIZE_SHIFT);
+				int toTileY = Math.min(tileLines - 1, (cellMinY + CELL_SIZE - 1 - minDy) >> TILE_SIZE_SHIFT);
+
+				for (int tileY = fromTileY; tileY <= toTileY; tileY++) {
+					for (int tileX = fromTileX; tileX <= toTileX; tileX++) {
+						int index = tileX + tileY * tilesPerLine;
+						if (tileStates[index] == TILE_VALID) {
+							tileStates[index] = TILE_OUTDATED;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void markVisibleTiles(MapRectangle mapArea) {
+		Arrays.fill(visibleTiles, false);
+
+		int areaMinY = Math.max(0, mapArea.getMinY());
+		int areaMaxY = Math.min(mapHeight - 1, mapArea.getMinY() + mapArea.getHeight() - 1);
+
+		for (int tileY = areaMinY >> TILE_SIZE_SHIFT; tileY <= areaMaxY >> TILE_SIZE_SHIFT; tileY++) {
+			int firstY = Math.max(areaMinY, tileY << TILE_SIZE_SHIFT);
+			int lastY = Math.min(areaMaxY, (tileY << TILE_SIZE_SHIFT) + TILE_SIZE - 1);
+
+			// the lines of the rectangle are shifted to the right with increasing y
+			int firstX = Math.max(0, mapArea.getLineStartX(firstY - mapArea.getMinY()));
+			int lastX = Math.min(mapWidth - 1, mapArea.getLineEndX(lastY - mapArea.getMinY()));
+
+			for (int tileX = firstX >> TILE_SIZE_SHIFT; tileX <= lastX >> TILE_SIZE_SHIFT; tileX++) {
+				visibleTiles[tileX + tileY * tilesPerLine] = true;
+			}
 		}
+	}
 
+	private void calculateTile(int tileX, int tileY) {
 		// declare local variables
+		final BuildingAreaBitSet buildingArea = this.buildingArea;
 		final short[] xJumps = buildingArea.xJumps;
 		final short[] yJumps = buildingArea.yJumps;
 
-		final int lineLength = mapArea.getLineLength() + mapArea.getHeight() / 2;
-		final BitSet doneSet = new BitSet(lineLength * mapArea.getHeight());
-
 		final int xOffsetForBuilding = buildingArea.minX;
 		final int yOffsetForBuilding = buildingArea.minY;
 		final int buildingAreaWidth = buildingArea.width;
 		final int buildingAreaHeight = buildingArea.height;
 
-		// iterate over the positions in the mapArea with the offset from the buildingArea
-		for (int line = 0; line < mapArea.getHeight(); line++) {
-			final int y = mapArea.getLineY(line);
-			final int xLineOffset = mapArea.getMinX();
+		final int tileMinX = tileX << TILE_SIZE_SHIFT;
+		final int tileMinY = tileY << TILE_SIZE_SHIFT;
+		final int tileWidth = Math.min(TILE_SIZE, mapWidth - tileMinX);
+		final int tileHeight = Math.min(TILE_SIZE, mapHeight - tileMinY);
+
+		final BitSet doneSet = this.doneSet;
+		doneSet.clear();
 
-			DX_LOOP: for (int dx = 0; dx < lineLength; dx++) {
-				final int x = xLineOffset + dx;
+		// iterate over the positions of the tile with the offset from the buildingArea
+		for (int dy = 0; dy < tileHeight; dy++) {
+			final int y = tileMinY + dy;
+
+			DX_LOOP: for (int dx = 0; dx < tileWidth; dx++) {
+				final int x = tileMinX + dx;
 				final short partitionId;
 
-				if (!mapArea.contains(x, y) || doneSet.get(dx + line * lineLength)) { // if this position has already been pruned.
+				if (doneSet.get(dx + dy * TILE_SIZE)) { // if this position has already been pruned.
 					continue;
 				}
 
@@ -77,12 +264,14 @@ public final class NewConstructionMarksAlgorithm {
 					int firstPosY = buildingArea.aPosition.calculateY(y);
 
 					if (!map.isInBounds(firstPosX, firstPosY)) {
+						map.setConstructMarking(x, y, false, binaryConstructionMarkValues, null);
 						continue;
 					}
 
 					partitionId = map.getPartitionIdAt(firstPosX, firstPosY);
 
 					if (!map.canPlayerConstructOnPartition(playerId, partitionId)) {
+						map.setConstructMarking(x, y, false, binaryConstructionMarkValues, null);
 						continue DX_LOOP;
 					}
 				}
@@ -99,15 +288,15 @@ public final class NewConstructionMarksAlgorithm {
 
 							map.setConstructMarking(x, y, false, binaryConstructionMarkValues, null);
 
-							// prune the positions we already know that they are invalid.
-							for (int pruneX = 0; pruneX < xJumps[index]; pruneX++) {
+							// prune the positions of this tile we already know that they are invalid.
+							for (int pruneX = 0; pruneX < xJumps[index] && dx + pruneX < tileWidth; pruneX++) {
 								int currYJumps = yJumps[(buildingDx - pruneX) + buildingDy * buildingAreaWidth];
-								for (int pruneY = 0; pruneY < currYJumps; pruneY++) {
+								for (int pruneY = 0; pruneY < currYJumps && dy + pruneY < tileHeight; pruneY++) {
 									if (pruneY == 0 && pruneX == 0) {
 										continue; // skip the original position
 									}
 
-									doneSet.set((dx + pruneX) + (line + pruneY) * lineLength);
+									doneSet.set((dx + pruneX) + (dy + pruneY) * TILE_SIZE);
 
 									map.setConstructMarking(x + pruneX, y + pruneY, false, binaryConstructionMarkValues, null);
 								}
@@ -122,37 +311,35 @@ public final class NewConstructionMarksAlgorithm {
 				map.setConstructMarking(x, y, true, binaryConstructionMarkValues, flattenPositions);
 			}
 		}
-
-		// set the lastArea variable for the next run
-		lastArea = mapArea;
 	}
 
-	/**
-	 * Removes all construction marks on the screen.
-	 * 
-	 */
-	public void removeConstructionMarks() {
-		if (lastArea != null) {
-			for (ShortPoint2D pos : new MapShapeFilter(lastArea, map.getWidth(), map.getHeight())) {
-				map.setConstructMarking(pos.x, pos.y, false, false, null);
+	private void removeTileMarks(int tileX, int tileY) {
+		int tileMinX = tileX << TILE_SIZE_SHIFT;
+		int tileMinY = tileY << TILE_SIZE_SHIFT;
+		int tileMaxX = Math.min(mapWidth, tileMinX + TILE_SIZE);
+		int tileMaxY = Math.min(mapHeight, tileMinY + TILE_SIZE);
+
+		for (int y = tileMinY; y < tileMaxY; y++) {
+			for (int x = tileMinX; x < tileMaxX; x++) {
+				map.setConstructMarking(x, y, false, false, null);
 			}
-			lastArea = null;
 		}
 	}
 
 	/**
-	 * Removes all construction marks in the given area.
+	 * Removes all construction marks on the screen.
 	 * 
-	 * @param area
-	 *            The area to remove the marks
-	 * @param notIn
-	 *            The area of marks that should be skipped.
 	 */
-	private void removeConstructionMarks(IMapArea area, IMapArea notIn) {
-		for (ShortPoint2D pos : new MapShapeFilter(area, map.getWidth(), map.getHeight())) {
-			if (!notIn.contains(pos)) {
-				map.setConstructMarking(pos.x, pos.y, false, false, null);
+	public void removeConstructionMarks() {
+		for (int tileY = 0; tileY < tileLines; tileY++) {
+			for (int tileX = 0; tileX < tilesPerLine; tileX++) {
+				int tileIndex = tileX + tileY * tilesPerLine;
+				if (tileStates[tileIndex] != TILE_EMPTY) {
+					removeTileMarks(tileX, tileY);
+					tileStates[tileIndex] = TILE_EMPTY;
+				}
 			}
 		}
+		buildingArea = null;
 	}
 }
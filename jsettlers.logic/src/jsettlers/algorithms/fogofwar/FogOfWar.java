@@ -17,6 +17,9 @@ package jsettlers.algorithms.fogofwar;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import jsettlers.algorithms.fogofwar.CachedViewCircle.CachedViewCircleIterator;
@@ -28,11 +31,16 @@ import jsettlers.logic.constants.MatchConstants;
 
 /**
  * This class holds the fog of war for a given map and player.
+ * <p />
+ * The fog of war is updated incrementally: The position each {@link IViewDistancable} has last been drawn at is remembered and only the view
+ * circles of objects that moved, appeared or vanished are redrawn. For every position, the highest sight of the view circles covering it is
+ * remembered. Positions seen less bright than before are dimmed down to this sight step by step, but not below
+ * {@link CommonConstants#FOG_OF_WAR_EXPLORED}. This keeps the soft edge of the view circles.
  * 
  * @author Andreas Eberle
  */
 public final class FogOfWar implements Serializable {
-	private static final long serialVersionUID = 1877994785778678510L;
+	private static final long serialVersionUID = -2563781327150289140L;
 	/**
 	 * Longest distance any unit may look
 	 */
@@ -43,7 +51,7 @@ public final class FogOfWar implements Serializable {
 
 	final short width;
 	final short height;
-	byte[][] sight;
+	byte[] sight;
 
 	private transient boolean enabled = Constants.FOG_OF_WAR_DEFAULT_ENABLED;
 	private transient IFogOfWarGrid grid;
@@ -57,7 +65,7 @@ public final class FogOfWar implements Serializable {
 		this.width = width;
 		this.height = height;
 		this.player = player;
-		this.sight = new byte[width][height];
+		this.sight = new byte[width * height];
 	}
 
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
@@ -82,7 +90,7 @@ public final class FogOfWar implements Serializable {
 	 */
 	public final byte getVisibleStatus(int x, int y) {
 		if (enabled) {
-			return (byte) Math.min(sight[x][y], CommonConstants.FOG_OF_WAR_VISIBLE);
+			return (byte) Math.min(sight[x + y * width], CommonConstants.FOG_OF_WAR_VISIBLE);
 		} else {
 			return CommonConstants.FOG_OF_WAR_VISIBLE;
 		}
@@ -93,22 +101,30 @@ public final class FogOfWar implements Serializable {
 	}
 
 	public final void toggleEnabled() {
-		enabled = !enabled;
+		setEnabled(!enabled);
 	}
 
 	public void setEnabled(boolean enabled) {
+		boolean changed = this.enabled != enabled;
 		this.enabled = enabled;
+		if (changed && grid != null) {
+			grid.visibleStatusChanged(0, 0, width - 1, height - 1);
+		}
 	}
 
 	final class NewFoWThread extends Thread {
 		private static final byte DIM_DOWN_SPEED = 10;
+		private static final int UPDATE_PERIOD = 100;
+		private static final int UPDATES_PER_DIM_DOWN = 8;
+
 		private final CircleDrawer drawer;
-		private byte[][] buffer;
+		private final IdentityHashMap<IViewDistancable, DrawnView> drawnViews = new IdentityHashMap<IViewDistancable, DrawnView>();
+		private boolean visitedMarker = false;
+		private int updatesSinceDimDown = 0;
 
 		NewFoWThread() {
 			super("FoWThread");
 			super.setDaemon(true);
-			this.buffer = new byte[width][height];
 			drawer = new CircleDrawer();
 		}
 
@@ -117,57 +133,61 @@ public final class FogOfWar implements Serializable {
 			mySleep(500);
 
 			while (!canceled) {
-				// StopWatch watch = new MilliStopWatch();
-				// watch.restart();
 				if (enabled) {
-					rebuildSight();
+					updateSight();
 				}
-				// watch.stop("NewFoWThread needed: ");
 
-				mySleep(800);
+				mySleep(UPDATE_PERIOD);
 			}
 		}
 
-		private final void rebuildSight() {
-			drawer.setBuffer(buffer);
+		private final void updateSight() {
+			visitedMarker = !visitedMarker;
 
-			for (int x = 0; x < width; x++) {
-				for (int y = 0; y < height; y++) {
-					byte currSight = sight[x][y];
+			updateViews(grid.getBuildingViewDistancables());
+			updateViews(grid.getMovableViewDistancables());
+			removeVanishedViews();
 
-					if (currSight >= CommonConstants.FOG_OF_WAR_EXPLORED) {
-						byte newSight = (byte) (currSight - DIM_DOWN_SPEED);
-						if (newSight < CommonConstants.FOG_OF_WAR_EXPLORED) {
-							buffer[x][y] = CommonConstants.FOG_OF_WAR_EXPLORED;
-						} else {
-							buffer[x][y] = newSight;
-						}
-					} else {
-						buffer[x][y] = sight[x][y];
-					}
-				}
+			if (++updatesSinceDimDown >= UPDATES_PER_DIM_DOWN) {
+				updatesSinceDimDown = 0;
+				drawer.dimDown(DIM_DOWN_SPEED, drawnViews.values());
 			}
+		}
 
-			ConcurrentLinkedQueue<? extends IViewDistancable> buildings = grid.getBuildingViewDistancables();
-			applyViewDistances(buildings);
+		private final void updateViews(ConcurrentLinkedQueue<? extends IViewDistancable> objects) {
+			for (IViewDistancable curr : objects) {
+				short distance = curr.getViewDistance();
+				ShortPoint2D pos = curr.getPos();
+				if (!isPlayerOK(curr) || distance <= 0 || pos == null) {
+					continue; // not visited views are removed afterwards
+				}
 
-			ConcurrentLinkedQueue<? extends IViewDistancable> movables = grid.getMovableViewDistancables();
-			applyViewDistances(movables);
+				DrawnView drawnView = drawnViews.get(curr);
+				if (drawnView == null) {
+					drawnView = new DrawnView();
+					drawnViews.put(curr, drawnView);
+				} else if (drawnView.x == pos.x && drawnView.y == pos.y && drawnView.distance == distance) {
+					drawnView.visited = visitedMarker;
+					continue; // nothing changed
+				} else {
+					drawer.removeCircle(drawnView.x, drawnView.y, drawnView.distance);
+				}
 
-			byte[][] temp = sight;
-			sight = buffer;
-			buffer = temp;
+				drawer.drawCircle(pos.x, pos.y, distance);
+				drawnView.x = pos.x;
+				drawnView.y = pos.y;
+				drawnView.distance = distance;
+				drawnView.visited = visitedMarker;
+			}
 		}
 
-		private final void applyViewDistances(ConcurrentLinkedQueue<? extends IViewDistancable> objects) {
-			for (IViewDistancable curr : objects) {
-				if (isPlayerOK(curr)) {
-					short distance = curr.getViewDistance();
-					if (distance > 0) {
-						ShortPoint2D pos = curr.getPos();
-						if (pos != null)
-							drawer.drawCircleToBuffer(pos.x, pos.y, distance);
-					}
+		private final void removeVanishedViews() {
+			Iterator<DrawnView> iterator = drawnViews.values().iterator();
+			while (iterator.hasNext()) {
+				DrawnView drawnView = iterator.next();
+				if (drawnView.visited != visitedMarker) {
+					drawer.removeCircle(drawnView.x, drawnView.y, drawnView.distance);
+					iterator.remove();
 				}
 			}
 		}
@@ -182,36 +202,202 @@ public final class FogOfWar implements Serializable {
 
 	}
 
+	/**
+	 * The view circle of an {@link IViewDistancable} as it has been drawn last.
+	 */
+	static final class DrawnView {
+		short x;
+		short y;
+		short distance;
+		boolean visited;
+	}
+
 	final class CircleDrawer {
-		private byte[][] buffer;
+		private static final int BLOCK_SIZE = 8;
+
 		private final CachedViewCircle[] cachedCircles = new CachedViewCircle[MAX_VIEWDISTANCE];
+		/**
+		 * The highest sight any of the drawn view circles gives a position, if it is above {@link CommonConstants#FOG_OF_WAR_EXPLORED}. Positions
+		 * are never dimmed below this value, which keeps the soft edge of the view circles.
+		 */
+		private final byte[] circleSight = new byte[width * height];
+		/**
+		 * Positions whose {@link #circleSight} may be too high, because the circle defining it has been removed.
+		 */
+		private final BitSet staleCircleSights = new BitSet(width * height);
+		private final int blocksWidth = (width + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		private final BitSet staleBlocks = new BitSet(blocksWidth * ((height + BLOCK_SIZE - 1) / BLOCK_SIZE));
+		private final BitSet dimmingPositions = new BitSet(width * height);
+		private int[] dimmingQueue = new int[64];
+		private int dimmingQueueSize = 0;
 
-		public final void setBuffer(byte[][] buffer) {
-			this.buffer = buffer;
+		/**
+		 * Creates a drawer for the current sight. No view circles have been drawn by it yet, so all positions seen brighter than
+		 * {@link CommonConstants#FOG_OF_WAR_EXPLORED}, e.g. after loading a savegame, are queued to be dimmed down. The positions still seen by a
+		 * view circle keep their sight, because these circles are drawn before the next dim down.
+		 */
+		CircleDrawer() {
+			for (int index = 0; index < sight.length; index++) {
+				if (sight[index] > CommonConstants.FOG_OF_WAR_EXPLORED) {
+					dimmingPositions.set(index);
+					enqueueDimming(index);
+				}
+			}
 		}
 
 		/**
-		 * Draws a circle to the buffer line. Each point is only brightened and onlydrawn if its x coordinate is in [0, mapWidth - 1] and its computed
-		 * y coordinate is bigger than 0.
+		 * Draws a circle into the sight array. Each point is only brightened and only drawn if it is on the map.
 		 */
-		final void drawCircleToBuffer(int bufferX, int bufferY, int viewDistance) {
+		final void drawCircle(int centerX, int centerY, int viewDistance) {
 			CachedViewCircle circle = getCachedCircle(viewDistance);
-			CachedViewCircleIterator iterator = circle.iterator(bufferX, bufferY);
+			CachedViewCircleIterator iterator = circle.iterator(centerX, centerY);
 
 			while (iterator.hasNext()) {
 				final int x = iterator.getCurrX();
 				final int y = iterator.getCurrY();
 
-				if (x >= 0 && x < width && y > 0 && y < height) {
-					byte oldSight = buffer[x][y];
-					if (oldSight < CommonConstants.FOG_OF_WAR_VISIBLE) {
-						byte newSight = iterator.getCurrSight();
-						if (oldSight < newSight) {
-							buffer[x][y] = newSight;
+				if (x >= 0 && x < width && y >= 0 && y < height) {
+					int index = x + y * width;
+					byte newSight = iterator.getCurrSight();
+					if (newSight > circleSight[index]) {
+						circleSight[index] = newSight;
+					}
+					byte oldSight = sight[index];
+					if (oldSight < newSight) {
+						sight[index] = newSight;
+						visibleStatusChanged(x, y, oldSight, newSight);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Removes a circle that has been drawn with {@link #drawCircle(int, int, int)} before. Positions that may be seen less bright now are queued
+		 * to be dimmed down.
+		 */
+		final void removeCircle(int centerX, int centerY, int viewDistance) {
+			CachedViewCircle circle = getCachedCircle(viewDistance);
+			CachedViewCircleIterator iterator = circle.iterator(centerX, centerY);
+
+			while (iterator.hasNext()) {
+				final int x = iterator.getCurrX();
+				final int y = iterator.getCurrY();
+
+				if (x >= 0 && x < width && y >= 0 && y < height) {
+					int index = x + y * width;
+					byte removedSight = iterator.getCurrSight();
+					if (removedSight > CommonConstants.FOG_OF_WAR_EXPLORED && removedSight == circleSight[index]) {
+						staleCircleSights.set(index);
+						staleBlocks.set(x / BLOCK_SIZE + y / BLOCK_SIZE * blocksWidth);
+						if (!dimmingPositions.get(index)) {
+							dimmingPositions.set(index);
+							enqueueDimming(index);
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Dims down all queued positions by the given speed, but not below the sight the remaining view circles give them. Positions that reached
+		 * this sight or {@link CommonConstants#FOG_OF_WAR_EXPLORED} are removed from the queue.
+		 * 
+		 * @param dimDownSpeed
+		 *            The value the sight is decreased by.
+		 * @param drawnViews
+		 *            The view circles that are currently drawn.
+		 */
+		final void dimDown(byte dimDownSpeed, Iterable<DrawnView> drawnViews) {
+			if (!staleCircleSights.isEmpty()) {
+				recalculateStaleCircleSights(drawnViews);
+			}
+
+			int remaining = 0;
+			for (int i = 0; i < dimmingQueueSize; i++) {
+				int index = dimmingQueue[i];
+				byte oldSight = sight[index];
+				int minSight = Math.max(circleSight[index], CommonConstants.FOG_OF_WAR_EXPLORED);
+				if (oldSight <= minSight) {
+					dimmingPositions.clear(index);
+					continue;
+				}
+
+				int newSight = oldSight - dimDownSpeed;
+				if (newSight <= minSight) {
+					newSight = minSight;
+					dimmingPositions.clear(index);
+				} else {
+					dimmingQueue[remaining++] = index;
+				}
+				sight[index] = (byte) newSight;
+				visibleStatusChanged(index % width, index / width, oldSight, newSight);
+			}
+			dimmingQueueSize = remaining;
+		}
+
+		/**
+		 * Calculates the {@link #circleSight} of the stale positions again from the view circles touching them.
+		 */
+		private void recalculateStaleCircleSights(Iterable<DrawnView> drawnViews) {
+			for (int index = staleCircleSights.nextSetBit(0); index >= 0; index = staleCircleSights.nextSetBit(index + 1)) {
+				circleSight[index] = 0;
+			}
+
+			for (DrawnView view : drawnViews) {
+				if (touchesStaleBlock(view)) {
+					CachedViewCircleIterator iterator = getCachedCircle(view.distance).iterator(view.x, view.y);
+					while (iterator.hasNext()) {
+						final int x = iterator.getCurrX();
+						final int y = iterator.getCurrY();
+
+						if (x >= 0 && x < width && y >= 0 && y < height) {
+							int index = x + y * width;
+							byte currSight = iterator.getCurrSight();
+							if (staleCircleSights.get(index) && currSight > circleSight[index]) {
+								circleSight[index] = currSight;
+							}
 						}
 					}
 				}
 			}
+
+			staleCircleSights.clear();
+			staleBlocks.clear();
+		}
+
+		private boolean touchesStaleBlock(DrawnView view) {
+			// a circle on the map reaches at most 1.2 times its radius in x and y direction, see MapCircle.getBorders()
+			int extent = (view.distance + 2 * PADDING) * 6 / 5 + 1;
+			int minBlockX = Math.max(0, view.x - extent) / BLOCK_SIZE;
+			int maxBlockX = Math.min(width - 1, view.x + extent) / BLOCK_SIZE;
+			int minBlockY = Math.max(0, view.y - extent) / BLOCK_SIZE;
+			int maxBlockY = Math.min(height - 1, view.y + extent) / BLOCK_SIZE;
+
+			for (int blockY = minBlockY; blockY <= maxBlockY; blockY++) {
+				int nextStale = staleBlocks.nextSetBit(minBlockX + blockY * blocksWidth);
+				if (nextStale >= 0 && nextStale <= maxBlockX + blockY * blocksWidth) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Informs the grid if the change of the sight at the given position changed its visible status.
+		 */
+		private void visibleStatusChanged(int x, int y, int oldSight, int newSight) {
+			if (grid != null && Math.min(oldSight, CommonConstants.FOG_OF_WAR_VISIBLE) != Math.min(newSight, CommonConstants.FOG_OF_WAR_VISIBLE)) {
+				grid.visibleStatusChanged(x, y, x, y);
+			}
+		}
+
+		private void enqueueDimming(int index) {
+			if (dimmingQueueSize >= dimmingQueue.length) {
+				int[] newQueue = new int[dimmingQueue.length * 2];
+				System.arraycopy(dimmingQueue, 0, newQueue, 0, dimmingQueueSize);
+				dimmingQueue = newQueue;
+			}
+			dimmingQueue[dimmingQueueSize++] = index;
 		}
 
 		private CachedViewCircle getCachedCircle(int viewDistance) {
@@ -35,4 +35,18 @@ public interface IFogOfWarGrid {
 
 	ConcurrentLinkedQueue<? extends IViewDistancable> getBuildingViewDistancables();
 
+	/**
+	 * Called when the visible status of the positions in the given region changed.
+	 * 
+	 * @param minX
+	 *            The minimum x coordinate of the region (inclusive).
+	 * @param minY
+	 *            The minimum y coordinate of the region (inclusive).
+	 * @param maxX
+	 *            The maximum x coordinate of the region (inclusive).
+	 * @param maxY
+	 *            The maximum y coordinate of the region (inclusive).
+	 */
+	void visibleStatusChanged(int minX, int minY, int maxX, int maxY);
+
 }
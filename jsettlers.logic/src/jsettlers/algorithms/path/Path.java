@@ -136,6 +136,24 @@ public class Path implements Serializable {
 		return pathX.length;
 	}
 
+	/**
+	 * @param idx
+	 *            NOTE: this must be in the integer interval [0, pathlength -1]!
+	 * @return Returns the x coordinate of the step with the given index.
+	 */
+	public final short getX(int idx) {
+		return pathX[idx];
+	}
+
+	/**
+	 * @param idx
+	 *            NOTE: this must be in the integer interval [0, pathlength -1]!
+	 * @return Returns the y coordinate of the step with the given index.
+	 */
+	public final short getY(int idx) {
+		return pathY[idx];
+	}
+
 	/**
 	 * increases the path counter
 	 */
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package jsettlers.algorithms.path.astar;
 
+import java.util.BitSet;
+
 import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.Path;
 import jsettlers.common.position.ShortPoint2D;
@@ -22,4 +24,19 @@ public abstract class AbstractAStar {
 	public abstract Path findPath(IPathCalculatable requester, final short sx, final short sy, final short tx, final short ty);
 
 	public abstract Path findPath(IPathCalculatable aStarPathable, ShortPoint2D targetPos);
+
+	/**
+	 * Finds the path to the target position that can be reached with the lowest costs. Only one search is run for all the targets.
+	 * 
+	 * @param requester
+	 * @param sx
+	 *            x coordinate of the start position.
+	 * @param sy
+	 *            y coordinate of the start position.
+	 * @param targets
+	 *            {@link BitSet} with the bits of the flat indexes (y * width + x) of the target positions set. The start position itself is never
+	 *            accepted as target.
+	 * @return Returns the path to the closest reachable target or null if none of them can be reached.
+	 */
+	public abstract Path findPathToNearest(IPathCalculatable requester, short sx, short sy, BitSet targets);
 }
@@ -83,14 +83,39 @@ public final class BucketQueueAStar extends AbstractAStar {
 			blockedAtStart = false;
 		}
 
-		final int targetFlatIdx = getFlatIdx(tx, ty);
+		int foundFlatIdx = search(requester, sx, sy, blockedAtStart, tx, ty, null);
+		return foundFlatIdx >= 0 ? createPath(foundFlatIdx) : null;
+	}
+
+	@Override
+	public final Path findPathToNearest(IPathCalculatable requester, short sx, short sy, BitSet targets) {
+		if (!isInBounds(sx, sy)) {
+			throw new InvalidStartPositionException("Start position is out of bounds!", sx, sy);
+		} else if (targets.isEmpty()) {
+			return null;
+		}
+
+		int foundFlatIdx = search(requester, sx, sy, isBlocked(requester, sx, sy), (short) -1, (short) -1, targets);
+		return foundFlatIdx >= 0 ? createPath(foundFlatIdx) : null;
+	}
+
+	/**
+	 * Searches the cheapest path from the start position to the target. If targets is not null, the search is a uniform cost search stopping at
+	 * the first reached position set in targets and tx and ty are ignored.
+	 * 
+	 * @return Returns the flat index of the reached target or -1 if no target could be reached.
+	 */
+	private final int search(IPathCalculatable requester, final short sx, final short sy, final boolean blockedAtStart, final short tx,
+			final short ty, final BitSet targets) {
+		final int startFlatIdx = getFlatIdx(sx, sy);
+		final int targetFlatIdx = targets == null ? getFlatIdx(tx, ty) : -1;
+		final short startPartition = map.getBlockedPartition(sx, sy);
 
 		closedBitSet.clear();
 		openBitSet.clear();
 
 		open.clear();
-		boolean found = false;
-		initStartNode(sx, sy, tx, ty);
+		initStartNode(sx, sy, tx, ty, targets == null);
 
 		while (!open.isEmpty()) {
 			int currFlatIdx = open.deleteMin();
@@ -100,9 +125,13 @@ public final class BucketQueueAStar extends AbstractAStar {
 
 			setClosed(x, y);
 
-			if (targetFlatIdx == currFlatIdx) {
-				found = true;
-				break;
+			if (targets == null) {
+				if (targetFlatIdx == currFlatIdx) {
+					return currFlatIdx;
+				}
+			} else if (currFlatIdx != startFlatIdx && targets.get(currFlatIdx)
+					&& (!blockedAtStart || !isBlocked(requester, x, y) && map.getBlockedPartition(x, y) == startPartition)) {
+				return currFlatIdx;
 			}
 
 			final float currPositionCosts = costs[currFlatIdx];
@@ -125,7 +154,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 								depthParentHeap[getDepthIdx(flatNeighborIdx)] = depthParentHeap[getDepthIdx(currFlatIdx)] + 1;
 								depthParentHeap[getParentIdx(flatNeighborIdx)] = currFlatIdx;
 
-								int heuristicCosts = getHeuristicCost(neighborX, neighborY, tx, ty);
+								int heuristicCosts = targets == null ? getHeuristicCost(neighborX, neighborY, tx, ty) : 0;
 								open.increasedPriority(flatNeighborIdx, oldCosts + heuristicCosts, newCosts + heuristicCosts);
 							}
 
@@ -134,7 +163,8 @@ public final class BucketQueueAStar extends AbstractAStar {
 							depthParentHeap[getDepthIdx(flatNeighborIdx)] = depthParentHeap[getDepthIdx(currFlatIdx)] + 1;
 							depthParentHeap[getParentIdx(flatNeighborIdx)] = currFlatIdx;
 							openBitSet.set(flatNeighborIdx);
-							open.insert(flatNeighborIdx, newCosts + getHeuristicCost(neighborX, neighborY, tx, ty));
+							int heuristicCosts = targets == null ? getHeuristicCost(neighborX, neighborY, tx, ty) : 0;
+							open.insert(flatNeighborIdx, newCosts + heuristicCosts);
 
 							map.markAsOpen(neighborX, neighborY);
 						}
@@ -143,23 +173,23 @@ public final class BucketQueueAStar extends AbstractAStar {
 			}
 		}
 
-		if (found) {
-			int pathlength = depthParentHeap[getDepthIdx(getFlatIdx(tx, ty))];
-			Path path = new Path(pathlength);
+		return -1;
+	}
 
-			int idx = pathlength;
-			int parentFlatIdx = targetFlatIdx;
+	private final Path createPath(int targetFlatIdx) {
+		int pathlength = depthParentHeap[getDepthIdx(targetFlatIdx)];
+		Path path = new Path(pathlength);
 
-			while (idx > 0) {
-				idx--;
-				path.insertAt(idx, (short) getX(parentFlatIdx), (short) getY(parentFlatIdx));
-				parentFlatIdx = depthParentHeap[getParentIdx(parentFlatIdx)];
-			}
+		int idx = pathlength;
+		int parentFlatIdx = targetFlatIdx;
 
-			return path;
+		while (idx > 0) {
+			idx--;
+			path.insertAt(idx, (short) getX(parentFlatIdx), (short) getY(parentFlatIdx));
+			parentFlatIdx = depthParentHeap[getParentIdx(parentFlatIdx)];
 		}
 
-		return null;
+		return path;
 	}
 
 	private static final int getDepthIdx(int flatIdx) {
@@ -175,13 +205,13 @@ public final class BucketQueueAStar extends AbstractAStar {
 		map.markAsClosed(x, y);
 	}
 
-	private final void initStartNode(int sx, int sy, int tx, int ty) {
+	private final void initStartNode(int sx, int sy, int tx, int ty, boolean useHeuristic) {
 		int flatIdx = getFlatIdx(sx, sy);
 		depthParentHeap[getDepthIdx(flatIdx)] = 0;
 		depthParentHeap[getParentIdx(flatIdx)] = -1;
 		costs[flatIdx] = 0;
 
-		open.insert(flatIdx, 0 + getHeuristicCost(sx, sy, tx, ty));
+		open.insert(flatIdx, useHeuristic ? getHeuristicCost(sx, sy, tx, ty) : 0);
 		openBitSet.set(flatIdx);
 	}
 
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.cache;
+
+import jsettlers.algorithms.path.Path;
+
+/**
+ * An entry of the {@link CachingAStar}. It stores the steps of a path together with the versions of the regions read by the search of the path at
+ * the time it has been calculated.
+ */
+final class CachedPath {
+	private final short[] pathX;
+	private final short[] pathY;
+	private final int[] regions;
+	private final int[] regionVersions;
+
+	CachedPath(Path path, int[] regions, int[] regionVersions) {
+		int length = path.getLength();
+		this.pathX = new short[length];
+		this.pathY = new short[length];
+		for (int i = 0; i < length; i++) {
+			pathX[i] = path.getX(i);
+			pathY[i] = path.getY(i);
+		}
+
+		this.regions = regions;
+		this.regionVersions = regionVersions;
+	}
+
+	/**
+	 * @param currentVersions
+	 *            The current versions of all regions.
+	 * @return true if none of the regions read by the search of this path changed since it has been calculated.
+	 */
+	boolean isValid(int[] currentVersions) {
+		for (int i = 0; i < regions.length; i++) {
+			if (currentVersions[regions[i]] != regionVersions[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return Returns a new {@link Path} object with the steps of this path. A new object is needed for every request, because the
+	 *         {@link Path} stores the progress of its movable.
+	 */
+	Path createPath() {
+		Path path = new Path(pathX.length);
+		for (int i = 0; i < pathX.length; i++) {
+			path.insertAt(i, pathX[i], pathY[i]);
+		}
+		return path;
+	}
+
+	/**
+	 * @return Returns the number of path steps and regions stored by this entry.
+	 */
+	int getSize() {
+		return pathX.length + regions.length;
+	}
+}
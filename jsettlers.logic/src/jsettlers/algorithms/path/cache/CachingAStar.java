@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.cache;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.InvalidStartPositionException;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.AbstractAStar;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * This {@link AbstractAStar} caches the paths calculated by another {@link AbstractAStar} in a least recently used cache.
+ * <p />
+ * The map is divided into the regions of a {@link RecordingPathMap}. Every region has a version that is increased by
+ * {@link #invalidatePosition(int, int)}. While a path is calculated, the {@link RecordingPathMap} records all regions the search reads. A
+ * cached path is only used as long as none of these regions changed. Because the result of a search only depends on the positions it read, a
+ * cache hit always returns the same path a new search would return. Therefore the cache does not depend on its history and games stay
+ * deterministic, even if the cache is rebuilt empty after loading a game.
+ * <p />
+ * The memory used by the cache is bounded by the total number of path steps and recorded regions stored. Paths that are not found are not
+ * cached.
+ */
+public final class CachingAStar extends AbstractAStar {
+	private static final int DEFAULT_MAX_CACHED_STEPS = 1 << 18;
+
+	private final RecordingPathMap map;
+	private final AbstractAStar aStar;
+	private final short width;
+	private final short height;
+	private final int maxCachedSteps;
+
+	private final int[] regionVersions;
+
+	private final LinkedHashMap<PathCacheKey, CachedPath> cache = new LinkedHashMap<PathCacheKey, CachedPath>(16, 0.75f, true);
+	private int cachedSteps = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+	private long invalidations = 0;
+
+	public CachingAStar(RecordingPathMap map, AbstractAStar aStar, short width, short height) {
+		this(map, aStar, width, height, DEFAULT_MAX_CACHED_STEPS);
+	}
+
+	/**
+	 *
+	 * @param map
+	 *            The map all path finding algorithms used by aStar read.
+	 * @param aStar
+	 *            The {@link AbstractAStar} calculating the paths that are not cached.
+	 * @param width
+	 * @param height
+	 * @param maxCachedSteps
+	 *            The maximum number of path steps and recorded regions stored by the cache.
+	 */
+	public CachingAStar(RecordingPathMap map, AbstractAStar aStar, short width, short height, int maxCachedSteps) {
+		this.map = map;
+		this.aStar = aStar;
+		this.width = width;
+		this.height = height;
+		this.maxCachedSteps = maxCachedSteps;
+		this.regionVersions = new int[map.getNumberOfRegions()];
+	}
+
+	@Override
+	public final Path findPath(IPathCalculatable requester, ShortPoint2D target) {
+		ShortPoint2D pos = requester.getPos();
+		return findPath(requester, pos.x, pos.y, target.x, target.y);
+	}
+
+	@Override
+	public final Path findPath(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		if (!isInBounds(sx, sy)) {
+			throw new InvalidStartPositionException("Start position is out of bounds!", sx, sy);
+		}
+		if (!isInBounds(tx, ty)) {
+			return aStar.findPath(requester, sx, sy, tx, ty);
+		}
+
+		byte blockingPlayer = requester.needsPlayersGround() ? requester.getPlayerId() : -1;
+		PathCacheKey key = new PathCacheKey(sx + sy * width, tx + ty * width, map.getBlockedPartition(sx, sy), blockingPlayer);
+
+		CachedPath cachedPath = cache.get(key);
+		if (cachedPath != null) {
+			if (cachedPath.isValid(regionVersions)) {
+				hits++;
+				return cachedPath.createPath();
+			}
+
+			invalidations++;
+			remove(key);
+		}
+
+		misses++;
+		map.startRecording();
+		Path path;
+		int[] regions;
+		try {
+			path = aStar.findPath(requester, sx, sy, tx, ty);
+		} finally {
+			regions = map.stopRecording();
+		}
+		if (path != null) {
+			cachePath(key, path, regions);
+		}
+		return path;
+	}
+
+	@Override
+	public final Path findPathToNearest(IPathCalculatable requester, short sx, short sy, BitSet targets) {
+		return aStar.findPathToNearest(requester, sx, sy, targets);
+	}
+
+	/**
+	 * This method needs to be called when the blocking of the given position changed for any requester. It invalidates all cached paths whose
+	 * search read the region of the position.
+	 *
+	 * @param x
+	 * @param y
+	 */
+	public final void invalidatePosition(int x, int y) {
+		regionVersions[map.getRegion(x, y)]++;
+	}
+
+	private void cachePath(PathCacheKey key, Path path, int[] regions) {
+		if (path.getLength() + regions.length > maxCachedSteps) {
+			return;
+		}
+
+		int[] versions = new int[regions.length];
+		for (int i = 0; i < regions.length; i++) {
+			versions[i] = regionVersions[regions[i]];
+		}
+		put(key, new CachedPath(path, regions, versions));
+	}
+
+	private void put(PathCacheKey key, CachedPath cachedPath) {
+		cache.put(key, cachedPath);
+		cachedSteps += cachedPath.getSize();
+
+		Iterator<Entry<PathCacheKey, CachedPath>> iterator = cache.entrySet().iterator();
+		while (cachedSteps > maxCachedSteps) { // remove the least recently used paths
+			cachedSteps -= iterator.next().getValue().getSize();
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	private void remove(PathCacheKey key) {
+		cachedSteps -= cache.remove(key).getSize();
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return 0 <= x && x < width && 0 <= y && y < height;
+	}
+
+	/**
+	 * @return Returns the number of requests answered by the cache.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return Returns the number of requests that needed to be calculated.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return Returns the number of paths that have been removed from the cache to free memory.
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * @return Returns the number of cached paths that have been discarded, because a region they pass changed.
+	 */
+	public long getInvalidations() {
+		return invalidations;
+	}
+
+	/**
+	 * @return Returns the number of paths currently stored in the cache.
+	 */
+	public int getSize() {
+		return cache.size();
+	}
+}
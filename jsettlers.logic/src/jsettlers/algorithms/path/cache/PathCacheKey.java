@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.cache;
+
+/**
+ * Key of a path in the {@link CachingAStar}. Next to the start and target position it contains the blocked partition of the start and the
+ * blocking kind of the requester, because paths of requesters needing their player's ground may not be used for other requesters.
+ */
+final class PathCacheKey {
+	private final int startIdx;
+	private final int targetIdx;
+	private final short blockedPartition;
+	/**
+	 * -1 for requesters not needing their player's ground, the player id otherwise.
+	 */
+	private final byte blockingPlayer;
+
+	PathCacheKey(int startIdx, int targetIdx, short blockedPartition, byte blockingPlayer) {
+		this.startIdx = startIdx;
+		this.targetIdx = targetIdx;
+		this.blockedPartition = blockedPartition;
+		this.blockingPlayer = blockingPlayer;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = startIdx;
+		result = 31 * result + targetIdx;
+		result = 31 * result + blockedPartition;
+		result = 31 * result + blockingPlayer;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PathCacheKey)) {
+			return false;
+		}
+		PathCacheKey other = (PathCacheKey) obj;
+		return startIdx == other.startIdx && targetIdx == other.targetIdx && blockedPartition == other.blockedPartition
+				&& blockingPlayer == other.blockingPlayer;
+	}
+}
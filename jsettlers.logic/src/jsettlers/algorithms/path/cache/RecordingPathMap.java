@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.cache;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.algorithms.path.hierarchical.IClusterUsageListener;
+import jsettlers.common.Color;
+
+/**
+ * This {@link IAStarPathMap} forwards all calls to another map. While recording, it collects the regions of {@value #REGION_SIZE}x
+ * {@value #REGION_SIZE} positions the path finding algorithms read. These are the regions the result of a search depends on.
+ * <p />
+ * All path finding algorithms used by a {@link CachingAStar} must read the map through this object. A
+ * {@link jsettlers.algorithms.path.hierarchical.HierarchicalAStar} additionally
+ * needs to report the clusters of its abstract graph it used by {@link #clusterUsed(int, int, int, int)}.
+ */
+public final class RecordingPathMap implements IAStarPathMap, IClusterUsageListener {
+	static final int REGION_SIZE = 16;
+	private static final int REGION_SIZE_SHIFT = 4;
+
+	private final IAStarPathMap map;
+	private final short width;
+	private final short height;
+	private final int regionsPerRow;
+	private final int numberOfRegions;
+
+	private final int[] regionStamps;
+	private int regionStamp = 0;
+	private boolean recording = false;
+	private int[] recordedRegions = new int[64];
+	private int numberOfRecordedRegions = 0;
+
+	public RecordingPathMap(IAStarPathMap map, short width, short height) {
+		this.map = map;
+		this.width = width;
+		this.height = height;
+		this.regionsPerRow = (width + REGION_SIZE - 1) / REGION_SIZE;
+		this.numberOfRegions = regionsPerRow * ((height + REGION_SIZE - 1) / REGION_SIZE);
+		this.regionStamps = new int[numberOfRegions];
+	}
+
+	/**
+	 * Starts to record the regions read.
+	 */
+	void startRecording() {
+		regionStamp++;
+		numberOfRecordedRegions = 0;
+		recording = true;
+	}
+
+	/**
+	 * Stops the recording.
+	 *
+	 * @return Returns the regions read since {@link #startRecording()} has been called.
+	 */
+	int[] stopRecording() {
+		recording = false;
+		int[] regions = new int[numberOfRecordedRegions];
+		System.arraycopy(recordedRegions, 0, regions, 0, numberOfRecordedRegions);
+		return regions;
+	}
+
+	int getNumberOfRegions() {
+		return numberOfRegions;
+	}
+
+	int getRegion(int x, int y) {
+		return (y >> REGION_SIZE_SHIFT) * regionsPerRow + (x >> REGION_SIZE_SHIFT);
+	}
+
+	private void record(int x, int y) {
+		if (recording && 0 <= x && x < width && 0 <= y && y < height) {
+			int region = getRegion(x, y);
+			if (regionStamps[region] != regionStamp) {
+				regionStamps[region] = regionStamp;
+				if (numberOfRecordedRegions >= recordedRegions.length) {
+					int[] newRegions = new int[recordedRegions.length * 2];
+					System.arraycopy(recordedRegions, 0, newRegions, 0, numberOfRecordedRegions);
+					recordedRegions = newRegions;
+				}
+				recordedRegions[numberOfRecordedRegions++] = region;
+			}
+		}
+	}
+
+	@Override
+	public void clusterUsed(int minX, int minY, int maxX, int maxY) {
+		if (recording) {
+			for (int y = Math.max(0, minY) >> REGION_SIZE_SHIFT; y <= Math.min(height - 1, maxY) >> REGION_SIZE_SHIFT; y++) {
+				for (int x = Math.max(0, minX) >> REGION_SIZE_SHIFT; x <= Math.min(width - 1, maxX) >> REGION_SIZE_SHIFT; x++) {
+					record(x << REGION_SIZE_SHIFT, y << REGION_SIZE_SHIFT);
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+		record(x, y);
+		return map.isBlocked(requester, x, y);
+	}
+
+	@Override
+	public float getCost(int sx, int sy, int tx, int ty) {
+		record(sx, sy);
+		record(tx, ty);
+		return map.getCost(sx, sy, tx, ty);
+	}
+
+	@Override
+	public short getBlockedPartition(int x, int y) {
+		record(x, y);
+		return map.getBlockedPartition(x, y);
+	}
+
+	@Override
+	public void markAsOpen(int x, int y) {
+		map.markAsOpen(x, y);
+	}
+
+	@Override
+	public void markAsClosed(int x, int y) {
+		map.markAsClosed(x, y);
+	}
+
+	@Override
+	public void setDebugColor(int x, int y, Color color) {
+		map.setDebugColor(x, y, color);
+	}
+}
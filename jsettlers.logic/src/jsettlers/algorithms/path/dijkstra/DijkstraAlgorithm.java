@@ -15,6 +15,8 @@
 package jsettlers.algorithms.path.dijkstra;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.InvalidStartPositionException;
@@ -39,30 +41,52 @@ public final class DijkstraAlgorithm {
 	private final short height, width;
 	private final AbstractAStar aStar;
 
+	private final BitSet candidates;
+	private int[] candidateIndexes = new int[64];
+	private int numberOfCandidates = 0;
+
 	public DijkstraAlgorithm(IDijkstraPathMap map, AbstractAStar aStar, short width, short height) {
 		this.map = map;
 		this.aStar = aStar;
 		this.width = width;
 		this.height = height;
+		this.candidates = new BitSet(width * height);
 	}
 
+	/**
+	 * Finds the path to the position fitting the given search type that can be reached with the lowest costs by the requester. Only positions
+	 * with a distance to the center in the interval [minRadius, maxRadius) are considered.
+	 * <p />
+	 * The candidate positions are collected first, afterwards a single search from the requester's position to the nearest of them is run. Positions
+	 * that are blocked or on another blocked partition than the requester can not be reached and are not collected, as well as the requester's own
+	 * position.
+	 * 
+	 * @param requester
+	 * @param cX
+	 * @param cY
+	 * @param minRadius
+	 * @param maxRadius
+	 * @param type
+	 * @return
+	 */
 	public final Path find(final IPathCalculatable requester, final short cX, final short cY, final short minRadius, final short maxRadius,
 			final ESearchType type) {
 		if (!isInBounds(cX, cY)) {
 			throw new InvalidStartPositionException("dijkstra center position is not in bounds!", cX, cY);
 		}
 
+		ShortPoint2D pos = requester.getPos();
+		short startPartition = map.getBlockedPartition(pos.x, pos.y);
+
 		// check center position (special case for minRadius <= 0
 		if (minRadius <= 0) {
 			map.setDijkstraSearched(cX, cY);
 			if (map.fitsSearchType(cX, cY, type, requester)) {
-				Path path = findPathTo(requester, cX, cY);
-				if (path != null)
-					return path;
+				addCandidate(requester, pos, startPartition, cX, cY);
 			}
 		}
 
-		for (short radius = minRadius; radius < maxRadius; radius++) {
+		for (short radius = (short) Math.max(minRadius, 1); radius < maxRadius; radius++) {
 			short x = cX, y = (short) (cY - radius);
 			for (byte direction = 0; direction < 6; direction++) {
 				byte dx = directionIncreaseX[direction];
@@ -73,21 +97,43 @@ public final class DijkstraAlgorithm {
 					if (isInBounds(x, y)) {
 						map.setDijkstraSearched(x, y);
 						if (map.fitsSearchType(x, y, type, requester)) {
-							Path path = findPathTo(requester, x, y);
-							if (path != null)
-								return path;
+							addCandidate(requester, pos, startPartition, x, y);
 						}
 					}
 				}
 			}
 		}
 
-		return null;
+		return findPathToNearestCandidate(requester, pos);
 	}
 
-	private final Path findPathTo(IPathCalculatable requester, short tx, short ty) {
-		ShortPoint2D pos = requester.getPos();
-		return aStar.findPath(requester, pos.x, pos.y, tx, ty);
+	private final Path findPathToNearestCandidate(IPathCalculatable requester, ShortPoint2D pos) {
+		if (numberOfCandidates == 0) {
+			return null;
+		}
+
+		try {
+			return aStar.findPathToNearest(requester, pos.x, pos.y, candidates);
+		} finally {
+			for (int i = 0; i < numberOfCandidates; i++) {
+				candidates.clear(candidateIndexes[i]);
+			}
+			numberOfCandidates = 0;
+		}
+	}
+
+	private final void addCandidate(IPathCalculatable requester, ShortPoint2D pos, short startPartition, short x, short y) {
+		if (x == pos.x && y == pos.y || map.isBlocked(requester, x, y) || map.getBlockedPartition(x, y) != startPartition) {
+			return; // the position is never accepted as target, a search for it would visit the whole partition
+		}
+
+		if (numberOfCandidates >= candidateIndexes.length) {
+			candidateIndexes = Arrays.copyOf(candidateIndexes, candidateIndexes.length * 2);
+		}
+
+		int flatIdx = y * width + x;
+		candidateIndexes[numberOfCandidates++] = flatIdx;
+		candidates.set(flatIdx);
 	}
 
 	private final boolean isInBounds(short x, short y) {
@@ -139,11 +185,23 @@ public final class DijkstraAlgorithm {
 		}
 	}
 
+	/**
+	 * Continues the given search with the next rings around its center. The candidates of all searched rings are collected and a single search
+	 * from the requester's position to the nearest of them is run, like {@link #find(IPathCalculatable, short, short, short, short, ESearchType)}
+	 * does. If a path is found, the next call continues with the ring following the one of the found position.
+	 * 
+	 * @param request
+	 * @return
+	 */
 	public final Path find(DijkstraContinuableRequest request) {
 		if (!isInBounds(request.cX, request.cY)) {
 			throw new InvalidStartPositionException("dijkstra center position is not in bounds!", request.cX, request.cY);
 		}
 
+		IPathCalculatable requester = request.requester;
+		ShortPoint2D pos = requester.getPos();
+		short startPartition = map.getBlockedPartition(pos.x, pos.y);
+
 		MapCircle circle = new MapCircle(request.cX, request.cY, request.maxRadius * MAX_RADIUS_MULTIPLIER);
 
 		short radiusSteps = request.getRadiusSteps();
@@ -161,19 +219,33 @@ public final class DijkstraAlgorithm {
 					y += dy;
 					if (circle.contains(x, y) && isInBounds(x, y)) {
 						map.setDijkstraSearched(x, y);
-						if (map.fitsSearchType(x, y, request.searchType, request.requester)) {
-							Path path = findPathTo(request.requester, x, y);
-							if (path != null) {
-								request.setRadius(radius);
-								return path;
-							}
+						if (map.fitsSearchType(x, y, request.searchType, requester)) {
+							addCandidate(requester, pos, startPartition, x, y);
 						}
 					}
 				}
 			}
 		}
 
+		Path path = findPathToNearestCandidate(requester, pos);
+		if (path != null) {
+			ShortPoint2D target = path.getTargetPos();
+			radius = getRing(request.cX, request.cY, target.x, target.y);
+		}
 		request.setRadius(radius);
-		return null;
+		return path;
+	}
+
+	/**
+	 * Calculates the ring around the center the given position lies on.
+	 */
+	private static short getRing(short cX, short cY, short x, short y) {
+		int dx = x - cX;
+		int dy = y - cY;
+		if ((dx < 0) == (dy < 0)) {
+			return (short) Math.max(Math.abs(dx), Math.abs(dy));
+		} else {
+			return (short) (Math.abs(dx) + Math.abs(dy));
+		}
 	}
 }
@@ -23,4 +23,24 @@ public interface IDijkstraPathMap {
 
 	void setDijkstraSearched(int x, int y);
 
+	/**
+	 * Checks if the given position is blocked for the requester. Blocked positions are not used as targets.
+	 * 
+	 * @param requester
+	 * @param x
+	 * @param y
+	 * @return
+	 */
+	boolean isBlocked(IPathCalculatable requester, int x, int y);
+
+	/**
+	 * Gets the id of the blocked partition of the given coordinates. Positions on another blocked partition than the requester are not used as
+	 * targets.
+	 * 
+	 * @param x
+	 * @param y
+	 * @return
+	 */
+	short getBlockedPartition(int x, int y);
+
 }
@@ -0,0 +1,485 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.hierarchical;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * The abstract graph of the hierarchical path finding for one kind of requesters (all requesters with the same blocking).
+ * <p />
+ * The map is divided into square clusters. Every maximal run of passable position pairs crossing the border of two clusters is an entrance and
+ * gets one pair of {@link Transition}s. The transitions of a cluster are connected by edges with the costs of the shortest path inside the
+ * cluster. Changed clusters are marked dirty and repaired before the next search.
+ */
+final class ClusterGraph {
+	private static final int BORDER_RIGHT = 0;
+	private static final int BORDER_DOWN = 1;
+	private static final int BORDER_DIAGONAL = 2;
+	private static final int NUMBER_OF_BORDER_TYPES = 3;
+
+	private static final Comparator<SearchEntry> ENTRY_COMPARATOR = new Comparator<SearchEntry>() {
+		@Override
+		public int compare(SearchEntry e1, SearchEntry e2) {
+			if (e1.rank != e2.rank) {
+				return e1.rank < e2.rank ? -1 : 1;
+			}
+			return e1.sequenceNumber < e2.sequenceNumber ? -1 : (e1.sequenceNumber == e2.sequenceNumber ? 0 : 1);
+		}
+	};
+
+	private final IAStarPathMap map;
+	private final IPathCalculatable blockingRequester;
+	private final short width;
+	private final short height;
+	private final int clusterSize;
+	private final int clustersX;
+	private final int clustersY;
+
+	private final ArrayList<Transition>[] clusterTransitions;
+	private final ArrayList<Transition>[] borderTransitions;
+	private final BitSet dirtyClusters;
+	private final int[] clusterUsageStamps;
+	private final PositionList crossings = new PositionList();
+	private final PositionList crossingPartners = new PositionList();
+
+	private Transition[] neighborsBuffer = new Transition[16];
+	private float[] neighborCostsBuffer = new float[16];
+	private final PriorityQueue<SearchEntry> open = new PriorityQueue<SearchEntry>(64, ENTRY_COMPARATOR);
+	private int searchStamp = 0;
+	private IClusterUsageListener usageListener;
+
+	@SuppressWarnings("unchecked")
+	// this is checked.
+	ClusterGraph(IAStarPathMap map, IPathCalculatable blockingRequester, short width, short height, int clusterSize) {
+		this.map = map;
+		this.blockingRequester = blockingRequester;
+		this.width = width;
+		this.height = height;
+		this.clusterSize = clusterSize;
+		this.clustersX = (width + clusterSize - 1) / clusterSize;
+		this.clustersY = (height + clusterSize - 1) / clusterSize;
+
+		int clusters = clustersX * clustersY;
+		this.clusterTransitions = (ArrayList<Transition>[]) new ArrayList<?>[clusters];
+		this.borderTransitions = (ArrayList<Transition>[]) new ArrayList<?>[clusters * NUMBER_OF_BORDER_TYPES];
+		for (int i = 0; i < clusters; i++) {
+			clusterTransitions[i] = new ArrayList<Transition>();
+		}
+		for (int i = 0; i < borderTransitions.length; i++) {
+			borderTransitions[i] = new ArrayList<Transition>();
+		}
+
+		this.dirtyClusters = new BitSet(clusters);
+		this.dirtyClusters.set(0, clusters);
+		this.clusterUsageStamps = new int[clusters];
+	}
+
+	void invalidate(int x, int y) {
+		dirtyClusters.set(getCluster(x, y));
+	}
+
+	/**
+	 * Rebuilds the entrances and edges of all dirty clusters.
+	 */
+	void repair(ClusterSearch search) {
+		if (dirtyClusters.isEmpty()) {
+			return;
+		}
+
+		BitSet changedClusters = new BitSet(clustersX * clustersY);
+
+		for (int cluster = dirtyClusters.nextSetBit(0); cluster >= 0; cluster = dirtyClusters.nextSetBit(cluster + 1)) {
+			int cx = cluster % clustersX;
+			int cy = cluster / clustersX;
+
+			rebuildBorder(cx, cy, BORDER_RIGHT, changedClusters);
+			rebuildBorder(cx, cy, BORDER_DOWN, changedClusters);
+			rebuildBorder(cx, cy, BORDER_DIAGONAL, changedClusters);
+			rebuildBorder(cx - 1, cy, BORDER_RIGHT, changedClusters);
+			rebuildBorder(cx, cy - 1, BORDER_DOWN, changedClusters);
+			rebuildBorder(cx - 1, cy - 1, BORDER_DIAGONAL, changedClusters);
+			changedClusters.set(cluster);
+		}
+		dirtyClusters.clear();
+
+		for (int cluster = changedClusters.nextSetBit(0); cluster >= 0; cluster = changedClusters.nextSetBit(cluster + 1)) {
+			rebuildEdges(cluster, search);
+		}
+	}
+
+	private void rebuildBorder(int cx, int cy, int borderType, BitSet changedClusters) {
+		if (cx < 0 || cy < 0 || !hasNeighborCluster(cx, cy, borderType)) {
+			return;
+		}
+
+		int cluster = cx + cy * clustersX;
+		ArrayList<Transition> oldTransitions = borderTransitions[cluster * NUMBER_OF_BORDER_TYPES + borderType];
+		for (Transition transition : oldTransitions) {
+			clusterTransitions[transition.cluster].remove(transition);
+			changedClusters.set(transition.cluster);
+		}
+		oldTransitions.clear();
+
+		collectCrossings(cx, cy, borderType);
+
+		int groupStart = 0;
+		for (int i = 1; i <= crossings.size(); i++) {
+			if (i == crossings.size() || !isAdjacent(crossings, i - 1, i) || !isAdjacent(crossingPartners, i - 1, i)) {
+				addEntrance((groupStart + i - 1) / 2, borderType, oldTransitions, changedClusters);
+				groupStart = i;
+			}
+		}
+	}
+
+	private void addEntrance(int crossingIdx, int borderType, ArrayList<Transition> transitions, BitSet changedClusters) {
+		int x = crossings.getX(crossingIdx);
+		int y = crossings.getY(crossingIdx);
+		int partnerX = crossingPartners.getX(crossingIdx);
+		int partnerY = crossingPartners.getY(crossingIdx);
+
+		Transition transition = new Transition(x, y, getCluster(x, y), (x + y * width) * 2 * NUMBER_OF_BORDER_TYPES + borderType);
+		Transition partner = new Transition(partnerX, partnerY, getCluster(partnerX, partnerY), (partnerX + partnerY * width) * 2
+				* NUMBER_OF_BORDER_TYPES + NUMBER_OF_BORDER_TYPES + borderType);
+
+		transition.partner = partner;
+		transition.partnerCosts = map.getCost(x, y, partnerX, partnerY);
+		partner.partner = transition;
+		partner.partnerCosts = map.getCost(partnerX, partnerY, x, y);
+
+		transitions.add(transition);
+		transitions.add(partner);
+		clusterTransitions[transition.cluster].add(transition);
+		clusterTransitions[partner.cluster].add(partner);
+		changedClusters.set(transition.cluster);
+		changedClusters.set(partner.cluster);
+	}
+
+	/**
+	 * Collects all pairs of passable positions crossing the given border in the order of the border.
+	 */
+	private void collectCrossings(int cx, int cy, int borderType) {
+		crossings.clear();
+		crossingPartners.clear();
+
+		int minX = cx * clusterSize;
+		int minY = cy * clusterSize;
+		int maxX = Math.min(minX + clusterSize, width) - 1;
+		int maxY = Math.min(minY + clusterSize, height) - 1;
+
+		switch (borderType) {
+		case BORDER_RIGHT:
+			for (int y = minY; y <= maxY; y++) {
+				addCrossing(maxX, y, maxX + 1, y);
+				if (y < maxY) {
+					addCrossing(maxX, y, maxX + 1, y + 1);
+				}
+			}
+			break;
+		case BORDER_DOWN:
+			for (int x = minX; x <= maxX; x++) {
+				addCrossing(x, maxY, x, maxY + 1);
+				if (x < maxX) {
+					addCrossing(x, maxY, x + 1, maxY + 1);
+				}
+			}
+			break;
+		case BORDER_DIAGONAL:
+			addCrossing(maxX, maxY, maxX + 1, maxY + 1);
+			break;
+		}
+	}
+
+	private void addCrossing(int x, int y, int partnerX, int partnerY) {
+		if (!map.isBlocked(blockingRequester, x, y) && !map.isBlocked(blockingRequester, partnerX, partnerY)) {
+			crossings.add(x, y);
+			crossingPartners.add(partnerX, partnerY);
+		}
+	}
+
+	private static boolean isAdjacent(PositionList positions, int idx1, int idx2) {
+		return ShortPoint2D.getOnGridDist(positions.getX(idx2) - positions.getX(idx1), positions.getY(idx2) - positions.getY(idx1)) <= 1;
+	}
+
+	private boolean hasNeighborCluster(int cx, int cy, int borderType) {
+		switch (borderType) {
+		case BORDER_RIGHT:
+			return cx + 1 < clustersX;
+		case BORDER_DOWN:
+			return cy + 1 < clustersY;
+		default:
+			return cx + 1 < clustersX && cy + 1 < clustersY;
+		}
+	}
+
+	private void rebuildEdges(int cluster, ClusterSearch search) {
+		ArrayList<Transition> transitions = clusterTransitions[cluster];
+		Collections.sort(transitions);
+
+		int minX = getClusterMinX(cluster);
+		int minY = getClusterMinY(cluster);
+		int maxX = getClusterMaxX(cluster);
+		int maxY = getClusterMaxY(cluster);
+
+		if (neighborsBuffer.length < transitions.size()) {
+			neighborsBuffer = new Transition[transitions.size()];
+			neighborCostsBuffer = new float[transitions.size()];
+		}
+
+		for (Transition transition : transitions) {
+			search.search(blockingRequester, minX, minY, maxX, maxY, transition.x, transition.y, -1, -1);
+
+			int numberOfNeighbors = 0;
+			for (Transition other : transitions) {
+				float costs = search.getCosts(other.x, other.y);
+				if (other != transition && costs != Float.MAX_VALUE) {
+					neighborsBuffer[numberOfNeighbors] = other;
+					neighborCostsBuffer[numberOfNeighbors] = costs;
+					numberOfNeighbors++;
+				}
+			}
+
+			transition.neighbors = Arrays.copyOf(neighborsBuffer, numberOfNeighbors);
+			transition.neighborCosts = Arrays.copyOf(neighborCostsBuffer, numberOfNeighbors);
+		}
+		Arrays.fill(neighborsBuffer, null);
+	}
+
+	/**
+	 * Searches a path on the abstract graph and refines it to a {@link Path}. The start and target positions must not be blocked and need to be in
+	 * the same blocked partition.
+	 *
+	 * @param usageListener
+	 *            If not null, this listener is informed about every cluster whose part of the abstract graph is used by the search.
+	 * @return The path or null if no path has been found.
+	 */
+	Path findPath(ClusterSearch search, PositionList positions, IClusterUsageListener usageListener, int sx, int sy, int tx, int ty) {
+		repair(search);
+		positions.clear();
+		this.usageListener = usageListener;
+		try {
+			return findRepairedPath(search, positions, sx, sy, tx, ty);
+		} finally {
+			this.usageListener = null;
+		}
+	}
+
+	private Path findRepairedPath(ClusterSearch search, PositionList positions, int sx, int sy, int tx, int ty) {
+
+		int startCluster = getCluster(sx, sy);
+		int targetCluster = getCluster(tx, ty);
+
+		if (startCluster == targetCluster && searchInCluster(search, startCluster, sx, sy, tx, ty)) {
+			search.appendPath(tx, ty, positions);
+			return positions.toPath();
+		}
+
+		searchStamp++;
+		markClusterUsed(startCluster);
+		markClusterUsed(targetCluster);
+
+		// connect the target to the transitions of its cluster
+		search.search(blockingRequester, getClusterMinX(targetCluster), getClusterMinY(targetCluster), getClusterMaxX(targetCluster),
+				getClusterMaxY(targetCluster), tx, ty, -1, -1);
+		for (Transition transition : clusterTransitions[targetCluster]) {
+			prepareForSearch(transition);
+			transition.goalCosts = search.getCosts(transition.x, transition.y);
+		}
+
+		// connect the start to the transitions of its cluster
+		open.clear();
+		int sequenceNumber = 0;
+
+		search.search(blockingRequester, getClusterMinX(startCluster), getClusterMinY(startCluster), getClusterMaxX(startCluster),
+				getClusterMaxY(startCluster), sx, sy, -1, -1);
+		for (Transition transition : clusterTransitions[startCluster]) {
+			float costs = search.getCosts(transition.x, transition.y);
+			if (costs != Float.MAX_VALUE) {
+				prepareForSearch(transition);
+				transition.costs = costs;
+				transition.parent = null;
+				open.add(new SearchEntry(transition, costs + getHeuristic(transition, tx, ty), sequenceNumber++));
+			}
+		}
+
+		Transition lastTransition = null;
+		float bestGoalCosts = Float.MAX_VALUE;
+
+		while (!open.isEmpty()) {
+			SearchEntry entry = open.poll();
+			if (entry.transition == null) { // the target has been reached
+				break;
+			}
+
+			Transition curr = entry.transition;
+			if (curr.closed) {
+				continue;
+			}
+			curr.closed = true;
+
+			if (curr.cluster == targetCluster && curr.goalCosts != Float.MAX_VALUE) {
+				float goalCosts = curr.costs + curr.goalCosts;
+				if (goalCosts < bestGoalCosts) {
+					bestGoalCosts = goalCosts;
+					lastTransition = curr;
+					open.add(new SearchEntry(null, goalCosts, sequenceNumber++));
+				}
+			}
+
+			sequenceNumber = relax(curr, curr.partner, curr.partnerCosts, tx, ty, sequenceNumber);
+			for (int i = 0; i < curr.neighbors.length; i++) {
+				sequenceNumber = relax(curr, curr.neighbors[i], curr.neighborCosts[i], tx, ty, sequenceNumber);
+			}
+		}
+		open.clear();
+
+		if (lastTransition == null) {
+			return null;
+		}
+
+		return refinePath(search, positions, sx, sy, tx, ty, lastTransition);
+	}
+
+	private int relax(Transition curr, Transition neighbor, float edgeCosts, int tx, int ty, int sequenceNumber) {
+		prepareForSearch(neighbor);
+		if (neighbor.closed) {
+			return sequenceNumber;
+		}
+
+		float newCosts = curr.costs + edgeCosts;
+		if (newCosts < neighbor.costs) {
+			neighbor.costs = newCosts;
+			neighbor.parent = curr;
+			open.add(new SearchEntry(neighbor, newCosts + getHeuristic(neighbor, tx, ty), sequenceNumber));
+			return sequenceNumber + 1;
+		}
+		return sequenceNumber;
+	}
+
+	/**
+	 * Resets the search state of the given transition if it has not been touched by the current search.
+	 */
+	private void prepareForSearch(Transition transition) {
+		if (transition.searchStamp != searchStamp) {
+			transition.searchStamp = searchStamp;
+			transition.closed = false;
+			transition.costs = Float.MAX_VALUE;
+			transition.parent = null;
+			transition.goalCosts = Float.MAX_VALUE;
+			markClusterUsed(transition.cluster);
+		}
+	}
+
+	private void markClusterUsed(int cluster) {
+		if (usageListener != null && clusterUsageStamps[cluster] != searchStamp) {
+			clusterUsageStamps[cluster] = searchStamp;
+			// the entrances of a cluster also depend on the positions next to its border
+			usageListener.clusterUsed(getClusterMinX(cluster) - 1, getClusterMinY(cluster) - 1, getClusterMaxX(cluster), getClusterMaxY(cluster));
+		}
+	}
+
+	private Path refinePath(ClusterSearch search, PositionList positions, int sx, int sy, int tx, int ty, Transition lastTransition) {
+		ArrayList<Transition> abstractPath = new ArrayList<Transition>();
+		for (Transition curr = lastTransition; curr != null; curr = curr.parent) {
+			abstractPath.add(curr);
+		}
+		Collections.reverse(abstractPath);
+
+		Transition first = abstractPath.get(0);
+		if (!appendClusterPath(search, positions, first.cluster, sx, sy, first.x, first.y)) {
+			return null;
+		}
+
+		for (int i = 1; i < abstractPath.size(); i++) {
+			Transition from = abstractPath.get(i - 1);
+			Transition to = abstractPath.get(i);
+
+			if (from.partner == to) {
+				positions.add(to.x, to.y);
+			} else if (!appendClusterPath(search, positions, to.cluster, from.x, from.y, to.x, to.y)) {
+				return null;
+			}
+		}
+
+		if (!appendClusterPath(search, positions, lastTransition.cluster, lastTransition.x, lastTransition.y, tx, ty)) {
+			return null;
+		}
+
+		return positions.toPath();
+	}
+
+	private boolean appendClusterPath(ClusterSearch search, PositionList positions, int cluster, int sx, int sy, int tx, int ty) {
+		if (sx == tx && sy == ty) {
+			return true;
+		}
+
+		if (searchInCluster(search, cluster, sx, sy, tx, ty)) {
+			search.appendPath(tx, ty, positions);
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	private boolean searchInCluster(ClusterSearch search, int cluster, int sx, int sy, int tx, int ty) {
+		return search.search(blockingRequester, getClusterMinX(cluster), getClusterMinY(cluster), getClusterMaxX(cluster),
+				getClusterMaxY(cluster), sx, sy, tx, ty);
+	}
+
+	private static float getHeuristic(Transition transition, int tx, int ty) {
+		return ShortPoint2D.getOnGridDist(tx - transition.x, ty - transition.y);
+	}
+
+	private int getCluster(int x, int y) {
+		return x / clusterSize + (y / clusterSize) * clustersX;
+	}
+
+	private int getClusterMinX(int cluster) {
+		return (cluster % clustersX) * clusterSize;
+	}
+
+	private int getClusterMinY(int cluster) {
+		return (cluster / clustersX) * clusterSize;
+	}
+
+	private int getClusterMaxX(int cluster) {
+		return Math.min(getClusterMinX(cluster) + clusterSize, width);
+	}
+
+	private int getClusterMaxY(int cluster) {
+		return Math.min(getClusterMinY(cluster) + clusterSize, height);
+	}
+
+	private static final class SearchEntry {
+		final Transition transition;
+		final float rank;
+		final int sequenceNumber;
+
+		SearchEntry(Transition transition, float rank, int sequenceNumber) {
+			this.transition = transition;
+			this.rank = rank;
+			this.sequenceNumber = sequenceNumber;
+		}
+	}
+}
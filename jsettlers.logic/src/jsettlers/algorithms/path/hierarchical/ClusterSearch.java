@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.hierarchical;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.common.movable.EDirection;
+
+/**
+ * Uniform cost search that is restricted to the positions of a single cluster. All arrays are sized for one cluster, so a search does not need
+ * to clear any map sized data structures.
+ */
+final class ClusterSearch {
+	private static final byte[] xDeltaArray = EDirection.getXDeltaArray();
+	private static final byte[] yDeltaArray = EDirection.getYDeltaArray();
+
+	private final IAStarPathMap map;
+	private final int clusterSize;
+
+	private final float[] costs;
+	private final int[] parents;
+	private final int[] reachedStamps;
+	private final int[] closedStamps;
+	private int stamp = 0;
+
+	private final int[] heapElements;
+	private final float[] heapRanks;
+	private int heapSize;
+
+	private int minX, minY, maxX, maxY;
+
+	ClusterSearch(IAStarPathMap map, int clusterSize) {
+		this.map = map;
+		this.clusterSize = clusterSize;
+
+		int cells = clusterSize * clusterSize;
+		this.costs = new float[cells];
+		this.parents = new int[cells];
+		this.reachedStamps = new int[cells];
+		this.closedStamps = new int[cells];
+
+		int heapCapacity = cells * EDirection.NUMBER_OF_DIRECTIONS + 1;
+		this.heapElements = new int[heapCapacity];
+		this.heapRanks = new float[heapCapacity];
+	}
+
+	/**
+	 * Runs a uniform cost search from the start position inside the given rectangle.
+	 *
+	 * @param requester
+	 *            The requester used to check the blocking.
+	 * @param minX
+	 *            Minimum x coordinate of the rectangle (inclusive).
+	 * @param minY
+	 *            Minimum y coordinate of the rectangle (inclusive).
+	 * @param maxX
+	 *            Maximum x coordinate of the rectangle (exclusive).
+	 * @param maxY
+	 *            Maximum y coordinate of the rectangle (exclusive).
+	 * @param tx
+	 *            x coordinate of the target. The search stops as soon as the target is reached. If tx is negative, all positions of the
+	 *            rectangle are searched.
+	 * @param ty
+	 *            y coordinate of the target.
+	 * @return true if the target has been reached.
+	 */
+	boolean search(IPathCalculatable requester, int minX, int minY, int maxX, int maxY, int sx, int sy, int tx, int ty) {
+		this.minX = minX;
+		this.minY = minY;
+		this.maxX = maxX;
+		this.maxY = maxY;
+
+		stamp++;
+		heapSize = 0;
+
+		int startIdx = getLocalIdx(sx, sy);
+		int targetIdx = tx < 0 ? -1 : getLocalIdx(tx, ty);
+		costs[startIdx] = 0;
+		parents[startIdx] = -1;
+		reachedStamps[startIdx] = stamp;
+		push(startIdx, 0);
+
+		while (heapSize > 0) {
+			int currIdx = pop();
+			if (closedStamps[currIdx] == stamp) {
+				continue; // outdated heap entry
+			}
+			closedStamps[currIdx] = stamp;
+
+			if (currIdx == targetIdx) {
+				return true;
+			}
+
+			int x = getX(currIdx);
+			int y = getY(currIdx);
+			float currCosts = costs[currIdx];
+
+			for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+				int neighborX = x + xDeltaArray[i];
+				int neighborY = y + yDeltaArray[i];
+
+				if (neighborX < minX || neighborX >= maxX || neighborY < minY || neighborY >= maxY
+						|| map.isBlocked(requester, neighborX, neighborY)) {
+					continue;
+				}
+
+				int neighborIdx = getLocalIdx(neighborX, neighborY);
+				if (closedStamps[neighborIdx] == stamp) {
+					continue;
+				}
+
+				float newCosts = currCosts + map.getCost(x, y, neighborX, neighborY);
+				if (reachedStamps[neighborIdx] != stamp || newCosts < costs[neighborIdx]) {
+					reachedStamps[neighborIdx] = stamp;
+					costs[neighborIdx] = newCosts;
+					parents[neighborIdx] = currIdx;
+					push(neighborIdx, newCosts);
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return Returns the costs of the path to the given position found by the last search or {@link Float#MAX_VALUE} if it has not been reached.
+	 */
+	float getCosts(int x, int y) {
+		if (x < minX || x >= maxX || y < minY || y >= maxY) {
+			return Float.MAX_VALUE;
+		}
+
+		int idx = getLocalIdx(x, y);
+		return closedStamps[idx] == stamp ? costs[idx] : Float.MAX_VALUE;
+	}
+
+	/**
+	 * Appends the positions of the path found by the last search to the given target to the given list. The start position is not appended.
+	 */
+	void appendPath(int tx, int ty, PositionList positions) {
+		int length = 0;
+		for (int idx = getLocalIdx(tx, ty); parents[idx] >= 0; idx = parents[idx]) {
+			length++;
+		}
+
+		int end = positions.size() + length;
+		positions.setSize(end);
+
+		int insertIdx = end;
+		for (int idx = getLocalIdx(tx, ty); parents[idx] >= 0; idx = parents[idx]) {
+			positions.set(--insertIdx, getX(idx), getY(idx));
+		}
+	}
+
+	private int getLocalIdx(int x, int y) {
+		return (y - minY) * clusterSize + (x - minX);
+	}
+
+	private int getX(int localIdx) {
+		return localIdx % clusterSize + minX;
+	}
+
+	private int getY(int localIdx) {
+		return localIdx / clusterSize + minY;
+	}
+
+	private void push(int element, float rank) {
+		int idx = heapSize++;
+		while (idx > 0) {
+			int parentIdx = (idx - 1) / 2;
+			if (heapRanks[parentIdx] <= rank) {
+				break;
+			}
+			heapElements[idx] = heapElements[parentIdx];
+			heapRanks[idx] = heapRanks[parentIdx];
+			idx = parentIdx;
+		}
+		heapElements[idx] = element;
+		heapRanks[idx] = rank;
+	}
+
+	private int pop() {
+		int result = heapElements[0];
+		heapSize--;
+
+		int lastElement = heapElements[heapSize];
+		float lastRank = heapRanks[heapSize];
+
+		int idx = 0;
+		while (true) {
+			int childIdx = 2 * idx + 1;
+			if (childIdx >= heapSize) {
+				break;
+			}
+			if (childIdx + 1 < heapSize && heapRanks[childIdx + 1] < heapRanks[childIdx]) {
+				childIdx++;
+			}
+			if (lastRank <= heapRanks[childIdx]) {
+				break;
+			}
+			heapElements[idx] = heapElements[childIdx];
+			heapRanks[idx] = heapRanks[childIdx];
+			idx = childIdx;
+		}
+		heapElements[idx] = lastElement;
+		heapRanks[idx] = lastRank;
+
+		return result;
+	}
+}
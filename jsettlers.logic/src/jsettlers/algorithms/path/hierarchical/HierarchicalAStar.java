@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.hierarchical;
+
+import java.util.BitSet;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.InvalidStartPositionException;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.AbstractAStar;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Hierarchical path finding (HPA*) on top of a flat {@link AbstractAStar}.
+ * <p />
+ * Long paths are first searched on an abstract graph of cluster entrances and afterwards refined by searches restricted to single clusters. Short
+ * paths, requesters starting on a blocked position and requests the abstract search can not answer are handled by the flat A*. One abstract
+ * graph is kept for every kind of blocking: one for requesters not needing their player's ground and one for every player. The graphs are
+ * created lazily and repaired before the next search after {@link #invalidatePosition(int, int)} has been called for a changed position.
+ * <p />
+ * NOTE: The blocking of the {@link IAStarPathMap} may only depend on {@link IPathCalculatable#needsPlayersGround()} and
+ * {@link IPathCalculatable#getPlayerId()} of the requester.
+ */
+public final class HierarchicalAStar extends AbstractAStar {
+	private static final int CLUSTER_SIZE = 16;
+	/**
+	 * Paths shorter than this distance are always calculated with the flat A*.
+	 */
+	private static final int MIN_HIERARCHICAL_DISTANCE = 3 * CLUSTER_SIZE;
+
+	private final IAStarPathMap map;
+	private final AbstractAStar flatAStar;
+	private final short width;
+	private final short height;
+
+	private final ClusterSearch clusterSearch;
+	private final PositionList positions = new PositionList();
+
+	/**
+	 * Index 0 is the graph for requesters not needing the player's ground, index playerId + 1 the one of the player.
+	 */
+	private ClusterGraph[] graphs = new ClusterGraph[1];
+	private IClusterUsageListener usageListener;
+
+	public HierarchicalAStar(IAStarPathMap map, AbstractAStar flatAStar, short width, short height) {
+		this.map = map;
+		this.flatAStar = flatAStar;
+		this.width = width;
+		this.height = height;
+		this.clusterSearch = new ClusterSearch(map, CLUSTER_SIZE);
+	}
+
+	@Override
+	public final Path findPath(IPathCalculatable requester, ShortPoint2D target) {
+		ShortPoint2D pos = requester.getPos();
+		return findPath(requester, pos.x, pos.y, target.x, target.y);
+	}
+
+	@Override
+	public final Path findPath(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		if (!isInBounds(sx, sy)) {
+			throw new InvalidStartPositionException("Start position is out of bounds!", sx, sy);
+		}
+
+		if (ShortPoint2D.getOnGridDist(tx - sx, ty - sy) < MIN_HIERARCHICAL_DISTANCE || !isInBounds(tx, ty)
+				|| map.isBlocked(requester, sx, sy)) {
+			return flatAStar.findPath(requester, sx, sy, tx, ty);
+		}
+
+		if (map.isBlocked(requester, tx, ty) || map.getBlockedPartition(sx, sy) != map.getBlockedPartition(tx, ty)) {
+			return null; // target can not be reached
+		}
+
+		Path path = getGraph(requester).findPath(clusterSearch, positions, usageListener, sx, sy, tx, ty);
+		if (path == null) {
+			path = flatAStar.findPath(requester, sx, sy, tx, ty);
+		}
+		return path;
+	}
+
+	@Override
+	public final Path findPathToNearest(IPathCalculatable requester, short sx, short sy, BitSet targets) {
+		return flatAStar.findPathToNearest(requester, sx, sy, targets);
+	}
+
+	/**
+	 * This method needs to be called when the blocking of the given position changed for any requester.
+	 *
+	 * @param x
+	 * @param y
+	 */
+	public final void invalidatePosition(int x, int y) {
+		for (ClusterGraph graph : graphs) {
+			if (graph != null) {
+				graph.invalidate(x, y);
+			}
+		}
+	}
+
+	/**
+	 * Sets the listener that is informed about the areas whose abstract graph is used by the following searches.
+	 *
+	 * @param usageListener
+	 *            The listener or null.
+	 */
+	public final void setClusterUsageListener(IClusterUsageListener usageListener) {
+		this.usageListener = usageListener;
+	}
+
+	private ClusterGraph getGraph(IPathCalculatable requester) {
+		final boolean needsPlayersGround = requester.needsPlayersGround();
+		final byte playerId = needsPlayersGround ? requester.getPlayerId() : 0;
+		int graphIdx = needsPlayersGround ? playerId + 1 : 0;
+
+		if (graphIdx >= graphs.length) {
+			ClusterGraph[] newGraphs = new ClusterGraph[graphIdx + 1];
+			System.arraycopy(graphs, 0, newGraphs, 0, graphs.length);
+			graphs = newGraphs;
+		}
+
+		if (graphs[graphIdx] == null) {
+			IPathCalculatable blockingRequester = new IPathCalculatable() {
+				@Override
+				public ShortPoint2D getPos() {
+					return null;
+				}
+
+				@Override
+				public byte getPlayerId() {
+					return playerId;
+				}
+
+				@Override
+				public boolean needsPlayersGround() {
+					return needsPlayersGround;
+				}
+			};
+			graphs[graphIdx] = new ClusterGraph(map, blockingRequester, width, height, CLUSTER_SIZE);
+		}
+
+		return graphs[graphIdx];
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return 0 <= x && x < width && 0 <= y && y < height;
+	}
+}
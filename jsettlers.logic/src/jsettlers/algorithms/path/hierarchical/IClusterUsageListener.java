@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.hierarchical;
+
+/**
+ * Is informed about the areas of the map whose abstract graph has been used by a search of the {@link HierarchicalAStar}. The result of the
+ * search depends on the blocking of these areas, although the positions in them have been read when the graph has been built and not during
+ * the search.
+ */
+public interface IClusterUsageListener {
+
+	/**
+	 * Called for every area whose abstract graph has been used by the current search.
+	 *
+	 * @param minX
+	 *            The minimum x coordinate of the area (inclusive). May be outside of the map.
+	 * @param minY
+	 *            The minimum y coordinate of the area (inclusive). May be outside of the map.
+	 * @param maxX
+	 *            The maximum x coordinate of the area (inclusive). May be outside of the map.
+	 * @param maxY
+	 *            The maximum y coordinate of the area (inclusive). May be outside of the map.
+	 */
+	void clusterUsed(int minX, int minY, int maxX, int maxY);
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.hierarchical;
+
+import java.util.Arrays;
+
+import jsettlers.algorithms.path.Path;
+
+/**
+ * Growable list of positions used to assemble a {@link Path} from the refined parts of an abstract path.
+ */
+final class PositionList {
+	private short[] xs = new short[128];
+	private short[] ys = new short[128];
+	private int size = 0;
+
+	int size() {
+		return size;
+	}
+
+	void clear() {
+		size = 0;
+	}
+
+	void add(int x, int y) {
+		setSize(size + 1);
+		set(size - 1, x, y);
+	}
+
+	void setSize(int newSize) {
+		if (newSize > xs.length) {
+			int newCapacity = Math.max(newSize, xs.length * 2);
+			xs = Arrays.copyOf(xs, newCapacity);
+			ys = Arrays.copyOf(ys, newCapacity);
+		}
+		size = newSize;
+	}
+
+	void set(int idx, int x, int y) {
+		xs[idx] = (short) x;
+		ys[idx] = (short) y;
+	}
+
+	int getX(int idx) {
+		return xs[idx];
+	}
+
+	int getY(int idx) {
+		return ys[idx];
+	}
+
+	Path toPath() {
+		Path path = new Path(size);
+		for (int i = 0; i < size; i++) {
+			path.insertAt(i, xs[i], ys[i]);
+		}
+		return path;
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.hierarchical;
+
+/**
+ * A node of the abstract graph of a {@link ClusterGraph}. A transition is a position at the border of a cluster that is connected to a
+ * transition of a neighbor cluster (its partner).
+ */
+final class Transition implements Comparable<Transition> {
+	final short x;
+	final short y;
+	final int cluster;
+	/**
+	 * Defines a deterministic order of the transitions of a cluster, that does only depend on the current blocking and not on the order of the
+	 * repairs.
+	 */
+	final int sortKey;
+
+	Transition partner;
+	float partnerCosts;
+
+	Transition[] neighbors;
+	float[] neighborCosts;
+
+	// search state of the abstract search
+	int searchStamp;
+	boolean closed;
+	float costs;
+	Transition parent;
+	float goalCosts;
+
+	Transition(int x, int y, int cluster, int sortKey) {
+		this.x = (short) x;
+		this.y = (short) y;
+		this.cluster = cluster;
+		this.sortKey = sortKey;
+	}
+
+	@Override
+	public int compareTo(Transition other) {
+		return sortKey < other.sortKey ? -1 : (sortKey == other.sortKey ? 0 : 1);
+	}
+}
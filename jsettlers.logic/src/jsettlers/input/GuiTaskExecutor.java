@@ -14,7 +14,6 @@
  *******************************************************************************/
 package jsettlers.input;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -24,6 +23,7 @@ import jsettlers.common.buildings.IBuilding;
 import jsettlers.common.map.shapes.HexBorderArea;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.graphics.map.UIState;
+import jsettlers.graphics.messages.SimpleMessage;
 import jsettlers.input.tasks.ChangeTradingRequestGuiTask;
 import jsettlers.input.tasks.ConstructBuildingTask;
 import jsettlers.input.tasks.ConvertGuiTask;
@@ -42,7 +42,9 @@ import jsettlers.input.tasks.WorkAreaGuiTask;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.military.OccupyingBuilding;
 import jsettlers.logic.buildings.others.TestTradingBuilding;
+import jsettlers.logic.map.save.ISaveListener;
 import jsettlers.logic.movable.Movable;
+import jsettlers.logic.player.Player;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.synchronic.timer.ITaskExecutor;
 
@@ -205,13 +207,9 @@ public class GuiTaskExecutor implements ITaskExecutor {
 				playerStates[playerId] = new PlayerState(playerId, uiState);
 			}
 			playerStates[playerId] = new PlayerState(this.playerId, guiInterface.getUIState(), grid.getFogOfWar());
-			grid.save(playerStates);
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
+			grid.save(playerStates, new SaveMessageListener(grid.getPlayer(this.playerId)));
 		} catch (IOException e) {
 			e.printStackTrace();
-		} catch (InterruptedException e) {
-			e.printStackTrace();
 		}
 	}
 
@@ -318,4 +316,30 @@ public class GuiTaskExecutor implements ITaskExecutor {
 		}
 	}
 
+
+	/**
+	 * Informs the player about the savegame written in the background.
+	 */
+	private static class SaveMessageListener implements ISaveListener {
+		private final Player player;
+
+		SaveMessageListener(Player player) {
+			this.player = player;
+		}
+
+		@Override
+		public void savingProgressed(float progress) {
+			// the progress is not shown, the player is only informed when the savegame has been written
+		}
+
+		@Override
+		public void savingFinished(long snapshotDurationMs, long totalDurationMs, int savegameSize) {
+			player.showMessage(SimpleMessage.gameSaved(totalDurationMs, snapshotDurationMs));
+		}
+
+		@Override
+		public void savingFailed(IOException exception) {
+			player.showMessage(SimpleMessage.gameSavingFailed());
+		}
+	}
 }
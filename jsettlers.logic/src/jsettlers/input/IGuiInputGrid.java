@@ -14,7 +14,6 @@
  *******************************************************************************/
 package jsettlers.input;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
@@ -25,6 +24,7 @@ import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.graphics.map.UIState;
 import jsettlers.logic.buildings.MaterialProductionSettings;
+import jsettlers.logic.map.save.ISaveListener;
 import jsettlers.logic.player.Player;
 
 /**
@@ -64,14 +64,15 @@ public interface IGuiInputGrid {
 			EBuildingType type, byte player, boolean useNeighbors);
 
 	/**
-	 * Saves the map with the given {@link UIState}.
+	 * Saves the map with the given {@link UIState}. Only a snapshot of the game state is taken synchronously, the savegame is written in the
+	 * background.
 	 * 
 	 * @param playerStates
-	 * @throws FileNotFoundException
+	 * @param listener
+	 *            Listener informed about the progress of writing the savegame.
 	 * @throws IOException
-	 * @throws InterruptedException
 	 */
-	void save(PlayerState[] playerStates) throws FileNotFoundException, IOException, InterruptedException;
+	void save(PlayerState[] playerStates, ISaveListener listener) throws IOException;
 
 	void toggleFogOfWar();
 
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jsettlers.logic.buildings.Building;
+import jsettlers.logic.constants.ExtendedRandom;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.movable.Movable;
+import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.network.client.interfaces.IGameClock;
+
+/**
+ * This class holds the state of a single running game that used to be stored in static fields: the game clock and the random generators of
+ * {@link MatchConstants}, the {@link RescheduleTimer} and the registries of all {@link Movable}s and {@link Building}s.
+ * <p />
+ * The static accessors of these classes delegate to the {@link GameInstance} returned by {@link #current()}. That is the instance bound to the
+ * current thread with {@link #bind(GameInstance)} or, if the thread has no binding, the default instance. The binding is inherited by threads
+ * started from a bound thread, so the game clock, the load and save threads and the AI workers of a game automatically use the instance of the
+ * thread setting up the game. Therefore multiple games can be simulated concurrently in one JVM as long as each one is driven by its own
+ * threads.
+ */
+public final class GameInstance {
+	private static final InheritableThreadLocal<GameInstance> boundInstance = new InheritableThreadLocal<GameInstance>();
+	private static volatile GameInstance defaultInstance = new GameInstance();
+
+	private final HashMap<Integer, Movable> movablesByID = new HashMap<Integer, Movable>();
+	private final ConcurrentLinkedQueue<Movable> allMovables = new ConcurrentLinkedQueue<Movable>();
+	private final ConcurrentLinkedQueue<Building> allBuildings = new ConcurrentLinkedQueue<Building>();
+
+	private IGameClock clock;
+	private ExtendedRandom gameRandom;
+	private ExtendedRandom aiRandom;
+
+	private RescheduleTimer rescheduleTimer;
+	private int nextMovableID = Integer.MIN_VALUE;
+
+	/**
+	 * @return Returns the {@link GameInstance} bound to the current thread or the default instance if the thread has no binding.
+	 */
+	public static GameInstance current() {
+		GameInstance instance = boundInstance.get();
+		return instance != null ? instance : defaultInstance;
+	}
+
+	/**
+	 * Binds the given {@link GameInstance} to the current thread and all threads started by it afterwards.
+	 * 
+	 * @param instance
+	 *            The instance to bind or null to remove the binding.
+	 * @return Returns the instance previously bound to the current thread or null if there was none.
+	 */
+	public static GameInstance bind(GameInstance instance) {
+		GameInstance previous = boundInstance.get();
+		if (instance != null) {
+			boundInstance.set(instance);
+		} else {
+			boundInstance.remove();
+		}
+		return previous;
+	}
+
+	/**
+	 * Sets the {@link GameInstance} used by all threads without a binding. These are mainly the threads of the user interface.
+	 * 
+	 * @param instance
+	 * @return Returns the previous default instance. It should be restored with {@link #restoreDefault(GameInstance, GameInstance)} when the
+	 *         game of the given instance ends.
+	 */
+	public static synchronized GameInstance setDefault(GameInstance instance) {
+		GameInstance previous = defaultInstance;
+		defaultInstance = instance;
+		return previous;
+	}
+
+	/**
+	 * Makes the given previous instance the default again, if the given instance is still the default instance. If another instance has been set
+	 * as default in the meantime, it stays the default.
+	 * 
+	 * @param instance
+	 *            The instance that has been set with {@link #setDefault(GameInstance)}.
+	 * @param previous
+	 *            The instance returned by {@link #setDefault(GameInstance)}.
+	 */
+	public static synchronized void restoreDefault(GameInstance instance, GameInstance previous) {
+		if (defaultInstance == instance) {
+			defaultInstance = previous;
+		}
+	}
+
+	public void initMatch(IGameClock clock, long randomSeed) {
+		this.clock = clock;
+		this.gameRandom = new ExtendedRandom(randomSeed);
+		this.aiRandom = new ExtendedRandom(randomSeed);
+	}
+
+	public IGameClock getClock() {
+		return clock;
+	}
+
+	public ExtendedRandom getRandom() {
+		return gameRandom;
+	}
+
+	public ExtendedRandom getAiRandom() {
+		return aiRandom;
+	}
+
+	public void serializeMatch(ObjectOutputStream oos) throws IOException {
+		oos.writeInt(clock.getTime());
+		oos.writeObject(gameRandom);
+		oos.writeObject(aiRandom);
+	}
+
+	public void deserializeMatch(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		clock.setTime(ois.readInt());
+		gameRandom = (ExtendedRandom) ois.readObject();
+		aiRandom = (ExtendedRandom) ois.readObject();
+	}
+
+	/**
+	 * @return Returns the {@link RescheduleTimer} of this game or null if none has been created yet.
+	 */
+	public synchronized RescheduleTimer getRescheduleTimer() {
+		return rescheduleTimer;
+	}
+
+	public synchronized void setRescheduleTimer(RescheduleTimer rescheduleTimer) {
+		this.rescheduleTimer = rescheduleTimer;
+	}
+
+	/**
+	 * @return Returns a new unique id for a {@link Movable} of this game.
+	 */
+	public int createMovableID() {
+		return nextMovableID++;
+	}
+
+	/**
+	 * Registers the given {@link Movable}. The ids created by {@link #createMovableID()} afterwards will be higher than the id of the movable.
+	 * 
+	 * @param movable
+	 */
+	public void addMovable(Movable movable) {
+		int id = movable.getID();
+		movablesByID.put(id, movable);
+		allMovables.offer(movable);
+		nextMovableID = Math.max(nextMovableID, id + 1);
+	}
+
+	public void removeMovable(Movable movable) {
+		movablesByID.remove(movable.getID());
+		allMovables.remove(movable);
+	}
+
+	public Movable getMovableByID(int id) {
+		return movablesByID.get(id);
+	}
+
+	public ConcurrentLinkedQueue<Movable> getAllMovables() {
+		return allMovables;
+	}
+
+	public void resetMovables() {
+		allMovables.clear();
+		movablesByID.clear();
+		nextMovableID = Integer.MIN_VALUE;
+	}
+
+	public void addBuilding(Building building) {
+		allBuildings.offer(building);
+	}
+
+	public void removeBuilding(Building building) {
+		allBuildings.remove(building);
+	}
+
+	public ConcurrentLinkedQueue<Building> getAllBuildings() {
+		return allBuildings;
+	}
+
+	public void dropAllBuildings() {
+		allBuildings.clear();
+	}
+}
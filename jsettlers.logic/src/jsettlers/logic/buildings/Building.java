@@ -36,6 +36,7 @@ import jsettlers.common.player.IPlayerable;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.selectable.ESelectionType;
+import jsettlers.logic.GameInstance;
 import jsettlers.logic.buildings.military.Barrack;
 import jsettlers.logic.buildings.military.OccupyingBuilding;
 import jsettlers.logic.buildings.others.DefaultBuilding;
@@ -81,8 +82,6 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 	private static final EPriority[] SUPPORTED_PRIORITIES_FOR_CONSTRUCTION = new EPriority[] { EPriority.LOW, EPriority.HIGH, EPriority.STOPPED };
 	private static final EPriority[] SUPPORTED_PRIORITIES_FOR_NON_WORKERS = new EPriority[0];
 
-	private static final ConcurrentLinkedQueue<Building> allBuildings = new ConcurrentLinkedQueue<Building>();
-
 	private final EBuildingType type;
 
 	private ShortPoint2D pos;
@@ -99,16 +98,21 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 
 	private transient boolean selected;
 
+	private transient GameInstance game;
+
 	protected Building(EBuildingType type, Player player) {
 		this.type = type;
 		this.player = player;
 
-		allBuildings.offer(this);
+		this.game = GameInstance.current();
+		game.addBuilding(this);
+		player.getEconomyStatistic().buildingAdded(type, false);
 	}
 
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
 		ois.defaultReadObject();
-		allBuildings.add(this);
+		game = GameInstance.current();
+		game.addBuilding(this);
 	}
 
 	@Override
@@ -149,7 +153,7 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 	}
 
 	private final void appearAt(IBuildingsGrid grid, ShortPoint2D pos) {
-		this.state = STATE_CONSTRUCTED;
+		setConstructedState();
 
 		boolean itWorked = positionAt(grid, pos);
 
@@ -206,6 +210,7 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		if (couldBePlaced) {
 			this.pos = pos;
 			this.grid = grid;
+			grid.buildingPositioned(this);
 
 			if (getFlagType() == EMapObjectType.FLAG_DOOR) {
 				placeFlag(true);
@@ -346,6 +351,10 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 	}
 
 	public void setPlayer(Player player) {
+		if (state != STATE_DESTROYED) {
+			this.player.getEconomyStatistic().buildingRemoved(type, isConstructionFinished());
+			player.getEconomyStatistic().buildingAdded(type, isConstructionFinished());
+		}
 		this.player = player;
 	}
 
@@ -403,7 +412,7 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		constructionProgress = 1;
 		this.setPriority(EPriority.DEFAULT);
 
-		this.state = STATE_CONSTRUCTED;
+		setConstructedState();
 		if (getFlagType() == EMapObjectType.FLAG_DOOR) { // this building has no worker
 			createWorkStacks();
 		} else {
@@ -413,6 +422,16 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		RescheduleTimer.add(this, timerPeriod);
 	}
 
+	private void setConstructedState() {
+		if (state != STATE_CONSTRUCTED) {
+			player.getEconomyStatistic().buildingConstructed(type);
+			if (grid != null) { // buildings appearing constructed are counted as finished when they are positioned
+				grid.buildingConstructed(this);
+			}
+		}
+		this.state = STATE_CONSTRUCTED;
+	}
+
 	protected abstract int constructionFinishedEvent();
 
 	@Override
@@ -465,7 +484,8 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		}
 
 		releaseRequestStacks();
-		allBuildings.remove(this);
+		game.removeBuilding(this);
+		player.getEconomyStatistic().buildingRemoved(type, isConstructionFinished());
 		this.state = STATE_DESTROYED;
 	}
 
@@ -643,11 +663,11 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 	}
 
 	public static ConcurrentLinkedQueue<Building> getAllBuildings() {
-		return allBuildings;
+		return GameInstance.current().getAllBuildings();
 	}
 
 	public static void dropAllBuildings() {
-		allBuildings.clear();
+		GameInstance.current().dropAllBuildings();
 	}
 
 	@Override
@@ -94,6 +94,22 @@ public interface IBuildingsGrid {
 
 	void removeBuildingAt(ShortPoint2D pos);
 
+	/**
+	 * Adds a building that has been positioned with {@link #setBuilding(ShortPoint2D, Building)} to the building counts of its partition.
+	 * 
+	 * @param building
+	 *            The positioned building.
+	 */
+	void buildingPositioned(Building building);
+
+	/**
+	 * Informs the partition of the given building that its construction has been finished.
+	 * 
+	 * @param building
+	 *            The building that has been constructed.
+	 */
+	void buildingConstructed(Building building);
+
 	void pushMaterialsTo(ShortPoint2D position, EMaterialType type, byte numberOf);
 
 	/**
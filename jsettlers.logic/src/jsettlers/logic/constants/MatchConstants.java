@@ -18,9 +18,11 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
+import jsettlers.logic.GameInstance;
 import jsettlers.network.client.interfaces.IGameClock;
 
 /**
+ * Gives access to the game clock and the random generators of the {@link GameInstance} of the current thread.
  * 
  * @author Andreas Eberle
  * 
@@ -41,37 +43,27 @@ public final class MatchConstants {
 	private MatchConstants() {
 	}
 
-	private static IGameClock clock;
-	private static ExtendedRandom gameRandom;
-	private static ExtendedRandom aiRandom;
-
 	public static void init(IGameClock clock, long randomSeed) {
-		MatchConstants.clock = clock;
-		MatchConstants.gameRandom = new ExtendedRandom(randomSeed);
-		MatchConstants.aiRandom = new ExtendedRandom(randomSeed);
+		GameInstance.current().initMatch(clock, randomSeed);
 	}
 
 	public static IGameClock clock() {
-		return clock;
+		return GameInstance.current().getClock();
 	}
 
 	public static ExtendedRandom random() {
-		return gameRandom;
+		return GameInstance.current().getRandom();
 	}
 
 	public static ExtendedRandom aiRandom() {
-		return aiRandom;
+		return GameInstance.current().getAiRandom();
 	}
 
 	public static void serialize(ObjectOutputStream oos) throws IOException {
-		oos.writeInt(clock.getTime());
-		oos.writeObject(gameRandom);
-		oos.writeObject(aiRandom);
+		GameInstance.current().serializeMatch(oos);
 	}
 
 	public static void deserialize(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		clock.setTime(ois.readInt());
-		gameRandom = (ExtendedRandom) ois.readObject();
-		aiRandom = (ExtendedRandom) ois.readObject();
+		GameInstance.current().deserializeMatch(ois);
 	}
 }
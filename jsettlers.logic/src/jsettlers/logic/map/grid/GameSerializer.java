@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -22,12 +23,18 @@ import jsettlers.common.map.MapLoadException;
 
 /**
  * This class serializes and deserializes the {@link MainGrid} and therefore the complete game state.
+ * <p />
+ * The grid is preceded by a format version, so savegames written with an incompatible format are rejected with a clear error instead of a
+ * failure somewhere in the object graph. Increase {@link #FORMAT_VERSION} when the serialized form of the game state changes incompatibly.
  * 
  * @author Andreas Eberle
  * 
  */
 public class GameSerializer {
 
+	private static final int FORMAT_MAGIC = 0x4A534753; // "JSGS"
+	private static final int FORMAT_VERSION = 1;
+
 	private static final long SAVE_STACK_SIZE = 1024 * 1024; // size of the save thread's stack
 	private static final long LOAD_STACK_SIZE = 1024 * 1024; // size of the load thread's stack
 
@@ -87,6 +94,8 @@ public class GameSerializer {
 		@Override
 		public void run() {
 			try {
+				oos.writeInt(FORMAT_MAGIC);
+				oos.writeInt(FORMAT_VERSION);
 				oos.writeObject(grid);
 			} catch (Throwable t) {
 				t.printStackTrace();
@@ -107,12 +116,27 @@ public class GameSerializer {
 		@Override
 		public void run() {
 			try {
+				checkFormatVersion(ois);
 				grid = (MainGrid) ois.readObject();
 			} catch (Throwable t) {
 				t.printStackTrace();
 				this.exception = t;
 			}
 		}
+
+		private static void checkFormatVersion(ObjectInputStream ois) throws IOException, MapLoadException {
+			int magic;
+			int version;
+			try {
+				magic = ois.readInt();
+				version = ois.readInt();
+			} catch (EOFException e) { // savegames written before the format version start with the grid object
+				throw new MapLoadException("Unsupported savegame format: the savegame has no format version (expected " + FORMAT_VERSION + ")");
+			}
+			if (magic != FORMAT_MAGIC || version != FORMAT_VERSION) {
+				throw new MapLoadException("Unsupported savegame format version: " + version + " (expected " + FORMAT_VERSION + ")");
+			}
+		}
 	}
 
 }
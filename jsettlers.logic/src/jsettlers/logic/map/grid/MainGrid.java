@@ -14,17 +14,19 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.BitSet;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jsettlers.algorithms.borders.BordersThread;
 import jsettlers.algorithms.borders.IBordersThreadGrid;
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
+import jsettlers.algorithms.construction.IConstructionChangedListener;
 import jsettlers.algorithms.fogofwar.FogOfWar;
 import jsettlers.algorithms.fogofwar.IFogOfWarGrid;
 import jsettlers.algorithms.fogofwar.IViewDistancable;
@@ -34,11 +36,14 @@ import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.path.area.IInAreaFinderMap;
 import jsettlers.algorithms.path.area.InAreaFinder;
+import jsettlers.algorithms.path.cache.CachingAStar;
+import jsettlers.algorithms.path.cache.RecordingPathMap;
 import jsettlers.algorithms.path.astar.AbstractAStar;
 import jsettlers.algorithms.path.astar.BucketQueueAStar;
 import jsettlers.algorithms.path.astar.IAStarPathMap;
 import jsettlers.algorithms.path.dijkstra.DijkstraAlgorithm;
 import jsettlers.algorithms.path.dijkstra.IDijkstraPathMap;
+import jsettlers.algorithms.path.hierarchical.HierarchicalAStar;
 import jsettlers.algorithms.previewimage.PreviewImageCreator;
 import jsettlers.common.Color;
 import jsettlers.common.buildings.BuildingAreaBitSet;
@@ -48,6 +53,7 @@ import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.landscape.EResourceType;
 import jsettlers.common.map.EDebugColorModes;
 import jsettlers.common.map.IGraphicsBackgroundListener;
+import jsettlers.common.map.IGraphicsChangeListener;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.map.IMapData;
 import jsettlers.common.map.object.BuildingObject;
@@ -85,7 +91,9 @@ import jsettlers.logic.buildings.workers.WorkerBuilding;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.flags.FlagsGrid;
+import jsettlers.logic.map.grid.flags.IBlockingChangedListener;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
+import jsettlers.logic.map.grid.movable.AttackablesIndex;
 import jsettlers.logic.map.grid.movable.MovableGrid;
 import jsettlers.logic.map.grid.objects.AbstractHexMapObject;
 import jsettlers.logic.map.grid.objects.IMapObjectsManagerGrid;
@@ -103,12 +111,15 @@ import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IDigger
 import jsettlers.logic.map.grid.partition.manager.materials.requests.MaterialRequestObject;
 import jsettlers.logic.map.save.MapFileHeader;
 import jsettlers.logic.map.save.MapFileHeader.MapType;
+import jsettlers.logic.map.save.ISaveListener;
 import jsettlers.logic.map.save.MapList;
 import jsettlers.logic.movable.Movable;
+import jsettlers.logic.movable.MovableStrategy;
 import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.objects.arrow.ArrowObject;
 import jsettlers.logic.objects.stack.StackMapObject;
+import jsettlers.logic.player.EconomyStatistic;
 import jsettlers.logic.player.Player;
 import jsettlers.logic.player.PlayerSetting;
 import jsettlers.logic.stack.IRequestsStackGrid;
@@ -143,6 +154,8 @@ public final class MainGrid implements Serializable {
 	transient BordersThread bordersThread;
 	transient IGuiInputGrid guiInputGrid;
 	private transient IEnclosedBlockedAreaFinderGrid enclosedBlockedAreaFinderGrid;
+	private transient List<IGridChangedListener> gridChangedListeners;
+	private transient volatile IConstructionChangedListener constructionChangedListener;
 
 	public MainGrid(String mapId, String mapName, short width, short height, byte numberOfPlayers) {
 		this.mapId = mapId;
@@ -180,7 +193,49 @@ public final class MainGrid implements Serializable {
 		this.guiInputGrid = new GuiInputGrid();
 
 		this.partitionsGrid.setPlayerChangedListener(new PlayerChangedListener());
+		this.flagsGrid.setTransientBlockingChangedListener(new PathfindingBlockingChangedListener());
 		this.enclosedBlockedAreaFinderGrid = new EnclosedBlockedAreaFinderGrid();
+		this.gridChangedListeners = new CopyOnWriteArrayList<IGridChangedListener>();
+	}
+
+	/**
+	 * Adds the given listener. The listener will then be informed of the changes of the positions of this grid.
+	 * 
+	 * @param listener
+	 *            The listener to be added.
+	 */
+	public void addGridChangedListener(IGridChangedListener listener) {
+		gridChangedListeners.add(listener);
+	}
+
+	private void notifyPositionChanged(int x, int y) {
+		for (IGridChangedListener listener : gridChangedListeners) {
+			listener.positionChangedAt(x, y);
+		}
+		notifyConstructionChanged(x, y);
+		notifyGraphicsChanged(x, y);
+	}
+
+	private void notifyPlayerChanged(int x, int y) {
+		for (IGridChangedListener listener : gridChangedListeners) {
+			listener.playerChangedAt(x, y);
+		}
+		notifyConstructionChanged(x, y);
+		notifyGraphicsChanged(x, y);
+	}
+
+	private void notifyConstructionChanged(int x, int y) {
+		IConstructionChangedListener listener = constructionChangedListener;
+		if (listener != null) {
+			listener.positionChangedAt(x, y);
+		}
+	}
+
+	private void notifyGraphicsChanged(int x, int y) {
+		IGraphicsChangeListener changeListener = graphicsGrid.changeListener;
+		if (changeListener != null) {
+			changeListener.regionChanged(x, y, x, y);
+		}
 	}
 
 	public final short getHeight() {
@@ -203,6 +258,28 @@ public final class MainGrid implements Serializable {
 		ois.defaultReadObject();
 		initAdditional();
 		this.bordersThread.checkArea(0, 0, width, height);
+		recountEconomyStatistics();
+	}
+
+	/**
+	 * Recounts the {@link EconomyStatistic}s of all players. They are not serialized, because they can be derived from the loaded buildings and
+	 * movables. The tests use this to check the counters that are updated incrementally during the game.
+	 */
+	void recountEconomyStatistics() {
+		for (byte playerId = 0; playerId < partitionsGrid.getNumberOfPlayers(); playerId++) {
+			partitionsGrid.getPlayer(playerId).getEconomyStatistic().clear();
+		}
+
+		for (Building building : Building.getAllBuildings()) {
+			building.getPlayer().getEconomyStatistic().buildingAdded(building.getBuildingType(), building.isConstructionFinished());
+		}
+		for (Movable movable : Movable.getAllMovables()) {
+			EconomyStatistic economyStatistic = movable.getPlayer().getEconomyStatistic();
+			economyStatistic.movableAdded(movable.getMovableType());
+			if (movable.isJobless()) {
+				economyStatistic.joblessChanged(movable.getMovableType(), +1);
+			}
+		}
 	}
 
 	public void startThreads() {
@@ -368,6 +445,13 @@ public final class MainGrid implements Serializable {
 		return movablePathfinderGrid.pathfinderGrid;
 	}
 
+	/**
+	 * @return Returns the cache of the paths calculated for the movables. It can be used to query the hit and miss counters.
+	 */
+	public CachingAStar getPathCache() {
+		return movablePathfinderGrid.aStar;
+	}
+
 	public final boolean isInBounds(int x, int y) {
 		return x >= 0 && x < width && y >= 0 && y < height;
 	}
@@ -397,7 +481,10 @@ public final class MainGrid implements Serializable {
 		if (fullyConstructed) {
 			byte buildingHeight = landscapeGrid.getHeightAt(position.x, position.y);
 			for (RelativePoint curr : building.getFlattenTiles()) {
-				landscapeGrid.flattenAndChangeHeightTowards(curr.getDx() + position.x, curr.getDy() + position.y, buildingHeight);
+				int x = curr.getDx() + position.x;
+				int y = curr.getDy() + position.y;
+				landscapeGrid.flattenAndChangeHeightTowards(x, y, buildingHeight);
+				notifyPositionChanged(x, y);
 			}
 		}
 
@@ -413,6 +500,15 @@ public final class MainGrid implements Serializable {
 			}
 		}
 		landscapeGrid.setLandscapeTypeAt(x, y, newType);
+		notifyPositionChanged(x, y);
+	}
+
+	private boolean takeResource(ShortPoint2D position, EResourceType resource) {
+		boolean taken = landscapeGrid.tryTakingResource(position, resource);
+		if (taken) {
+			notifyPositionChanged(position.x, position.y);
+		}
+		return taken;
 	}
 
 	final void checkPositionThatChangedPlayer(ShortPoint2D position) {
@@ -663,6 +759,7 @@ public final class MainGrid implements Serializable {
 
 	final class GraphicsGrid implements IGraphicsGrid {
 		private transient BitSet bordersGrid = new BitSet(width * height);
+		private volatile IGraphicsChangeListener changeListener;
 
 		@Override
 		public final short getHeight() {
@@ -750,6 +847,11 @@ public final class MainGrid implements Serializable {
 			landscapeGrid.setBackgroundListener(backgroundListener);
 		}
 
+		@Override
+		public final void setChangeListener(IGraphicsChangeListener changeListener) {
+			this.changeListener = changeListener;
+		}
+
 		@Override
 		public int nextDrawableX(int x, int y, int maxX) {
 			return x + 1;
@@ -781,12 +883,16 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final AbstractHexMapObject removeMapObjectType(int x, int y, EMapObjectType mapObjectType) {
-			return objectsGrid.removeMapObjectType(x, y, mapObjectType);
+			AbstractHexMapObject removed = objectsGrid.removeMapObjectType(x, y, mapObjectType);
+			notifyPositionChanged(x, y);
+			return removed;
 		}
 
 		@Override
 		public final boolean removeMapObject(int x, int y, AbstractHexMapObject mapObject) {
-			return objectsGrid.removeMapObject(x, y, mapObject);
+			boolean removed = objectsGrid.removeMapObject(x, y, mapObject);
+			notifyPositionChanged(x, y);
+			return removed;
 		}
 
 		@Override
@@ -802,6 +908,12 @@ public final class MainGrid implements Serializable {
 		@Override
 		public final void addMapObject(int x, int y, AbstractHexMapObject mapObject) {
 			objectsGrid.addMapObjectAt(x, y, mapObject);
+			notifyPositionChanged(x, y);
+		}
+
+		@Override
+		public final void mapObjectChangedAt(int x, int y) {
+			notifyPositionChanged(x, y);
 		}
 
 		@Override
@@ -822,6 +934,7 @@ public final class MainGrid implements Serializable {
 		@Override
 		public final void setProtected(int x, int y, boolean protect) {
 			flagsGrid.setProtected(x, y, protect);
+			notifyConstructionChanged(x, y);
 		}
 
 		@Override
@@ -1000,6 +1113,16 @@ public final class MainGrid implements Serializable {
 			return partitionsGrid.getPartitionIdAt(x, y);
 		}
 
+		@Override
+		public void setConstructionChangedListener(IConstructionChangedListener listener) {
+			constructionChangedListener = listener;
+		}
+
+		@Override
+		public int getPartitionsVersion() {
+			return partitionsGrid.getStructureVersion();
+		}
+
 		@Override
 		public boolean canPlayerConstructOnPartition(byte playerId, short partitionId) {
 			return (playerId == 0 && MatchConstants.ENABLE_ALL_PLAYER_SELECTION && !partitionsGrid.isDefaultPartition(partitionId))
@@ -1018,9 +1141,11 @@ public final class MainGrid implements Serializable {
 
 		private transient PathfinderGrid pathfinderGrid;
 
-		private transient AbstractAStar aStar;
+		private transient HierarchicalAStar hierarchicalAStar;
+		private transient CachingAStar aStar;
 		transient DijkstraAlgorithm dijkstra; // not private, because it's used by BuildingsGrid
 		private transient InAreaFinder inAreaFinder;
+		private transient EnemyFinder enemyFinder;
 
 		public MovablePathfinderGrid() {
 			initPathfinders();
@@ -1034,9 +1159,25 @@ public final class MainGrid implements Serializable {
 		private final void initPathfinders() {
 			pathfinderGrid = new PathfinderGrid();
 
-			aStar = new BucketQueueAStar(pathfinderGrid, width, height);
-			dijkstra = new DijkstraAlgorithm(pathfinderGrid, aStar, width, height);
+			RecordingPathMap recordingPathMap = new RecordingPathMap(pathfinderGrid, width, height);
+			AbstractAStar flatAStar = new BucketQueueAStar(recordingPathMap, width, height);
+			hierarchicalAStar = new HierarchicalAStar(recordingPathMap, flatAStar, width, height);
+			hierarchicalAStar.setClusterUsageListener(recordingPathMap);
+			aStar = new CachingAStar(recordingPathMap, hierarchicalAStar, width, height);
+			dijkstra = new DijkstraAlgorithm(pathfinderGrid, flatAStar, width, height);
 			inAreaFinder = new InAreaFinder(pathfinderGrid, width, height);
+			enemyFinder = new EnemyFinder();
+		}
+
+		/**
+		 * Informs the path finding algorithms that the blocking of the given position changed.
+		 * 
+		 * @param x
+		 * @param y
+		 */
+		final void invalidatePathfinding(int x, int y) {
+			hierarchicalAStar.invalidatePosition(x, y);
+			aStar.invalidatePosition(x, y);
 		}
 
 		@Override
@@ -1101,6 +1242,11 @@ public final class MainGrid implements Serializable {
 			partitionsGrid.getPartitionAt(bearer).removeJobless(bearer);
 		}
 
+		@Override
+		public void positionChanged(MovableStrategy strategy, ShortPoint2D oldPosition) {
+			partitionsGrid.getPartitionAt(oldPosition.x, oldPosition.y).joblessPositionChanged(strategy, oldPosition);
+		}
+
 		@Override
 		public void addJobless(IManageableWorker worker) {
 			partitionsGrid.getPartitionAt(worker).addJobless(worker);
@@ -1213,6 +1359,7 @@ public final class MainGrid implements Serializable {
 		@Override
 		public void changeHeightTowards(short x, short y, byte targetHeight) {
 			landscapeGrid.flattenAndChangeHeightTowards(x, y, targetHeight);
+			notifyPositionChanged(x, y);
 			objectsGrid.removeMapObjectType(x, y, EMapObjectType.CORN_ADULT);
 			objectsGrid.removeMapObjectType(x, y, EMapObjectType.CORN_DEAD);
 			objectsGrid.removeMapObjectType(x, y, EMapObjectType.CORN_GROWING);
@@ -1234,11 +1381,13 @@ public final class MainGrid implements Serializable {
 		@Override
 		public void leavePosition(ShortPoint2D position, Movable movable) {
 			movableGrid.movableLeft(position, movable);
+			notifyGraphicsChanged(position.x, position.y);
 		}
 
 		@Override
 		public void enterPosition(ShortPoint2D position, Movable movable, boolean informFullArea) {
 			movableGrid.movableEntered(position, movable);
+			notifyGraphicsChanged(position.x, position.y);
 
 			if (movable.isAttackable()) {
 				movableGrid.informMovables(movable, position.x, position.y, informFullArea);
@@ -1305,34 +1454,49 @@ public final class MainGrid implements Serializable {
 				final short maxSearchRadius, final boolean includeTowers) {
 			boolean isBowman = EMovableType.isBowman(searchingAttackable.getMovableType());
 
-			IAttackable enemy = getEnemyInSearchArea(searchingAttackable.getPlayerId(), new HexGridArea(position.x, position.y, minSearchRadius,
-					maxSearchRadius), isBowman, includeTowers);
+			IAttackable enemy = getEnemyInSearchArea(searchingAttackable.getPlayerId(), position, minSearchRadius, maxSearchRadius, includeTowers
+					&& !isBowman);
 			if (includeTowers && !isBowman && enemy == null) {
-				enemy = getEnemyInSearchArea(searchingAttackable.getPlayerId(), new HexGridArea(position.x, position.y, maxSearchRadius,
-						Constants.TOWER_SEARCH_RADIUS), isBowman, true);
+				enemy = getEnemyInSearchArea(searchingAttackable.getPlayerId(), position, maxSearchRadius, Constants.TOWER_SEARCH_RADIUS, true);
 			}
 
 			return enemy;
 		}
 
-		private IAttackable getEnemyInSearchArea(byte searchingPlayer, HexGridArea area, boolean isBowman, boolean includeTowers) {
-			for (ShortPoint2D curr : area) {
-				short x = curr.x;
-				short y = curr.y;
+		private IAttackable getEnemyInSearchArea(byte searchingPlayer, ShortPoint2D center, int minSearchRadius, int maxSearchRadius,
+				boolean includeTowers) {
+			EnemyFinder finder = enemyFinder;
+			finder.searchingPlayer = searchingPlayer;
 
-				if (0 <= x && x < width && 0 <= y && y < height) {
-					IAttackable currAttackable = movableGrid.getMovableAt(x, y);
-					if (includeTowers && !isBowman && currAttackable == null) {
-						currAttackable = (IAttackable) objectsGrid.getMapObjectAt(x, y, EMapObjectType.ATTACKABLE_TOWER);
-					}
+			finder.searchingTowers = false;
+			movableGrid.visitMovables(center.x, center.y, minSearchRadius, maxSearchRadius, searchingPlayer, finder);
+			if (includeTowers) {
+				finder.searchingTowers = true;
+				objectsGrid.visitAttackableTowers(center.x, center.y, minSearchRadius, maxSearchRadius, searchingPlayer, finder);
+			}
 
-					if (currAttackable != null && MovableGrid.isEnemy(searchingPlayer, currAttackable)) {
-						return currAttackable;
-					}
+			IAttackable enemy = finder.closestEnemy;
+			finder.closestEnemy = null;
+			return enemy;
+		}
+
+		/**
+		 * Finds the enemy closest to the search center. A tower is only found if no movable stands on its position.
+		 */
+		private final class EnemyFinder implements AttackablesIndex.IVisitor<IAttackable> {
+			private byte searchingPlayer;
+			private boolean searchingTowers;
+			private IAttackable closestEnemy;
+			private int closestOrdinal;
+
+			@Override
+			public void visit(IAttackable attackable, int x, int y, int ordinal) {
+				if ((closestEnemy == null || ordinal < closestOrdinal) && MovableGrid.isEnemy(searchingPlayer, attackable)
+						&& (!searchingTowers || movableGrid.hasNoMovableAt(x, y))) {
+					closestEnemy = attackable;
+					closestOrdinal = ordinal;
 				}
 			}
-
-			return null;
 		}
 
 		@Override
@@ -1387,11 +1551,21 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public boolean tryTakingRecource(ShortPoint2D position, EResourceType resource) {
-			return landscapeGrid.tryTakingResource(position, resource);
+			return takeResource(position, resource);
 		}
 	}
 
 	final class BordersThreadGrid implements IBordersThreadGrid {
+		@Override
+		public final short getWidth() {
+			return width;
+		}
+
+		@Override
+		public final short getHeight() {
+			return height;
+		}
+
 		@Override
 		public final byte getPlayerIdAt(short x, short y) {
 			return partitionsGrid.getPlayerIdAt(x, y);
@@ -1399,7 +1573,11 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final void setBorderAt(short x, short y, boolean isBorder) {
-			graphicsGrid.bordersGrid.set(x + y * width, isBorder);
+			int index = x + y * width;
+			if (graphicsGrid.bordersGrid.get(index) != isBorder) {
+				graphicsGrid.bordersGrid.set(index, isBorder);
+				notifyGraphicsChanged(x, y);
+			}
 		}
 
 		@Override
@@ -1451,6 +1629,7 @@ public final class MainGrid implements Serializable {
 		private final void setProtectedState(FreeMapArea area, boolean setProtected) {
 			for (ShortPoint2D curr : area) {
 				flagsGrid.setProtected(curr.x, curr.y, setProtected);
+				notifyConstructionChanged(curr.x, curr.y);
 			}
 		}
 
@@ -1468,8 +1647,9 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final void removeBuildingAt(ShortPoint2D pos) {
-			IBuilding building = (IBuilding) objectsGrid.getMapObjectAt(pos.x, pos.y, EMapObjectType.BUILDING);
+			Building building = (Building) objectsGrid.getMapObjectAt(pos.x, pos.y, EMapObjectType.BUILDING);
 			mapObjectsManager.removeMapObjectType(pos.x, pos.y, EMapObjectType.BUILDING);
+			partitionsGrid.getPartitionAt(pos.x, pos.y).removeBuilding(building);
 
 			FreeMapArea area = new FreeMapArea(pos, building.getBuildingType().getProtectedTiles());
 			objectsGrid.setBuildingArea(area, null);
@@ -1481,10 +1661,23 @@ public final class MainGrid implements Serializable {
 					StackMapObject stack = (StackMapObject) objectsGrid.getMapObjectAt(x, y, EMapObjectType.STACK_OBJECT);
 					// if there is a stack, the position must stay protected
 					flagsGrid.setBlockedAndProtected(x, y, false, stack != null);
+					notifyConstructionChanged(x, y);
 				}
 			}
 		}
 
+		@Override
+		public final void buildingPositioned(Building building) {
+			ShortPoint2D pos = building.getPos();
+			partitionsGrid.getPartitionAt(pos.x, pos.y).addBuilding(building);
+		}
+
+		@Override
+		public final void buildingConstructed(Building building) {
+			ShortPoint2D pos = building.getPos();
+			partitionsGrid.getPartitionAt(pos.x, pos.y).buildingConstructed(building);
+		}
+
 		@Override
 		public final void setBlocked(FreeMapArea area, boolean blocked) {
 			for (ShortPoint2D curr : area) {
@@ -1675,7 +1868,7 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public boolean tryTakingResource(ShortPoint2D position, EResourceType resource) {
-			return landscapeGrid.tryTakingResource(position, resource);
+			return takeResource(position, resource);
 		}
 
 		@Override
@@ -1738,19 +1931,9 @@ public final class MainGrid implements Serializable {
 		}
 
 		@Override
-		public final void save(PlayerState[] playerStates) throws FileNotFoundException, IOException, InterruptedException {
-			boolean savedPausingState = MatchConstants.clock().isPausing();
-			MatchConstants.clock().setPausing(true);
-			try {
-				Thread.sleep(300); // FIXME @Andreas serializer should wait until threads did their work!
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
-
-			MapList list = MapList.getDefaultList();
-			list.saveMap(playerStates, MainGrid.this);
-
-			MatchConstants.clock().setPausing(savedPausingState);
+		public final void save(PlayerState[] playerStates, ISaveListener listener) throws IOException {
+			// this is called by the game clock's thread during a lockstep, so the game does not proceed while the snapshot is taken.
+			MapList.getDefaultList().saveMapInBackground(playerStates, MainGrid.this, listener);
 		}
 
 		@Override
@@ -1823,6 +2006,23 @@ public final class MainGrid implements Serializable {
 		}
 	}
 
+	/**
+	 * Informs the path finding about blocking changes, so it can repair its abstract graph. Positions getting unblocked are also reported to the
+	 * {@link IGridChangedListener}, because they leave the blocked partition of their player.
+	 */
+	final class PathfindingBlockingChangedListener implements IBlockingChangedListener {
+		@Override
+		public void blockingChanged(int x, int y, boolean newBlockingValue) {
+			movablePathfinderGrid.invalidatePathfinding(x, y);
+			if (!newBlockingValue) {
+				notifyPositionChanged(x, y);
+			} else {
+				notifyConstructionChanged(x, y);
+				notifyGraphicsChanged(x, y);
+			}
+		}
+	}
+
 	/**
 	 * This class implements the {@link IPlayerChangedListener} interface and executes all work that needs to be done when a position of the grid
 	 * changes it's player.
@@ -1834,8 +2034,9 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public void playerChangedAt(int x, int y, byte newPlayerId) {
-			final ShortPoint2D position = new ShortPoint2D(x, y);
-			bordersThread.checkPosition(position);
+			bordersThread.checkPosition(x, y);
+			movablePathfinderGrid.invalidatePathfinding(x, y);
+			notifyPlayerChanged(x, y);
 
 			Building building = objectsGrid.getBuildingAt(x, y);
 			if (building != null && building.getPlayerId() != newPlayerId) {
@@ -1864,6 +2065,14 @@ public final class MainGrid implements Serializable {
 		public final ConcurrentLinkedQueue<? extends IViewDistancable> getBuildingViewDistancables() {
 			return Building.getAllBuildings();
 		}
+
+		@Override
+		public final void visibleStatusChanged(int minX, int minY, int maxX, int maxY) {
+			IGraphicsChangeListener changeListener = graphicsGrid.changeListener;
+			if (changeListener != null) {
+				changeListener.regionChanged(minX, minY, maxX, maxY);
+			}
+		}
 	}
 
 }
@@ -40,6 +40,7 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IPartit
 
 	private IBlockingChangedListener blockingChangedListener = null;
 	private IProtectedChangedListener protectedChangedListener = null;
+	private transient IBlockingChangedListener transientBlockingChangedListener = null;
 
 	private transient IContainingProvider blockedContainingProvider;
 
@@ -107,6 +108,9 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IPartit
 		if (blockingChangedListener != null && oldBlocked != newBlocked) {
 			this.blockedGrid.set(idx, newBlocked);
 			this.blockingChangedListener.blockingChanged(x, y, newBlocked);
+			if (transientBlockingChangedListener != null) {
+				transientBlockingChangedListener.blockingChanged(x, y, newBlocked);
+			}
 		}
 		if (protectedChangedListener != null && oldProtected != newProtected) {
 			this.protectedGrid.set(idx, newProtected);
@@ -140,6 +144,16 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IPartit
 		this.blockingChangedListener = listener;
 	}
 
+	/**
+	 * Sets a listener that is informed about blocking changes after the listener registered with
+	 * {@link #registerBlockingChangedListener(IBlockingChangedListener)}. In contrast to that listener, this one is not serialized with the grid.
+	 * 
+	 * @param listener
+	 */
+	public void setTransientBlockingChangedListener(IBlockingChangedListener listener) {
+		this.transientBlockingChangedListener = listener;
+	}
+
 	@Override
 	public void setProtectedChangedListener(IProtectedChangedListener protectedChangedListener) {
 		this.protectedChangedListener = protectedChangedListener;
@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.movable;
+
+import jsettlers.common.map.shapes.HexGridArea;
+import jsettlers.common.map.shapes.HexGridArea.HexGridAreaIterator;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.Constants;
+
+/**
+ * Spatial index of objects that need to be found in the search radius of soldiers and towers. The objects are stored in buckets of
+ * {@link #BUCKET_SIZE}x{@link #BUCKET_SIZE} positions separately for every player, so that a search only needs to look at the buckets of the
+ * enemy players overlapping the search area.
+ * <p />
+ * The objects are reported together with their ordinal in the order a {@link HexGridArea} around the search center iterates over the positions.
+ * This allows the callers to keep the closest first semantics of the former searches over {@link HexGridArea}s. Searches do not allocate any
+ * memory.
+ * <p />
+ * This class is not thread safe. It must only be accessed by the thread executing the game logic.
+ * 
+ * 
+ * @param <T>
+ *            Type of the indexed objects.
+ */
+public final class AttackablesIndex<T> {
+	private static final int BUCKET_SIZE_SHIFT = 4;
+	static final int BUCKET_SIZE = 1 << BUCKET_SIZE_SHIFT;
+
+	/**
+	 * The maximum radius that can be searched.
+	 */
+	public static final int MAX_SEARCH_RADIUS = Math.max(Constants.TOWER_SEARCH_RADIUS, Constants.SOLDIER_SEARCH_RADIUS);
+	private static final int ORDINALS_LINE_LENGTH = 2 * MAX_SEARCH_RADIUS + 1;
+	private static final int[] RADIUS_OF_OFFSET = new int[ORDINALS_LINE_LENGTH * ORDINALS_LINE_LENGTH];
+	private static final int[] ORDINAL_OF_OFFSET = new int[ORDINALS_LINE_LENGTH * ORDINALS_LINE_LENGTH];
+
+	static {
+		for (int i = 0; i < RADIUS_OF_OFFSET.length; i++) {
+			RADIUS_OF_OFFSET[i] = Integer.MAX_VALUE;
+		}
+
+		HexGridAreaIterator iterator = new HexGridArea(0, 0, 0, MAX_SEARCH_RADIUS).iterator();
+		int ordinal = 0;
+		while (iterator.hasNext()) {
+			int radius = iterator.getRadiusOfNext();
+			ShortPoint2D offset = iterator.next();
+			int index = getOffsetIndex(offset.x, offset.y);
+			RADIUS_OF_OFFSET[index] = radius;
+			ORDINAL_OF_OFFSET[index] = ordinal++;
+		}
+	}
+
+	/**
+	 * Visitor for the objects found by {@link AttackablesIndex#visit(int, int, int, int, byte, IVisitor)}.
+	 * 
+	 * 
+	 * @param <T>
+	 *            Type of the indexed objects.
+	 */
+	public interface IVisitor<T> {
+		/**
+		 * Called for every object in the searched area. The visitor must not modify the index.
+		 * 
+		 * @param object
+		 *            The found object.
+		 * @param x
+		 *            x coordinate of the object.
+		 * @param y
+		 *            y coordinate of the object.
+		 * @param ordinal
+		 *            The ordinal of the object's position in the iteration order of a {@link HexGridArea} around the search center. Smaller
+		 *            ordinals are closer to the center.
+		 */
+		void visit(T object, int x, int y, int ordinal);
+	}
+
+	private final short width;
+	private final short height;
+	private final int bucketsPerLine;
+	private final int numberOfBuckets;
+
+	/**
+	 * The buckets indexed by player and bucket index. Both dimensions are allocated lazily.
+	 */
+	private Bucket[][] buckets = new Bucket[0][];
+
+	public AttackablesIndex(short width, short height) {
+		this.width = width;
+		this.height = height;
+		this.bucketsPerLine = (width + BUCKET_SIZE - 1) >> BUCKET_SIZE_SHIFT;
+		this.numberOfBuckets = bucketsPerLine * ((height + BUCKET_SIZE - 1) >> BUCKET_SIZE_SHIFT);
+	}
+
+	/**
+	 * Adds the given object to the index.
+	 * 
+	 * @param x
+	 *            x coordinate of the object.
+	 * @param y
+	 *            y coordinate of the object.
+	 * @param player
+	 *            The player of the object.
+	 * @param object
+	 *            The object to be added.
+	 */
+	public void add(int x, int y, byte player, T object) {
+		if (player >= buckets.length) {
+			Bucket[][] newBuckets = new Bucket[player + 1][];
+			System.arraycopy(buckets, 0, newBuckets, 0, buckets.length);
+			buckets = newBuckets;
+		}
+		if (buckets[player] == null) {
+			buckets[player] = new Bucket[numberOfBuckets];
+		}
+
+		int bucketIndex = getBucketIndex(x, y);
+		Bucket bucket = buckets[player][bucketIndex];
+		if (bucket == null) {
+			bucket = new Bucket();
+			buckets[player][bucketIndex] = bucket;
+		}
+		bucket.add(x + y * width, object);
+	}
+
+	/**
+	 * Removes the given object from the index. The coordinates and player must be the ones used to add the object.
+	 * 
+	 * @param x
+	 *            x coordinate of the object.
+	 * @param y
+	 *            y coordinate of the object.
+	 * @param player
+	 *            The player of the object.
+	 * @param object
+	 *            The object to be removed.
+	 * @return true if the object has been found and removed.
+	 */
+	public boolean remove(int x, int y, byte player, T object) {
+		if (player < 0 || player >= buckets.length || buckets[player] == null) {
+			return false;
+		}
+
+		Bucket bucket = buckets[player][getBucketIndex(x, y)];
+		return bucket != null && bucket.remove(x + y * width, object);
+	}
+
+	/**
+	 * Visits all objects on positions with a radius between minRadius and maxRadius (both inclusive) around the given center.
+	 * 
+	 * @param centerX
+	 *            x coordinate of the center.
+	 * @param centerY
+	 *            y coordinate of the center.
+	 * @param minRadius
+	 *            The inclusive minimum radius.
+	 * @param maxRadius
+	 *            The inclusive maximum radius. Must not be larger than {@link #MAX_SEARCH_RADIUS}.
+	 * @param excludedPlayer
+	 *            The objects of this player are skipped. If -1, the objects of all players are visited.
+	 * @param visitor
+	 *            The visitor to be called for every found object.
+	 */
+	@SuppressWarnings("unchecked")
+	public void visit(int centerX, int centerY, int minRadius, int maxRadius, byte excludedPlayer, IVisitor<? super T> visitor) {
+		if (maxRadius > MAX_SEARCH_RADIUS) {
+			throw new IllegalArgumentException("The search radius " + maxRadius + " is larger than " + MAX_SEARCH_RADIUS);
+		}
+
+		int fromBucketX = Math.max(0, centerX - maxRadius) >> BUCKET_SIZE_SHIFT;
+		int toBucketX = Math.min(width - 1, centerX + maxRadius) >> BUCKET_SIZE_SHIFT;
+		int fromBucketY = Math.max(0, centerY - maxRadius) >> BUCKET_SIZE_SHIFT;
+		int toBucketY = Math.min(height - 1, centerY + maxRadius) >> BUCKET_SIZE_SHIFT;
+
+		for (int player = 0; player < buckets.length; player++) {
+			Bucket[] playerBuckets = buckets[player];
+			if (player == excludedPlayer || playerBuckets == null) {
+				continue;
+			}
+
+			for (int bucketY = fromBucketY; bucketY <= toBucketY; bucketY++) {
+				for (int bucketX = fromBucketX; bucketX <= toBucketX; bucketX++) {
+					Bucket bucket = playerBuckets[bucketX + bucketY * bucketsPerLine];
+					if (bucket == null) {
+						continue;
+					}
+
+					for (int i = 0; i < bucket.size; i++) {
+						int position = bucket.positions[i];
+						int x = position % width;
+						int y = position / width;
+						int dx = x - centerX;
+						int dy = y - centerY;
+
+						if (dx < -maxRadius || dx > maxRadius || dy < -maxRadius || dy > maxRadius) {
+							continue;
+						}
+
+						int offsetIndex = getOffsetIndex(dx, dy);
+						int radius = RADIUS_OF_OFFSET[offsetIndex];
+						if (minRadius <= radius && radius <= maxRadius) {
+							visitor.visit((T) bucket.objects[i], x, y, ORDINAL_OF_OFFSET[offsetIndex]);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the ordinal of the given offset in the iteration order of a {@link HexGridArea} with start radius 0.
+	 * 
+	 * @param dx
+	 *            x offset from the center.
+	 * @param dy
+	 *            y offset from the center.
+	 * @return The ordinal or -1 if the offset is farther away than {@link #MAX_SEARCH_RADIUS}.
+	 */
+	static int getOrdinal(int dx, int dy) {
+		if (dx < -MAX_SEARCH_RADIUS || dx > MAX_SEARCH_RADIUS || dy < -MAX_SEARCH_RADIUS || dy > MAX_SEARCH_RADIUS) {
+			return -1;
+		}
+		int offsetIndex = getOffsetIndex(dx, dy);
+		return RADIUS_OF_OFFSET[offsetIndex] == Integer.MAX_VALUE ? -1 : ORDINAL_OF_OFFSET[offsetIndex];
+	}
+
+	private static int getOffsetIndex(int dx, int dy) {
+		return (dx + MAX_SEARCH_RADIUS) + (dy + MAX_SEARCH_RADIUS) * ORDINALS_LINE_LENGTH;
+	}
+
+	private int getBucketIndex(int x, int y) {
+		return (x >> BUCKET_SIZE_SHIFT) + (y >> BUCKET_SIZE_SHIFT) * bucketsPerLine;
+	}
+
+	/**
+	 * The objects of one player in one bucket.
+	 */
+	private static final class Bucket {
+		private int[] positions = new int[4];
+		private Object[] objects = new Object[4];
+		private int size;
+
+		void add(int position, Object object) {
+			if (size == positions.length) {
+				int[] newPositions = new int[size * 2];
+				Object[] newObjects = new Object[size * 2];
+				System.arraycopy(positions, 0, newPositions, 0, size);
+				System.arraycopy(objects, 0, newObjects, 0, size);
+				positions = newPositions;
+				objects = newObjects;
+			}
+			positions[size] = position;
+			objects[size] = object;
+			size++;
+		}
+
+		boolean remove(int position, Object object) {
+			for (int i = 0; i < size; i++) {
+				if (objects[i] == object && positions[i] == position) {
+					size--;
+					positions[i] = positions[size];
+					objects[i] = objects[size];
+					objects[size] = null;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
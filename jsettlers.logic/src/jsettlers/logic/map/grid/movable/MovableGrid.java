@@ -19,9 +19,6 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
-import jsettlers.common.map.shapes.HexBorderArea;
-import jsettlers.common.map.shapes.HexGridArea;
-import jsettlers.common.map.shapes.IMapArea;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.movable.IMovable;
 import jsettlers.common.position.ShortPoint2D;
@@ -40,6 +37,8 @@ public final class MovableGrid implements Serializable {
 	private static final long serialVersionUID = 7003522358013103962L;
 
 	private transient Movable[] movableGrid;
+	private transient AttackablesIndex<Movable> movablesIndex;
+	private transient MovablesInformer movablesInformer;
 	private final IWalkableGround ground;
 	private final short width;
 
@@ -50,6 +49,19 @@ public final class MovableGrid implements Serializable {
 		this.height = height;
 		this.ground = ground;
 		this.movableGrid = new Movable[width * height];
+		initAdditional();
+	}
+
+	private void initAdditional() {
+		this.movablesIndex = new AttackablesIndex<Movable>(width, height);
+		this.movablesInformer = new MovablesInformer();
+
+		for (int idx = 0; idx < movableGrid.length; idx++) {
+			Movable movable = movableGrid[idx];
+			if (movable != null) {
+				movablesIndex.add(idx % width, idx / width, movable.getPlayerId(), movable);
+			}
+		}
 	}
 
 	private void writeObject(ObjectOutputStream oos) throws IOException {
@@ -60,6 +72,7 @@ public final class MovableGrid implements Serializable {
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
 		ois.defaultReadObject();
 		movableGrid = SerializationUtils.readSparseArray(ois, Movable.class);
+		initAdditional();
 	}
 
 	public final Movable getMovableAt(int x, int y) {
@@ -67,13 +80,27 @@ public final class MovableGrid implements Serializable {
 	}
 
 	public final void setMovable(short x, short y, Movable movable) {
-		this.movableGrid[x + y * width] = movable;
+		replaceMovable(x, y, movable);
 	}
 
 	public final void movableLeft(ShortPoint2D position, Movable movable) {
 		int idx = position.x + position.y * width;
 		if (this.movableGrid[idx] == movable) {
-			this.movableGrid[idx] = null;
+			replaceMovable(position.x, position.y, null);
+		}
+	}
+
+	private void replaceMovable(int x, int y, Movable movable) {
+		int idx = x + y * width;
+		Movable oldMovable = this.movableGrid[idx];
+		if (oldMovable != movable) {
+			if (oldMovable != null) {
+				movablesIndex.remove(x, y, oldMovable.getPlayerId(), oldMovable);
+			}
+			if (movable != null) {
+				movablesIndex.add(x, y, movable.getPlayerId(), movable);
+			}
+			this.movableGrid[idx] = movable;
 		}
 	}
 
@@ -94,7 +121,7 @@ public final class MovableGrid implements Serializable {
 			System.out.println("index < 0");
 		}
 
-		this.movableGrid[idx] = movable;
+		replaceMovable(x, y, movable);
 		if (movable != null && movable.getMovableType() == EMovableType.BEARER) {
 			ground.walkOn(x, y);
 		}
@@ -115,28 +142,57 @@ public final class MovableGrid implements Serializable {
 	 */
 	public void informMovables(Movable movable, short x, short y, boolean informFullArea) {
 		// inform all movables of the given movable
-		IMapArea area;
-		if (informFullArea) {
-			area = new HexGridArea(x, y, (short) 1, Constants.SOLDIER_SEARCH_RADIUS);
-		} else {
-			area = new HexBorderArea(x, y, (short) (Constants.SOLDIER_SEARCH_RADIUS - 1));
+		int minRadius = informFullArea ? 1 : Constants.SOLDIER_SEARCH_RADIUS - 1;
+		int maxRadius = informFullArea ? Constants.SOLDIER_SEARCH_RADIUS : Constants.SOLDIER_SEARCH_RADIUS - 1;
+
+		MovablesInformer informer = movablesInformer;
+		informer.movable = movable;
+		movablesIndex.visit(x, y, minRadius, maxRadius, movable.getPlayerId(), informer);
+
+		if (informer.closestEnemy != null) { // the given movable is informed about the closest enemy
+			movable.informAboutAttackable(informer.closestEnemy);
 		}
+		informer.movable = null;
+		informer.closestEnemy = null;
+	}
+
+	/**
+	 * Visits the movables with a radius between minRadius and maxRadius around the given position.
+	 * 
+	 * @param centerX
+	 *            x coordinate of the center.
+	 * @param centerY
+	 *            y coordinate of the center.
+	 * @param minRadius
+	 *            The inclusive minimum radius.
+	 * @param maxRadius
+	 *            The inclusive maximum radius.
+	 * @param excludedPlayer
+	 *            The movables of this player are skipped.
+	 * @param visitor
+	 *            The visitor called for the found movables.
+	 */
+	public void visitMovables(int centerX, int centerY, int minRadius, int maxRadius, byte excludedPlayer,
+			AttackablesIndex.IVisitor<? super Movable> visitor) {
+		movablesIndex.visit(centerX, centerY, minRadius, maxRadius, excludedPlayer, visitor);
+	}
 
-		boolean foundOne = false;
-		byte movablePlayer = movable.getPlayerId();
-
-		for (ShortPoint2D curr : area) {
-			short currX = curr.x;
-			short currY = curr.y;
-			if (0 <= currX && currX < width && 0 <= currY && currY < height) {
-				Movable currMovable = getMovableAt(currX, currY);
-				if (currMovable != null && isEnemy(movablePlayer, currMovable)) {
-					currMovable.informAboutAttackable(movable);
-
-					if (!foundOne) { // the first found movable is the one closest to the given movable.
-						movable.informAboutAttackable(currMovable);
-						foundOne = true;
-					}
+	/**
+	 * Informs the enemies of a movable about it and finds the closest one of them.
+	 */
+	private static final class MovablesInformer implements AttackablesIndex.IVisitor<Movable> {
+		private Movable movable;
+		private Movable closestEnemy;
+		private int closestOrdinal;
+
+		@Override
+		public void visit(Movable currMovable, int x, int y, int ordinal) {
+			if (isEnemy(movable.getPlayerId(), currMovable)) {
+				currMovable.informAboutAttackable(movable);
+
+				if (closestEnemy == null || ordinal < closestOrdinal) {
+					closestEnemy = currMovable;
+					closestOrdinal = ordinal;
 				}
 			}
 		}
@@ -37,6 +37,14 @@ public interface IMapObjectsManagerGrid extends Serializable, IArrowAttackableGr
 
 	boolean removeMapObject(int x, int y, AbstractHexMapObject mapObject);
 
+	/**
+	 * Informs the grid that the state of a map object at the given position changed without adding or removing it.
+	 * 
+	 * @param x
+	 * @param y
+	 */
+	void mapObjectChangedAt(int x, int y);
+
 	short getWidth();
 
 	short getHeight();
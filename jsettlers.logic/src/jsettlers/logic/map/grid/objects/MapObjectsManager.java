@@ -89,7 +89,9 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 			if (curr.shouldRemoveObject()) {
 				removeMapObject(curr.mapObject.getX(), curr.mapObject.getY(), curr.mapObject);
 			} else {
-				curr.getMapObject().changeState();
+				AbstractObjectsManagerObject mapObject = curr.getMapObject();
+				mapObject.changeState();
+				grid.mapObjectChangedAt(mapObject.getX(), mapObject.getY());
 			}
 
 			curr = timingQueue.peek();
@@ -152,6 +154,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 
 		if (stone != null) {
 			stone.cutOff();
+			grid.mapObjectChangedAt(x, y);
 
 			if (!stone.canBeCut()) {
 				addSelfDeletingMapObject(pos, EMapObjectType.CUT_OFF_STONE, Stone.DECOMPOSE_DELAY, null);
@@ -173,6 +176,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 		if (grid.isInBounds(x, y)) {
 			AbstractObjectsManagerObject tree = (AbstractObjectsManagerObject) grid.getMapObject(x, y, EMapObjectType.TREE_ADULT);
 			if (tree != null && tree.cutOff()) {
+				grid.mapObjectChangedAt(x, y);
 				schedule(tree, Tree.DECOMPOSE_DURATION, true);
 				return true;
 			}
@@ -20,15 +20,13 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import jsettlers.common.map.shapes.FreeMapArea;
-import jsettlers.common.map.shapes.HexBorderArea;
-import jsettlers.common.map.shapes.HexGridArea;
-import jsettlers.common.map.shapes.IMapArea;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.SerializationUtils;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.constants.Constants;
+import jsettlers.logic.map.grid.movable.AttackablesIndex;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.movable.interfaces.IInformable;
 
@@ -47,11 +45,50 @@ public final class ObjectsGrid implements Serializable {
 	private transient AbstractHexMapObject[] objectsGrid;
 	private transient Building[] buildingsGrid;
 
+	private transient AttackablesIndex<IAttackable> towersIndex;
+	private transient AttackablesIndex<IInformable> informablesIndex;
+	private transient TowersInformer towersInformer;
+	private transient InformablesInformer informablesInformer;
+
 	public ObjectsGrid(short width, short height) {
 		this.width = width;
 		this.height = height;
 		this.objectsGrid = new AbstractHexMapObject[width * height];
 		this.buildingsGrid = new Building[width * height];
+		initAdditional();
+	}
+
+	private void initAdditional() {
+		towersIndex = new AttackablesIndex<IAttackable>(width, height);
+		informablesIndex = new AttackablesIndex<IInformable>(width, height);
+		towersInformer = new TowersInformer();
+		informablesInformer = new InformablesInformer();
+
+		for (int idx = 0; idx < objectsGrid.length; idx++) {
+			for (AbstractHexMapObject currObject = objectsGrid[idx]; currObject != null; currObject = currObject.getNextObject()) {
+				addToIndex(idx % width, idx / width, currObject);
+			}
+		}
+	}
+
+	private void addToIndex(int x, int y, AbstractHexMapObject mapObject) {
+		EMapObjectType type = mapObject.getObjectType();
+		if (type == EMapObjectType.ATTACKABLE_TOWER) {
+			IAttackable tower = (IAttackable) mapObject;
+			towersIndex.add(x, y, tower.getPlayerId(), tower);
+		} else if (type == EMapObjectType.INFORMABLE_MAP_OBJECT) {
+			informablesIndex.add(x, y, (byte) 0, (IInformable) mapObject);
+		}
+	}
+
+	private void removeFromIndex(int x, int y, AbstractHexMapObject mapObject) {
+		EMapObjectType type = mapObject.getObjectType();
+		if (type == EMapObjectType.ATTACKABLE_TOWER) {
+			IAttackable tower = (IAttackable) mapObject;
+			towersIndex.remove(x, y, tower.getPlayerId(), tower);
+		} else if (type == EMapObjectType.INFORMABLE_MAP_OBJECT) {
+			informablesIndex.remove(x, y, (byte) 0, (IInformable) mapObject);
+		}
 	}
 
 	private final void writeObject(ObjectOutputStream oos) throws IOException {
@@ -100,6 +137,8 @@ public final class ObjectsGrid implements Serializable {
 
 			index = ois.readInt();
 		}
+
+		initAdditional();
 	}
 
 	public final AbstractHexMapObject getObjectsAt(int x, int y) {
@@ -125,6 +164,9 @@ public final class ObjectsGrid implements Serializable {
 				removed = mapObjectHead.removeMapObjectType(mapObjectType);
 			}
 		}
+		if (removed != null) {
+			removeFromIndex(x, y, removed);
+		}
 		return removed;
 	}
 
@@ -140,6 +182,9 @@ public final class ObjectsGrid implements Serializable {
 				removed = mapObjectHead.removeMapObject(mapObject);
 			}
 
+			if (removed) {
+				removeFromIndex(x, y, mapObject);
+			}
 			return removed;
 		} else
 			return false;
@@ -155,6 +200,7 @@ public final class ObjectsGrid implements Serializable {
 		} else {
 			mapObjectHead.addMapObject(mapObject);
 		}
+		addToIndex(x, y, mapObject);
 	}
 
 	public final boolean hasCuttableObject(int x, int y, EMapObjectType mapObjectType) {
@@ -194,37 +240,69 @@ public final class ObjectsGrid implements Serializable {
 	 * @param b
 	 */
 	public void informObjectsAboutAttackble(ShortPoint2D position, IAttackable attackable, boolean informFullArea, boolean informAttackable) {
-		IMapArea area;
-		if (informFullArea) {
-			area = new HexGridArea(position.x, position.y, (short) 1, Constants.TOWER_SEARCH_RADIUS);
-		} else {
-			area = new HexBorderArea(position.x, position.y, (short) (Constants.TOWER_SEARCH_RADIUS - 1));
-		}
+		int minRadius = informFullArea ? 1 : Constants.TOWER_SEARCH_RADIUS - 1;
+		int maxRadius = informFullArea ? Constants.TOWER_SEARCH_RADIUS : Constants.TOWER_SEARCH_RADIUS - 1;
 
-		byte movablePlayer = attackable.getPlayerId();
+		towersInformer.attackable = attackable;
+		towersInformer.informAttackable = informAttackable;
+		towersIndex.visit(position.x, position.y, minRadius, maxRadius, attackable.getPlayerId(), towersInformer);
+		towersInformer.attackable = null;
 
-		for (ShortPoint2D curr : area) {
-			short x = curr.x;
-			short y = curr.y;
-			if (0 <= x && x < width && 0 <= y && y < height) {
-				IAttackable currTower = (IAttackable) getMapObjectAt(x, y, EMapObjectType.ATTACKABLE_TOWER);
+		informablesInformer.attackable = attackable;
+		informablesIndex.visit(position.x, position.y, minRadius, maxRadius, (byte) -1, informablesInformer);
+		informablesInformer.attackable = null;
+	}
 
-				if (currTower != null && currTower.getPlayerId() != movablePlayer) {
-					currTower.informAboutAttackable(attackable);
+	/**
+	 * Visits the attackable towers with a radius between minRadius and maxRadius around the given position.
+	 * 
+	 * @param centerX
+	 *            x coordinate of the center.
+	 * @param centerY
+	 *            y coordinate of the center.
+	 * @param minRadius
+	 *            The inclusive minimum radius.
+	 * @param maxRadius
+	 *            The inclusive maximum radius.
+	 * @param excludedPlayer
+	 *            The towers of this player are skipped.
+	 * @param visitor
+	 *            The visitor called for the found towers.
+	 */
+	public void visitAttackableTowers(int centerX, int centerY, int minRadius, int maxRadius, byte excludedPlayer,
+			AttackablesIndex.IVisitor<? super IAttackable> visitor) {
+		towersIndex.visit(centerX, centerY, minRadius, maxRadius, excludedPlayer, visitor);
+	}
 
-					if (informAttackable) {
-						attackable.informAboutAttackable(currTower);
-					}
-				}
+	/**
+	 * Informs the towers around an attackable about it and, if requested, the attackable about the towers.
+	 */
+	private static final class TowersInformer implements AttackablesIndex.IVisitor<IAttackable> {
+		private IAttackable attackable;
+		private boolean informAttackable;
 
-				IInformable currInformable = (IInformable) getMapObjectAt(x, y, EMapObjectType.INFORMABLE_MAP_OBJECT);
-				if (currInformable != null) {
-					currInformable.informAboutAttackable(attackable);
-				}
+		@Override
+		public void visit(IAttackable tower, int x, int y, int ordinal) {
+			tower.informAboutAttackable(attackable);
+
+			if (informAttackable) {
+				attackable.informAboutAttackable(tower);
 			}
 		}
 	}
 
+	/**
+	 * Informs the {@link IInformable}s around an attackable about it.
+	 */
+	private static final class InformablesInformer implements AttackablesIndex.IVisitor<IInformable> {
+		private IAttackable attackable;
+
+		@Override
+		public void visit(IInformable informable, int x, int y, int ordinal) {
+			informable.informAboutAttackable(attackable);
+		}
+	}
+
 	public void setBuildingArea(FreeMapArea area, Building building) {
 		for (ShortPoint2D curr : area) {
 			buildingsGrid[curr.x + curr.y * width] = building;
@@ -35,15 +35,15 @@ public final class Partition extends PartitionManager implements Serializable {
 	private int xSum = 0;
 	private int ySum = 0;
 
-	public Partition(short partitionId, byte playerId, IOffersCountListener countListener) {
-		super(countListener);
+	public Partition(short partitionId, byte playerId, IOffersCountListener countListener, short width, short height) {
+		super(countListener, width, height);
 		this.partitionId = partitionId;
 		this.playerId = playerId;
 	}
 
-	public Partition(short partitionId, byte playerId, int size) {
-		this(partitionId, playerId, null);
-		this.counter = size;
+	public Partition(short partitionId, byte playerId, short width, short height) {
+		this(partitionId, playerId, null, width, height);
+		this.counter = width * height;
 	}
 
 	void decrement(int x, int y) {
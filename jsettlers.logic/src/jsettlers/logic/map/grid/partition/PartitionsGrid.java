@@ -85,6 +85,7 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 
 	private transient Object partitionsWriteLock;
 	private transient IPlayerChangedListener playerChangedListener = IPlayerChangedListener.DEFAULT_IMPLEMENTATION;
+	private transient volatile int structureVersion;
 
 	public PartitionsGrid(short width, short height, byte numberOfPlayers, IPartitionsGridBlockingProvider blockingProvider) {
 		this.width = width;
@@ -106,7 +107,7 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 		this.towers = new byte[width * height];
 
 		// the no player partition (the manager won't be started)
-		this.partitionObjects[NO_PLAYER_PARTITION_ID] = new Partition(NO_PLAYER_PARTITION_ID, (byte) -1, width * height);
+		this.partitionObjects[NO_PLAYER_PARTITION_ID] = new Partition(NO_PLAYER_PARTITION_ID, (byte) -1, width, height);
 
 		initAdditionalFields();
 	}
@@ -142,6 +143,16 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 		return partitionObjects[partitions[x + y * width]].partitionId;
 	}
 
+	/**
+	 * Gets a counter that is increased every time partitions are merged or divided. Such changes modify the partition ids of arbitrary many
+	 * positions without changing their players, so they are not reported to the {@link IPlayerChangedListener}.
+	 * 
+	 * @return The current version of the partition structure.
+	 */
+	public int getStructureVersion() {
+		return structureVersion;
+	}
+
 	/**
 	 * ONLY FOR TESTING: <br>
 	 * This method gives the currently set partition at the given partition and not their representative. <br>
@@ -185,6 +196,18 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 		}
 	}
 
+	/**
+	 *
+	 * @param x
+	 * @param y
+	 * @return true if the given position is part of the partition that holds the positions of its player that were blocked when the player
+	 *         occupied them.
+	 */
+	public boolean isInBlockedPartition(int x, int y) {
+		Partition partition = getPartitionAt(x, y);
+		return partition.playerId >= 0 && partition.partitionId == blockedPartitionsForPlayers[partition.playerId];
+	}
+
 	public boolean ownsPlayerPartition(short partitionId, byte playerId) {
 		return partitionObjects[partitionId].playerId == playerId;
 	}
@@ -602,6 +625,7 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 			}
 		}
 
+		structureVersion++;
 		return biggerPartition;
 	}
 
@@ -629,6 +653,7 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 		short newPartition = createNewPartition(partitionObject.playerId);
 
 		relabelArea(oldPartition, relabelStartPosition, newPartition);
+		structureVersion++;
 	}
 
 	/**
@@ -712,7 +737,7 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 			}
 		}
 
-		Partition newPartitionObject = new Partition(newPartitionId, playerId, players[playerId]);
+		Partition newPartitionObject = new Partition(newPartitionId, playerId, players[playerId], width, height);
 		newPartitionObject.startManager();
 		partitionObjects[newPartitionId] = newPartitionObject;
 
@@ -823,8 +848,9 @@ public final class PartitionsGrid implements Serializable, IBlockingChangedListe
 
 	public IPartitionData getPartitionDataForManagerAt(int x, int y) {
 		Partition partition = getPartitionAt(x, y);
-		return new PartitionDataSupplier(partition.getPlayerId(), partition.partitionId, partition.getPartitionSettings(),
-				partition.getMaterialCounts());
+		byte playerId = partition.getPlayerId();
+		return new PartitionDataSupplier(partition.getPartitionSettings(), partition.getMaterialCounts(), partition.getBuildingCounts(),
+				playerId >= 0 ? players[playerId].getEconomyStatistic() : null);
 	}
 
 	public void setMaterialDistributionSettings(ShortPoint2D managerPosition, EMaterialType materialType, float[] probabilities) {
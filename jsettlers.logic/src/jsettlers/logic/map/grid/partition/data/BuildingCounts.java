@@ -16,55 +16,39 @@ package jsettlers.logic.map.grid.partition.data;
 
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.map.partition.IBuildingCounts;
-import jsettlers.logic.buildings.Building;
+import jsettlers.logic.player.EconomyStatistic;
 
+/**
+ * The numbers of buildings of the partition are read from the counters of the partition and the numbers of the whole player from the
+ * {@link EconomyStatistic} of the player. Both are kept up to date by the game, so no buildings need to be scanned.
+ */
 class BuildingCounts implements IBuildingCounts {
 
-	private final int[] buildingsInPartitionUnderConstruction = new int[EBuildingType.NUMBER_OF_BUILDINGS];
-	private final int[] buildingsInPartition = new int[EBuildingType.NUMBER_OF_BUILDINGS];
-	private final int[] buildingsUnderConstruction = new int[EBuildingType.NUMBER_OF_BUILDINGS];
-	private final int[] buildings = new int[EBuildingType.NUMBER_OF_BUILDINGS];
+	private final IPartitionBuildingCounts partitionBuildingCounts;
+	private final EconomyStatistic economyStatistic;
 
-	public BuildingCounts(byte playerId, short partitionId) {
-		for (Building building : Building.getAllBuildings()) {
-			if (building.getPlayerId() == playerId) {
-				int buildingTypeIdx = building.getBuildingType().ordinal;
-				boolean finishedConstruction = building.isConstructionFinished();
-
-				if (finishedConstruction) {
-					buildings[buildingTypeIdx]++;
-				} else {
-					buildingsUnderConstruction[buildingTypeIdx]++;
-				}
-
-				if (building.getPartitionId() == partitionId) {
-					if (finishedConstruction) {
-						buildingsInPartition[buildingTypeIdx]++;
-					} else {
-						buildingsInPartitionUnderConstruction[buildingTypeIdx]++;
-					}
-				}
-			}
-		}
+	public BuildingCounts(IPartitionBuildingCounts partitionBuildingCounts, EconomyStatistic economyStatistic) {
+		this.partitionBuildingCounts = partitionBuildingCounts;
+		this.economyStatistic = economyStatistic;
 	}
 
 	@Override
 	public int buildingsInPartitionUnderConstruction(EBuildingType buildingType) {
-		return buildingsInPartitionUnderConstruction[buildingType.ordinal];
+		return partitionBuildingCounts.getNumberOfBuildingsUnderConstruction(buildingType);
 	}
 
 	@Override
 	public int buildingsInPartiton(EBuildingType buildingType) {
-		return buildingsInPartition[buildingType.ordinal];
+		return partitionBuildingCounts.getNumberOfBuildings(buildingType);
 	}
 
 	@Override
 	public int buildingsUnderConstruction(EBuildingType buildingType) {
-		return buildingsUnderConstruction[buildingType.ordinal];
+		return economyStatistic != null ? economyStatistic.getNumberOfBuildingsUnderConstruction(buildingType) : 0;
 	}
 
 	@Override
 	public int buildings(EBuildingType buildingType) {
-		return buildings[buildingType.ordinal];
+		return economyStatistic != null ? economyStatistic.getNumberOfBuildings(buildingType) : 0;
 	}
-}
\ No newline at end of file
+}
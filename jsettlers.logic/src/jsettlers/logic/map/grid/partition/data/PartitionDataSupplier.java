@@ -18,20 +18,22 @@ import jsettlers.common.map.partition.IBuildingCounts;
 import jsettlers.common.map.partition.IPartitionData;
 import jsettlers.common.map.partition.IPartitionSettings;
 import jsettlers.common.material.EMaterialType;
+import jsettlers.logic.player.EconomyStatistic;
 
 public final class PartitionDataSupplier implements IPartitionData {
 
-	private final byte playerId;
-	private final short partitionId;
 	private final IPartitionSettings settings;
 	private final IMaterialCounts materialCounts;
+	private final IPartitionBuildingCounts partitionBuildingCounts;
+	private final EconomyStatistic economyStatistic;
 	private IBuildingCounts buildingCounts;
 
-	public PartitionDataSupplier(byte playerId, short partitionId, IPartitionSettings settings, IMaterialCounts materialCounts) {
-		this.playerId = playerId;
-		this.partitionId = partitionId;
+	public PartitionDataSupplier(IPartitionSettings settings, IMaterialCounts materialCounts, IPartitionBuildingCounts partitionBuildingCounts,
+			EconomyStatistic economyStatistic) {
 		this.settings = settings;
 		this.materialCounts = materialCounts;
+		this.partitionBuildingCounts = partitionBuildingCounts;
+		this.economyStatistic = economyStatistic;
 	}
 
 	@Override
@@ -47,7 +49,7 @@ public final class PartitionDataSupplier implements IPartitionData {
 	@Override
 	public IBuildingCounts getBuildingCounts() {
 		if (buildingCounts == null) {
-			buildingCounts = new BuildingCounts(playerId, partitionId);
+			buildingCounts = new BuildingCounts(partitionBuildingCounts, economyStatistic);
 		}
 		return buildingCounts;
 	}
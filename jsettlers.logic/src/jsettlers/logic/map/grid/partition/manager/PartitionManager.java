@@ -29,6 +29,8 @@ import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.MaterialProductionSettings;
 import jsettlers.logic.buildings.workers.WorkerBuilding;
 import jsettlers.logic.map.grid.partition.data.IMaterialCounts;
+import jsettlers.logic.map.grid.partition.data.IPartitionBuildingCounts;
+import jsettlers.logic.map.grid.partition.manager.buildings.BuildingsList;
 import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableBearer;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableBearer.IWorkerRequester;
@@ -60,7 +62,7 @@ import jsettlers.logic.timer.RescheduleTimer;
  * 
  */
 public class PartitionManager implements IScheduledTimerable, Serializable, IWorkerRequester {
-	private static final long serialVersionUID = 3759772044136966735L;
+	private static final long serialVersionUID = -6150637318233562386L;
 
 	private static final int SCHEDULING_PERIOD = 25;
 
@@ -78,27 +80,33 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 
 	private final PartitionManagerSettings settings = new PartitionManagerSettings();
 
-	private final PositionableList<IManageableBearer> joblessBearer = new PositionableList<IManageableBearer>();
+	private final PositionableList<IManageableBearer> joblessBearer;
 	private final OffersList materialOffers;
+	private final BuildingsList buildings;
 
 	private final MaterialsManager materialsManager;
 
 	private final LinkedList<WorkerRequest> workerRequests = new LinkedList<WorkerRequest>();
-	private final PositionableList<IManageableWorker> joblessWorkers = new PositionableList<IManageableWorker>();
+	private final PositionableList<IManageableWorker> joblessWorkers;
 
 	private final LinkedList<DiggerRequest> diggerRequests = new LinkedList<DiggerRequest>();
-	private final PositionableList<IManageableDigger> joblessDiggers = new PositionableList<IManageableDigger>();
+	private final PositionableList<IManageableDigger> joblessDiggers;
 
 	private final LinkedList<BricklayerRequest> bricklayerRequests = new LinkedList<BricklayerRequest>();
-	private final PositionableList<IManageableBricklayer> joblessBricklayers = new PositionableList<IManageableBricklayer>();
+	private final PositionableList<IManageableBricklayer> joblessBricklayers;
 
 	private final LinkedList<WorkerCreationRequest> workerCreationRequests = new LinkedList<WorkerCreationRequest>();
 	private final LinkedList<SoilderCreationRequest> soilderCreationRequests = new LinkedList<SoilderCreationRequest>();
 
 	private boolean stopped = true;
 
-	public PartitionManager(IOffersCountListener offersCountListener) {
-		materialOffers = new OffersList(offersCountListener);
+	public PartitionManager(IOffersCountListener offersCountListener, short width, short height) {
+		joblessBearer = new PositionableList<IManageableBearer>(width, height);
+		joblessWorkers = new PositionableList<IManageableWorker>(width, height);
+		joblessDiggers = new PositionableList<IManageableDigger>(width, height);
+		joblessBricklayers = new PositionableList<IManageableBricklayer>(width, height);
+		materialOffers = new OffersList(offersCountListener, width, height);
+		buildings = new BuildingsList(width, height);
 		materialsManager = new MaterialsManager(new IJoblessSupplier() {
 			private static final long serialVersionUID = -113397265091126902L;
 
@@ -191,6 +199,20 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 		joblessWorkers.remove(worker);
 	}
 
+	/**
+	 * Updates the position of the given jobless movable. If it isn't jobless in this manager, nothing happens.
+	 * 
+	 * @param jobless
+	 * @param oldPosition
+	 *            The position of the movable before the change.
+	 */
+	public void joblessPositionChanged(Object jobless, ShortPoint2D oldPosition) {
+		joblessBearer.positionChanged(jobless, oldPosition);
+		joblessWorkers.positionChanged(jobless, oldPosition);
+		joblessDiggers.positionChanged(jobless, oldPosition);
+		joblessBricklayers.positionChanged(jobless, oldPosition);
+	}
+
 	/**
 	 * @param x
 	 *            x coordinate of the position to be removed from this manager and added to the given manager
@@ -205,6 +227,7 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 		ShortPoint2D position = new ShortPoint2D(x, y);
 
 		materialOffers.moveOffersAtPositionTo(position, newManager.materialOffers);
+		buildings.moveBuildingsAtPositionTo(position, newManager.buildings);
 
 		if (newHasSamePlayer) {
 			materialsManager.movePositionTo(position, newManager.materialsManager);
@@ -250,6 +273,7 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 		newManager.joblessDiggers.addAll(this.joblessDiggers);
 		newManager.joblessWorkers.addAll(this.joblessWorkers);
 		newManager.materialOffers.addAll(this.materialOffers);
+		newManager.buildings.addAll(this.buildings);
 		this.materialsManager.mergeInto(newManager.materialsManager);
 		newManager.soilderCreationRequests.addAll(this.soilderCreationRequests);
 		newManager.workerCreationRequests.addAll(this.workerCreationRequests);
@@ -474,6 +498,22 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 		return materialOffers;
 	}
 
+	public IPartitionBuildingCounts getBuildingCounts() {
+		return buildings;
+	}
+
+	public void addBuilding(Building building) {
+		buildings.addBuilding(building);
+	}
+
+	public void removeBuilding(Building building) {
+		buildings.removeBuilding(building);
+	}
+
+	public void buildingConstructed(Building building) {
+		buildings.buildingConstructed(building);
+	}
+
 	public void setMaterialDistributionSettings(EMaterialType materialType, float[] probabilities) {
 		settings.getDistributionSettings(materialType).setProbabilities(probabilities);
 	}
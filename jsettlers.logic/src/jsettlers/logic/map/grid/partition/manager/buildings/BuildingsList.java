@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.buildings;
+
+import java.io.Serializable;
+
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.buildings.Building;
+import jsettlers.logic.map.grid.partition.data.IPartitionBuildingCounts;
+import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList;
+import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList.IMovedVisitor;
+
+/**
+ * This class holds the buildings standing in a partition and counts them by their type. The buildings are moved together with their positions
+ * when partitions are divided or merged, so the counts don't need to scan all buildings.
+ */
+public final class BuildingsList implements IPartitionBuildingCounts, Serializable {
+	private static final long serialVersionUID = -5460290163357574317L;
+
+	private final PositionableList<Building> buildingsList;
+	private final int[] buildings = new int[EBuildingType.NUMBER_OF_BUILDINGS];
+	private final int[] buildingsUnderConstruction = new int[EBuildingType.NUMBER_OF_BUILDINGS];
+
+	public BuildingsList(short width, short height) {
+		buildingsList = new PositionableList<Building>(width, height);
+	}
+
+	public void addBuilding(Building building) {
+		buildingsList.insert(building);
+		count(building, +1);
+	}
+
+	public void removeBuilding(Building building) {
+		buildingsList.remove(building);
+		count(building, -1);
+	}
+
+	/**
+	 * Moves the given building of this partition from the buildings under construction to the finished ones.
+	 * 
+	 * @param building
+	 */
+	public void buildingConstructed(Building building) {
+		int buildingTypeIdx = building.getBuildingType().ordinal;
+		buildingsUnderConstruction[buildingTypeIdx]--;
+		buildings[buildingTypeIdx]++;
+	}
+
+	public void moveBuildingsAtPositionTo(ShortPoint2D position, final BuildingsList otherList) {
+		buildingsList.moveObjectsAtPositionTo(position, otherList.buildingsList, new IMovedVisitor<Building>() {
+			@Override
+			public void visit(Building moved) { // correct the counts
+				count(moved, -1);
+				otherList.count(moved, +1);
+			}
+		});
+	}
+
+	public void addAll(BuildingsList otherList) {
+		buildingsList.addAll(otherList.buildingsList);
+		for (int i = 0; i < EBuildingType.NUMBER_OF_BUILDINGS; i++) {
+			buildings[i] += otherList.buildings[i];
+			buildingsUnderConstruction[i] += otherList.buildingsUnderConstruction[i];
+		}
+	}
+
+	private void count(Building building, int delta) {
+		if (building.isConstructionFinished()) {
+			buildings[building.getBuildingType().ordinal] += delta;
+		} else {
+			buildingsUnderConstruction[building.getBuildingType().ordinal] += delta;
+		}
+	}
+
+	@Override
+	public int getNumberOfBuildings(EBuildingType buildingType) {
+		return buildings[buildingType.ordinal];
+	}
+
+	@Override
+	public int getNumberOfBuildingsUnderConstruction(EBuildingType buildingType) {
+		return buildingsUnderConstruction[buildingType.ordinal];
+	}
+}
@@ -14,9 +14,13 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager.datastructures;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import jsettlers.algorithms.queue.ITypeAcceptor;
 import jsettlers.common.position.ILocatable;
@@ -26,27 +30,130 @@ import jsettlers.common.utils.MathUtils;
 /**
  * This is a data structure for storing and retrieving objects at given positions.<br>
  * It is also possible to find the nearest object around a given position.
- * 
+ * <p />
+ * The objects are stored in buckets of {@value #BUCKET_SIZE}x{@value #BUCKET_SIZE} positions, so the nearest object is found by only looking at
+ * the buckets around the given position. The buckets are kept in an array covering the whole map, which is created when the first object is
+ * inserted. Next to the buckets, the objects are kept in a linked list in the order they have been inserted. If
+ * several objects have the same distance, the one inserted first is returned. Therefore the results are the same as the ones of a linear
+ * search through the insertion order.
+ * <p />
+ * NOTE: If the position of an object changes while it is in the list, {@link #positionChanged(Object, ShortPoint2D)} needs to be called.
+ * <p />
+ * When the list is deserialized, the objects may not be completely deserialized yet. Therefore the buckets are only built when the list is used
+ * for the first time after deserialization.
+ *
  * @author Andreas Eberle
- * 
+ *
  * @param <T>
  */
 public class PositionableList<T extends ILocatable> implements Iterable<T>, Serializable {
-	private static final long serialVersionUID = 414099060331344505L;
+	private static final long serialVersionUID = 4183610373585961337L;
+
+	private static final int BUCKET_SIZE = 16;
+	/**
+	 * Lists with up to this number of objects are searched linearly, because this is faster than looking at the empty buckets.
+	 */
+	private static final int LINEAR_SEARCH_THRESHOLD = 16;
+
+	private final int bucketsWidth;
+	private final int bucketsHeight;
+
+	private transient ArrayList<Entry<T>>[] buckets;
+	private transient Entry<T> head;
+	private transient Entry<T> tail;
+	private transient int size;
+	private transient long nextSequenceNumber;
+	/**
+	 * false if the list has been deserialized and the positions and buckets of its entries have not been built yet.
+	 */
+	private transient boolean indexed;
+
+	private transient int minBucketX, minBucketY, maxBucketX, maxBucketY;
+
+	/**
+	 * Creates a new list for objects on a map of the given size.
+	 *
+	 * @param width
+	 *            The width of the map.
+	 * @param height
+	 *            The height of the map.
+	 */
+	public PositionableList(short width, short height) {
+		this.bucketsWidth = (width + BUCKET_SIZE - 1) / BUCKET_SIZE;
+		this.bucketsHeight = (height + BUCKET_SIZE - 1) / BUCKET_SIZE;
+		init();
+	}
 
-	private ArrayList<T> data;
+	private void init() {
+		buckets = null;
+		head = null;
+		tail = null;
+		size = 0;
+		nextSequenceNumber = 0;
+		indexed = true;
+		resetBucketBounds();
+	}
 
-	public PositionableList() {
-		data = new ArrayList<T>();
+	private void resetBucketBounds() {
+		minBucketX = Integer.MAX_VALUE;
+		minBucketY = Integer.MAX_VALUE;
+		maxBucketX = Integer.MIN_VALUE;
+		maxBucketY = Integer.MIN_VALUE;
+	}
+
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+		oos.writeInt(size);
+		for (Entry<T> curr = head; curr != null; curr = curr.next) {
+			oos.writeObject(curr.object);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		init();
+		int size = ois.readInt();
+		for (int i = 0; i < size; i++) {
+			append(new Entry<T>((T) ois.readObject(), null, nextSequenceNumber++));
+		}
+		indexed = false;
+	}
+
+	/**
+	 * Builds the positions and buckets of the entries, if they have not been built after deserialization.
+	 */
+	private void ensureIndexed() {
+		if (!indexed) {
+			indexed = true;
+			for (Entry<T> curr = head; curr != null; curr = curr.next) {
+				curr.position = curr.object.getPos();
+				addToBucket(curr);
+			}
+		}
 	}
 
 	public void insert(T object) {
-		data.add(object);
+		ensureIndexed();
+		Entry<T> entry = new Entry<T>(object, object.getPos(), nextSequenceNumber++);
+		append(entry);
+		addToBucket(entry);
+	}
+
+	private void append(Entry<T> entry) {
+		entry.prev = tail;
+		if (tail == null) {
+			head = entry;
+		} else {
+			tail.next = entry;
+		}
+		tail = entry;
+		size++;
 	}
 
 	/**
 	 * Finds the object that's closest to the given position and removes it.
-	 * 
+	 *
 	 * @param position
 	 *            position to be used to find the nearest accepted neighbor around it.
 	 * @return object that's nearest to position
@@ -57,40 +164,60 @@ public class PositionableList<T extends ILocatable> implements Iterable<T>, Seri
 
 	@Override
 	public Iterator<T> iterator() {
-		return data.iterator();
+		return new Iterator<T>() {
+			private Entry<T> next = head;
+			private Entry<T> last = null;
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public T next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				last = next;
+				next = next.next;
+				return last.object;
+			}
+
+			@Override
+			public void remove() {
+				if (last == null) {
+					throw new IllegalStateException();
+				}
+				removeEntry(last);
+				last = null;
+			}
+		};
 	}
 
 	public T removeObjectAt(ShortPoint2D position) {
-		Iterator<T> iter = data.iterator();
-		while (iter.hasNext()) {
-			T curr = iter.next();
-			if (curr.getPos().equals(position)) {
-				iter.remove();
-				return curr;
-			}
+		Entry<T> entry = getEntryAt(position);
+		if (entry == null) {
+			return null;
 		}
-		return null;
+		removeEntry(entry);
+		return entry.object;
 	}
 
 	/**
 	 * Returns the first object found at the given position or null.
-	 * 
+	 *
 	 * @param position
 	 *            The position to look for.
 	 * @return Returns the found object at the given position or null if no object has been found.
 	 */
 	public T getObjectAt(ShortPoint2D position) {
-		for (T curr : data) {
-			if (curr.getPos().equals(position)) {
-				return curr;
-			}
-		}
-		return null;
+		Entry<T> entry = getEntryAt(position);
+		return entry != null ? entry.object : null;
 	}
 
 	/**
 	 * Finds the object that's closest to the given position and removes it.
-	 * 
+	 *
 	 * @param position
 	 *            position to be used to find the nearest accepted neighbor around it.
 	 * @param acceptor
@@ -99,24 +226,97 @@ public class PositionableList<T extends ILocatable> implements Iterable<T>, Seri
 	 * @return accepted object that's nearest to position
 	 */
 	public T removeObjectNextTo(ShortPoint2D position, ITypeAcceptor<T> acceptor) {
-		T currBest = getObjectCloseTo(position, acceptor);
+		Entry<T> currBest = getEntryCloseTo(position, acceptor);
+
+		if (currBest == null) {
+			return null;
+		}
+
+		removeEntry(currBest);
+		return currBest.object;
+	}
+
+	private Entry<T> getEntryCloseTo(ShortPoint2D position, ITypeAcceptor<T> acceptor) {
+		ensureIndexed();
+		if (size <= LINEAR_SEARCH_THRESHOLD) {
+			return getEntryCloseToLinear(position, acceptor);
+		}
 
-		if (currBest != null)
-			data.remove(currBest);
+		int positionBucketX = position.x / BUCKET_SIZE;
+		int positionBucketY = position.y / BUCKET_SIZE;
+		int maxRadius = Math.max(Math.max(positionBucketX - minBucketX, maxBucketX - positionBucketX),
+				Math.max(positionBucketY - minBucketY, maxBucketY - positionBucketY));
+
+		Entry<T> currBest = null;
+
+		for (int radius = 0; radius <= maxRadius; radius++) {
+			int minX = Math.max(positionBucketX - radius, minBucketX);
+			int maxX = Math.min(positionBucketX + radius, maxBucketX);
+			int minY = Math.max(positionBucketY - radius, minBucketY);
+			int maxY = Math.min(positionBucketY + radius, maxBucketY);
+
+			for (int bucketY = minY; bucketY <= maxY; bucketY++) {
+				boolean isBorderRow = bucketY == positionBucketY - radius || bucketY == positionBucketY + radius;
+
+				if (isBorderRow) {
+					for (int bucketX = minX; bucketX <= maxX; bucketX++) {
+						currBest = getEntryCloseTo(bucketX, bucketY, position, acceptor, currBest);
+					}
+				} else {
+					if (positionBucketX - radius >= minBucketX) {
+						currBest = getEntryCloseTo(positionBucketX - radius, bucketY, position, acceptor, currBest);
+					}
+					if (positionBucketX + radius <= maxBucketX) {
+						currBest = getEntryCloseTo(positionBucketX + radius, bucketY, position, acceptor, currBest);
+					}
+				}
+			}
+
+			int bestDistance = currBest != null ? MathUtils.squareHypot(position, currBest.position) : Integer.MAX_VALUE;
+			// every position in the buckets of the next ring is at least radius * BUCKET_SIZE + 1 positions away in x or y direction
+			int minNextRingDistance = radius * BUCKET_SIZE + 1;
+			if (bestDistance < minNextRingDistance * minNextRingDistance) {
+				break;
+			}
+		}
 
 		return currBest;
 	}
 
-	private T getObjectCloseTo(ShortPoint2D position, ITypeAcceptor<T> acceptor) { // TODO: @Andreas Eberle: check if the acceptor is needed any more
+	/**
+	 * @return Returns the given best entry or an accepted entry of the given bucket that is closer to the position or has the same distance and
+	 *         has been inserted earlier.
+	 */
+	private Entry<T> getEntryCloseTo(int bucketX, int bucketY, ShortPoint2D position, ITypeAcceptor<T> acceptor, Entry<T> currBest) {
+		ArrayList<Entry<T>> bucket = buckets[getBucketIndex(bucketX, bucketY)];
+		if (bucket == null) {
+			return currBest;
+		}
+
+		int bestDistance = currBest != null ? MathUtils.squareHypot(position, currBest.position) : Integer.MAX_VALUE;
+		for (Entry<T> curr : bucket) {
+			if (acceptor != null && !acceptor.accepts(curr.object)) {
+				continue;
+			}
+
+			int currDistance = MathUtils.squareHypot(position, curr.position);
+			if (currDistance < bestDistance || (currDistance == bestDistance && curr.sequenceNumber < currBest.sequenceNumber)) {
+				bestDistance = currDistance;
+				currBest = curr;
+			}
+		}
+		return currBest;
+	}
+
+	private Entry<T> getEntryCloseToLinear(ShortPoint2D position, ITypeAcceptor<T> acceptor) {
 		int bestDistance = Integer.MAX_VALUE;
-		T currBest = null;
+		Entry<T> currBest = null;
 
-		for (T currEntry : data) {
-			if (acceptor != null && !acceptor.accepts(currEntry))
+		for (Entry<T> currEntry = head; currEntry != null; currEntry = currEntry.next) {
+			if (acceptor != null && !acceptor.accepts(currEntry.object))
 				continue;
 
-			ShortPoint2D currPosition = currEntry.getPos();
-			int currDist = MathUtils.squareHypot(position, currPosition);
+			int currDist = MathUtils.squareHypot(position, currEntry.position);
 
 			if (bestDistance > currDist) {
 				bestDistance = currDist;
@@ -127,39 +327,191 @@ public class PositionableList<T extends ILocatable> implements Iterable<T>, Seri
 	}
 
 	public T getObjectCloseTo(ShortPoint2D position) {
-		return getObjectCloseTo(position, null);
+		Entry<T> entry = getEntryCloseTo(position, null);
+		return entry != null ? entry.object : null;
 	}
 
 	@Override
 	public String toString() {
-		return data.toString();
+		StringBuilder result = new StringBuilder("[");
+		for (Entry<T> curr = head; curr != null; curr = curr.next) {
+			if (curr != head) {
+				result.append(", ");
+			}
+			result.append(curr.object);
+		}
+		return result.append(']').toString();
 	}
 
 	public void addAll(PositionableList<T> otherList) {
-		this.data.addAll(otherList.data);
+		for (Entry<T> curr = otherList.head; curr != null; curr = curr.next) {
+			insert(curr.object);
+		}
 	}
 
 	public void remove(T object) {
-		this.data.remove(object);
+		Entry<T> entry = findEntry(object, object.getPos());
+		if (entry == null) { // the object has not been found at its position => search all entries
+			for (entry = head; entry != null && entry.object != object; entry = entry.next) {
+			}
+		}
+
+		if (entry != null) {
+			removeEntry(entry);
+		}
+	}
+
+	/**
+	 * This method needs to be called if the position of an object in this list changed. If the object is not in this list, nothing happens.
+	 *
+	 * @param object
+	 *            The object whose position changed.
+	 * @param oldPosition
+	 *            The position of the object before the change.
+	 */
+	public void positionChanged(Object object, ShortPoint2D oldPosition) {
+		Entry<T> entry = findEntry(object, oldPosition);
+		if (entry != null) {
+			removeFromBucket(entry);
+			entry.position = entry.object.getPos();
+			addToBucket(entry);
+		}
 	}
 
 	public boolean isEmpty() {
-		return data.isEmpty();
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
 	}
 
 	public void moveObjectsAtPositionTo(ShortPoint2D position, PositionableList<T> newList, IMovedVisitor<? super T> movedVisitor) {
-		Iterator<T> iter = data.iterator();
-		while (iter.hasNext()) {
-			T curr = iter.next();
-			if (curr.getPos().equals(position)) {
-				iter.remove();
-				movedVisitor.visit(curr);
-				newList.data.add(curr);
+		for (Entry<T> curr = getEntryAt(position); curr != null; curr = getEntryAt(position)) {
+			removeEntry(curr);
+			movedVisitor.visit(curr.object);
+			newList.insert(curr.object);
+		}
+	}
+
+	/**
+	 * @return Returns the entry inserted first of all entries at the given position or null if there is none.
+	 */
+	private Entry<T> getEntryAt(ShortPoint2D position) {
+		ArrayList<Entry<T>> bucket = getBucket(position);
+		if (bucket == null) {
+			return null;
+		}
+
+		Entry<T> result = null;
+		for (Entry<T> curr : bucket) {
+			if (curr.position.equals(position) && (result == null || curr.sequenceNumber < result.sequenceNumber)) {
+				result = curr;
 			}
 		}
+		return result;
+	}
+
+	private Entry<T> findEntry(Object object, ShortPoint2D position) {
+		ArrayList<Entry<T>> bucket = getBucket(position);
+		if (bucket != null) {
+			for (Entry<T> curr : bucket) {
+				if (curr.object == object) {
+					return curr;
+				}
+			}
+		}
+		return null;
+	}
+
+	private void removeEntry(Entry<T> entry) {
+		ensureIndexed();
+		if (entry.prev == null) {
+			head = entry.next;
+		} else {
+			entry.prev.next = entry.next;
+		}
+		if (entry.next == null) {
+			tail = entry.prev;
+		} else {
+			entry.next.prev = entry.prev;
+		}
+		size--;
+
+		removeFromBucket(entry);
+
+		if (size == 0) {
+			resetBucketBounds();
+		}
+	}
+
+	/**
+	 * @return Returns the bucket containing the given position or null if there is no object in it.
+	 */
+	private ArrayList<Entry<T>> getBucket(ShortPoint2D position) {
+		ensureIndexed();
+		if (buckets == null) {
+			return null;
+		}
+		return buckets[getBucketIndex(position.x / BUCKET_SIZE, position.y / BUCKET_SIZE)];
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addToBucket(Entry<T> entry) {
+		if (buckets == null) {
+			buckets = new ArrayList[bucketsWidth * bucketsHeight];
+		}
+
+		int bucketX = entry.position.x / BUCKET_SIZE;
+		int bucketY = entry.position.y / BUCKET_SIZE;
+		int index = getBucketIndex(bucketX, bucketY);
+		ArrayList<Entry<T>> bucket = buckets[index];
+		if (bucket == null) {
+			bucket = new ArrayList<Entry<T>>();
+			buckets[index] = bucket;
+		}
+		bucket.add(entry);
+
+		minBucketX = Math.min(minBucketX, bucketX);
+		minBucketY = Math.min(minBucketY, bucketY);
+		maxBucketX = Math.max(maxBucketX, bucketX);
+		maxBucketY = Math.max(maxBucketY, bucketY);
+	}
+
+	private void removeFromBucket(Entry<T> entry) {
+		int index = getBucketIndex(entry.position.x / BUCKET_SIZE, entry.position.y / BUCKET_SIZE);
+		ArrayList<Entry<T>> bucket = buckets[index];
+		bucket.remove(entry);
+		if (bucket.isEmpty()) {
+			buckets[index] = null;
+		}
+	}
+
+	private int getBucketIndex(int bucketX, int bucketY) {
+		return bucketX + bucketY * bucketsWidth;
 	}
 
 	public interface IMovedVisitor<T> {
 		void visit(T moved);
 	}
+
+	/**
+	 * An object of the list together with the position it is stored at.
+	 *
+	 * @param <T>
+	 */
+	private static final class Entry<T> {
+		final T object;
+		final long sequenceNumber;
+		ShortPoint2D position;
+
+		Entry<T> prev;
+		Entry<T> next;
+
+		Entry(T object, ShortPoint2D position, long sequenceNumber) {
+			this.object = object;
+			this.position = position;
+			this.sequenceNumber = sequenceNumber;
+		}
+	}
 }
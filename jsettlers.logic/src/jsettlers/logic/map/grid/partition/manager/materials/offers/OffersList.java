@@ -37,12 +37,19 @@ public final class OffersList implements IMaterialCounts, Serializable {
 
 	/**
 	 * Constructor to create a new {@link OffersList}.
+	 * 
+	 * @param countListener
+	 *            The listener informed about the changed number of offers or null.
+	 * @param width
+	 *            The width of the map.
+	 * @param height
+	 *            The height of the map.
 	 */
 	@SuppressWarnings("unchecked")
-	public OffersList(IOffersCountListener countListener) {
+	public OffersList(IOffersCountListener countListener, short width, short height) {
 		offersLists = new PositionableList[EMaterialType.NUMBER_OF_MATERIALS];
 		for (int i = 0; i < EMaterialType.NUMBER_OF_MATERIALS; i++) {
-			offersLists[i] = new PositionableList<MaterialOffer>();
+			offersLists[i] = new PositionableList<MaterialOffer>(width, height);
 		}
 
 		if (countListener != null) {
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.save;
+
+import java.io.IOException;
+
+/**
+ * Listener informed about the progress of a savegame that is written in the background by
+ * {@link MapList#saveMapInBackground(jsettlers.input.PlayerState[], jsettlers.logic.map.grid.MainGrid, ISaveListener)}.
+ * <p />
+ * The methods are called on the thread writing the savegame.
+ */
+public interface ISaveListener {
+	/**
+	 * @param progress
+	 *            The part of the savegame that has been written, in the interval [0, 1].
+	 */
+	void savingProgressed(float progress);
+
+	/**
+	 *
+	 * @param snapshotDurationMs
+	 *            The time needed to serialize the complete game state into memory. The game has been paused during this time.
+	 * @param totalDurationMs
+	 *            The time needed to serialize the game state and to write the savegame.
+	 * @param savegameSize
+	 *            The size of the serialized game state in bytes (before compression).
+	 */
+	void savingFinished(long snapshotDurationMs, long totalDurationMs, int savegameSize);
+
+	void savingFailed(IOException exception);
+}
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.logic.map.save;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
@@ -49,6 +50,9 @@ public class MapList implements IMapListerCallable {
 	public static final String MAP_EXTENSION = ".map";
 	public static final String COMPRESSED_MAP_EXTENSION = ".zmap";
 
+	private static final int SNAPSHOT_INITIAL_CAPACITY = 1024 * 1024;
+	private static final int WRITE_CHUNK_SIZE = 64 * 1024;
+
 	/**
 	 * Gives the currently used map extension for saving a map.
 	 * 
@@ -75,6 +79,9 @@ public class MapList implements IMapListerCallable {
 
 	private boolean fileListLoaded = false;
 
+	private final Object pendingSavesLock = new Object();
+	private int pendingSaves = 0;
+
 	public MapList(File dir) {
 		this(new DirectoryMapLister(new File(dir, "maps")), new DirectoryMapLister(new File(dir, "save")));
 	}
@@ -196,21 +203,107 @@ public class MapList implements IMapListerCallable {
 	public synchronized void saveMap(PlayerState[] playerStates, MainGrid grid) throws IOException {
 		MilliStopWatch watch = new MilliStopWatch();
 		MapFileHeader header = grid.generateSaveHeader();
-		OutputStream outStream = saveDir.getOutputStream(header);
+		byte[] snapshot = createSnapshot(playerStates, grid);
+		writeSavegame(header, snapshot, null);
+		watch.stop("Writing savegame required");
+
+		loadFileList();
+	}
+
+	/**
+	 * Serializes the complete game state into memory and writes it to disk on a background thread. The map logic must be paused while calling
+	 * this method, because the serialization reads the live grids. It can be continued as soon as this method returns. The duration of this pause
+	 * is reported to the listener.
+	 * 
+	 * @param playerStates
+	 * @param grid
+	 * @param listener
+	 *            Listener informed about the progress of the background thread or null.
+	 * @throws IOException
+	 *             If the snapshot could not be created.
+	 */
+	public void saveMapInBackground(PlayerState[] playerStates, MainGrid grid, final ISaveListener listener) throws IOException {
+		final long startTime = System.currentTimeMillis();
+		final MapFileHeader header = grid.generateSaveHeader();
+		final byte[] snapshot = createSnapshot(playerStates, grid);
+		final long snapshotDuration = System.currentTimeMillis() - startTime;
+
+		synchronized (pendingSavesLock) {
+			pendingSaves++;
+		}
 
-		header.writeTo(outStream);
+		new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					writeSavegame(header, snapshot, listener);
+					synchronized (MapList.this) {
+						loadFileList();
+					}
 
-		ObjectOutputStream oos = new ObjectOutputStream(outStream);
+					long totalDuration = System.currentTimeMillis() - startTime;
+					if (listener != null) {
+						listener.savingFinished(snapshotDuration, totalDuration, snapshot.length);
+					}
+				} catch (IOException e) {
+					e.printStackTrace();
+					if (listener != null) {
+						listener.savingFailed(e);
+					}
+				} finally {
+					synchronized (pendingSavesLock) {
+						pendingSaves--;
+						pendingSavesLock.notifyAll();
+					}
+				}
+			}
+		}, "BackgroundSaveThread").start();
+	}
+
+	/**
+	 * Waits until all savegames started with {@link #saveMapInBackground(PlayerState[], MainGrid, ISaveListener)} have been written.
+	 * 
+	 * @throws InterruptedException
+	 */
+	public void awaitPendingSaves() throws InterruptedException {
+		synchronized (pendingSavesLock) {
+			while (pendingSaves > 0) {
+				pendingSavesLock.wait();
+			}
+		}
+	}
+
+	/**
+	 * Serializes the game state into memory. This is the only part of saving that needs the game to be paused.
+	 */
+	private static byte[] createSnapshot(PlayerState[] playerStates, MainGrid grid) throws IOException {
+		ByteArrayOutputStream snapshotStream = new ByteArrayOutputStream(SNAPSHOT_INITIAL_CAPACITY);
+
+		ObjectOutputStream oos = new ObjectOutputStream(snapshotStream);
 		MatchConstants.serialize(oos);
 		oos.writeObject(playerStates);
 		GameSerializer gameSerializer = new GameSerializer();
 		gameSerializer.save(grid, oos);
 		RescheduleTimer.saveTo(oos);
-
 		oos.close();
-		watch.stop("Writing savegame required");
 
-		loadFileList();
+		return snapshotStream.toByteArray();
+	}
+
+	private void writeSavegame(MapFileHeader header, byte[] snapshot, ISaveListener listener) throws IOException {
+		OutputStream outStream = saveDir.getOutputStream(header);
+		try {
+			header.writeTo(outStream);
+
+			for (int offset = 0; offset < snapshot.length; offset += WRITE_CHUNK_SIZE) {
+				outStream.write(snapshot, offset, Math.min(WRITE_CHUNK_SIZE, snapshot.length - offset));
+				if (listener != null) {
+					listener.savingProgressed((float) Math.min(offset + WRITE_CHUNK_SIZE, snapshot.length) / snapshot.length);
+				}
+			}
+		} finally {
+			outStream.close();
+		}
 	}
 
 	public ArrayList<MapLoader> getSavedMultiplayerMaps() {
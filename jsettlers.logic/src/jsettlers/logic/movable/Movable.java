@@ -17,7 +17,6 @@ package jsettlers.logic.movable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import jsettlers.algorithms.fogofwar.IViewDistancable;
@@ -33,6 +32,7 @@ import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.selectable.ESelectionType;
 import jsettlers.graphics.messages.SimpleMessage;
 import jsettlers.input.IGuiMovable;
+import jsettlers.logic.GameInstance;
 import jsettlers.logic.buildings.military.IOccupyableBuilding;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
@@ -56,9 +56,6 @@ import jsettlers.logic.timer.RescheduleTimer;
 public final class Movable implements IScheduledTimerable, IPathCalculatable, IDebugable, Serializable, IViewDistancable, IGuiMovable,
 		IAttackableMovable {
 	private static final long serialVersionUID = 2472076796407425256L;
-	private static final HashMap<Integer, Movable> movablesByID = new HashMap<Integer, Movable>();
-	private static final ConcurrentLinkedQueue<Movable> allMovables = new ConcurrentLinkedQueue<Movable>();
-	private static int nextID = Integer.MIN_VALUE;
 
 	private final AbstractMovableGrid grid;
 	private final int id;
@@ -94,6 +91,8 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 	private transient boolean selected = false;
 	private transient boolean soundPlayed = false;
 
+	private transient GameInstance game;
+
 	public Movable(AbstractMovableGrid grid, EMovableType movableType, ShortPoint2D position, Player player) {
 		this.grid = grid;
 		this.position = position;
@@ -106,15 +105,16 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 
 		RescheduleTimer.add(this, Constants.MOVABLE_INTERRUPT_PERIOD);
 
-		this.id = nextID++;
-		movablesByID.put(this.id, this);
-		allMovables.offer(this);
+		this.game = GameInstance.current();
+		this.id = game.createMovableID();
+		game.addMovable(this);
+		player.getEconomyStatistic().movableAdded(movableType);
 
 		grid.enterPosition(position, this, true);
 	}
 
 	/**
-	 * This method overrides the standard deserialize method to restore the movablesByID map and the nextID.
+	 * This method overrides the standard deserialize method to register the movable at the {@link GameInstance} it is loaded into.
 	 * 
 	 * @param ois
 	 * @throws IOException
@@ -122,9 +122,8 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 	 */
 	private final void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
-		movablesByID.put(this.id, this);
-		allMovables.add(this);
-		nextID = Math.max(nextID, this.id + 1);
+		game = GameInstance.current();
+		game.addMovable(this);
 	}
 
 	/**
@@ -315,7 +314,11 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 		playAnimation(EAction.WALKING, movableType.getStepDurationMs());
 		grid.leavePosition(this.position, this);
 		grid.enterPosition(position, this, false);
+		ShortPoint2D oldPosition = this.position;
 		this.position = position;
+		if (strategy.isJobless()) {
+			grid.positionChanged(strategy, oldPosition);
+		}
 		isRightstep = !isRightstep;
 	}
 
@@ -612,7 +615,11 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 			grid.enterPosition(position, this, true);
 		}
 
+		ShortPoint2D oldPosition = this.position;
 		this.position = position;
+		if (strategy.isJobless()) {
+			grid.positionChanged(strategy, oldPosition);
+		}
 	}
 
 	final void setVisible(boolean visible) {
@@ -697,17 +704,15 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 	 *         or null if the id can not be found
 	 */
 	public final static Movable getMovableByID(int id) {
-		return movablesByID.get(id);
+		return GameInstance.current().getMovableByID(id);
 	}
 
 	public final static ConcurrentLinkedQueue<Movable> getAllMovables() {
-		return allMovables;
+		return GameInstance.current().getAllMovables();
 	}
 
 	public static void resetState() {
-		allMovables.clear();
-		movablesByID.clear();
-		nextID = Integer.MIN_VALUE;
+		GameInstance.current().resetMovables();
 	}
 
 	/**
@@ -723,8 +728,8 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 		this.health = -200;
 		this.strategy.strategyKilledEvent(path != null ? path.getTargetPos() : null);
 
-		movablesByID.remove(this.getID());
-		allMovables.remove(this);
+		game.removeMovable(this);
+		player.getEconomyStatistic().movableRemoved(movableType);
 
 		grid.addSelfDeletingMapObject(position, EMapObjectType.GHOST, Constants.GHOST_PLAY_DURATION, player);
 	}
@@ -773,6 +778,13 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 		return soundPlayed;
 	}
 
+	/**
+	 * @return Returns true if this movable is waiting for a job.
+	 */
+	public final boolean isJobless() {
+		return strategy.isJobless();
+	}
+
 	@Override
 	public final EMovableType getMovableType() {
 		return movableType;
@@ -844,6 +856,8 @@ public final class Movable implements IScheduledTimerable, IPathCalculatable, ID
 		}
 
 		this.health = (this.health * newMovableType.getHealth()) / this.movableType.getHealth();
+		player.getEconomyStatistic().movableRemoved(movableType);
+		player.getEconomyStatistic().movableAdded(newMovableType);
 		this.movableType = newMovableType;
 		setStrategy(MovableStrategy.getStrategy(this, newMovableType));
 	}
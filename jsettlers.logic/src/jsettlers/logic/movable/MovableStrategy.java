@@ -328,6 +328,17 @@ public abstract class MovableStrategy implements Serializable {
 		return true;
 	}
 
+	/**
+	 * Checks if the movable may be registered as jobless at the partition manager. Only the position changes of such movables need to be reported
+	 * to the partition manager.
+	 * 
+	 * @return true if the movable may be in a list of jobless movables,<br>
+	 *         false otherwise.
+	 */
+	public boolean isJobless() {
+		return false;
+	}
+
 	protected boolean take(EMaterialType materialToTake, boolean takeFromMap) {
 		return movable.take(materialToTake, takeFromMap);
 	}
@@ -20,6 +20,7 @@ import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.material.ESearchType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.movable.Movable;
+import jsettlers.logic.movable.MovableStrategy;
 import jsettlers.logic.player.Player;
 
 /**
@@ -59,6 +60,17 @@ public abstract class AbstractMovableGrid extends AbstractStrategyGrid {
 	 */
 	public abstract void enterPosition(ShortPoint2D position, Movable movable, boolean informFullArea);
 
+	/**
+	 * Informs the partition managers that the given strategy changed its position. This is needed to keep the lists of jobless movables
+	 * up to date. It is only called for strategies that may be jobless, see {@link MovableStrategy#isJobless()}.
+	 * 
+	 * @param strategy
+	 *            The strategy of the movable that changed its position.
+	 * @param oldPosition
+	 *            The position of the movable before the change.
+	 */
+	public abstract void positionChanged(MovableStrategy strategy, ShortPoint2D oldPosition);
+
 	public abstract Path calculatePathTo(IPathCalculatable pathCalculatable, ShortPoint2D targetPos);
 
 	public abstract Path searchDijkstra(IPathCalculatable pathCalculateable, short centerX, short centerY, short radius, ESearchType searchType);
@@ -45,9 +45,24 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 
 	public BearerMovableStrategy(Movable movable) {
 		super(movable);
+		getPlayer().getEconomyStatistic().joblessChanged(EMovableType.BEARER, +1);
 		reportAsJobless();
 	}
 
+	/**
+	 * Changes the state of this bearer and keeps the number of jobless bearers of the player up to date.
+	 * 
+	 * @param newState
+	 */
+	private void setState(EBearerState newState) {
+		if (state == EBearerState.JOBLESS && newState != EBearerState.JOBLESS) {
+			getPlayer().getEconomyStatistic().joblessChanged(EMovableType.BEARER, -1);
+		} else if (state != EBearerState.JOBLESS && newState == EBearerState.JOBLESS) {
+			getPlayer().getEconomyStatistic().joblessChanged(EMovableType.BEARER, +1);
+		}
+		state = newState;
+	}
+
 	private void reportAsJobless() {
 		super.getStrategyGrid().addJobless(this);
 	}
@@ -60,7 +75,7 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 
 		case INIT_CONVERT_WITH_TOOL_JOB:
 		case INIT_CARRY_JOB:
-			state = EBearerState.GOING_TO_OFFER;
+			setState(EBearerState.GOING_TO_OFFER);
 
 			if (!super.getPos().equals(offer)) { // if we are not at the offers position, go to it.
 				if (!super.goToPos(offer)) {
@@ -70,7 +85,7 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 			}
 		case GOING_TO_OFFER:
 			if (super.getPos().equals(offer)) {
-				state = EBearerState.TAKING;
+				setState(EBearerState.TAKING);
 				if (!super.take(materialType, true)) {
 					handleJobFailed(true);
 				}
@@ -81,12 +96,12 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 
 		case TAKING:
 			if (workerCreationRequest != null) { // we handle a convert with tool job
-				state = EBearerState.DEAD_OBJECT;
+				setState(EBearerState.DEAD_OBJECT);
 				super.setMaterial(EMaterialType.NO_MATERIAL);
 				super.convertTo(workerCreationRequest.requestedMovableType());
 			} else {
 				offer = null;
-				state = EBearerState.GOING_TO_REQUEST;
+				setState(EBearerState.GOING_TO_REQUEST);
 				if (!super.getPos().equals(request.getPos()) && !super.goToPos(request.getPos())) {
 					handleJobFailed(true);
 				}
@@ -95,7 +110,7 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 
 		case GOING_TO_REQUEST:
 			if (super.getPos().equals(request.getPos())) {
-				state = EBearerState.DROPPING;
+				setState(EBearerState.DROPPING);
 				super.drop(materialType);
 			} else {
 				handleJobFailed(true);
@@ -106,28 +121,28 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 			request.deliveryFulfilled();
 			request = null;
 			materialType = null;
-			state = EBearerState.JOBLESS;
+			setState(EBearerState.JOBLESS);
 			reportAsJobless();
 			break;
 
 		case INIT_CONVERT_JOB:
-			state = EBearerState.DEAD_OBJECT;
+			setState(EBearerState.DEAD_OBJECT);
 			super.convertTo(workerCreationRequest.requestedMovableType());
 			break;
 
 		case INIT_BECOME_SOLDIER_JOB:
 			super.goToPos(barrack.getDoor());
-			state = EBearerState.GOING_TO_BARRACK;
+			setState(EBearerState.GOING_TO_BARRACK);
 			break;
 
 		case GOING_TO_BARRACK:
 			EMovableType movableType = barrack.popWeaponForBearer();
 			if (movableType == null) { // weapon got missing, make this bearer jobless again
 				this.barrack = null;
-				this.state = EBearerState.JOBLESS;
+				setState(EBearerState.JOBLESS);
 				reportAsJobless();
 			} else {
-				this.state = EBearerState.DEAD_OBJECT;
+				setState(EBearerState.DEAD_OBJECT);
 				super.convertTo(movableType);
 				super.goToPos(barrack.getSoldierTargetPosition());
 				getPlayer().getEndgameStatistic().incrementAmountOfProducedSoldiers();
@@ -191,7 +206,7 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 		materialType = null;
 		workerCreationRequest = null;
 		workerRequester = null;
-		state = EBearerState.JOBLESS;
+		setState(EBearerState.JOBLESS);
 
 		if (reportAsJobless) {
 			reportAsJobless();
@@ -216,7 +231,7 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 			this.request = request;
 			this.materialType = materialType;
 
-			this.state = EBearerState.INIT_CARRY_JOB;
+			setState(EBearerState.INIT_CARRY_JOB);
 			request.deliveryAccepted();
 
 			return true;
@@ -229,7 +244,7 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 	public void becomeWorker(IWorkerRequester requester, WorkerCreationRequest workerCreationRequest) {
 		this.workerRequester = requester;
 		this.workerCreationRequest = workerCreationRequest;
-		this.state = EBearerState.INIT_CONVERT_JOB;
+		setState(EBearerState.INIT_CONVERT_JOB);
 		this.offer = null;
 		this.materialType = null;
 	}
@@ -239,14 +254,14 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 		this.workerRequester = requester;
 		this.workerCreationRequest = workerCreationRequest;
 		this.offer = offer;
-		this.state = EBearerState.INIT_CONVERT_WITH_TOOL_JOB;
+		setState(EBearerState.INIT_CONVERT_WITH_TOOL_JOB);
 		this.materialType = workerCreationRequest.requestedMovableType().getTool();
 	}
 
 	@Override
 	public void becomeSoldier(IBarrack barrack) {
 		this.barrack = barrack;
-		this.state = EBearerState.INIT_BECOME_SOLDIER_JOB;
+		setState(EBearerState.INIT_BECOME_SOLDIER_JOB);
 	}
 
 	@Override
@@ -256,13 +271,18 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 		} else {
 			handleJobFailed(false);
 		}
-		state = EBearerState.DEAD_OBJECT;
+		setState(EBearerState.DEAD_OBJECT);
 	}
 
 	public boolean isDead() {
 		return state == EBearerState.DEAD_OBJECT;
 	}
 
+	@Override
+	public boolean isJobless() {
+		return state == EBearerState.JOBLESS;
+	}
+
 	@Override
 	protected void pathAborted(ShortPoint2D pathTarget) {
 		if (state != EBearerState.JOBLESS) {
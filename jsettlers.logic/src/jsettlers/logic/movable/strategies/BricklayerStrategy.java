@@ -16,6 +16,7 @@ package jsettlers.logic.movable.strategies;
 
 import jsettlers.common.movable.EAction;
 import jsettlers.common.movable.EDirection;
+import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableBricklayer;
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IConstructableBuilding;
@@ -33,16 +34,31 @@ public class BricklayerStrategy extends MovableStrategy implements IManageableBr
 
 	public BricklayerStrategy(Movable movable) {
 		super(movable);
+		getPlayer().getEconomyStatistic().joblessChanged(EMovableType.BRICKLAYER, +1);
 		jobFinished();
 	}
 
+	/**
+	 * Changes the state of this bricklayer and keeps the number of jobless bricklayers of the player up to date.
+	 * 
+	 * @param newState
+	 */
+	private void setState(EBricklayerState newState) {
+		if (state == EBricklayerState.JOBLESS && newState != EBricklayerState.JOBLESS) {
+			getPlayer().getEconomyStatistic().joblessChanged(EMovableType.BRICKLAYER, -1);
+		} else if (state != EBricklayerState.JOBLESS && newState == EBricklayerState.JOBLESS) {
+			getPlayer().getEconomyStatistic().joblessChanged(EMovableType.BRICKLAYER, +1);
+		}
+		state = newState;
+	}
+
 	@Override
 	public boolean setBricklayerJob(IConstructableBuilding constructionSite, ShortPoint2D bricklayerTargetPos, EDirection direction) {
 		if (state == EBricklayerState.JOBLESS) {
 			this.constructionSite = constructionSite;
 			this.bricklayerTargetPos = bricklayerTargetPos;
 			this.lookDirection = direction;
-			this.state = EBricklayerState.INIT_JOB;
+			setState(EBricklayerState.INIT_JOB);
 			return true;
 		} else {
 			return false;
@@ -50,7 +66,7 @@ public class BricklayerStrategy extends MovableStrategy implements IManageableBr
 	}
 
 	private void jobFinished() {
-		this.state = EBricklayerState.JOBLESS;
+		setState(EBricklayerState.JOBLESS);
 		this.bricklayerTargetPos = null;
 		this.constructionSite = null;
 		this.lookDirection = null;
@@ -69,7 +85,7 @@ public class BricklayerStrategy extends MovableStrategy implements IManageableBr
 
 		case INIT_JOB:
 			if (constructionSite.isBricklayerRequestActive() && super.goToPos(bricklayerTargetPos)) {
-				this.state = EBricklayerState.GOING_TO_POS;
+				setState(EBricklayerState.GOING_TO_POS);
 			} else {
 				jobFinished();
 			}
@@ -77,7 +93,7 @@ public class BricklayerStrategy extends MovableStrategy implements IManageableBr
 
 		case GOING_TO_POS:
 			super.lookInDirection(lookDirection);
-			state = EBricklayerState.BUILDING;
+			setState(EBricklayerState.BUILDING);
 		case BUILDING:
 			tryToBuild();
 			break;
@@ -105,6 +121,11 @@ public class BricklayerStrategy extends MovableStrategy implements IManageableBr
 		}
 	}
 
+	@Override
+	public boolean isJobless() {
+		return state == EBricklayerState.JOBLESS;
+	}
+
 	@Override
 	protected void strategyKilledEvent(ShortPoint2D pathTarget) {
 		if (state == EBricklayerState.JOBLESS) {
@@ -113,7 +134,7 @@ public class BricklayerStrategy extends MovableStrategy implements IManageableBr
 			abortJob();
 		}
 
-		state = EBricklayerState.DEAD_OBJECT;
+		setState(EBricklayerState.DEAD_OBJECT);
 	}
 
 	@Override
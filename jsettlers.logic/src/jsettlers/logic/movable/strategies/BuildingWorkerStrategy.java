@@ -57,9 +57,25 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 		super(movable);
 		this.movableType = movableType;
 
+		getPlayer().getEconomyStatistic().joblessChanged(movableType, +1);
 		reportAsJobless();
 	}
 
+	/**
+	 * Changes the current job of this worker and keeps the number of jobless workers of the player up to date.
+	 * 
+	 * @param newJob
+	 *            The new job or null if the worker becomes jobless.
+	 */
+	private void setCurrentJob(IBuildingJob newJob) {
+		if (currentJob == null && newJob != null) {
+			getPlayer().getEconomyStatistic().joblessChanged(movableType, -1);
+		} else if (currentJob != null && newJob == null) {
+			getPlayer().getEconomyStatistic().joblessChanged(movableType, +1);
+		}
+		currentJob = newJob;
+	}
+
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
 		String currentJobName = ois.readUTF();
@@ -261,7 +277,8 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 		}
 	}
 
-	private boolean isJobless() {
+	@Override
+	public boolean isJobless() {
 		return currentJob == null;
 	}
 
@@ -382,12 +399,12 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 	}
 
 	private void jobFinished() {
-		this.currentJob = this.currentJob.getNextSucessJob();
+		setCurrentJob(this.currentJob.getNextSucessJob());
 		done = false;
 	}
 
 	private void jobFailed() {
-		this.currentJob = this.currentJob.getNextFailJob();
+		setCurrentJob(this.currentJob.getNextFailJob());
 		done = false;
 	}
 
@@ -413,7 +430,7 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 	@Override
 	public void setWorkerJob(IWorkerRequestBuilding building) {
 		this.building = building;
-		this.currentJob = building.getBuildingType().getStartJob();
+		setCurrentJob(building.getBuildingType().getStartJob());
 		super.enableNothingToDoAction(false);
 		this.done = false;
 		building.occupyBuilding(this);
@@ -439,7 +456,7 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 	private void reportAsJobless() {
 		super.getStrategyGrid().addJobless(this);
 		super.enableNothingToDoAction(true);
-		this.currentJob = null;
+		setCurrentJob(null);
 		this.building = null;
 	}
 
@@ -453,6 +470,7 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 
 		if (isJobless()) {
 			super.getStrategyGrid().removeJobless(this);
+			getPlayer().getEconomyStatistic().joblessChanged(movableType, -1);
 		}
 	}
 
@@ -16,6 +16,7 @@ package jsettlers.logic.movable.strategies;
 
 import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.movable.EAction;
+import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.constants.MatchConstants;
@@ -33,14 +34,29 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 	public DiggerStrategy(Movable movable) {
 		super(movable);
 
+		getPlayer().getEconomyStatistic().joblessChanged(EMovableType.DIGGER, +1);
 		reportJobless();
 	}
 
+	/**
+	 * Changes the state of this digger and keeps the number of jobless diggers of the player up to date.
+	 * 
+	 * @param newState
+	 */
+	private void setState(EDiggerState newState) {
+		if (state == EDiggerState.JOBLESS && newState != EDiggerState.JOBLESS) {
+			getPlayer().getEconomyStatistic().joblessChanged(EMovableType.DIGGER, -1);
+		} else if (state != EDiggerState.JOBLESS && newState == EDiggerState.JOBLESS) {
+			getPlayer().getEconomyStatistic().joblessChanged(EMovableType.DIGGER, +1);
+		}
+		state = newState;
+	}
+
 	@Override
 	public boolean setDiggerJob(IDiggerRequester requester) {
 		if (state == EDiggerState.JOBLESS) {
 			this.requester = requester;
-			this.state = EDiggerState.INIT_JOB;
+			setState(EDiggerState.INIT_JOB);
 			return true;
 		} else {
 			return false;
@@ -67,7 +83,7 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 		case GOING_TO_POS:
 			if (needsToBeWorkedOn(super.getPos())) {
 				super.playAction(EAction.ACTION1, 1f);
-				this.state = EDiggerState.PLAYING_ACTION;
+				setState(EDiggerState.PLAYING_ACTION);
 			} else {
 				goToDiggablePosition();
 			}
@@ -88,7 +104,7 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 		ShortPoint2D diggablePos = getDiggablePosition();
 		if (diggablePos != null) {
 			if (super.goToPos(diggablePos)) {
-				state = EDiggerState.GOING_TO_POS;
+				setState(EDiggerState.GOING_TO_POS);
 				super.getStrategyGrid().setMarked(diggablePos, true);
 			} else {
 				reportJobless();
@@ -125,7 +141,7 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 	}
 
 	private void reportJobless() {
-		this.state = EDiggerState.JOBLESS;
+		setState(EDiggerState.JOBLESS);
 		this.requester = null;
 		super.getStrategyGrid().addJobless(this);
 	}
@@ -146,6 +162,11 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 		}
 	}
 
+	@Override
+	public boolean isJobless() {
+		return state == EDiggerState.JOBLESS;
+	}
+
 	@Override
 	protected void strategyKilledEvent(ShortPoint2D pathTarget) {
 		if (pathTarget != null) {
@@ -158,7 +179,7 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 			abortJob();
 		}
 
-		state = EDiggerState.DEAD_OBJECT;
+		setState(EDiggerState.DEAD_OBJECT);
 	}
 
 	@Override
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.player;
+
+import java.util.Arrays;
+
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.material.EMaterialType;
+import jsettlers.common.movable.EMovableType;
+
+/**
+ * This class counts the materials, the movables, the buildings and the jobless movables of a player. The counters are updated where the counted
+ * objects change, so reading them doesn't need to scan the map, the movables or the buildings.
+ * <p />
+ * The counters of the movables and buildings are only derived from the state of the game. Therefore they are not serialized but recounted after a
+ * game has been loaded. The material counts are owned by the {@link Player}, which updates them when the offers of its partitions change.
+ */
+public final class EconomyStatistic {
+	private final int[] materialCounts;
+	private final int[] movables = new int[EMovableType.NUMBER_OF_MOVABLETYPES];
+	private final int[] buildings = new int[EBuildingType.NUMBER_OF_BUILDINGS];
+	private final int[] buildingsUnderConstruction = new int[EBuildingType.NUMBER_OF_BUILDINGS];
+	private final int[] jobless = new int[EMovableType.NUMBER_OF_MOVABLETYPES];
+	private int numberOfBuildings;
+
+	/**
+	 * @param materialCounts
+	 *            The amounts of the materials offered in the partitions of the player, indexed by the ordinal of the {@link EMaterialType}.
+	 */
+	EconomyStatistic(int[] materialCounts) {
+		this.materialCounts = materialCounts;
+	}
+
+	public void movableAdded(EMovableType movableType) {
+		movables[movableType.ordinal()]++;
+	}
+
+	public void movableRemoved(EMovableType movableType) {
+		movables[movableType.ordinal()]--;
+	}
+
+	/**
+	 * Counts a new building.
+	 * 
+	 * @param buildingType
+	 * @param constructionFinished
+	 *            true if the construction of the building is already finished.
+	 */
+	public void buildingAdded(EBuildingType buildingType, boolean constructionFinished) {
+		if (constructionFinished) {
+			buildings[buildingType.ordinal]++;
+		} else {
+			buildingsUnderConstruction[buildingType.ordinal]++;
+		}
+		numberOfBuildings++;
+	}
+
+	/**
+	 * Moves a counted building from the buildings under construction to the finished ones.
+	 * 
+	 * @param buildingType
+	 */
+	public void buildingConstructed(EBuildingType buildingType) {
+		buildingsUnderConstruction[buildingType.ordinal]--;
+		buildings[buildingType.ordinal]++;
+	}
+
+	public void buildingRemoved(EBuildingType buildingType, boolean constructionFinished) {
+		if (constructionFinished) {
+			buildings[buildingType.ordinal]--;
+		} else {
+			buildingsUnderConstruction[buildingType.ordinal]--;
+		}
+		numberOfBuildings--;
+	}
+
+	/**
+	 * Changes the number of jobless movables of the given type.
+	 * 
+	 * @param movableType
+	 * @param delta
+	 *            +1 if a movable became jobless, -1 if a jobless movable got a job or died.
+	 */
+	public void joblessChanged(EMovableType movableType, int delta) {
+		jobless[movableType.ordinal()] += delta;
+	}
+
+	/**
+	 * @param materialType
+	 * @return Returns the amount of the given material offered in all partitions of the player.
+	 */
+	public int getAmountOf(EMaterialType materialType) {
+		return materialCounts[materialType.ordinal];
+	}
+
+	public int getNumberOf(EMovableType movableType) {
+		return movables[movableType.ordinal()];
+	}
+
+	/**
+	 * @param buildingType
+	 * @return Returns the number of buildings of the given type that have been finished.
+	 */
+	public int getNumberOfBuildings(EBuildingType buildingType) {
+		return buildings[buildingType.ordinal];
+	}
+
+	public int getNumberOfBuildingsUnderConstruction(EBuildingType buildingType) {
+		return buildingsUnderConstruction[buildingType.ordinal];
+	}
+
+	/**
+	 * @return Returns the number of all buildings of the player, finished or not.
+	 */
+	public int getNumberOfBuildings() {
+		return numberOfBuildings;
+	}
+
+	public int getNumberOfJobless(EMovableType movableType) {
+		return jobless[movableType.ordinal()];
+	}
+
+	public int getJoblessBearers() {
+		return getNumberOfJobless(EMovableType.BEARER);
+	}
+
+	/**
+	 * Resets the counters of the movables and buildings to zero. The material counts are kept, because they are not recounted.
+	 */
+	public void clear() {
+		Arrays.fill(movables, 0);
+		Arrays.fill(buildings, 0);
+		Arrays.fill(buildingsUnderConstruction, 0);
+		Arrays.fill(jobless, 0);
+		numberOfBuildings = 0;
+	}
+}
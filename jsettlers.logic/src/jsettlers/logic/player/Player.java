@@ -43,6 +43,7 @@ public class Player implements Serializable, IMessenger, IInGamePlayer, IOffersC
 	private final int[] materialCounts = new int[EMaterialType.NUMBER_OF_MATERIALS];
 	private final EndgameStatistic endgameStatistic = new EndgameStatistic(manaInformation);
 
+	private transient EconomyStatistic economyStatistic = new EconomyStatistic(materialCounts);
 	private transient CombatStrengthInformation combatStrengthInfo;
 	private transient IMessenger messenger;
 
@@ -56,6 +57,7 @@ public class Player implements Serializable, IMessenger, IInGamePlayer, IOffersC
 
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
 		ois.defaultReadObject();
+		economyStatistic = new EconomyStatistic(materialCounts);
 		updateCombatStrengths();
 	}
 
@@ -90,6 +92,13 @@ public class Player implements Serializable, IMessenger, IInGamePlayer, IOffersC
 		return endgameStatistic;
 	}
 
+	/**
+	 * @return Returns the counters of the materials, movables and buildings of this player.
+	 */
+	public EconomyStatistic getEconomyStatistic() {
+		return economyStatistic;
+	}
+
 	private int getAmountOf(EMaterialType materialType) {
 		return materialCounts[materialType.ordinal];
 	}
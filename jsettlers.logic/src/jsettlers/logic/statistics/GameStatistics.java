@@ -17,20 +17,33 @@ package jsettlers.logic.statistics;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.statistics.IStatisticable;
+import jsettlers.logic.player.Player;
 import jsettlers.network.client.interfaces.IGameClock;
+import jsettlers.network.synchronic.timer.INetworkTimerable;
 
 /**
- * This class supplies the UI with statistics of the game.
+ * This class supplies the UI with statistics of the game. The current values are read from the counters of the player. When it is scheduled
+ * on the game clock with {@link #SAMPLING_PERIOD}, it also records them in a {@link StatisticHistory}.
  * 
  * @author Andreas Eberle
  * 
  */
-public class GameStatistics implements IStatisticable {
+public class GameStatistics implements IStatisticable, INetworkTimerable {
+	public static final short SAMPLING_PERIOD = 10000; // ms
+	private static final int HISTORY_LENGTH = 360; // one hour of samples
 
-	private IGameClock gameClock;
+	private static final int MOVABLES_OFFSET = EMaterialType.NUMBER_OF_MATERIALS;
+	private static final int JOBLESS_BEARERS_INDEX = MOVABLES_OFFSET + EMovableType.NUMBER_OF_MOVABLETYPES;
+	private static final int NUMBER_OF_VALUES = JOBLESS_BEARERS_INDEX + 1;
 
-	public GameStatistics(IGameClock gameTimer) {
+	private final IGameClock gameClock;
+	private final Player player;
+	private final StatisticHistory history = new StatisticHistory(HISTORY_LENGTH, NUMBER_OF_VALUES);
+	private final int[] sample = new int[NUMBER_OF_VALUES];
+
+	public GameStatistics(IGameClock gameTimer, Player player) {
 		this.gameClock = gameTimer;
+		this.player = player;
 	}
 
 	@Override
@@ -40,20 +53,48 @@ public class GameStatistics implements IStatisticable {
 
 	@Override
 	public int getNumberOf(EMaterialType materialType) {
-		// TODO Auto-generated method stub
-		return 0;
+		return player.getEconomyStatistic().getAmountOf(materialType);
 	}
 
 	@Override
 	public int getNumberOf(EMovableType movableType) {
-		// TODO Auto-generated method stub
-		return 0;
+		return player.getEconomyStatistic().getNumberOf(movableType);
 	}
 
 	@Override
 	public int getJoblessBearers() {
-		// TODO Auto-generated method stub
-		return 0;
+		return player.getEconomyStatistic().getJoblessBearers();
+	}
+
+	@Override
+	public void timerEvent() {
+		for (EMaterialType materialType : EMaterialType.values) {
+			sample[getHistoryIndex(materialType)] = getNumberOf(materialType);
+		}
+		for (EMovableType movableType : EMovableType.values) {
+			sample[getHistoryIndex(movableType)] = getNumberOf(movableType);
+		}
+		sample[JOBLESS_BEARERS_INDEX] = getJoblessBearers();
+
+		history.add(getGameTime(), sample);
+	}
+
+	/**
+	 * @return Returns the recorded samples of the statistics. Use the getHistoryIndex() methods to get the index of a value.
+	 */
+	public StatisticHistory getHistory() {
+		return history;
+	}
+
+	public static int getHistoryIndex(EMaterialType materialType) {
+		return materialType.ordinal;
 	}
 
+	public static int getHistoryIndex(EMovableType movableType) {
+		return MOVABLES_OFFSET + movableType.ordinal();
+	}
+
+	public static int getJoblessBearersHistoryIndex() {
+		return JOBLESS_BEARERS_INDEX;
+	}
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.statistics;
+
+/**
+ * A ring buffer holding the last samples of a fixed number of statistic values. When the buffer is full, adding a sample overwrites the oldest
+ * one. Samples are added by the game clock and can be read by other threads, e.g. to draw charts.
+ */
+public final class StatisticHistory {
+	private final int[] times;
+	private final int[][] samples;
+
+	private int next = 0;
+	private int size = 0;
+
+	/**
+	 * 
+	 * @param capacity
+	 *            The maximum number of samples kept.
+	 * @param numberOfValues
+	 *            The number of values of each sample.
+	 */
+	public StatisticHistory(int capacity, int numberOfValues) {
+		this.times = new int[capacity];
+		this.samples = new int[capacity][numberOfValues];
+	}
+
+	/**
+	 * Adds a sample. The values are copied, so the given array can be reused.
+	 * 
+	 * @param time
+	 *            The game time of the sample.
+	 * @param values
+	 *            The values of the sample.
+	 */
+	public synchronized void add(int time, int[] values) {
+		times[next] = time;
+		System.arraycopy(values, 0, samples[next], 0, samples[next].length);
+
+		next = (next + 1) % times.length;
+		size = Math.min(size + 1, times.length);
+	}
+
+	/**
+	 * @return Returns the number of samples currently stored.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * @param index
+	 *            Index of the sample. 0 is the oldest sample, {@link #size()} - 1 the newest one.
+	 * @return Returns the game time the sample has been taken at.
+	 */
+	public synchronized int getTime(int index) {
+		return times[getSlot(index)];
+	}
+
+	/**
+	 * @param index
+	 *            Index of the sample. 0 is the oldest sample, {@link #size()} - 1 the newest one.
+	 * @param valueIndex
+	 *            Index of the value in the sample.
+	 * @return Returns the value of the sample.
+	 */
+	public synchronized int getValue(int index, int valueIndex) {
+		return samples[getSlot(index)][valueIndex];
+	}
+
+	/**
+	 * @param valueIndex
+	 *            Index of the value in the samples.
+	 * @return Returns the given value of all stored samples, ordered from the oldest to the newest one.
+	 */
+	public synchronized int[] getValues(int valueIndex) {
+		int[] values = new int[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = samples[getSlot(i)][valueIndex];
+		}
+		return values;
+	}
+
+	private int getSlot(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index: " + index + " size: " + size);
+		}
+		return (next - size + index + times.length) % times.length;
+	}
+}
@@ -18,41 +18,75 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
 
 import jsettlers.common.map.MapLoadException;
+import jsettlers.logic.GameInstance;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.network.client.interfaces.IGameClock;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 
+/**
+ * This timer schedules {@link IScheduledTimerable}s in slices of {@value #TIME_SLICE} ms with a hierarchical timing wheel.
+ * <p />
+ * Level 0 is a wheel of {@value #TIME_SLOTS} slots with one slot per time slice. Timerables requesting a longer delay are stored in one of the
+ * overflow levels. Each slot of overflow level n covers as much time as the whole level n-1. When the time reaches such a slot, its entries are
+ * redistributed to the lower levels. Therefore arbitrarily long delays can be scheduled.
+ * <p />
+ * Timerables scheduled for the same slot are executed in the order they have been added. They are executed sequentially on the thread of the
+ * game clock, because they share the random generator of {@link MatchConstants}, the path finders of the grid and the partition managers.
+ * Executing them concurrently would therefore break the determinism needed by lockstep multiplayer games and replays.
+ * <p />
+ * Every {@link GameInstance} has its own timer. The static methods use the one of {@link GameInstance#current()}.
+ */
 public final class RescheduleTimer implements INetworkTimerable, Serializable {
-	private static final long serialVersionUID = -1962430988827211391L;
+	private static final long serialVersionUID = -3394876417265913270L;
 
 	private static final int FUTURE_TIME = 32000;
 	private static final short TIME_SLICE = 25; // ms
 	private static final int TIME_SLOTS = FUTURE_TIME / TIME_SLICE;
 
-	private static RescheduleTimer uniIns;
+	private static final int OVERFLOW_LEVELS = 3; // together with level 0 this covers more than Integer.MAX_VALUE ms
+	private static final int OVERFLOW_SLOTS = 64;
 
-	@SuppressWarnings("unchecked")
-	private final ArrayList<IScheduledTimerable> timerables[] = new ArrayList[TIME_SLOTS];
-	private int currTimeSlot = 0;
+	private final TimerableSlot[] slots = new TimerableSlot[TIME_SLOTS];
+	private final TimerableSlot[][] overflowSlots = new TimerableSlot[OVERFLOW_LEVELS][OVERFLOW_SLOTS];
+	/**
+	 * Number of ticks one slot of each overflow level covers.
+	 */
+	private final long[] overflowSlotTicks = new long[OVERFLOW_LEVELS];
+
+	private long currTick = 0;
+	private int lastSlotLoad = 0;
+	private int maxSlotLoad = 0;
 
 	protected RescheduleTimer() {
 		for (int i = 0; i < TIME_SLOTS; i++) {
-			timerables[i] = new ArrayList<IScheduledTimerable>();
+			slots[i] = new TimerableSlot();
+		}
+
+		long slotTicks = TIME_SLOTS;
+		for (int level = 0; level < OVERFLOW_LEVELS; level++) {
+			overflowSlotTicks[level] = slotTicks;
+			for (int i = 0; i < OVERFLOW_SLOTS; i++) {
+				overflowSlots[level][i] = new TimerableSlot();
+			}
+			slotTicks *= OVERFLOW_SLOTS;
 		}
 	}
 
-	public static synchronized void stop() {
-		if (uniIns != null) {
-			MatchConstants.clock().remove(uniIns);
-			uniIns = null;
+	public static void stop() {
+		GameInstance game = GameInstance.current();
+		synchronized (game) {
+			RescheduleTimer timer = game.getRescheduleTimer();
+			if (timer != null) {
+				game.getClock().remove(timer);
+				game.setRescheduleTimer(null);
+			}
 		}
 	}
 
 	/**
-	 * Schedules the given {@link IScheduledTimerable} in max delay milliseconds.
+	 * Schedules the given {@link IScheduledTimerable} in delay milliseconds.
 	 * 
 	 * @param t
 	 * @param delay
@@ -61,7 +95,7 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 		get().addTimerable(t, delay);
 	}
 
-	private void addTimerable(IScheduledTimerable t, int delay) {
+	void addTimerable(IScheduledTimerable t, int delay) {
 		if (delay <= 0) {
 			return; // don't schedule if requested delay is negative or zero
 		}
@@ -69,23 +103,45 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 		int delaySlots = delay / TIME_SLICE;
 		delaySlots = delaySlots > 0 ? delaySlots : 1; // ensure at least one slot delay
 
-		assert delaySlots < TIME_SLOTS : "SCHEDULED TO FAR IN THE FUTURE! " + delay + "ms";
+		schedule(t, currTick + delaySlots);
+	}
+
+	private void schedule(IScheduledTimerable t, long dueTick) {
+		if (dueTick - currTick < TIME_SLOTS) {
+			slots[(int) (dueTick % TIME_SLOTS)].add(t, dueTick);
+			return;
+		}
 
-		timerables[(currTimeSlot + delaySlots) % TIME_SLOTS].add(t);
+		for (int level = 0; level < OVERFLOW_LEVELS; level++) {
+			long slotTicks = overflowSlotTicks[level];
+			long dueSlot = dueTick / slotTicks;
+			if (dueSlot - currTick / slotTicks < OVERFLOW_SLOTS || level == OVERFLOW_LEVELS - 1) {
+				overflowSlots[level][(int) (dueSlot % OVERFLOW_SLOTS)].add(t, dueTick);
+				return;
+			}
+		}
 	}
 
-	private static synchronized RescheduleTimer get() {
-		if (uniIns == null) {
-			uniIns = new RescheduleTimer();
+	private static RescheduleTimer get() {
+		GameInstance game = GameInstance.current();
+		synchronized (game) {
+			RescheduleTimer timer = game.getRescheduleTimer();
+			if (timer == null) {
+				timer = new RescheduleTimer();
+				game.setRescheduleTimer(timer);
+			}
+			return timer;
 		}
-		return uniIns;
 	}
 
 	@Override
 	public void timerEvent() {
-		ArrayList<IScheduledTimerable> queue = timerables[currTimeSlot];
+		cascadeOverflowLevels();
 
-		for (IScheduledTimerable curr : queue) {
+		TimerableSlot slot = slots[(int) (currTick % TIME_SLOTS)];
+
+		for (int i = 0; i < slot.size(); i++) {
+			IScheduledTimerable curr = slot.getTimerable(i);
 			try {
 				int delay = curr.timerEvent();
 				addTimerable(curr, delay);
@@ -101,21 +157,98 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 			}
 		}
 
-		queue.clear();
-		currTimeSlot = (currTimeSlot + 1) % TIME_SLOTS;
+		lastSlotLoad = slot.size();
+		maxSlotLoad = Math.max(maxSlotLoad, lastSlotLoad);
+
+		slot.clear();
+		currTick++;
+	}
+
+	/**
+	 * Moves the entries of every overflow slot starting at the current tick to the lower levels. The higher levels are handled first, so their
+	 * entries can be further distributed by the lower levels in the same step.
+	 */
+	private void cascadeOverflowLevels() {
+		for (int level = OVERFLOW_LEVELS - 1; level >= 0; level--) {
+			long slotTicks = overflowSlotTicks[level];
+			if (currTick % slotTicks != 0) {
+				continue;
+			}
+
+			TimerableSlot overflowSlot = overflowSlots[level][(int) ((currTick / slotTicks) % OVERFLOW_SLOTS)];
+			for (int i = 0; i < overflowSlot.size(); i++) {
+				schedule(overflowSlot.getTimerable(i), overflowSlot.getDueTick(i));
+			}
+			overflowSlot.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of timerables currently scheduled in the level 0 slot the given number of slots ahead of the current one.
+	 * 
+	 * @param slotsAhead
+	 *            Offset to the current slot. Must be in the interval [0, {@link #getNumberOfSlots()}).
+	 * @return
+	 */
+	public int getSlotOccupancy(int slotsAhead) {
+		assert 0 <= slotsAhead && slotsAhead < TIME_SLOTS;
+		return slots[(int) ((currTick + slotsAhead) % TIME_SLOTS)].size();
+	}
+
+	/**
+	 * @return Returns the number of timerables that are scheduled in the overflow levels, i.e. more than {@value #FUTURE_TIME} ms in the
+	 *         future.
+	 */
+	public int getOverflowOccupancy() {
+		int occupancy = 0;
+		for (TimerableSlot[] level : overflowSlots) {
+			for (TimerableSlot slot : level) {
+				occupancy += slot.size();
+			}
+		}
+		return occupancy;
+	}
+
+	/**
+	 * @return Returns the number of timerables that have been executed in the last time slice.
+	 */
+	public int getLastSlotLoad() {
+		return lastSlotLoad;
+	}
+
+	/**
+	 * @return Returns the maximum number of timerables that have been executed in a single time slice so far.
+	 */
+	public int getMaxSlotLoad() {
+		return maxSlotLoad;
+	}
+
+	public static int getNumberOfSlots() {
+		return TIME_SLOTS;
+	}
+
+	public static int getTimeSlice() {
+		return TIME_SLICE;
+	}
+
+	/**
+	 * @return Returns the currently running {@link RescheduleTimer} or null if no game is running.
+	 */
+	public static RescheduleTimer getRunning() {
+		return GameInstance.current().getRescheduleTimer();
 	}
 
 	public static void loadFrom(ObjectInputStream ois) throws MapLoadException {
 		try {
 			stop();
-			uniIns = (RescheduleTimer) ois.readObject();
+			GameInstance.current().setRescheduleTimer((RescheduleTimer) ois.readObject());
 		} catch (Throwable t) {
 			throw new MapLoadException(t);
 		}
 	}
 
 	public static void saveTo(ObjectOutputStream oos) throws IOException {
-		oos.writeObject(uniIns);
+		oos.writeObject(GameInstance.current().getRescheduleTimer());
 		oos.flush();
 	}
 
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A growable array of {@link IScheduledTimerable}s forming one slot of the {@link RescheduleTimer}'s timing wheel. Next to the timerables, the
+ * absolute tick they are due at is stored in a primitive array. This is needed to distribute the entries of the overflow levels to the lower
+ * levels.
+ * <p />
+ * The arrays are only grown, never shrunk, so once a slot reached its working size, adding and clearing does not allocate any memory.
+ */
+final class TimerableSlot implements Serializable {
+	private static final long serialVersionUID = 7420446946120475262L;
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private IScheduledTimerable[] timerables;
+	private long[] dueTicks;
+	private int size = 0;
+
+	TimerableSlot() {
+		this.timerables = new IScheduledTimerable[INITIAL_CAPACITY];
+		this.dueTicks = new long[INITIAL_CAPACITY];
+	}
+
+	void add(IScheduledTimerable timerable, long dueTick) {
+		if (size >= timerables.length) {
+			int newCapacity = timerables.length * 2;
+			timerables = Arrays.copyOf(timerables, newCapacity);
+			dueTicks = Arrays.copyOf(dueTicks, newCapacity);
+		}
+
+		timerables[size] = timerable;
+		dueTicks[size] = dueTick;
+		size++;
+	}
+
+	IScheduledTimerable getTimerable(int index) {
+		return timerables[index];
+	}
+
+	long getDueTick(int index) {
+		return dueTicks[index];
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all entries from this slot. The references are released to not keep dead objects alive, but the arrays are kept for reuse.
+	 */
+	void clear() {
+		Arrays.fill(timerables, 0, size, null);
+		size = 0;
+	}
+}
@@ -33,6 +33,7 @@ import jsettlers.common.player.IInGamePlayer;
 import jsettlers.common.resources.ResourceManager;
 import jsettlers.common.statistics.IStatisticable;
 import jsettlers.graphics.map.IMapInterfaceConnector;
+import jsettlers.graphics.map.UIState;
 import jsettlers.graphics.map.draw.ImageProvider;
 import jsettlers.graphics.progress.EProgressState;
 import jsettlers.graphics.startscreen.interfaces.EGameError;
@@ -41,8 +42,11 @@ import jsettlers.graphics.startscreen.interfaces.IStartedGame;
 import jsettlers.graphics.startscreen.interfaces.IStartingGame;
 import jsettlers.graphics.startscreen.interfaces.IStartingGameListener;
 import jsettlers.input.GuiInterface;
+import jsettlers.input.GuiTaskExecutor;
 import jsettlers.input.IGameStoppable;
+import jsettlers.input.ITaskExecutorGuiInterface;
 import jsettlers.input.PlayerState;
+import jsettlers.logic.GameInstance;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.MainGrid;
@@ -74,10 +78,12 @@ public class JSettlersGame {
 	private final boolean multiplayer;
 	private final DataInputStream replayFileInputStream;
 
+	private final GameInstance gameInstance = new GameInstance();
 	private final GameRunner gameRunner;
 
 	private boolean stopped = false;
 	private boolean started = false;
+	private boolean headless = false;
 
 	private PrintStream systemErrorStream;
 	private PrintStream systemOutStream;
@@ -140,6 +146,23 @@ public class JSettlersGame {
 				replayStartInformation.getPlayerSettings(), true, false, replayFileInputStream);
 	}
 
+	/**
+	 * Configures the game to only run the deterministic game logic. A headless game does not preload images, does not start the threads
+	 * calculating the borders, the fog of war and the construction marks, does not write a replay log and does not start the game clock. The
+	 * game is driven by calling {@link jsettlers.network.client.interfaces.IGameClock#fastForwardTo(int)} after the startup finished.
+	 * <p />
+	 * This must be called before {@link #start()}.
+	 *
+	 * @param headless
+	 *            true to start the game without the threads only needed for displaying it.
+	 */
+	public synchronized void setHeadless(boolean headless) {
+		if (started) {
+			throw new IllegalStateException("The game has already been started.");
+		}
+		this.headless = headless;
+	}
+
 	/**
 	 * Starts the game in a new thread. Returns immediately.
 	 *
@@ -153,6 +176,17 @@ public class JSettlersGame {
 		return gameRunner;
 	}
 
+	/**
+	 * Returns the {@link GameInstance} holding the state of this game. It is bound to the thread running the game and all threads started by it.
+	 * A headless game is driven by the thread calling {@link jsettlers.network.client.interfaces.IGameClock#fastForwardTo(int)}, so that thread
+	 * has to bind the instance with {@link GameInstance#bind(GameInstance)} before.
+	 *
+	 * @return
+	 */
+	public GameInstance getGameInstance() {
+		return gameInstance;
+	}
+
 	public void stop() {
 		synchronized (stopMutex) {
 			printEndgameStatistic();
@@ -182,15 +216,17 @@ public class JSettlersGame {
 
 		@Override
 		public void run() {
+			GameInstance.bind(gameInstance);
+			// threads of the user interface use the most recently started game until it ends
+			GameInstance previousDefaultInstance = GameInstance.setDefault(gameInstance);
 			try {
 				updateProgressListener(EProgressState.LOADING, 0.1f);
 
 				MatchConstants.init(networkConnector.getGameClock(), randomSeed);
-				MatchConstants.clock().setReplayLogStream(createReplayFileStream());
-				Movable.resetState();
+				MatchConstants.clock().setReplayLogStream(headless ? null : createReplayFileStream());
 
 				updateProgressListener(EProgressState.LOADING_MAP, 0.3f);
-				Thread imagePreloader = ImageProvider.getInstance().startPreloading();
+				Thread imagePreloader = headless ? null : ImageProvider.getInstance().startPreloading();
 
 				MainGridWithUiSettings gridWithUiState = mapCreator.loadMainGrid(playerSettings);
 				mainGrid = gridWithUiState.getMainGrid();
@@ -199,10 +235,15 @@ public class JSettlersGame {
 				RescheduleTimer.schedule(MatchConstants.clock()); // schedule timer
 
 				updateProgressListener(EProgressState.LOADING_IMAGES, 0.7f);
-				statistics = new GameStatistics(MatchConstants.clock());
+				statistics = new GameStatistics(MatchConstants.clock(), mainGrid.getPartitionsGrid().getPlayer(playerId));
+				networkConnector.getGameClock().schedule(statistics, GameStatistics.SAMPLING_PERIOD);
 
 				mainGrid.initForPlayer(playerId, playerState.getFogOfWar());
-				mainGrid.startThreads();
+				if (!headless) {
+					mainGrid.startThreads();
+				} else {
+					mainGrid.stopThreads(); // the borders and the fog of war are only needed to display the map, drop their pending work
+				}
 
 				if (imagePreloader != null)
 					imagePreloader.join(); // Wait for ImageProvider to finish loading the images
@@ -218,16 +259,24 @@ public class JSettlersGame {
 				waitForAllPlayersStartFinished(networkConnector);
 
 				final IMapInterfaceConnector connector = startingGameListener.preLoadFinished(this);
-				GuiInterface guiInterface = new GuiInterface(connector, MatchConstants.clock(), networkConnector.getTaskScheduler(),
-						mainGrid.getGuiInputGrid(), this, playerId, multiplayer);
+				GuiInterface guiInterface = null;
+				if (!headless) {
+					guiInterface = new GuiInterface(connector, MatchConstants.clock(), networkConnector.getTaskScheduler(),
+							mainGrid.getGuiInputGrid(), this, playerId, multiplayer);
+				} else {
+					MatchConstants.clock().setTaskExecutor(
+							new GuiTaskExecutor(mainGrid.getGuiInputGrid(), new HeadlessGuiInterface(connector), playerId));
+				}
 				connector.loadUIState(playerState.getUiState()); // This is required after the GuiInterface instantiation so that
 				// ConstructionMarksThread has it's mapArea variable initialized via the EActionType.SCREEN_CHANGE event.
 
 				aiExecutor = new AiExecutor(playerSettings, mainGrid, networkConnector.getTaskScheduler());
 				networkConnector.getGameClock().schedule(aiExecutor, (short) 10000);
 
-				MatchConstants.clock().startExecution(); // WARNING: GAME CLOCK IS STARTED! NO CONFIGURATION AFTER THIS POINT!
-															// =================================
+				if (!headless) {
+					MatchConstants.clock().startExecution(); // WARNING: GAME CLOCK IS STARTED! NO CONFIGURATION AFTER THIS POINT!
+																// =================================
+				}
 				gameRunning = true;
 
 				startingGameListener.startFinished();
@@ -245,7 +294,9 @@ public class JSettlersGame {
 				MatchConstants.clock().stopExecution();
 				connector.shutdown();
 				mainGrid.stopThreads();
-				guiInterface.stop();
+				if (guiInterface != null) {
+					guiInterface.stop();
+				}
 				RescheduleTimer.stop();
 				Movable.resetState();
 				Building.dropAllBuildings();
@@ -259,6 +310,7 @@ public class JSettlersGame {
 				e.printStackTrace();
 				reportFail(EGameError.UNKNOWN_ERROR, e);
 			} finally {
+				GameInstance.restoreDefault(gameInstance, previousDefaultInstance);
 				if (exitListener != null) {
 					exitListener.gameExited(this);
 				}
@@ -373,6 +425,27 @@ public class JSettlersGame {
 
 	}
 
+	/**
+	 * Replaces the {@link GuiInterface} of a headless game for the {@link GuiTaskExecutor}. There is no selection to be refreshed and the UI state is
+	 * taken from the {@link IMapInterfaceConnector}.
+	 */
+	private static class HeadlessGuiInterface implements ITaskExecutorGuiInterface {
+		private final IMapInterfaceConnector connector;
+
+		HeadlessGuiInterface(IMapInterfaceConnector connector) {
+			this.connector = connector;
+		}
+
+		@Override
+		public void refreshSelection() {
+		}
+
+		@Override
+		public UIState getUIState() {
+			return connector.getUIState();
+		}
+	}
+
 	private void configureLogging(final IGameCreator mapcreator) {
 		try {
 			systemErrorStream = System.err;
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.main.replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import jsettlers.graphics.startscreen.interfaces.IStartedGame;
+import jsettlers.input.tasks.EGuiAction;
+import jsettlers.input.tasks.SimpleGuiTask;
+import jsettlers.logic.GameInstance;
+import jsettlers.logic.map.save.IGameCreator;
+import jsettlers.logic.map.save.MapList;
+import jsettlers.logic.map.save.loader.MapLoader;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.JSettlersGame;
+import jsettlers.main.ReplayStartInformation;
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.client.OfflineNetworkConnector;
+
+/**
+ * Runs replays and games without a user interface as fast as the CPU allows. The games are started headless (see
+ * {@link JSettlersGame#setHeadless(boolean)}), so only the deterministic game logic is executed.
+ */
+public final class HeadlessSimulation {
+	private HeadlessSimulation() {
+	}
+
+	/**
+	 * Plays the given replay to the given game time.
+	 * 
+	 * @param replayFile
+	 *            The replay to be played.
+	 * @param targetGameTimeMs
+	 *            The game time the replay is played to.
+	 * @param createSavegame
+	 *            If true, a savegame is created at the target game time.
+	 * @return The result of the simulation.
+	 * @throws IOException
+	 *             If the replay could not be loaded or the savegame could not be written.
+	 */
+	public static SimulationResult simulateReplay(File replayFile, int targetGameTimeMs, boolean createSavegame) throws IOException {
+		OfflineNetworkConnector networkConnector = ReplayTool.createPausingOfflineNetworkConnector();
+		JSettlersGame game = JSettlersGame.loadFromReplayFile(replayFile, networkConnector, new ReplayStartInformation());
+		return simulate(replayFile.getPath(), game, networkConnector, targetGameTimeMs, createSavegame);
+	}
+
+	/**
+	 * Plays a new game on the given map to the given game time. Usually, all players are controlled by the AI.
+	 * 
+	 * @param mapCreator
+	 *            The map to be played.
+	 * @param randomSeed
+	 *            The seed of the game's random generator.
+	 * @param playerSettings
+	 *            The settings of the players.
+	 * @param targetGameTimeMs
+	 *            The game time the game is played to.
+	 * @param createSavegame
+	 *            If true, a savegame is created at the target game time.
+	 * @return The result of the simulation.
+	 * @throws IOException
+	 *             If the savegame could not be written.
+	 */
+	public static SimulationResult simulateGame(IGameCreator mapCreator, long randomSeed, PlayerSetting[] playerSettings, int targetGameTimeMs,
+			boolean createSavegame) throws IOException {
+		OfflineNetworkConnector networkConnector = ReplayTool.createPausingOfflineNetworkConnector();
+		JSettlersGame game = new JSettlersGame(mapCreator, randomSeed, networkConnector, (byte) 0, playerSettings);
+		return simulate(mapCreator.getMapName(), game, networkConnector, targetGameTimeMs, createSavegame);
+	}
+
+	private static SimulationResult simulate(String name, JSettlersGame game, OfflineNetworkConnector networkConnector, int targetGameTimeMs,
+			boolean createSavegame) throws IOException {
+		long loadingStart = System.nanoTime();
+		game.setHeadless(true);
+		IStartedGame startedGame = ReplayTool.waitForGameStartup(game.start());
+
+		long simulationStart = System.nanoTime();
+		int startGameTime = networkConnector.getGameClock().getTime();
+
+		if (createSavegame) {
+			networkConnector.scheduleTaskAt(targetGameTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD,
+					new SimpleGuiTask(EGuiAction.QUICK_SAVE, (byte) 0));
+		}
+		GameInstance previousInstance = GameInstance.bind(game.getGameInstance()); // the game logic is executed on this thread
+		try {
+			networkConnector.getGameClock().fastForwardTo(targetGameTimeMs);
+		} finally {
+			GameInstance.bind(previousInstance);
+		}
+
+		long simulationEnd = System.nanoTime();
+		int endGameTime = networkConnector.getGameClock().getTime();
+
+		ReplayTool.awaitShutdown(startedGame);
+
+		MapLoader savegame = null;
+		if (createSavegame) {
+			try {
+				MapList.getDefaultList().awaitPendingSaves();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+			savegame = ReplayTool.getNewestSavegame();
+		}
+
+		return new SimulationResult(name, endGameTime - startGameTime, TimeUnit.NANOSECONDS.toMillis(simulationStart - loadingStart),
+				TimeUnit.NANOSECONDS.toMillis(simulationEnd - simulationStart), savegame);
+	}
+
+	/**
+	 * The result of a headless simulation.
+	 */
+	public static class SimulationResult {
+		private final String name;
+		private final int simulatedGameTimeMs;
+		private final long loadingTimeMs;
+		private final long simulationTimeMs;
+		private final MapLoader savegame;
+
+		SimulationResult(String name, int simulatedGameTimeMs, long loadingTimeMs, long simulationTimeMs, MapLoader savegame) {
+			this.name = name;
+			this.simulatedGameTimeMs = simulatedGameTimeMs;
+			this.loadingTimeMs = loadingTimeMs;
+			this.simulationTimeMs = simulationTimeMs;
+			this.savegame = savegame;
+		}
+
+		public int getSimulatedGameTimeMs() {
+			return simulatedGameTimeMs;
+		}
+
+		public long getLoadingTimeMs() {
+			return loadingTimeMs;
+		}
+
+		public long getSimulationTimeMs() {
+			return simulationTimeMs;
+		}
+
+		/**
+		 * @return The savegame created at the target game time or null if no savegame has been requested.
+		 */
+		public MapLoader getSavegame() {
+			return savegame;
+		}
+
+		/**
+		 * @return The number of seconds of game time simulated per second of wall time.
+		 */
+		public float getSimulatedSecondsPerWallSecond() {
+			return simulatedGameTimeMs / (float) Math.max(1, simulationTimeMs);
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ENGLISH, "%s: simulated %.1f min in %.1f s (loading: %.1f s) => %.1f simulated seconds per wall second%s",
+					name, simulatedGameTimeMs / 60000f, simulationTimeMs / 1000f, loadingTimeMs / 1000f, getSimulatedSecondsPerWallSecond(),
+					savegame != null ? ", savegame: " + savegame : "");
+		}
+	}
+}
@@ -26,7 +26,7 @@ import jsettlers.graphics.startscreen.interfaces.IStartedGame;
 import jsettlers.graphics.startscreen.interfaces.IStartingGame;
 import jsettlers.input.tasks.EGuiAction;
 import jsettlers.input.tasks.SimpleGuiTask;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.GameInstance;
 import jsettlers.logic.map.save.MapList;
 import jsettlers.logic.map.save.loader.MapLoader;
 import jsettlers.main.JSettlersGame;
@@ -34,6 +34,7 @@ import jsettlers.main.JSettlersGame.GameRunner;
 import jsettlers.main.ReplayStartInformation;
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.client.OfflineNetworkConnector;
+import jsettlers.network.client.interfaces.IGameClock;
 import jsettlers.network.client.interfaces.INetworkConnector;
 
 public class ReplayTool {
@@ -54,7 +55,7 @@ public class ReplayTool {
 
 		// create a replay basing on the savegame and containing the remaining tasks.
 		MapLoader newSavegame = getNewestSavegame();
-		createReplayOfRemainingTasks(newSavegame, replayStartInformation, newReplayFile);
+		createReplayOfRemainingTasks(newSavegame, replayStartInformation, newReplayFile, networkConnector.getGameClock());
 	}
 
 	public static OfflineNetworkConnector createPausingOfflineNetworkConnector() {
@@ -66,20 +67,31 @@ public class ReplayTool {
 	public static MapLoader playGameToTargetTimeAndGetSavegame(float targetGameTimeMinutes, OfflineNetworkConnector networkConnector,
 			JSettlersGame game) throws IOException {
 		final int targetGameTimeMs = (int) (targetGameTimeMinutes * 60 * 1000);
+		game.setHeadless(true);
 		IStartingGame startingGame = game.start();
 		IStartedGame startedGame = waitForGameStartup(startingGame);
 
 		// schedule the save task and run the game to the target game time
 		networkConnector.scheduleTaskAt(targetGameTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD,
 				new SimpleGuiTask(EGuiAction.QUICK_SAVE, (byte) 0));
-		MatchConstants.clock().fastForwardTo(targetGameTimeMs);
+		GameInstance previousInstance = GameInstance.bind(game.getGameInstance()); // the game logic is executed on this thread
+		try {
+			networkConnector.getGameClock().fastForwardTo(targetGameTimeMs);
+		} finally {
+			GameInstance.bind(previousInstance);
+		}
 
 		awaitShutdown(startedGame);
 
+		try {
+			MapList.getDefaultList().awaitPendingSaves();
+		} catch (InterruptedException e) {
+			throw new IOException(e);
+		}
 		return getNewestSavegame();
 	}
 
-	private static MapLoader getNewestSavegame() {
+	static MapLoader getNewestSavegame() {
 		List<MapLoader> savedMaps = MapList.getDefaultList().getSavedMaps().getItems();
 		if (savedMaps.isEmpty()) {
 			return null;
@@ -131,8 +143,8 @@ public class ReplayTool {
 		return JSettlersGame.loadFromReplayFile(replayFile, networkConnector, replayStartInformation);
 	}
 
-	private static void createReplayOfRemainingTasks(MapLoader newSavegame, ReplayStartInformation replayStartInformation, String newReplayFile)
-			throws IOException {
+	private static void createReplayOfRemainingTasks(MapLoader newSavegame, ReplayStartInformation replayStartInformation, String newReplayFile,
+			IGameClock gameClock) throws IOException {
 		System.out.println("Creating new replay file (" + newReplayFile + ")...");
 		new File(newReplayFile).getAbsoluteFile().getParentFile().mkdirs();
 
@@ -141,7 +153,7 @@ public class ReplayTool {
 
 		DataOutputStream dos = new DataOutputStream(new FileOutputStream(newReplayFile));
 		replayInfo.serialize(dos);
-		MatchConstants.clock().saveRemainingTasks(dos);
+		gameClock.saveRemainingTasks(dos);
 
 		dos.close();
 
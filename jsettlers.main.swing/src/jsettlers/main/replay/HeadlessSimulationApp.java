@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.main.replay;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.utils.MainUtils;
+import jsettlers.common.utils.OptionableProperties;
+import jsettlers.graphics.swing.resources.SwingResourceLoader;
+import jsettlers.logic.map.save.DirectoryMapLister;
+import jsettlers.logic.map.save.loader.MapLoader;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.replay.HeadlessSimulation.SimulationResult;
+import jsettlers.main.swing.SwingManagedJSettlers;
+
+/**
+ * Command line tool running replays or AI games without user interface at maximum speed. It can be used to verify a batch of replays and to
+ * benchmark the game logic.
+ * <p>
+ * Usage: --targetTime=&lt;MINUTES&gt; (--replayFile=&lt;FILE&gt;[,&lt;FILE&gt;...] | --mapfile=&lt;MAP&gt; [--random=&lt;SEED&gt;] [--all-ai]) [--save]
+ */
+public class HeadlessSimulationApp {
+
+	public static void main(String[] args) throws FileNotFoundException, IOException {
+		CommonConstants.ENABLE_CONSOLE_LOGGING = true;
+
+		OptionableProperties options = MainUtils.loadOptions(args);
+		SwingManagedJSettlers.loadOptionalSettings(options);
+		SwingResourceLoader.setupResourcesManager(SwingManagedJSettlers.getConfigFile(options, "config.prp"));
+
+		String targetTimeString = options.getProperty("targetTime");
+		if (targetTimeString == null)
+			throw new IllegalArgumentException("Target time needs to be specified with --targetTime=<MINUTES>");
+		int targetGameTimeMs = Integer.valueOf(targetTimeString) * 60 * 1000;
+		boolean createSavegame = options.isOptionSet("save");
+
+		String replayFilesString = options.getProperty("replayFile");
+		String mapfile = options.getProperty("mapfile");
+
+		int failures = 0;
+		long simulatedGameTimeMs = 0;
+		long simulationTimeMs = 0;
+
+		if (replayFilesString != null) {
+			for (String replayFileString : replayFilesString.split(",")) {
+				File replayFile = new File(replayFileString.trim());
+				try {
+					if (!replayFile.exists())
+						throw new FileNotFoundException("Replay file can not be found: " + replayFile);
+
+					SimulationResult result = HeadlessSimulation.simulateReplay(replayFile, targetGameTimeMs, createSavegame);
+					System.out.println(result);
+					simulatedGameTimeMs += result.getSimulatedGameTimeMs();
+					simulationTimeMs += result.getSimulationTimeMs();
+				} catch (Exception e) {
+					System.err.println("Simulating replay " + replayFile + " failed:");
+					e.printStackTrace();
+					failures++;
+				}
+			}
+		} else if (mapfile != null) {
+			long randomSeed = options.containsKey("random") ? Long.parseLong(options.getProperty("random")) : 0;
+			try {
+				MapLoader mapLoader = MapLoader.getLoaderForListedMap(new DirectoryMapLister.ListedMapFile(new File(mapfile)));
+				PlayerSetting[] playerSettings = PlayerSetting.createDefaultSettings((byte) 0, (byte) mapLoader.getMaxPlayers());
+
+				SimulationResult result = HeadlessSimulation.simulateGame(mapLoader, randomSeed, playerSettings, targetGameTimeMs, createSavegame);
+				System.out.println(result);
+				simulatedGameTimeMs += result.getSimulatedGameTimeMs();
+				simulationTimeMs += result.getSimulationTimeMs();
+			} catch (Exception e) {
+				System.err.println("Simulating map " + mapfile + " failed:");
+				e.printStackTrace();
+				failures++;
+			}
+		} else {
+			throw new IllegalArgumentException("Either --replayFile=<FILE>[,<FILE>...] or --mapfile=<MAP> needs to be specified");
+		}
+
+		System.out.println("Total: simulated " + simulatedGameTimeMs / 1000 + " s of game time in " + simulationTimeMs / 1000f + " s; "
+				+ failures + " failure(s)");
+		System.exit(failures == 0 ? 0 : 1);
+	}
+}
@@ -19,6 +19,7 @@ import jsettlers.common.CommonConstants;
 import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.map.EDebugColorModes;
 import jsettlers.common.map.IGraphicsBackgroundListener;
+import jsettlers.common.map.IGraphicsChangeListener;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.map.partition.IPartitionData;
 import jsettlers.common.mapobject.IMapObject;
@@ -104,6 +105,11 @@ public class MapGraphics implements IGraphicsGrid {
 		data.setListener(backgroundListener);
 	}
 
+	@Override
+	public void setChangeListener(IGraphicsChangeListener changeListener) {
+		// the editor does not show a minimap
+	}
+
 	public void setShowResources(boolean b) {
 		showResources = b;
 	}
@@ -17,6 +17,7 @@ package jsettlers.network;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import jsettlers.network.synchronic.timer.NetworkTimer;
 
@@ -52,6 +53,35 @@ public final class NetworkConstants {
 		public static final int BROADCAST_BUFFER_LENGTH = BROADCAST_MESSAGE.length();
 
 		public static final long OPEN_MATCHES_SEND_INTERVAL_MS = 5 * 1000;
+
+		/**
+		 * The number of threads handling the sockets of all clients. By default, one per processor.
+		 */
+		public static final int NUMBER_OF_EVENT_LOOPS = Math.max(1, Runtime.getRuntime().availableProcessors());
+		/**
+		 * The number of threads sending the lockstep packets of all running matches.
+		 */
+		public static final int NUMBER_OF_LOCKSTEP_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		/**
+		 * The size of the direct buffers used to receive the packets. Packets that do not fit into a buffer are received into a heap array.
+		 */
+		public static final int NETWORK_BUFFER_SIZE = 16 * 1024;
+		/**
+		 * The maximum number of unused network buffers that are kept for reuse.
+		 */
+		public static final int MAX_POOLED_NETWORK_BUFFERS = 1024;
+		/**
+		 * The size of the pooled direct buffers a packet is serialized into for sending. Larger packets are moved to a heap buffer.
+		 */
+		public static final int FRAME_BUFFER_SIZE = 1024;
+		/**
+		 * The maximum number of unused frame buffers that are kept for reuse.
+		 */
+		public static final int MAX_POOLED_FRAME_BUFFERS = 4096;
+		/**
+		 * The maximum number of packets written to a socket with a single gathering write.
+		 */
+		public static final int MAX_GATHERED_FRAMES = 64;
 	}
 
 	public final static class Client {
@@ -164,5 +194,13 @@ public final class NetworkConstants {
 				throw new IOException(ex);
 			}
 		}
+
+		public static ENetworkKey readFrom(ByteBuffer buffer) throws IOException {
+			try {
+				return values[buffer.get()];
+			} catch (Exception ex) {
+				throw new IOException(ex);
+			}
+		}
 	}
 }
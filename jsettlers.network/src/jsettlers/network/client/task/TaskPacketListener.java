@@ -18,6 +18,7 @@ import java.io.IOException;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.client.task.packets.LockstepBatchPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
 import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
@@ -27,17 +28,19 @@ import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
  * @author Andreas Eberle
  * 
  */
-public class TaskPacketListener extends PacketChannelListener<SyncTasksPacket> {
+public class TaskPacketListener extends PacketChannelListener<LockstepBatchPacket> {
 
 	private final ISyncTasksPacketScheduler receiver;
 
 	public TaskPacketListener(ISyncTasksPacketScheduler receiver) {
-		super(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<SyncTasksPacket>(SyncTasksPacket.class));
+		super(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<LockstepBatchPacket>(LockstepBatchPacket.class));
 		this.receiver = receiver;
 	}
 
 	@Override
-	protected void receivePacket(ENetworkKey key, SyncTasksPacket packet) throws IOException {
-		receiver.scheduleSyncTasksPacket(packet);
+	protected void receivePacket(ENetworkKey key, LockstepBatchPacket packet) throws IOException {
+		for (SyncTasksPacket syncTasksPacket : packet.toSyncTasksPackets()) {
+			receiver.scheduleSyncTasksPacket(syncTasksPacket);
+		}
 	}
 }
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.client.task.packets;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.utils.VariableLengthInts;
+
+/**
+ * Releases a range of locksteps at once. The tasks of the batch are executed in the first lockstep, the following locksteps up to the last lockstep
+ * are empty. The server coalesces empty locksteps this way instead of sending a {@link SyncTasksPacket} for every lockstep.
+ */
+public class LockstepBatchPacket extends Packet {
+
+	private int firstLockstep;
+	private int lastLockstep;
+	private List<TaskPacket> tasks;
+
+	public LockstepBatchPacket() {
+	}
+
+	public LockstepBatchPacket(int firstLockstep, int lastLockstep, List<TaskPacket> tasks) {
+		assert firstLockstep <= lastLockstep : "empty lockstep range: " + firstLockstep + " - " + lastLockstep;
+
+		this.firstLockstep = firstLockstep;
+		this.lastLockstep = lastLockstep;
+		this.tasks = tasks;
+	}
+
+	@Override
+	public void serialize(DataOutputStream dos) throws IOException {
+		VariableLengthInts.write(dos, firstLockstep);
+		VariableLengthInts.write(dos, lastLockstep - firstLockstep);
+		VariableLengthInts.write(dos, tasks.size());
+
+		for (TaskPacket curr : tasks) {
+			curr.serialize(dos);
+		}
+	}
+
+	@Override
+	public void deserialize(DataInputStream dis) throws IOException {
+		firstLockstep = VariableLengthInts.read(dis);
+		lastLockstep = firstLockstep + VariableLengthInts.read(dis);
+		int numberOfTasks = VariableLengthInts.read(dis);
+		tasks = new LinkedList<TaskPacket>();
+
+		for (int i = 0; i < numberOfTasks; i++) {
+			TaskPacket task = TaskPacket.DEFAULT_DESERIALIZER.deserialize(null, dis);
+			tasks.add(task);
+		}
+	}
+
+	/**
+	 * Splits this batch into the {@link SyncTasksPacket}s that can be scheduled one after the other: One for the tasks in the first lockstep and one
+	 * unlocking the remaining empty locksteps.
+	 * 
+	 * @return The {@link SyncTasksPacket}s in the order of their locksteps.
+	 */
+	public List<SyncTasksPacket> toSyncTasksPackets() {
+		List<SyncTasksPacket> packets = new LinkedList<SyncTasksPacket>();
+		if (!tasks.isEmpty()) {
+			packets.add(new SyncTasksPacket(firstLockstep, tasks));
+		}
+		if (tasks.isEmpty() || lastLockstep > firstLockstep) {
+			packets.add(new SyncTasksPacket(lastLockstep, Collections.<TaskPacket> emptyList()));
+		}
+		return packets;
+	}
+
+	public int getFirstLockstep() {
+		return firstLockstep;
+	}
+
+	public int getLastLockstep() {
+		return lastLockstep;
+	}
+
+	public List<TaskPacket> getTasks() {
+		return tasks;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + firstLockstep;
+		result = prime * result + lastLockstep;
+		result = prime * result + ((tasks == null) ? 0 : tasks.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LockstepBatchPacket other = (LockstepBatchPacket) obj;
+		if (firstLockstep != other.firstLockstep)
+			return false;
+		if (lastLockstep != other.lastLockstep)
+			return false;
+		if (tasks == null) {
+			if (other.tasks != null)
+				return false;
+		} else if (!tasks.equals(other.tasks))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "locksteps: " + firstLockstep + " - " + lastLockstep + " tasks: " + tasks;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
+import jsettlers.network.infrastructure.channel.ping.PingPacketListener;
+import jsettlers.network.infrastructure.channel.ping.RoundTripTime;
+import jsettlers.network.infrastructure.channel.reject.RejectPacket;
+import jsettlers.network.infrastructure.log.Logger;
+import jsettlers.network.infrastructure.log.SwitchableLogger;
+
+/**
+ * The parts of an {@link IChannel} that do not depend on the way the data is transported: The registry of the {@link IChannelListener}s, the
+ * pinging, the statistics and the {@link IChannelClosedListener}. Implementations hand the received packets to
+ * {@link #receivePacket(ENetworkKey, int, DataInputStream)}.
+ */
+public abstract class AbstractChannel implements IChannel {
+	private final SwitchableLogger logger;
+	private final ChannelStatistics statistics = new ChannelStatistics();
+	private final Map<ENetworkKey, IChannelListener> listenerRegistry = new ConcurrentHashMap<ENetworkKey, IChannelListener>();
+	private final PingPacketListener pingPacketListener;
+
+	private IChannelClosedListener channelClosedListener;
+
+	protected AbstractChannel(Logger logger) {
+		this.logger = new SwitchableLogger(logger);
+
+		pingPacketListener = new PingPacketListener(this.logger, this);
+		registerListener(pingPacketListener);
+	}
+
+	@Override
+	public void registerListener(IChannelListener listener) {
+		ENetworkKey[] keys = listener.getKeys();
+		for (int i = 0; i < keys.length; i++) {
+			listenerRegistry.put(keys[i], listener);
+		}
+	}
+
+	@Override
+	public void removeListener(ENetworkKey key) {
+		listenerRegistry.remove(key);
+	}
+
+	/**
+	 * Hands a received packet to the listener registered for its key. If no listener is registered, a {@link RejectPacket} is sent to the partner.
+	 * 
+	 * @param key
+	 *            The key of the received packet.
+	 * @param length
+	 *            The length of the packet's data.
+	 * @param bufferIn
+	 *            A stream containing exactly the data of the packet.
+	 */
+	protected void receivePacket(ENetworkKey key, int length, DataInputStream bufferIn) throws IOException {
+		statistics.packetReceived(PacketFrame.HEADER_LENGTH + length);
+
+		IChannelListener listener = listenerRegistry.get(key);
+
+		if (listener != null) {
+			try {
+				listener.receive(key, length, bufferIn);
+				if (bufferIn.available() > 0) {
+					logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
+				}
+			} catch (Exception e) { // ignore exceptions thrown in receive
+				e.printStackTrace();
+			}
+		} else {
+			logger.warn("NO LISTENER FOUND for key: " + key + "   (" + this + ")");
+
+			if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
+				sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
+						new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
+			}
+		}
+	}
+
+	protected void notifyChannelClosed() {
+		IChannelClosedListener listener = channelClosedListener;
+		if (listener != null) {
+			listener.channelClosed();
+		}
+	}
+
+	/**
+	 * Gets the round trip time of this channel.
+	 * 
+	 * @return Returns the current round trip time of this channel.
+	 */
+	@Override
+	public RoundTripTime getRoundTripTime() {
+		return pingPacketListener.getRoundTripTime();
+	}
+
+	@Override
+	public void initPinging() {
+		pingPacketListener.initPinging();
+	}
+
+	@Override
+	public void setPingUpdateListener(IPingUpdateListener pingUpdateListener) {
+		pingPacketListener.setPingUpdateListener(pingUpdateListener);
+	}
+
+	@Override
+	public void setChannelClosedListener(IChannelClosedListener channelClosedListener) {
+		this.channelClosedListener = channelClosedListener;
+	}
+
+	@Override
+	public void setLogger(Logger newLogger) {
+		this.logger.setLogger(newLogger);
+	}
+
+	protected Logger getLogger() {
+		return logger;
+	}
+
+	@Override
+	public ChannelStatistics getStatistics() {
+		return statistics;
+	}
+}
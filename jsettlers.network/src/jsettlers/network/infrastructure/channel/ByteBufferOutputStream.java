@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import jsettlers.network.infrastructure.utils.ByteBufferPool;
+
+/**
+ * An {@link OutputStream} writing into a {@link ByteBuffer} taken from a {@link ByteBufferPool}. If the data does not fit into the pooled buffer,
+ * it is moved to a larger heap buffer.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+	private final ByteBufferPool pool;
+	private ByteBuffer buffer;
+
+	ByteBufferOutputStream(ByteBufferPool pool) {
+		this.pool = pool;
+		this.buffer = pool.acquire();
+	}
+
+	@Override
+	public void write(int b) {
+		ensureRemaining(1);
+		buffer.put((byte) b);
+	}
+
+	@Override
+	public void write(byte[] data, int offset, int length) {
+		ensureRemaining(length);
+		buffer.put(data, offset, length);
+	}
+
+	private void ensureRemaining(int length) {
+		if (buffer.remaining() < length) {
+			ByteBuffer largerBuffer = ByteBuffer.allocate(Math.max(2 * buffer.capacity(), buffer.position() + length));
+			buffer.flip();
+			largerBuffer.put(buffer);
+			pool.release(buffer);
+			buffer = largerBuffer;
+		}
+	}
+
+	int size() {
+		return buffer.position();
+	}
+
+	/**
+	 * Stops the writing and returns the buffer containing the written data. The buffer is flipped, so it can be read from the beginning.
+	 * 
+	 * @return The buffer containing the written data.
+	 */
+	ByteBuffer finish() {
+		ByteBuffer result = buffer;
+		buffer = null;
+		result.flip();
+		return result;
+	}
+
+	/**
+	 * Stops the writing and returns the buffer to the pool. This is used if the written data is not needed, e.g. because the serialization
+	 * failed.
+	 */
+	void discard() {
+		pool.release(buffer);
+		buffer = null;
+	}
+}
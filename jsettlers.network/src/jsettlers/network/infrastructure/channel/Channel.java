@@ -21,22 +21,15 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.UnknownHostException;
-import java.util.HashMap;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
-import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.infrastructure.channel.packet.Packet;
-import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
-import jsettlers.network.infrastructure.channel.ping.IRoundTripTimeSupplier;
-import jsettlers.network.infrastructure.channel.ping.PingPacket;
-import jsettlers.network.infrastructure.channel.ping.PingPacketListener;
-import jsettlers.network.infrastructure.channel.ping.RoundTripTime;
-import jsettlers.network.infrastructure.channel.reject.RejectPacket;
 import jsettlers.network.infrastructure.channel.socket.ISocket;
 import jsettlers.network.infrastructure.channel.socket.ISocketFactory;
 import jsettlers.network.infrastructure.log.ConsoleLogger;
 import jsettlers.network.infrastructure.log.Logger;
-import jsettlers.network.infrastructure.log.SwitchableLogger;
 
 /**
  * This class builds up a logical channel between to network partners. The class allows to send data of type {@link Packet} to the partner and to
@@ -45,23 +38,17 @@ import jsettlers.network.infrastructure.log.SwitchableLogger;
  * @author Andreas Eberle
  * 
  */
-public class Channel implements Runnable, IRoundTripTimeSupplier {
+public class Channel extends AbstractChannel implements Runnable {
 	private final Thread thread;
 
-	private final SwitchableLogger logger;
 	private final ISocket socket;
 	private final DataOutputStream outStream;
+	private final WritableByteChannel outChannel;
 	private final DataInputStream inStream;
 
-	private final ByteArrayOutputStream byteBufferOutStream = new ByteArrayOutputStream();
+	private final FrameOutputStream byteBufferOutStream = new FrameOutputStream();
 	private final DataOutputStream bufferDataOutStream = new DataOutputStream(byteBufferOutStream);
 
-	private final HashMap<ENetworkKey, IChannelListener> listenerRegistry = new HashMap<ENetworkKey, IChannelListener>();
-
-	private final PingPacketListener pingPacketListener;
-
-	private IChannelClosedListener channelClosedListener;
-
 	private boolean started;
 
 	/**
@@ -81,14 +68,12 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	}
 
 	public Channel(Logger logger, ISocket socket) throws IOException {
-		this.logger = new SwitchableLogger(logger);
+		super(logger);
 		this.socket = socket;
 		outStream = new DataOutputStream(socket.getOutputStream());
+		outChannel = Channels.newChannel(outStream); // writes frames through a reused transfer buffer
 		inStream = new DataInputStream(socket.getInputStream());
 
-		pingPacketListener = new PingPacketListener(this.logger, this);
-		registerListener(pingPacketListener);
-
 		thread = new Thread(this, "ChannelForSocket_" + socket);
 	}
 
@@ -102,11 +87,13 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	 * 
 	 * @see <code>Thread.start()</code>
 	 */
+	@Override
 	public void start() {
 		started = true;
 		thread.start();
 	}
 
+	@Override
 	public synchronized void sendPacket(ENetworkKey key, Packet packet) {
 		if (socket.isClosed())
 			return;
@@ -121,32 +108,31 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		bufferDataOutStream.flush();
 		byteBufferOutStream.reset();
 
-		packet.serialize(bufferDataOutStream); // write packet to buffer to calculate length
+		key.writeTo(bufferDataOutStream);
+		bufferDataOutStream.writeInt(0); // placeholder for the length
+		packet.serialize(bufferDataOutStream);
 		bufferDataOutStream.flush();
-		final int length = byteBufferOutStream.size();
 
-		key.writeTo(outStream); // write key, length and the data
-		outStream.writeInt(length);
-		byteBufferOutStream.writeTo(outStream);
+		final int frameLength = byteBufferOutStream.size();
+		byteBufferOutStream.patchInt(1, frameLength - PacketFrame.HEADER_LENGTH);
+		byteBufferOutStream.writeTo(outStream); // write key, length and the data with a single call
 
 		outStream.flush();
+		getStatistics().packetSent(frameLength);
 	}
 
-	/**
-	 * Registers the given listener to receive data of the type it specifies with it's getKeys() method.
-	 * 
-	 * @param listener
-	 *            The listener that shall be registered.
-	 */
-	public void registerListener(IChannelListener listener) {
-		ENetworkKey[] keys = listener.getKeys();
-		for (int i = 0; i < keys.length; i++) {
-			listenerRegistry.put(keys[i], listener);
-		}
-	}
+	@Override
+	public synchronized void sendFrame(PacketFrame frame) {
+		if (socket.isClosed())
+			return;
 
-	public void removeListener(ENetworkKey key) {
-		listenerRegistry.remove(key);
+		try {
+			frame.writeTo(outChannel);
+			outStream.flush();
+			getStatistics().packetSent(frame.getLength());
+		} catch (IOException e) {
+			getLogger().error(e);
+		}
 	}
 
 	@Override
@@ -158,26 +144,7 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 
 				DataInputStream bufferIn = readBytesToBuffer(inStream, length);
 
-				IChannelListener listener = listenerRegistry.get(key);
-
-				if (listener != null) {
-					try {
-						listener.receive(key, length, bufferIn);
-						if (bufferIn.available() > 0) {
-							logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
-						}
-					} catch (Exception e) { // ignore exceptions thrown in receive
-						e.printStackTrace();
-					}
-				} else {
-					logger.warn("NO LISTENER FOUND for key: " + key + "   (" + socket + ")");
-
-					if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
-						sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
-								new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
-					}
-				}
-
+				receivePacket(key, length, bufferIn);
 			} catch (Exception e) {
 				try {
 					socket.close();
@@ -188,10 +155,8 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 
 		close(); // release the resources
 
-		if (channelClosedListener != null) {
-			channelClosedListener.channelClosed();
-		}
-		logger.info("Channel listener shut down: " + socket);
+		notifyChannelClosed();
+		getLogger().info("Channel listener shut down: " + socket);
 	}
 
 	private DataInputStream readBytesToBuffer(DataInputStream inStream, int length) throws IOException {
@@ -213,6 +178,7 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	/**
 	 * Closes this {@link Channel} and releases the contained {@link Socket} and the stream resources.
 	 */
+	@Override
 	public void close() {
 		try {
 			inStream.close();
@@ -232,50 +198,30 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		thread.interrupt();
 	}
 
-	/**
-	 * Gets the round trip time of this {@link Channel}.
-	 * 
-	 * @return Returns the current round trip time of this {@link Channel}.
-	 */
 	@Override
-	public RoundTripTime getRoundTripTime() {
-		return pingPacketListener.getRoundTripTime();
-	}
-
-	/**
-	 * Initialize the pinging by sending a first {@link PingPacket}.
-	 */
-	public void initPinging() {
-		pingPacketListener.initPinging();
-	}
-
-	public void setPingUpdateListener(IPingUpdateListener pingUpdateListener) {
-		pingPacketListener.setPingUpdateListener(pingUpdateListener);
-	}
-
-	/**
-	 * Sets an {@link IChannelClosedListener} to this {@link Channel}. The given listener will be informed when the {@link Channel} has been shut
-	 * down.
-	 * <p />
-	 * NOTE: To remove a listener, just call this method with <code>null</code> as argument.<br>
-	 * NOTE2: Only one listener may be registered at a time. By setting a new listener, the old one will be replaced.
-	 * 
-	 * @param channelClosedListener
-	 *            The new {@link IChannelClosedListener} that shall be registered on this {@link Channel}.
-	 */
-	public void setChannelClosedListener(IChannelClosedListener channelClosedListener) {
-		this.channelClosedListener = channelClosedListener;
-	}
-
 	public boolean isClosed() {
 		return socket.isClosed();
 	}
 
+	@Override
 	public boolean isStarted() {
 		return started;
 	}
 
-	public void setLogger(Logger newLogger) {
-		this.logger.setLogger(newLogger);
+	@Override
+	public String toString() {
+		return "Channel(" + socket + ")";
+	}
+
+	/**
+	 * A {@link ByteArrayOutputStream} that allows to patch the length of a packet after it has been serialized.
+	 */
+	private static class FrameOutputStream extends ByteArrayOutputStream {
+		void patchInt(int offset, int value) {
+			buf[offset] = (byte) (value >>> 24);
+			buf[offset + 1] = (byte) (value >>> 16);
+			buf[offset + 2] = (byte) (value >>> 8);
+			buf[offset + 3] = (byte) value;
+		}
 	}
 }
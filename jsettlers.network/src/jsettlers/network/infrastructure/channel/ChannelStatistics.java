@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the traffic and the latency of a {@link Channel}.
+ */
+public final class ChannelStatistics {
+	private final AtomicLong packetsSent = new AtomicLong();
+	private final AtomicLong bytesSent = new AtomicLong();
+	private final AtomicLong packetsReceived = new AtomicLong();
+	private final AtomicLong bytesReceived = new AtomicLong();
+
+	private final AtomicLong roundTripTimeMeasurements = new AtomicLong();
+	private final AtomicLong roundTripTimeSum = new AtomicLong();
+	private volatile int maxRoundTripTime; // only written by the thread receiving the ping packets
+
+	public void packetSent(int bytes) {
+		packetsSent.incrementAndGet();
+		bytesSent.addAndGet(bytes);
+	}
+
+	public void packetReceived(int bytes) {
+		packetsReceived.incrementAndGet();
+		bytesReceived.addAndGet(bytes);
+	}
+
+	/**
+	 * Records a measured round trip time.
+	 * 
+	 * @param roundTripTime
+	 *            The round trip time in milliseconds.
+	 */
+	public void roundTripTimeMeasured(int roundTripTime) {
+		roundTripTimeMeasurements.incrementAndGet();
+		roundTripTimeSum.addAndGet(roundTripTime);
+		if (roundTripTime > maxRoundTripTime) {
+			maxRoundTripTime = roundTripTime;
+		}
+	}
+
+	public long getPacketsSent() {
+		return packetsSent.get();
+	}
+
+	/**
+	 * @return The number of bytes sent including the headers of the packets.
+	 */
+	public long getBytesSent() {
+		return bytesSent.get();
+	}
+
+	public long getPacketsReceived() {
+		return packetsReceived.get();
+	}
+
+	/**
+	 * @return The number of bytes received including the headers of the packets.
+	 */
+	public long getBytesReceived() {
+		return bytesReceived.get();
+	}
+
+	/**
+	 * @return The average of the measured round trip times in milliseconds or 0 if no round trip time has been measured yet.
+	 */
+	public float getAverageRoundTripTime() {
+		long measurements = roundTripTimeMeasurements.get();
+		return measurements > 0 ? (float) roundTripTimeSum.get() / measurements : 0;
+	}
+
+	public int getMaxRoundTripTime() {
+		return maxRoundTripTime;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ENGLISH, "sent: %d packets / %d bytes   received: %d packets / %d bytes   rtt avg: %.1f ms   max: %d ms",
+				getPacketsSent(), getBytesSent(), getPacketsReceived(), getBytesReceived(), getAverageRoundTripTime(), getMaxRoundTripTime());
+	}
+}
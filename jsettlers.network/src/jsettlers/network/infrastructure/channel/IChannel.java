@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
+import jsettlers.network.infrastructure.channel.ping.IRoundTripTimeSupplier;
+import jsettlers.network.infrastructure.log.Logger;
+
+/**
+ * A logical channel between two network partners. It allows to send data of type {@link Packet} to the partner and to register
+ * {@link IChannelListener}s to receive incoming data as a callback.
+ * <p />
+ * {@link Channel} implements it with a blocking socket and a reader thread, {@link jsettlers.network.infrastructure.channel.nio.NioChannel} with a
+ * non blocking socket served by an event loop.
+ */
+public interface IChannel extends IRoundTripTimeSupplier {
+
+	/**
+	 * Starts the message receiving of this channel.
+	 * <p />
+	 * NOTE: This method may only be called once!
+	 */
+	void start();
+
+	boolean isStarted();
+
+	void sendPacket(ENetworkKey key, Packet packet);
+
+	/**
+	 * Sends an already serialized packet. This allows to serialize a packet only once when it is sent to multiple partners.
+	 * 
+	 * @param frame
+	 *            The frame to be sent. The caller keeps its reference to the frame.
+	 */
+	void sendFrame(PacketFrame frame);
+
+	/**
+	 * Registers the given listener to receive data of the type it specifies with it's getKeys() method.
+	 * 
+	 * @param listener
+	 *            The listener that shall be registered.
+	 */
+	void registerListener(IChannelListener listener);
+
+	void removeListener(ENetworkKey key);
+
+	/**
+	 * Closes this channel and releases its resources.
+	 */
+	void close();
+
+	boolean isClosed();
+
+	/**
+	 * Initialize the pinging by sending a first {@link jsettlers.network.infrastructure.channel.ping.PingPacket}.
+	 */
+	void initPinging();
+
+	void setPingUpdateListener(IPingUpdateListener pingUpdateListener);
+
+	/**
+	 * Sets an {@link IChannelClosedListener} to this channel. The given listener will be informed when the channel has been shut down.
+	 * <p />
+	 * NOTE: To remove a listener, just call this method with <code>null</code> as argument.<br>
+	 * NOTE2: Only one listener may be registered at a time. By setting a new listener, the old one will be replaced.
+	 * 
+	 * @param channelClosedListener
+	 *            The new {@link IChannelClosedListener} that shall be registered on this channel.
+	 */
+	void setChannelClosedListener(IChannelClosedListener channelClosedListener);
+
+	void setLogger(Logger newLogger);
+
+	/**
+	 * @return The counters of the traffic and the latency of this channel.
+	 */
+	ChannelStatistics getStatistics();
+}
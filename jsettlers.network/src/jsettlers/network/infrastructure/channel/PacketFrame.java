@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.utils.ByteBufferPool;
+
+/**
+ * A {@link Packet} serialized with its key and length, ready to be written to any number of {@link Channel}s. This way, a packet sent to
+ * multiple players only needs to be serialized once.
+ * <p />
+ * The data is kept in a pooled direct buffer. The buffer is returned to the pool when all references to the frame have been released. The
+ * creator of a frame holds the first reference.
+ */
+public final class PacketFrame {
+	/**
+	 * Length of the key and the length field in front of the packet's data.
+	 */
+	public static final int HEADER_LENGTH = 5;
+
+	private static final ByteBufferPool BUFFER_POOL = new ByteBufferPool(NetworkConstants.Server.FRAME_BUFFER_SIZE,
+			NetworkConstants.Server.MAX_POOLED_FRAME_BUFFERS);
+
+	private final ByteBuffer buffer;
+	private final AtomicInteger references = new AtomicInteger(1);
+
+	private PacketFrame(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Serializes the given packet into a new frame. A placeholder for the length is written before the packet and patched afterwards, so the data
+	 * does not need to be copied. If the serialization fails, the pooled buffer is released.
+	 * 
+	 * @param key
+	 *            The key of the packet.
+	 * @param packet
+	 *            The packet to be serialized.
+	 * @return The frame containing the packet. The caller has to release it, when it is no longer needed.
+	 * @throws IOException
+	 *             If the serialization of the packet failed.
+	 */
+	public static PacketFrame create(ENetworkKey key, Packet packet) throws IOException {
+		ByteBufferOutputStream bufferOutStream = new ByteBufferOutputStream(BUFFER_POOL);
+		DataOutputStream dataOutStream = new DataOutputStream(bufferOutStream);
+
+		boolean serialized = false;
+		try {
+			key.writeTo(dataOutStream);
+			dataOutStream.writeInt(0); // placeholder for the length
+			packet.serialize(dataOutStream);
+			dataOutStream.flush();
+			serialized = true;
+		} finally {
+			if (!serialized) {
+				bufferOutStream.discard();
+			}
+		}
+
+		ByteBuffer buffer = bufferOutStream.finish();
+		buffer.putInt(1, buffer.limit() - HEADER_LENGTH);
+		return new PacketFrame(buffer);
+	}
+
+	/**
+	 * @return The number of bytes of the frame including the header.
+	 */
+	public int getLength() {
+		return buffer.limit();
+	}
+
+	/**
+	 * Creates a view of the frame's data with an own position, so multiple channels can write the same frame at the same time.
+	 * 
+	 * @return A buffer sharing the data of this frame.
+	 */
+	public ByteBuffer createView() {
+		return buffer.duplicate();
+	}
+
+	/**
+	 * Writes the whole frame to the given channel. A view of the data is used, so the frame can be written to other channels at the same time.
+	 * 
+	 * @param channel
+	 *            The blocking channel to write to.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		ByteBuffer view = createView();
+		while (view.hasRemaining()) {
+			channel.write(view);
+		}
+	}
+
+	/**
+	 * Adds a reference to this frame. Every call must be followed by a call to {@link #release()}.
+	 */
+	public void retain() {
+		references.incrementAndGet();
+	}
+
+	/**
+	 * Releases a reference to this frame. When the last reference is released, the buffer is returned to the pool.
+	 */
+	public void release() {
+		int remainingReferences = references.decrementAndGet();
+		if (remainingReferences == 0) {
+			BUFFER_POOL.release(buffer);
+		}
+		assert remainingReferences >= 0 : "frame released too often";
+	}
+}
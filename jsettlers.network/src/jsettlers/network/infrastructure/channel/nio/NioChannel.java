@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.AbstractChannel;
+import jsettlers.network.infrastructure.channel.IChannel;
+import jsettlers.network.infrastructure.channel.PacketFrame;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.log.Logger;
+import jsettlers.network.infrastructure.utils.ByteBufferPool;
+
+/**
+ * An {@link IChannel} using a non blocking {@link SocketChannel}. Instead of a reader thread per channel, the socket is served by one of the
+ * {@link NioEventLoop}s of a {@link NioEventLoopGroup}. The listeners of the channel are called by this event loop.
+ * <p />
+ * Sending a packet never blocks: The packet is serialized into a {@link PacketFrame}, which is written to the socket by the event loop. Queued
+ * frames are written with a single gathering write.
+ */
+public class NioChannel extends AbstractChannel {
+	private final SocketChannel socketChannel;
+	private final NioEventLoop eventLoop;
+	private final ByteBufferPool bufferPool;
+	private final String name;
+
+	private final ArrayDeque<PacketFrame> writeQueue = new ArrayDeque<PacketFrame>();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private volatile boolean started;
+
+	// the following fields are only accessed by the event loop
+	private SelectionKey selectionKey;
+	private ByteBuffer readBuffer;
+	private final PacketFrame[] writingFrames = new PacketFrame[NetworkConstants.Server.MAX_GATHERED_FRAMES];
+	private final ByteBuffer[] writingBuffers = new ByteBuffer[NetworkConstants.Server.MAX_GATHERED_FRAMES];
+	private int firstUnwrittenFrame;
+	private int numberOfWritingFrames;
+	private ENetworkKey largePacketKey;
+	private byte[] largePacketData;
+	private int largePacketBytesRead;
+
+	private final Runnable registerTask = new Runnable() {
+		@Override
+		public void run() {
+			register();
+		}
+	};
+	private final Runnable flushTask = new Runnable() {
+		@Override
+		public void run() {
+			flushScheduled.set(false);
+			try {
+				flush();
+			} catch (IOException e) {
+				close();
+			}
+		}
+	};
+	private final Runnable closedTask = new Runnable() {
+		@Override
+		public void run() {
+			releaseBuffers();
+			if (started) {
+				notifyChannelClosed();
+			}
+			getLogger().info("Channel shut down: " + name + "   " + getStatistics());
+		}
+	};
+
+	NioChannel(Logger logger, SocketChannel socketChannel, NioEventLoop eventLoop, ByteBufferPool bufferPool) throws IOException {
+		super(logger);
+		this.socketChannel = socketChannel;
+		this.eventLoop = eventLoop;
+		this.bufferPool = bufferPool;
+		this.name = String.valueOf(socketChannel.getRemoteAddress());
+
+		socketChannel.configureBlocking(false);
+		socketChannel.socket().setTcpNoDelay(true);
+	}
+
+	/**
+	 * Starts the message receiving of this {@link NioChannel}. Packets sent before this call are buffered.
+	 * <p />
+	 * NOTE: This method may only be called once!
+	 */
+	@Override
+	public void start() {
+		started = true;
+		eventLoop.execute(registerTask);
+	}
+
+	private void register() {
+		if (closed.get()) {
+			return;
+		}
+
+		try {
+			selectionKey = eventLoop.register(socketChannel, this);
+			readBuffer = bufferPool.acquire();
+			flush();
+		} catch (ClosedChannelException e) {
+			close();
+		} catch (IOException e) {
+			close();
+		}
+	}
+
+	@Override
+	public void sendPacket(ENetworkKey key, Packet packet) {
+		if (closed.get()) {
+			return;
+		}
+
+		PacketFrame frame;
+		try {
+			frame = PacketFrame.create(key, packet);
+		} catch (IOException e) {
+			return;
+		}
+
+		sendFrame(frame);
+		frame.release();
+	}
+
+	@Override
+	public void sendFrame(PacketFrame frame) {
+		synchronized (writeQueue) {
+			if (closed.get()) {
+				return; // the event loop may already have released the queued frames
+			}
+			frame.retain();
+			writeQueue.offer(frame);
+		}
+		getStatistics().packetSent(frame.getLength());
+
+		if (flushScheduled.compareAndSet(false, true)) {
+			eventLoop.execute(flushTask);
+		}
+	}
+
+	/**
+	 * Writes as many of the queued frames to the socket as possible. If the socket cannot take all data, the event loop is informed when the
+	 * socket is writable again.
+	 */
+	private void flush() throws IOException {
+		if (selectionKey == null || !selectionKey.isValid()) {
+			return; // not registered yet or already closed
+		}
+
+		while (true) {
+			if (firstUnwrittenFrame == numberOfWritingFrames && !takeFramesFromQueue()) {
+				selectionKey.interestOps(SelectionKey.OP_READ);
+				return;
+			}
+
+			socketChannel.write(writingBuffers, firstUnwrittenFrame, numberOfWritingFrames - firstUnwrittenFrame);
+
+			while (firstUnwrittenFrame < numberOfWritingFrames && !writingBuffers[firstUnwrittenFrame].hasRemaining()) {
+				releaseWritingFrame(firstUnwrittenFrame);
+				firstUnwrittenFrame++;
+			}
+
+			if (firstUnwrittenFrame < numberOfWritingFrames) {
+				selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Moves the next frames of the write queue to the array of frames that are currently written.
+	 * 
+	 * @return false if the write queue is empty.
+	 */
+	private boolean takeFramesFromQueue() {
+		firstUnwrittenFrame = 0;
+		numberOfWritingFrames = 0;
+
+		synchronized (writeQueue) {
+			PacketFrame frame;
+			while (numberOfWritingFrames < writingFrames.length && (frame = writeQueue.poll()) != null) {
+				writingFrames[numberOfWritingFrames] = frame;
+				writingBuffers[numberOfWritingFrames] = frame.createView();
+				numberOfWritingFrames++;
+			}
+		}
+
+		return numberOfWritingFrames > 0;
+	}
+
+	private void releaseWritingFrame(int index) {
+		writingFrames[index].release();
+		writingFrames[index] = null;
+		writingBuffers[index] = null;
+	}
+
+	void handleWritable() throws IOException {
+		flush();
+	}
+
+	void handleReadable() throws IOException {
+		int numberOfBytesRead = socketChannel.read(readBuffer);
+		if (numberOfBytesRead < 0) {
+			throw new EOFException("Channel closed by partner: " + name);
+		}
+
+		readBuffer.flip();
+		while (!closed.get() && readPacket()) {
+		}
+
+		if (!closed.get()) {
+			readBuffer.compact();
+		}
+	}
+
+	/**
+	 * Reads the next packet from the read buffer and hands it to its listener.
+	 * 
+	 * @return true if a packet or a part of a large packet has been read.
+	 */
+	private boolean readPacket() throws IOException {
+		if (largePacketData != null) { // continue a packet that does not fit into the read buffer
+			int length = Math.min(readBuffer.remaining(), largePacketData.length - largePacketBytesRead);
+			readBuffer.get(largePacketData, largePacketBytesRead, length);
+			largePacketBytesRead += length;
+
+			if (largePacketBytesRead < largePacketData.length) {
+				return false;
+			}
+
+			byte[] data = largePacketData;
+			largePacketData = null;
+			dispatchPacket(largePacketKey, data);
+			return true;
+		}
+
+		if (readBuffer.remaining() < PacketFrame.HEADER_LENGTH) {
+			return false;
+		}
+
+		int start = readBuffer.position();
+		int length = readBuffer.getInt(start + 1);
+		if (length < 0) {
+			throw new IOException("Received invalid packet length: " + length);
+		}
+
+		if (length > readBuffer.capacity() - PacketFrame.HEADER_LENGTH) {
+			largePacketKey = ENetworkKey.readFrom(readBuffer);
+			readBuffer.getInt();
+			largePacketData = new byte[length];
+			largePacketBytesRead = 0;
+			return true;
+		}
+
+		if (readBuffer.remaining() < PacketFrame.HEADER_LENGTH + length) {
+			return false;
+		}
+
+		ENetworkKey key = ENetworkKey.readFrom(readBuffer);
+		readBuffer.getInt();
+		byte[] data = new byte[length];
+		readBuffer.get(data);
+		dispatchPacket(key, data);
+		return true;
+	}
+
+	private void dispatchPacket(ENetworkKey key, byte[] data) throws IOException {
+		receivePacket(key, data.length, new DataInputStream(new ByteArrayInputStream(data)));
+	}
+
+	/**
+	 * Closes this {@link NioChannel}. The buffers are released and the {@link jsettlers.network.infrastructure.channel.IChannelClosedListener} is
+	 * informed by the event loop.
+	 */
+	@Override
+	public void close() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			socketChannel.close();
+		} catch (IOException e) {
+		}
+
+		eventLoop.execute(closedTask);
+	}
+
+	private void releaseBuffers() {
+		if (readBuffer != null) {
+			bufferPool.release(readBuffer);
+			readBuffer = null;
+		}
+		for (int i = firstUnwrittenFrame; i < numberOfWritingFrames; i++) {
+			releaseWritingFrame(i);
+		}
+		firstUnwrittenFrame = 0;
+		numberOfWritingFrames = 0;
+
+		synchronized (writeQueue) {
+			PacketFrame frame;
+			while ((frame = writeQueue.poll()) != null) {
+				frame.release();
+			}
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	@Override
+	public boolean isStarted() {
+		return started;
+	}
+
+	@Override
+	public String toString() {
+		return "NioChannel(" + name + ")";
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A thread multiplexing the sockets of many {@link NioChannel}s with a {@link Selector}. All I/O of a channel and the calls of its listeners are
+ * done by the event loop the channel has been assigned to.
+ */
+final class NioEventLoop implements Runnable {
+	private final Selector selector;
+	private final Thread thread;
+	private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+	private volatile boolean running = true;
+
+	NioEventLoop(String name) throws IOException {
+		this.selector = Selector.open();
+		this.thread = new Thread(this, name);
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Schedules the given task to be executed by this event loop.
+	 * 
+	 * @param task
+	 *            The task to be executed.
+	 */
+	void execute(Runnable task) {
+		tasks.offer(task);
+		if (Thread.currentThread() != thread) {
+			selector.wakeup();
+		}
+	}
+
+	/**
+	 * Registers the given socket at the selector of this event loop. This method may only be called by the event loop itself.
+	 */
+	SelectionKey register(SocketChannel socketChannel, NioChannel channel) throws ClosedChannelException {
+		assert Thread.currentThread() == thread;
+		return socketChannel.register(selector, SelectionKey.OP_READ, channel);
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				if (tasks.isEmpty()) {
+					selector.select();
+				} else {
+					selector.selectNow();
+				}
+
+				handleSelectedKeys();
+				runTasks();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+
+		for (SelectionKey key : selector.keys()) {
+			((NioChannel) key.attachment()).close();
+		}
+		runTasks(); // release the resources of the closed channels
+
+		try {
+			selector.close();
+		} catch (IOException e) {
+		}
+	}
+
+	private void handleSelectedKeys() {
+		Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+		while (iterator.hasNext()) {
+			SelectionKey key = iterator.next();
+			iterator.remove();
+
+			NioChannel channel = (NioChannel) key.attachment();
+			try {
+				if (key.isReadable()) {
+					channel.handleReadable();
+				}
+				if (key.isValid() && key.isWritable()) {
+					channel.handleWritable();
+				}
+			} catch (IOException e) {
+				channel.close();
+			} catch (CancelledKeyException e) {
+				channel.close();
+			}
+		}
+	}
+
+	private void runTasks() {
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	void shutdown() {
+		running = false;
+		selector.wakeup();
+	}
+
+	boolean isAlive() {
+		return thread.isAlive();
+	}
+}
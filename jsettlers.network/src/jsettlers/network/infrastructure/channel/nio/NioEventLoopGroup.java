@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.infrastructure.log.ConsoleLogger;
+import jsettlers.network.infrastructure.log.Logger;
+import jsettlers.network.infrastructure.utils.ByteBufferPool;
+
+/**
+ * A small pool of {@link NioEventLoop}s serving the sockets of {@link NioChannel}s. The channels are distributed round robin over the event
+ * loops, so a few threads can serve a large number of connections.
+ */
+public class NioEventLoopGroup {
+	private final NioEventLoop[] eventLoops;
+	private final ByteBufferPool bufferPool;
+	private final AtomicInteger nextEventLoop = new AtomicInteger();
+
+	public NioEventLoopGroup(String name) throws IOException {
+		this(name, NetworkConstants.Server.NUMBER_OF_EVENT_LOOPS);
+	}
+
+	public NioEventLoopGroup(String name, int numberOfEventLoops) throws IOException {
+		this.bufferPool = new ByteBufferPool(NetworkConstants.Server.NETWORK_BUFFER_SIZE, NetworkConstants.Server.MAX_POOLED_NETWORK_BUFFERS);
+		this.eventLoops = new NioEventLoop[numberOfEventLoops];
+		for (int i = 0; i < numberOfEventLoops; i++) {
+			eventLoops[i] = new NioEventLoop(name + "-EventLoop-" + i);
+		}
+	}
+
+	/**
+	 * Creates a {@link NioChannel} for the given connected socket. The channel must be started with {@link NioChannel#start()} to receive packets.
+	 * 
+	 * @param logger
+	 *            The logger of the new channel.
+	 * @param socketChannel
+	 *            A connected socket.
+	 * @return The new channel.
+	 * @throws IOException
+	 *             If the socket cannot be switched to the non blocking mode.
+	 */
+	public NioChannel openChannel(Logger logger, SocketChannel socketChannel) throws IOException {
+		NioEventLoop eventLoop = eventLoops[(nextEventLoop.getAndIncrement() & Integer.MAX_VALUE) % eventLoops.length];
+		return new NioChannel(logger, socketChannel, eventLoop, bufferPool);
+	}
+
+	/**
+	 * Connects to the given server and creates a {@link NioChannel} for the connection.
+	 * 
+	 * @see #openChannel(Logger, SocketChannel)
+	 */
+	public NioChannel connect(String host, int port) throws IOException {
+		SocketChannel socketChannel = SocketChannel.open(new InetSocketAddress(host, port));
+		return openChannel(new ConsoleLogger(host + ":" + port), socketChannel);
+	}
+
+	/**
+	 * Stops the event loops and closes all channels served by them.
+	 */
+	public void shutdown() {
+		for (NioEventLoop eventLoop : eventLoops) {
+			eventLoop.shutdown();
+		}
+	}
+
+	int getBufferSize() {
+		return bufferPool.getBufferSize();
+	}
+
+	public boolean isAlive() {
+		for (NioEventLoop eventLoop : eventLoops) {
+			if (eventLoop.isAlive()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
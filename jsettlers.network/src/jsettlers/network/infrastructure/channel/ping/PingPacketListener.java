@@ -16,8 +16,8 @@ package jsettlers.network.infrastructure.channel.ping;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
-import jsettlers.network.infrastructure.channel.Channel;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
+import jsettlers.network.infrastructure.channel.IChannel;
 import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.utils.AveragingBoundedBuffer;
@@ -33,13 +33,13 @@ public class PingPacketListener extends PacketChannelListener<PingPacket> implem
 	private static final int JITTER_AVERAGING_BUFFER = 7;
 
 	private final Logger logger;
-	private final Channel channel;
+	private final IChannel channel;
 	private final AveragingBoundedBuffer avgJitter = new AveragingBoundedBuffer(JITTER_AVERAGING_BUFFER);
 	private RoundTripTime currRtt = new RoundTripTime(System.currentTimeMillis(), 0, 0, 0);
 
 	private IPingUpdateListener pingUpdateListener = null;
 
-	public PingPacketListener(Logger logger, Channel channel) {
+	public PingPacketListener(Logger logger, IChannel channel) {
 		super(NetworkConstants.ENetworkKey.PING, new GenericDeserializer<PingPacket>(PingPacket.class));
 		this.logger = logger;
 
@@ -55,6 +55,9 @@ public class PingPacketListener extends PacketChannelListener<PingPacket> implem
 		avgJitter.insert(jitter);
 
 		currRtt = new RoundTripTime(now, rtt, jitter, avgJitter.getAverage());
+		if (receivedPing.getReceiverTime() > 0) { // the first ping of the partner does not contain a time of ours
+			channel.getStatistics().roundTripTimeMeasured(rtt);
+		}
 
 		if (rtt > NetworkConstants.RTT_LOGGING_THRESHOLD || jitter > NetworkConstants.JITTER_LOGGING_THRESHOLD) {
 			logger.info(String.format("rtt: %5d   jitter: %3d   avgJitter: %3d", rtt, jitter, avgJitter.getAverage()));
@@ -71,7 +74,7 @@ public class PingPacketListener extends PacketChannelListener<PingPacket> implem
 	}
 
 	/**
-	 * Gets the round trip time of this {@link Channel}.
+	 * Gets the round trip time of this {@link IChannel}.
 	 * 
 	 * @return Returns the current {@link RoundTripTime}.
 	 */
@@ -15,13 +15,13 @@
 package jsettlers.network.server;
 
 import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.net.SocketException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 
 import jsettlers.network.NetworkConstants;
-import jsettlers.network.infrastructure.channel.Channel;
-import jsettlers.network.infrastructure.channel.socket.ISocketFactory;
+import jsettlers.network.infrastructure.channel.IChannel;
+import jsettlers.network.infrastructure.channel.nio.NioEventLoopGroup;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
 import jsettlers.network.server.db.IDBFacade;
@@ -30,6 +30,8 @@ import jsettlers.network.server.lan.LanServerAddressBroadcastListener;
 import jsettlers.network.server.lan.LanServerBroadcastThread;
 
 /**
+ * This thread accepts the connections of the clients. The sockets of the clients are served by the non blocking channels of a
+ * {@link NioEventLoopGroup}, so the server does not need threads per client.
  * 
  * @author Andreas Eberle
  * 
@@ -38,7 +40,8 @@ public final class GameServerThread extends Thread {
 
 	private static final Logger LOGGER = LoggerManager.ROOT_LOGGER;
 
-	private final ServerSocket serverSocket;
+	private final ServerSocketChannel serverSocketChannel;
+	private final NioEventLoopGroup eventLoopGroup;
 	private final ServerManager manager;
 	private final LanServerBroadcastThread lanBroadcastThread;
 
@@ -47,7 +50,10 @@ public final class GameServerThread extends Thread {
 
 	public GameServerThread(boolean lan) throws IOException {
 		super("GameServer");
-		this.serverSocket = new ServerSocket(NetworkConstants.Server.SERVER_PORT);
+		this.serverSocketChannel = ServerSocketChannel.open();
+		this.serverSocketChannel.socket().setReuseAddress(true);
+		this.serverSocketChannel.bind(new InetSocketAddress(NetworkConstants.Server.SERVER_PORT));
+		this.eventLoopGroup = new NioEventLoopGroup("GameServer");
 		this.manager = new ServerManager(new InMemoryDB());
 
 		this.setDaemon(true);
@@ -66,16 +72,17 @@ public final class GameServerThread extends Thread {
 		System.out.println("Server up and running!");
 		while (!canceled) {
 			try {
-				Socket clientSocket = serverSocket.accept();
+				SocketChannel clientSocket = serverSocketChannel.accept();
 
-				Channel clientChannel = new Channel(LOGGER, ISocketFactory.DEFAULT_FACTORY.generateSocket(clientSocket));
+				IChannel clientChannel = eventLoopGroup.openChannel(LOGGER, clientSocket);
 				manager.identifyNewChannel(clientChannel);
 				clientChannel.start();
 
-				LOGGER.log("accepted new client (" + ++counter + "): " + clientSocket);
-			} catch (SocketException e) {
+				LOGGER.log("accepted new client (" + ++counter + "): " + clientChannel);
 			} catch (IOException e) {
-				e.printStackTrace();
+				if (!canceled) {
+					e.printStackTrace();
+				}
 			}
 		}
 	}
@@ -121,9 +128,10 @@ public final class GameServerThread extends Thread {
 	public synchronized void shutdown() {
 		canceled = true;
 		try {
-			serverSocket.close();
+			serverSocketChannel.close();
 		} catch (IOException e) {
 		}
+		eventLoopGroup.shutdown();
 
 		if (lanBroadcastThread != null)
 			lanBroadcastThread.shutdown();
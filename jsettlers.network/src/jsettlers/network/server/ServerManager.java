@@ -15,12 +15,15 @@
 package jsettlers.network.server;
 
 import java.util.Timer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.common.packets.ChatMessagePacket;
 import jsettlers.network.common.packets.OpenNewMatchPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
-import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.IChannel;
 import jsettlers.network.infrastructure.channel.reject.RejectPacket;
 import jsettlers.network.server.db.IDBFacade;
 import jsettlers.network.server.exceptions.NotAllPlayersReadyException;
@@ -48,7 +51,17 @@ public class ServerManager implements IServerManager {
 
 	private final IDBFacade database;
 	private final Timer sendMatchesListTimer = new Timer("SendMatchesListTimer", true);
-	private final Timer matchesTaskDistributionTimer = new Timer("MatchesTaskDistributionTimer", true);
+	private final ScheduledExecutorService lockstepExecutor = Executors.newScheduledThreadPool(NetworkConstants.Server.NUMBER_OF_LOCKSTEP_THREADS,
+			new ThreadFactory() {
+				private int counter = 0;
+
+				@Override
+				public synchronized Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "LockstepThread-" + counter++);
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
 	private final MatchesListSendingTimerTask matchSendingTask;
 
 	public ServerManager(IDBFacade db) {
@@ -62,10 +75,10 @@ public class ServerManager implements IServerManager {
 
 	public synchronized void shutdown() {
 		sendMatchesListTimer.cancel();
-		matchesTaskDistributionTimer.cancel();
+		lockstepExecutor.shutdownNow();
 	}
 
-	public void identifyNewChannel(Channel channel) {
+	public void identifyNewChannel(IChannel channel) {
 		channel.registerListener(new IdentifyUserListener(channel, this));
 	}
 
@@ -74,7 +87,7 @@ public class ServerManager implements IServerManager {
 		if (database.isAcceptedPlayer(player.getId())) {
 			database.storePlayer(player);
 
-			Channel channel = player.getChannel();
+			IChannel channel = player.getChannel();
 			channel.removeListener(NetworkConstants.ENetworkKey.IDENTIFY_USER);
 
 			channel.setChannelClosedListener(new ServerChannelClosedListener(this, player));
@@ -132,7 +145,7 @@ public class ServerManager implements IServerManager {
 	@Override
 	public void startMatch(Player player) {
 		try {
-			player.startMatch(matchesTaskDistributionTimer);
+			player.startMatch(lockstepExecutor);
 		} catch (IllegalStateException e) {
 			e.printStackTrace();
 			player.sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
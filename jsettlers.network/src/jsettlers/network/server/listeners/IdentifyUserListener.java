@@ -19,7 +19,7 @@ import java.io.IOException;
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.common.packets.PlayerInfoPacket;
-import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.IChannel;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
 import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
 import jsettlers.network.infrastructure.channel.packet.EmptyPacket;
@@ -34,10 +34,10 @@ import jsettlers.network.server.match.Player;
  */
 public class IdentifyUserListener extends PacketChannelListener<PlayerInfoPacket> {
 
-	private final Channel channel;
+	private final IChannel channel;
 	private final IServerManager serverManager;
 
-	public IdentifyUserListener(Channel channel, IServerManager userAcceptor) {
+	public IdentifyUserListener(IChannel channel, IServerManager userAcceptor) {
 		super(ENetworkKey.IDENTIFY_USER, new GenericDeserializer<PlayerInfoPacket>(PlayerInfoPacket.class));
 		this.channel = channel;
 		this.serverManager = userAcceptor;
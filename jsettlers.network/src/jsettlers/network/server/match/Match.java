@@ -14,10 +14,13 @@
  *******************************************************************************/
 package jsettlers.network.server.match;
 
+import java.io.IOException;
 import java.util.Date;
 import java.util.LinkedList;
-import java.util.Timer;
 import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
@@ -28,6 +31,7 @@ import jsettlers.network.common.packets.MatchInfoUpdatePacket;
 import jsettlers.network.common.packets.MatchStartPacket;
 import jsettlers.network.common.packets.PlayerInfoPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
+import jsettlers.network.infrastructure.channel.PacketFrame;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
@@ -55,6 +59,7 @@ public class Match {
 	private EMatchState state = EMatchState.OPENED;
 	private TaskCollectingListener taskCollectingListener;
 	private TaskSendingTimerTask taskSendingTimerTask;
+	private ScheduledFuture<?> taskSendingFuture;
 
 	public Match(String name, int maxPlayers, MapInfoPacket map, long randomSeed) {
 		this.maxPlayers = maxPlayers;
@@ -162,12 +167,24 @@ public class Match {
 	 * @param packet
 	 */
 	public void sendMessage(Player sendingPlayer, ENetworkKey key, Packet packet) {
-		synchronized (players) {
-			for (Player curr : players) {
-				if (sendingPlayer == null || !curr.getId().equals(sendingPlayer.getId())) {
-					curr.sendPacket(key, packet);
+		PacketFrame frame;
+		try {
+			frame = PacketFrame.create(key, packet); // serialize the packet only once for all players
+		} catch (IOException e) {
+			logger.error(e);
+			return;
+		}
+
+		try {
+			synchronized (players) {
+				for (Player curr : players) {
+					if (sendingPlayer == null || !curr.getId().equals(sendingPlayer.getId())) {
+						curr.sendFrame(frame);
+					}
 				}
 			}
+		} finally {
+			frame.release();
 		}
 	}
 
@@ -203,7 +220,15 @@ public class Match {
 		}
 	}
 
-	public synchronized void startMatch(Timer timer) throws NotAllPlayersReadyException {
+	/**
+	 * Starts the match if all players are ready.
+	 * 
+	 * @param lockstepExecutor
+	 *            The executor used to periodically send the locksteps to the players.
+	 * @throws NotAllPlayersReadyException
+	 *             If not all players are ready.
+	 */
+	public synchronized void startMatch(ScheduledExecutorService lockstepExecutor) throws NotAllPlayersReadyException {
 		if (state == EMatchState.RUNNING || state == EMatchState.FINISHED) {
 			return; // match already started
 		}
@@ -220,7 +245,8 @@ public class Match {
 
 		this.taskCollectingListener = new TaskCollectingListener();
 		this.taskSendingTimerTask = new TaskSendingTimerTask(logger, taskCollectingListener, this);
-		timer.schedule(taskSendingTimerTask, NetworkConstants.Client.LOCKSTEP_PERIOD, NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2);
+		this.taskSendingFuture = lockstepExecutor.scheduleWithFixedDelay(taskSendingTimerTask, NetworkConstants.Client.LOCKSTEP_PERIOD,
+				NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2, TimeUnit.MILLISECONDS);
 
 		synchronized (players) {
 			int i = 0;
@@ -250,7 +276,8 @@ public class Match {
 
 	private void shutdownMatch() {
 		if (state == EMatchState.RUNNING) {
-			taskSendingTimerTask.cancel();
+			taskSendingFuture.cancel(false);
+			taskSendingFuture = null;
 			taskSendingTimerTask = null;
 
 			synchronized (players) {
@@ -14,7 +14,7 @@
  *******************************************************************************/
 package jsettlers.network.server.match;
 
-import java.util.Timer;
+import java.util.concurrent.ScheduledExecutorService;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
@@ -22,7 +22,8 @@ import jsettlers.network.NetworkConstants.ENetworkMessage;
 import jsettlers.network.common.packets.ChatMessagePacket;
 import jsettlers.network.common.packets.PlayerInfoPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
-import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.IChannel;
+import jsettlers.network.infrastructure.channel.PacketFrame;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 import jsettlers.network.infrastructure.log.LoggerManager;
 import jsettlers.network.server.exceptions.NotAllPlayersReadyException;
@@ -35,12 +36,12 @@ import jsettlers.network.server.match.lockstep.TaskCollectingListener;
  */
 public class Player {
 	private final PlayerInfoPacket playerInfo;
-	private final Channel channel;
+	private final IChannel channel;
 
 	private EPlayerState state = EPlayerState.LOGGED_IN;
 	private Match match;
 
-	public Player(PlayerInfoPacket playerInfo, Channel channel) {
+	public Player(PlayerInfoPacket playerInfo, IChannel channel) {
 		this.playerInfo = playerInfo;
 		this.channel = channel;
 	}
@@ -73,7 +74,7 @@ public class Player {
 		channel.setLogger(match.getMatchLogger());
 	}
 
-	public Channel getChannel() {
+	public IChannel getChannel() {
 		return channel;
 	}
 
@@ -81,13 +82,17 @@ public class Player {
 		channel.sendPacket(key, packet);
 	}
 
+	public void sendFrame(PacketFrame frame) {
+		channel.sendFrame(frame);
+	}
+
 	public synchronized boolean isInMatch() {
 		return state == EPlayerState.IN_MATCH || state == EPlayerState.IN_RUNNING_MATCH;
 	}
 
-	public void startMatch(Timer timer) throws IllegalStateException, NotAllPlayersReadyException {
+	public void startMatch(ScheduledExecutorService lockstepExecutor) throws IllegalStateException, NotAllPlayersReadyException {
 		EPlayerState.assertState(state, EPlayerState.IN_MATCH);
-		match.startMatch(timer);
+		match.startMatch(lockstepExecutor);
 	}
 
 	void matchStarted(TaskCollectingListener taskListener) {
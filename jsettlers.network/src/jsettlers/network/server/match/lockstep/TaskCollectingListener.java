@@ -42,14 +42,14 @@ public class TaskCollectingListener extends PacketChannelListener<ServersideTask
 	 * 
 	 * @return
 	 */
-	public List<ServersideTaskPacket> getAndResetTasks() {
+	public synchronized List<ServersideTaskPacket> getAndResetTasks() {
 		List<ServersideTaskPacket> temp = currTasksList;
 		currTasksList = new LinkedList<ServersideTaskPacket>();
 		return temp;
 	}
 
 	@Override
-	protected void receivePacket(ENetworkKey key, ServersideTaskPacket deserialized) {
+	protected synchronized void receivePacket(ENetworkKey key, ServersideTaskPacket deserialized) {
 		currTasksList.add(deserialized);
 	}
 }
@@ -15,7 +15,6 @@
 package jsettlers.network.server.match.lockstep;
 
 import java.util.List;
-import java.util.TimerTask;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
@@ -23,24 +22,33 @@ import jsettlers.network.infrastructure.channel.ping.RoundTripTime;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.utils.MaximumSlotBuffer;
 import jsettlers.network.server.match.Match;
-import jsettlers.network.server.packets.ServersideSyncTasksPacket;
+import jsettlers.network.server.packets.ServersideLockstepBatchPacket;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
 /**
+ * Periodically broadcasts the collected tasks of a match as lockstep. The task is scheduled on the lockstep executor shared by all matches of the
+ * server.
+ * <p />
+ * All locksteps that can be released are sent as one {@link ServersideLockstepBatchPacket}. When there are no tasks, the release of the locksteps is
+ * delayed until a batch of {@link #coalescedSteps} locksteps can be sent. To prevent the clients from waiting for these batches, the clients may run
+ * ahead by the additional coalesced steps.
  * 
  * @author Andreas Eberle
  * 
  */
-public class TaskSendingTimerTask extends TimerTask {
+public class TaskSendingTimerTask implements Runnable {
+	private static final int MIN_COALESCED_STEPS = 2;
+
 	private final Logger logger;
 	private final TaskCollectingListener taskCollectingListener;
 	private final Match match;
 
 	private int lockstepCounter = 0;
-	private int currentLockstepMax = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS;
+	private volatile int currentLockstepMax = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS;
 
 	private int minimumLeadTimeMs = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS * NetworkConstants.Client.LOCKSTEP_PERIOD;
-	private int leadSteps = minimumLeadTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD;
+	private volatile int leadSteps = minimumLeadTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD;
+	private volatile int coalescedSteps = getCoalescedSteps(leadSteps);
 
 	public TaskSendingTimerTask(Logger logger, TaskCollectingListener taskCollectingListener, Match match) {
 		this.logger = logger;
@@ -50,20 +58,43 @@ public class TaskSendingTimerTask extends TimerTask {
 
 	@Override
 	public void run() {
-		if (lockstepCounter > currentLockstepMax) {
+		int lockstepMax = currentLockstepMax;
+		if (lockstepCounter > lockstepMax) {
 			return;
 		}
 
-		List<ServersideTaskPacket> tasksList = taskCollectingListener.getAndResetTasks();
-		ServersideSyncTasksPacket syncTasksPacket = new ServersideSyncTasksPacket(lockstepCounter++, tasksList);
-		match.broadcastMessage(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, syncTasksPacket);
+		try {
+			List<ServersideTaskPacket> tasksList = taskCollectingListener.getAndResetTasks();
+			if (tasksList.isEmpty() && lockstepMax - lockstepCounter + 1 < coalescedSteps) {
+				return; // wait for more empty locksteps to send them as one batch
+			}
+
+			ServersideLockstepBatchPacket batchPacket = new ServersideLockstepBatchPacket(lockstepCounter, lockstepMax, tasksList);
+			lockstepCounter = lockstepMax + 1;
+			match.broadcastMessage(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, batchPacket);
+		} catch (RuntimeException e) { // an exception would stop the periodic execution of this task
+			logger.error(e);
+		}
 	}
 
 	public void receivedLockstepAcknowledge(int acknowledgedLockstep) {
-		currentLockstepMax = Math.max(currentLockstepMax, acknowledgedLockstep + leadSteps);
+		currentLockstepMax = Math.max(currentLockstepMax, acknowledgedLockstep + leadSteps + coalescedSteps - 1);
 		// logger.info("lead steps: " + leadSteps);
 	}
 
+	/**
+	 * Half of the lead steps, but at least two steps, are used to coalesce empty locksteps. So even with the default lead steps, at most every
+	 * second empty lockstep is sent. The clients are allowed to run ahead by these steps, so a task may be executed up to one lockstep later than
+	 * without coalescing.
+	 * 
+	 * @param leadSteps
+	 *            The number of steps the clients need to run ahead to not wait for the locksteps.
+	 * @return The number of empty locksteps sent in one batch.
+	 */
+	private static int getCoalescedSteps(int leadSteps) {
+		return Math.max(MIN_COALESCED_STEPS, leadSteps / 2);
+	}
+
 	final void pingUpdated(int rtt, int jitter) {
 		if (rtt < 0 || rtt > 10000 || jitter > 5000) {
 			return; // this is an exceptional high rtt, we can not adapt to this
@@ -77,10 +108,11 @@ public class TaskSendingTimerTask extends TimerTask {
 		}
 
 		leadSteps = (int) Math.ceil(((float) minimumLeadTimeMs) / NetworkConstants.Client.LOCKSTEP_PERIOD);
+		coalescedSteps = getCoalescedSteps(leadSteps);
 
 		if (rtt > NetworkConstants.RTT_LOGGING_THRESHOLD || jitter > NetworkConstants.JITTER_LOGGING_THRESHOLD) {
-			logger.info(String.format("rtt/2: %5d   jitter: %d   min lead time: %4d   lead steps: %2d",
-					rtt / 2, jitter, minimumLeadTimeMs, leadSteps));
+			logger.info(String.format("rtt/2: %5d   jitter: %d   min lead time: %4d   lead steps: %2d   coalesced steps: %2d",
+					rtt / 2, jitter, minimumLeadTimeMs, leadSteps, coalescedSteps));
 		}
 	}
 
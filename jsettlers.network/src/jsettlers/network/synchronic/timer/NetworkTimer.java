@@ -18,13 +18,11 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.client.INetworkClientClock;
@@ -34,44 +32,52 @@ import jsettlers.network.client.task.packets.TaskPacket;
 /**
  * This is a basic game timer. All synchronous actions must be based on this clock. The {@link NetworkTimer} also triggers the execution of
  * synchronous tasks in the network game.
+ * <p />
+ * The clock runs on its own thread. The start of every tick is computed from {@link System#nanoTime()}, so the time needed to execute a tick does
+ * not add up to a drift of the game time. If the thread fell behind by more than {@value #MAX_CATCH_UP_TICKS} ticks, e.g. because it had to wait
+ * for a lockstep, the missed ticks are dropped instead of being executed in a burst.
  *
  * @author Andreas Eberle
  *
  */
-public final class NetworkTimer extends TimerTask implements INetworkClientClock {
+public final class NetworkTimer implements INetworkClientClock {
 	public static final short TIME_SLICE = 50;
-	private Comparator<SyncTasksPacket> tasksByTimeComperator = new Comparator<SyncTasksPacket>() {
-		@Override
-		public int compare(SyncTasksPacket o1, SyncTasksPacket o2) {
-			return o1.getLockstepNumber() - o2.getLockstepNumber();
-		}
-	};
 
-	private final Timer timer;
+	private static final long TIME_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(TIME_SLICE);
+	private static final int MAX_CATCH_UP_TICKS = 4;
+	private static final short REMOVE_TIMERABLE = -1;
+
 	private final Object lockstepLock = new Object();
 
-	private final List<ScheduledTimerable> timerables = new ArrayList<ScheduledTimerable>();
-	private final List<ScheduledTimerable> newTimerables = new LinkedList<ScheduledTimerable>();
-	private final List<INetworkTimerable> timerablesToBeRemoved = new LinkedList<INetworkTimerable>();
+	private final TimerableArray timerables = new TimerableArray();
+	private final List<INetworkTimerable> pendingTimerables = new ArrayList<INetworkTimerable>();
+	private final List<Short> pendingPeriods = new ArrayList<Short>();
+	private volatile boolean timerablesChanged = false;
 
 	private final LinkedList<SyncTasksPacket> tasks = new LinkedList<SyncTasksPacket>();
 
 	private int time = 0;
-	private int maxAllowedLockstep = -1;
+	private volatile int maxAllowedLockstep = -1;
 
-	private boolean isPausing;
-	private int pauseTime;
-	private float speedFactor = 1.0f;
+	private volatile boolean isPausing;
+	private volatile int pauseTime;
+	private volatile float speedFactor = 1.0f;
 	private float progress = 0.0f;
 
-	private boolean scheduled = false;
+	private Thread thread;
+	private volatile boolean running = false;
 
 	private ITaskExecutor taskExecutor;
 	private DataOutputStream replayLogStream;
 
+	private int executedTasksPackets = 0;
+	private int executedTasks = 0;
+	private int lockstepWaits = 0;
+	private long lockstepWaitingNanos = 0;
+	private int droppedTicks = 0;
+	private int clockPauses = 0;
+
 	public NetworkTimer() {
-		super();
-		this.timer = new Timer("NetworkTimer");
 	}
 
 	public NetworkTimer(boolean disableLockstepWaiting) {
@@ -84,27 +90,57 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 
 	@Override
 	public synchronized void startExecution() {
-		if (!scheduled) {
-			scheduled = true;
-			timer.schedule(this, 0, TIME_SLICE);
+		if (thread == null) {
+			running = true;
+			thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					runTicks();
+				}
+			}, "NetworkTimer");
+			thread.start();
 		}
 	}
 
 	@Override
 	public void stopExecution() {
 		setPausing(true);
-		timer.cancel();
+		running = false;
+
+		Thread thread = this.thread;
+		if (thread != null && thread != Thread.currentThread()) {
+			thread.interrupt(); // the thread might be waiting for a lockstep
+		}
 
 		closeReplayLogStreamIfNeeded();
 	}
 
-	@Override
-	public void run() {
+	private void runTicks() {
+		long nextTickStart = System.nanoTime();
+
+		while (running) {
+			tick();
+
+			nextTickStart += TIME_SLICE_NANOS;
+			long remainingNanos;
+			while (running && (remainingNanos = nextTickStart - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(this, remainingNanos);
+			}
+
+			long lateNanos = System.nanoTime() - nextTickStart;
+			if (lateNanos > MAX_CATCH_UP_TICKS * TIME_SLICE_NANOS) {
+				droppedTicks += lateNanos / TIME_SLICE_NANOS;
+				nextTickStart += lateNanos;
+			}
+		}
+	}
+
+	private void tick() {
 		if (!isPausing) {
 			if (pauseTime <= 0) { // this is used for synchronizing the network clients
 				progress += speedFactor;
 
-				while (progress >= 1) {
+				while (progress >= 1 && running && !isPausing) {
 					executeRun();
 					progress--;
 				}
@@ -120,11 +156,8 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 			final int lockstep = time / NetworkConstants.Client.LOCKSTEP_PERIOD;
 
 			// check if the lockstep is allowed
-			synchronized (lockstepLock) {
-				while (lockstep > maxAllowedLockstep) {
-					System.out.println("WAITING for lockstep!");
-					lockstepLock.wait();
-				}
+			if (lockstep > maxAllowedLockstep) {
+				waitForLockstep(lockstep);
 			}
 
 			SyncTasksPacket tasksPacket;
@@ -135,8 +168,6 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 			while (tasksPacket != null && tasksPacket.getLockstepNumber() <= lockstep) {
 				assert tasksPacket.getLockstepNumber() == lockstep : "FOUND TasksPacket FOR older lockstep!";
 
-				System.out.println("Executing SyncTaskPacket(" + tasksPacket + ") in " + getLockstepText(lockstep));
-
 				try {
 					executeTasksPacket(tasksPacket);
 				} catch (Throwable t) {
@@ -150,21 +181,37 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 				}
 			}
 
-			addNewTimerables();
-			handleRemovedTimerables();
-
-			for (ScheduledTimerable curr : timerables) {
-				curr.checkExecution(TIME_SLICE);
+			if (timerablesChanged) {
+				applyTimerableChanges();
 			}
+			timerables.checkExecution(TIME_SLICE);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); // the timer is stopped
 		} catch (Throwable t) {
 			System.err.println("WARNING: Networking Timer catched Throwable!!!");
 			t.printStackTrace();
 		}
 	}
 
+	private void waitForLockstep(int lockstep) throws InterruptedException {
+		long start = System.nanoTime();
+		lockstepWaits++;
+
+		synchronized (lockstepLock) {
+			while (lockstep > maxAllowedLockstep) {
+				lockstepLock.wait();
+			}
+		}
+
+		lockstepWaitingNanos += System.nanoTime() - start;
+	}
+
 	private void executeTasksPacket(SyncTasksPacket tasksPacket) {
+		executedTasksPackets++;
+
 		if (taskExecutor != null) {
 			for (TaskPacket currTask : tasksPacket.getTasks()) {
+				executedTasks++;
 				taskExecutor.executeTask(currTask);
 			}
 		} else {
@@ -172,25 +219,21 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 		}
 	}
 
-	private void addNewTimerables() {
-		synchronized (newTimerables) {
-			timerables.addAll(newTimerables);
-			newTimerables.clear();
-		}
-	}
+	private void applyTimerableChanges() {
+		synchronized (pendingTimerables) {
+			for (int i = 0; i < pendingTimerables.size(); i++) {
+				INetworkTimerable timerable = pendingTimerables.get(i);
+				short period = pendingPeriods.get(i);
 
-	private void handleRemovedTimerables() {
-		synchronized (timerablesToBeRemoved) {
-			for (INetworkTimerable currToBeRemoved : timerablesToBeRemoved) {
-				for (Iterator<ScheduledTimerable> iter = timerables.iterator(); iter.hasNext();) {
-					if (iter.next().getTimerable() == currToBeRemoved) {
-						iter.remove();
-						break;
-					}
+				if (period != REMOVE_TIMERABLE) {
+					timerables.add(timerable, period);
+				} else if (!timerables.remove(timerable)) {
+					System.err.println("tried to remove a object from timer that's not registered!");
 				}
-				System.err.println("tried to remove a object from timer that's not registered!");
 			}
-			timerablesToBeRemoved.clear();
+			pendingTimerables.clear();
+			pendingPeriods.clear();
+			timerablesChanged = false;
 		}
 	}
 
@@ -206,9 +249,10 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	 */
 	@Override
 	public void schedule(INetworkTimerable timerable, short period) {
-		synchronized (newTimerables) {
-			newTimerables.add(new ScheduledTimerable(timerable, period));
+		if (period <= 0) {
+			throw new IllegalArgumentException("The period of a timerable must be positive: " + period);
 		}
+		addTimerableChange(timerable, period);
 	}
 
 	/**
@@ -218,8 +262,14 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	 */
 	@Override
 	public void remove(INetworkTimerable timerable) {
-		synchronized (timerablesToBeRemoved) {
-			timerablesToBeRemoved.add(timerable);
+		addTimerableChange(timerable, REMOVE_TIMERABLE);
+	}
+
+	private void addTimerableChange(INetworkTimerable timerable, short period) {
+		synchronized (pendingTimerables) {
+			pendingTimerables.add(timerable);
+			pendingPeriods.add(period);
+			timerablesChanged = true;
 		}
 	}
 
@@ -269,7 +319,7 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	@Override
 	public void pauseClockFor(int timeDelta) {
 		this.pauseTime = timeDelta;
-		System.err.println("pausing for " + timeDelta + " ms");
+		clockPauses++;
 	}
 
 	@Override
@@ -290,24 +340,37 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	@Override
 	public void scheduleSyncTasksPacket(SyncTasksPacket tasksPacket) {
 		assert maxAllowedLockstep == Integer.MAX_VALUE
-				|| maxAllowedLockstep + 1 == tasksPacket.getLockstepNumber() : "received unlock for wrong step! current max allowed: "
+				|| maxAllowedLockstep < tasksPacket.getLockstepNumber() : "received unlock for wrong step! current max allowed: "
 						+ maxAllowedLockstep + " new: " + tasksPacket.getLockstepNumber();
 
 		if (!tasksPacket.getTasks().isEmpty()) {
 			synchronized (tasks) {
-				System.out.println("Scheduled SyncTasksPacket(" + tasksPacket + " for " + getLockstepText(tasksPacket.getLockstepNumber()));
-				tasks.addLast(tasksPacket);
-				Collections.sort(tasks, tasksByTimeComperator);
+				insertSortedByLockstep(tasksPacket);
 				saveReplayIfNeeded(tasksPacket);
 			}
 		}
-		maxAllowedLockstep = Math.max(maxAllowedLockstep, tasksPacket.getLockstepNumber());
 
 		synchronized (lockstepLock) {
+			maxAllowedLockstep = Math.max(maxAllowedLockstep, tasksPacket.getLockstepNumber());
 			lockstepLock.notifyAll();
 		}
 	}
 
+	/**
+	 * Inserts the packet behind all packets of the same or an earlier lockstep. As the packets usually arrive in the order of their locksteps, the
+	 * search from the end of the list normally stops immediately.
+	 */
+	private void insertSortedByLockstep(SyncTasksPacket tasksPacket) {
+		ListIterator<SyncTasksPacket> iterator = tasks.listIterator(tasks.size());
+		while (iterator.hasPrevious()) {
+			if (iterator.previous().getLockstepNumber() <= tasksPacket.getLockstepNumber()) {
+				iterator.next();
+				break;
+			}
+		}
+		iterator.add(tasksPacket);
+	}
+
 	private void saveReplayIfNeeded(SyncTasksPacket tasksPacket) {
 		if (replayLogStream != null) {
 			try {
@@ -344,8 +407,10 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 
 	@Override
 	public synchronized void saveRemainingTasks(DataOutputStream dos) throws IOException {
-		for (SyncTasksPacket task : tasks) {
-			task.serialize(dos);
+		synchronized (tasks) {
+			for (SyncTasksPacket task : tasks) {
+				task.serialize(dos);
+			}
 		}
 		dos.flush();
 	}
@@ -387,13 +452,50 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 		}
 	}
 
-	private String getLockstepText(int lockstep) {
-		int time = lockstep * NetworkConstants.Client.LOCKSTEP_PERIOD;
-		int hours = time / (1000 * 60 * 60);
-		int minutes = (time / (1000 * 60)) % 60;
-		int seconds = (time / 1000) % 60;
-		int millis = time % 1000;
-		return String.format("lockstep: %d (game time: %dms / %02d:%02d:%02d:%03d)", lockstep, time, hours, minutes, seconds, millis);
+	/**
+	 * @return The number of executed {@link SyncTasksPacket}s.
+	 */
+	public int getExecutedTasksPackets() {
+		return executedTasksPackets;
+	}
+
+	/**
+	 * @return The number of executed tasks.
+	 */
+	public int getExecutedTasks() {
+		return executedTasks;
+	}
+
+	/**
+	 * @return How often the clock had to wait for the next lockstep.
+	 */
+	public int getLockstepWaits() {
+		return lockstepWaits;
+	}
+
+	/**
+	 * @return The total time in milliseconds the clock waited for locksteps.
+	 */
+	public long getLockstepWaitingTime() {
+		return TimeUnit.NANOSECONDS.toMillis(lockstepWaitingNanos);
 	}
 
+	/**
+	 * @return The number of ticks that have been dropped, because the clock thread fell behind.
+	 */
+	public int getDroppedTicks() {
+		return droppedTicks;
+	}
+
+	/**
+	 * @return How often the clock has been paused to synchronize it with the other clients.
+	 */
+	public int getClockPauses() {
+		return clockPauses;
+	}
+
+	public String getStatisticsText() {
+		return String.format("game time: %d ms, executed tasks: %d in %d packets, lockstep waits: %d (%d ms), dropped ticks: %d, clock pauses: %d",
+				time, executedTasks, executedTasksPackets, lockstepWaits, getLockstepWaitingTime(), droppedTicks, clockPauses);
+	}
 }
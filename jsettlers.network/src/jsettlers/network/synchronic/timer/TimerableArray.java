@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.timer;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Stores the {@link INetworkTimerable}s of the {@link NetworkTimer} with their periods and remaining delays in arrays. The index of every timerable
+ * is kept in a map, so that a timerable can be found without searching the arrays.
+ * <p />
+ * The timerables are called in the order they have been added. The timerables of the game logic depend on each other's results, so this order
+ * must be the same on all clients and in replays.
+ * <p />
+ * Removed timerables only leave an empty slot. The empty slots are closed in one pass while the timerables are ticked, so removing a timerable
+ * does not need to move the following ones.
+ * <p />
+ * The arrays are only grown, never shrunk, so ticking the timerables does not allocate any memory.
+ */
+final class TimerableArray {
+	private static final int INITIAL_CAPACITY = 8;
+
+	private final IdentityHashMap<INetworkTimerable, Integer> indices = new IdentityHashMap<INetworkTimerable, Integer>();
+
+	private INetworkTimerable[] timerables = new INetworkTimerable[INITIAL_CAPACITY];
+	private short[] periods = new short[INITIAL_CAPACITY];
+	private int[] remainingDelays = new int[INITIAL_CAPACITY];
+	private int size = 0; // number of used slots including the empty ones
+	private int removed = 0; // number of empty slots
+
+	/**
+	 * Adds the given timerable. If the timerable has already been added, only its period is replaced.
+	 * 
+	 * @param timerable
+	 *            The timerable to be called periodically.
+	 * @param period
+	 *            The period in milliseconds.
+	 */
+	void add(INetworkTimerable timerable, short period) {
+		Integer index = indices.get(timerable);
+		if (index != null) {
+			periods[index] = period;
+			remainingDelays[index] = period;
+			return;
+		}
+
+		if (size >= timerables.length) {
+			int newCapacity = timerables.length * 2;
+			timerables = Arrays.copyOf(timerables, newCapacity);
+			periods = Arrays.copyOf(periods, newCapacity);
+			remainingDelays = Arrays.copyOf(remainingDelays, newCapacity);
+		}
+
+		timerables[size] = timerable;
+		periods[size] = period;
+		remainingDelays[size] = period;
+		indices.put(timerable, size);
+		size++;
+	}
+
+	/**
+	 * Removes the given timerable. Its slot stays empty until the next call of {@link #checkExecution(short)}, so the order of the remaining
+	 * timerables is kept.
+	 * 
+	 * @param timerable
+	 *            The timerable to be removed.
+	 * @return true if the timerable has been found.
+	 */
+	boolean remove(INetworkTimerable timerable) {
+		Integer index = indices.remove(timerable);
+		if (index == null) {
+			return false;
+		}
+
+		timerables[index] = null;
+		removed++;
+		return true;
+	}
+
+	/**
+	 * Calls every timerable as often as its period elapsed in the given time slice. The empty slots of removed timerables are closed on the way by
+	 * moving the following timerables up and updating their indices.
+	 * 
+	 * @param timeSlice
+	 *            The number of milliseconds of game time that expired since the last call.
+	 */
+	void checkExecution(short timeSlice) {
+		int newSize = 0;
+		for (int i = 0; i < size; i++) {
+			INetworkTimerable timerable = timerables[i];
+			if (timerable == null) {
+				continue;
+			}
+
+			if (newSize != i) {
+				timerables[newSize] = timerable;
+				periods[newSize] = periods[i];
+				remainingDelays[newSize] = remainingDelays[i];
+				indices.put(timerable, newSize);
+			}
+
+			remainingDelays[newSize] -= timeSlice;
+			while (remainingDelays[newSize] <= 0) {
+				remainingDelays[newSize] += periods[newSize];
+				timerable.timerEvent();
+			}
+			newSize++;
+		}
+
+		if (removed > 0) {
+			Arrays.fill(timerables, newSize, size, null);
+			size = newSize;
+			removed = 0;
+		}
+	}
+
+	int size() {
+		return size - removed;
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.Collections;
+import java.util.List;
+
+import jsettlers.benchmarks.Benchmark;
+import jsettlers.benchmarks.BenchmarkFixtures;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.Constants;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+
+/**
+ * Benchmarks a complete rebuild of the {@link FogOfWar}: The view circles of towers and settlers at random positions of the benchmark map are
+ * drawn, removed again and the no longer seen positions are dimmed down.
+ */
+public class FogOfWarBenchmark extends Benchmark {
+	private static final int NUMBER_OF_TOWERS = 20;
+	private static final int NUMBER_OF_SETTLERS = 300;
+
+	private FogOfWar.CircleDrawer drawer;
+	private List<ShortPoint2D> positions;
+	private short towerViewDistance;
+
+	public FogOfWarBenchmark() {
+		super("FogOfWar.rebuild");
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		MainGridDataAccessor grid = BenchmarkFixtures.getGrid();
+		FogOfWar fogOfWar = new FogOfWar(grid.getWidth(), grid.getHeight());
+		drawer = fogOfWar.new CircleDrawer();
+		positions = BenchmarkFixtures.createFreePositions(grid, NUMBER_OF_TOWERS + NUMBER_OF_SETTLERS, 0);
+		towerViewDistance = EBuildingType.TOWER.getViewDistance();
+	}
+
+	@Override
+	public int runOperation() {
+		for (int i = 0; i < positions.size(); i++) {
+			ShortPoint2D position = positions.get(i);
+			drawer.drawCircle(position.x, position.y, getViewDistance(i));
+		}
+		for (int i = 0; i < positions.size(); i++) {
+			ShortPoint2D position = positions.get(i);
+			drawer.removeCircle(position.x, position.y, getViewDistance(i));
+		}
+		drawer.dimDown((byte) 10, Collections.<FogOfWar.DrawnView> emptyList());
+		return positions.size();
+	}
+
+	private int getViewDistance(int index) {
+		return index < NUMBER_OF_TOWERS ? towerViewDistance : Constants.MOVABLE_VIEW_DISTANCE;
+	}
+}
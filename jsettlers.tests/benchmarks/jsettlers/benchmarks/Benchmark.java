@@ -12,41 +12,39 @@
  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
  * DEALINGS IN THE SOFTWARE.
  *******************************************************************************/
-package jsettlers.network.synchronic.timer;
+package jsettlers.benchmarks;
 
 /**
- * Container class for a {@link INetworkTimerable}, it's periodic execution delay and it's current execution delay.
- * 
+ * Base class of all benchmarks run by the {@link BenchmarkRunner}.
+ * <p />
+ * {@link #setUp()} is called once before the warmup iterations. Afterwards, {@link #runOperation()} is called repeatedly and the average time of
+ * one call is measured. An operation must leave the benchmark in a state that allows to run it again with the same costs.
+ *
  * @author Andreas Eberle
- * 
+ *
  */
-public final class ScheduledTimerable {
+public abstract class Benchmark {
+	private final String name;
 
-	private final INetworkTimerable timerable;
-	private final short delay;
-	private short currDelay;
+	protected Benchmark(String name) {
+		this.name = name;
+	}
 
-	public ScheduledTimerable(INetworkTimerable timerable, short delay) {
-		this.timerable = timerable;
-		this.delay = delay;
-		this.currDelay = delay;
+	public String getName() {
+		return name;
 	}
 
-	public INetworkTimerable getTimerable() {
-		return timerable;
+	public void setUp() throws Exception {
 	}
 
 	/**
-	 * Checks if this task needs to be executed. (Is able to execute tasks serveral times if needed
-	 * 
-	 * @param timeSlice
-	 *            number of milliseconds of the game time that expired since the last call.
+	 * Executes one operation of this benchmark.
+	 *
+	 * @return A value depending on the result of the operation. The results are consumed by the {@link BenchmarkRunner}, so the JIT cannot
+	 *         eliminate the calculation.
 	 */
-	public void checkExecution(short timeSlice) {
-		currDelay -= timeSlice;
-		while (currDelay <= 0) {
-			currDelay += delay;
-			timerable.timerEvent();
-		}
+	public abstract int runOperation();
+
+	public void tearDown() {
 	}
 }
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import jsettlers.TestUtils;
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.common.map.MapLoadException;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.grid.landscape.LandscapeGrid;
+import jsettlers.logic.map.save.MapList;
+import jsettlers.logic.map.save.loader.MapLoader;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+/**
+ * Reproducible fixtures for the benchmarks. The grid is loaded from one of the maps shipped with the game and all random positions are generated
+ * with fixed seeds.
+ */
+public final class BenchmarkFixtures {
+	public static final String MAP_NAME = "mountain lake";
+	private static final long SEED = 4711;
+
+	private static MainGridDataAccessor grid;
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * @return The grid of the benchmark map. The grid is loaded on the first call and shared by all benchmarks afterwards.
+	 */
+	public static synchronized MainGridDataAccessor getGrid() throws MapLoadException {
+		if (grid == null) {
+			TestUtils.setupResourcesManager();
+			MatchConstants.init(new NetworkTimer(true), 0);
+
+			MapLoader mapLoader = MapList.getDefaultList().getMapByName(MAP_NAME);
+			if (mapLoader == null) {
+				throw new MapLoadException("Benchmark map " + MAP_NAME + " not found.");
+			}
+			MainGrid mainGrid = mapLoader.loadMainGrid(null).getMainGrid();
+			grid = new MainGridDataAccessor(mainGrid);
+		}
+		return grid;
+	}
+
+	public static Random createRandom() {
+		return new Random(SEED);
+	}
+
+	/**
+	 * @return A {@link BitSet} containing all positions of the grid that are not blocked by the landscape.
+	 */
+	public static BitSet getNotBlockingSet(MainGridDataAccessor grid) {
+		short width = grid.getWidth();
+		short height = grid.getHeight();
+		LandscapeGrid landscapeGrid = grid.getLandscapeGrid();
+
+		BitSet notBlockingSet = new BitSet(width * height);
+		for (short y = 0; y < height; y++) {
+			for (short x = 0; x < width; x++) {
+				notBlockingSet.set(x + y * width, !landscapeGrid.getLandscapeTypeAt(x, y).isBlocking);
+			}
+		}
+		return notBlockingSet;
+	}
+
+	/**
+	 * Creates random positions that are not blocked and belong to the biggest partition, so that a path exists between all of them.
+	 *
+	 * @param grid
+	 * @param count
+	 *            Number of positions to create.
+	 * @param margin
+	 *            Minimum distance of the positions to the border of the map.
+	 * @return
+	 */
+	public static List<ShortPoint2D> createFreePositions(MainGridDataAccessor grid, int count, int margin) {
+		short width = grid.getWidth();
+		short height = grid.getHeight();
+		LandscapeGrid landscapeGrid = grid.getLandscapeGrid();
+		short partition = getBiggestBlockedPartition(grid);
+
+		Random random = createRandom();
+		List<ShortPoint2D> positions = new ArrayList<ShortPoint2D>(count);
+		while (positions.size() < count) {
+			int x = margin + random.nextInt(width - 2 * margin);
+			int y = margin + random.nextInt(height - 2 * margin);
+			if (!grid.getFlagsGrid().isBlocked(x, y) && landscapeGrid.getBlockedPartitionAt(x, y) == partition) {
+				positions.add(new ShortPoint2D(x, y));
+			}
+		}
+		return positions;
+	}
+
+	private static short getBiggestBlockedPartition(MainGridDataAccessor grid) {
+		LandscapeGrid landscapeGrid = grid.getLandscapeGrid();
+		int[] sizes = new int[Short.MAX_VALUE + 1];
+		short biggest = 0;
+		for (int y = 0; y < grid.getHeight(); y++) {
+			for (int x = 0; x < grid.getWidth(); x++) {
+				short partition = landscapeGrid.getBlockedPartitionAt(x, y);
+				if (partition > 0 && ++sizes[partition] > sizes[biggest]) {
+					biggest = partition;
+				}
+			}
+		}
+		return biggest;
+	}
+
+	/**
+	 * @return A path requester of player 0 at the given position that does not need to stay on its players ground.
+	 */
+	public static IPathCalculatable createRequester(final ShortPoint2D position) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return position;
+			}
+
+			@Override
+			public byte getPlayerId() {
+				return 0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+	}
+}
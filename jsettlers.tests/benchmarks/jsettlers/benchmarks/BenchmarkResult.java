@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+/**
+ * The measured times of one {@link Benchmark}.
+ */
+public class BenchmarkResult {
+	/**
+	 * Student's t quantile for a confidence of 99.9% and degrees of freedom from 1 to 10 (the same confidence level JMH reports).
+	 */
+	private static final double[] T_QUANTILES = { 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587 };
+	private static final double T_QUANTILE_LIMIT = 3.291;
+
+	private final String name;
+	private final int warmupIterations;
+	private final double[] microsPerOperation;
+
+	public BenchmarkResult(String name, int warmupIterations, double[] microsPerOperation) {
+		this.name = name;
+		this.warmupIterations = warmupIterations;
+		this.microsPerOperation = microsPerOperation;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getWarmupIterations() {
+		return warmupIterations;
+	}
+
+	public double[] getMicrosPerOperation() {
+		return microsPerOperation;
+	}
+
+	/**
+	 * @return The mean time of an operation in microseconds.
+	 */
+	public double getScore() {
+		double sum = 0;
+		for (double curr : microsPerOperation) {
+			sum += curr;
+		}
+		return sum / microsPerOperation.length;
+	}
+
+	/**
+	 * @return Half of the width of the 99.9% confidence interval of the score.
+	 */
+	public double getScoreError() {
+		int n = microsPerOperation.length;
+		if (n <= 1) {
+			return Double.NaN;
+		}
+
+		double mean = getScore();
+		double squaredDeviations = 0;
+		for (double curr : microsPerOperation) {
+			squaredDeviations += (curr - mean) * (curr - mean);
+		}
+		double standardDeviation = Math.sqrt(squaredDeviations / (n - 1));
+		double tQuantile = n - 1 <= T_QUANTILES.length ? T_QUANTILES[n - 2] : T_QUANTILE_LIMIT;
+		return tQuantile * standardDeviation / Math.sqrt(n);
+	}
+}
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jsettlers.algorithms.fogofwar.FogOfWarBenchmark;
+
+/**
+ * Runs the benchmarks and writes their results as JSON file. The format of the file is the same as the one of JMH's JSON result format, so the
+ * usual tools can be used to visualize and compare the results.
+ * <p />
+ * Arguments (all optional):
+ * <ul>
+ * <li>-wi &lt;count&gt;: number of warmup iterations (default 5)</li>
+ * <li>-i &lt;count&gt;: number of measurement iterations (default 5)</li>
+ * <li>-r &lt;ms&gt;: duration of a single iteration in milliseconds (default 1000)</li>
+ * <li>-rff &lt;file&gt;: the JSON result file (default benchmarkResults.json)</li>
+ * <li>-baseline &lt;file&gt;: JSON results of an older run. If a benchmark got slower by more than the threshold, the runner exits with 1.</li>
+ * <li>-threshold &lt;percent&gt;: the allowed slow down compared to the baseline (default 20)</li>
+ * <li>any other argument is used as filter: only benchmarks whose name contains one of the filters are run.</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+	private static final Pattern BASELINE_PATTERN = Pattern.compile("\"benchmark\"\\s*:\\s*\"([^\"]+)\".*?\"score\"\\s*:\\s*\"?([-0-9.eE+]+|NaN)\"?",
+			Pattern.DOTALL);
+
+	private int warmupIterations = 5;
+	private int measurementIterations = 5;
+	private long iterationTimeMs = 1000;
+	private File resultFile = new File("benchmarkResults.json");
+	private File baselineFile = null;
+	private double thresholdPercent = 20;
+	private final List<String> filters = new ArrayList<String>();
+
+	/**
+	 * Consumes the results of the operations.
+	 */
+	private int blackhole;
+
+	public static void main(String[] args) throws Exception {
+		BenchmarkRunner runner = new BenchmarkRunner();
+		runner.parseArguments(args);
+
+		int exitCode = 1;
+		try {
+			boolean regression = runner.run(createBenchmarks());
+			exitCode = regression ? 1 : 0;
+		} finally {
+			System.exit(exitCode); // the loaded grid started threads that would keep the vm alive
+		}
+	}
+
+	static List<Benchmark> createBenchmarks() {
+		List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+		benchmarks.add(new BucketQueueAStarBenchmark());
+		benchmarks.add(new DijkstraAlgorithmBenchmark());
+		benchmarks.add(new PartitionCalculatorAlgorithmBenchmark());
+		benchmarks.add(new PartitionsGridBenchmark());
+		benchmarks.add(new FogOfWarBenchmark());
+		benchmarks.add(new ConstructionMarksBenchmark());
+		return benchmarks;
+	}
+
+	private void parseArguments(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if ("-wi".equals(arg)) {
+				warmupIterations = Integer.parseInt(args[++i]);
+			} else if ("-i".equals(arg)) {
+				measurementIterations = Integer.parseInt(args[++i]);
+			} else if ("-r".equals(arg)) {
+				iterationTimeMs = Long.parseLong(args[++i]);
+			} else if ("-rff".equals(arg)) {
+				resultFile = new File(args[++i]);
+			} else if ("-baseline".equals(arg)) {
+				baselineFile = new File(args[++i]);
+			} else if ("-threshold".equals(arg)) {
+				thresholdPercent = Double.parseDouble(args[++i]);
+			} else {
+				filters.add(arg);
+			}
+		}
+	}
+
+	/**
+	 * @return true if a regression compared to the baseline has been found.
+	 */
+	private boolean run(List<Benchmark> benchmarks) throws Exception {
+		List<BenchmarkResult> results = new ArrayList<BenchmarkResult>();
+		for (Benchmark benchmark : benchmarks) {
+			if (matchesFilters(benchmark.getName())) {
+				results.add(run(benchmark));
+			}
+		}
+
+		writeResults(results);
+		System.out.println("Benchmark results written to " + resultFile.getAbsolutePath());
+
+		if (baselineFile != null) {
+			return checkForRegressions(results, readBaseline(baselineFile));
+		}
+		return false;
+	}
+
+	private boolean matchesFilters(String name) {
+		if (filters.isEmpty()) {
+			return true;
+		}
+		for (String filter : filters) {
+			if (name.contains(filter)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private BenchmarkResult run(Benchmark benchmark) throws Exception {
+		System.out.println("# Benchmark: " + benchmark.getName());
+		benchmark.setUp();
+		try {
+			for (int i = 0; i < warmupIterations; i++) {
+				System.out.println(String.format(Locale.ENGLISH, "# Warmup Iteration %2d: %12.3f us/op", i + 1, runIteration(benchmark)));
+			}
+
+			double[] microsPerOperation = new double[measurementIterations];
+			for (int i = 0; i < measurementIterations; i++) {
+				microsPerOperation[i] = runIteration(benchmark);
+				System.out.println(String.format(Locale.ENGLISH, "Iteration %2d: %12.3f us/op", i + 1, microsPerOperation[i]));
+			}
+
+			BenchmarkResult result = new BenchmarkResult(benchmark.getName(), warmupIterations, microsPerOperation);
+			System.out.println(String.format(Locale.ENGLISH, "Result: %.3f +- %.3f us/op (blackhole %d)\n", result.getScore(),
+					result.getScoreError(), blackhole));
+			return result;
+		} finally {
+			benchmark.tearDown();
+		}
+	}
+
+	private double runIteration(Benchmark benchmark) {
+		long iterationTimeNs = iterationTimeMs * 1000000L;
+		long operations = 0;
+		int consumed = 0;
+
+		long start = System.nanoTime();
+		long duration;
+		do {
+			consumed += benchmark.runOperation();
+			operations++;
+			duration = System.nanoTime() - start;
+		} while (duration < iterationTimeNs);
+
+		blackhole += consumed;
+		return duration / 1000.0 / operations;
+	}
+
+	private void writeResults(List<BenchmarkResult> results) throws IOException {
+		PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(resultFile), StandardCharsets.UTF_8));
+		try {
+			out.println("[");
+			for (int i = 0; i < results.size(); i++) {
+				BenchmarkResult result = results.get(i);
+				out.println("    {");
+				out.println("        \"benchmark\" : \"" + result.getName() + "\",");
+				out.println("        \"mode\" : \"avgt\",");
+				out.println("        \"threads\" : 1,");
+				out.println("        \"forks\" : 0,");
+				out.println("        \"warmupIterations\" : " + result.getWarmupIterations() + ",");
+				out.println("        \"warmupTime\" : \"" + iterationTimeMs + " ms\",");
+				out.println("        \"measurementIterations\" : " + result.getMicrosPerOperation().length + ",");
+				out.println("        \"measurementTime\" : \"" + iterationTimeMs + " ms\",");
+				out.println("        \"primaryMetric\" : {");
+				out.println("            \"score\" : " + toJson(result.getScore()) + ",");
+				out.println("            \"scoreError\" : " + toJson(result.getScoreError()) + ",");
+				out.println("            \"scoreUnit\" : \"us/op\",");
+				out.print("            \"rawData\" : [ [ ");
+				double[] rawData = result.getMicrosPerOperation();
+				for (int j = 0; j < rawData.length; j++) {
+					out.print((j > 0 ? ", " : "") + toJson(rawData[j]));
+				}
+				out.println(" ] ]");
+				out.println("        }");
+				out.println(i < results.size() - 1 ? "    }," : "    }");
+			}
+			out.println("]");
+		} finally {
+			out.close();
+		}
+	}
+
+	private static String toJson(double value) {
+		return Double.isNaN(value) ? "\"NaN\"" : String.format(Locale.ENGLISH, "%.3f", value);
+	}
+
+	private static Map<String, Double> readBaseline(File file) throws IOException {
+		String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		Map<String, Double> scores = new HashMap<String, Double>();
+
+		Matcher matcher = BASELINE_PATTERN.matcher(json);
+		while (matcher.find()) {
+			scores.put(matcher.group(1), Double.parseDouble(matcher.group(2)));
+		}
+		return scores;
+	}
+
+	private boolean checkForRegressions(List<BenchmarkResult> results, Map<String, Double> baseline) {
+		boolean regression = false;
+		for (BenchmarkResult result : results) {
+			Double baselineScore = baseline.get(result.getName());
+			if (baselineScore == null || baselineScore.isNaN()) {
+				System.out.println("No baseline for " + result.getName());
+				continue;
+			}
+
+			double change = (result.getScore() - baselineScore) / baselineScore * 100;
+			boolean slower = change > thresholdPercent;
+			System.out.println(String.format(Locale.ENGLISH, "%s %s: %.3f us/op (baseline %.3f us/op, %+.1f%%)", slower ? "REGRESSION" : "OK        ",
+					result.getName(), result.getScore(), baselineScore, change));
+			regression |= slower;
+		}
+		return regression;
+	}
+}
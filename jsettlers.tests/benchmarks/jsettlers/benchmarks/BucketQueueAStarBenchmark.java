@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+import java.util.List;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+
+/**
+ * Benchmarks the calculation of paths between random positions with the {@link BucketQueueAStar}.
+ */
+public class BucketQueueAStarBenchmark extends Benchmark {
+	private static final int NUMBER_OF_PATHS = 64;
+
+	private BucketQueueAStar aStar;
+	private List<ShortPoint2D> positions;
+	private IPathCalculatable[] requesters;
+	private int nextPath;
+
+	public BucketQueueAStarBenchmark() {
+		super("BucketQueueAStar.findPath");
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		MainGridDataAccessor grid = BenchmarkFixtures.getGrid();
+		aStar = new BucketQueueAStar(grid.getAStarPathMap(), grid.getWidth(), grid.getHeight());
+		positions = BenchmarkFixtures.createFreePositions(grid, NUMBER_OF_PATHS + 1, 5);
+
+		requesters = new IPathCalculatable[NUMBER_OF_PATHS];
+		for (int i = 0; i < NUMBER_OF_PATHS; i++) {
+			requesters[i] = BenchmarkFixtures.createRequester(positions.get(i));
+		}
+	}
+
+	@Override
+	public int runOperation() {
+		int index = nextPath;
+		nextPath = (nextPath + 1) % NUMBER_OF_PATHS;
+
+		ShortPoint2D start = positions.get(index);
+		ShortPoint2D target = positions.get(index + 1);
+		Path path = aStar.findPath(requesters[index], start.x, start.y, target.x, target.y);
+		return path == null ? 0 : path.getLength();
+	}
+}
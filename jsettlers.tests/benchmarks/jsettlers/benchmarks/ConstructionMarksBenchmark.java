@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+import jsettlers.algorithms.construction.ConstructionMarksThread;
+import jsettlers.algorithms.construction.NewConstructionMarksAlgorithm;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.map.shapes.MapRectangle;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+
+/**
+ * Benchmarks the calculation of construction marks done by the {@link ConstructionMarksThread} for a screen around the start position of player
+ * 0. The screen is moved by a few positions for every operation, like it happens when the player scrolls.
+ */
+public class ConstructionMarksBenchmark extends Benchmark {
+	private static final byte PLAYER = 0;
+	private static final int SCREEN_WIDTH = 64;
+	private static final int SCREEN_HEIGHT = 48;
+	private static final int SCROLL_DISTANCE = 3;
+
+	private NewConstructionMarksAlgorithm algorithm;
+	private EBuildingType[] buildingTypes;
+	private MapRectangle[] screens;
+	private int nextOperation;
+
+	public ConstructionMarksBenchmark() {
+		super("ConstructionMarksThread.calculateConstructMarks");
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		MainGridDataAccessor grid = BenchmarkFixtures.getGrid();
+		algorithm = new NewConstructionMarksAlgorithm(grid.getConstructionMarksGrid(), PLAYER);
+		buildingTypes = new EBuildingType[] { EBuildingType.LUMBERJACK, EBuildingType.TOWER };
+
+		int centerX = grid.getWidth() / 2;
+		int centerY = grid.getHeight() / 2;
+		PartitionsGrid partitionsGrid = grid.getPartitionsGrid();
+		long sumX = 0;
+		long sumY = 0;
+		int count = 0;
+		for (int y = 0; y < grid.getHeight(); y++) {
+			for (int x = 0; x < grid.getWidth(); x++) {
+				if (partitionsGrid.getPlayerIdAt(x, y) == PLAYER) {
+					sumX += x;
+					sumY += y;
+					count++;
+				}
+			}
+		}
+		if (count > 0) {
+			centerX = (int) (sumX / count);
+			centerY = (int) (sumY / count);
+		}
+
+		int minX = Math.max(0, Math.min(centerX - SCREEN_WIDTH / 2, grid.getWidth() - SCREEN_WIDTH - SCROLL_DISTANCE));
+		int minY = Math.max(0, Math.min(centerY - SCREEN_HEIGHT / 2, grid.getHeight() - SCREEN_HEIGHT));
+		screens = new MapRectangle[] { new MapRectangle(minX, minY, SCREEN_WIDTH, SCREEN_HEIGHT),
+				new MapRectangle(minX + SCROLL_DISTANCE, minY, SCREEN_WIDTH, SCREEN_HEIGHT) };
+	}
+
+	@Override
+	public int runOperation() {
+		MapRectangle screen = screens[nextOperation % screens.length];
+		EBuildingType buildingType = buildingTypes[(nextOperation / screens.length) % buildingTypes.length];
+		nextOperation++;
+
+		algorithm.calculateConstructMarks(screen, buildingType.getBuildingAreaBitSet(), buildingType.getGroundtypes(), buildingType.getBlockedTiles(),
+				buildingType.isMine());
+		return screen.getMinX();
+	}
+
+	@Override
+	public void tearDown() {
+		algorithm.removeConstructionMarks();
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+import java.util.List;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.dijkstra.DijkstraAlgorithm;
+import jsettlers.common.material.ESearchType;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+
+/**
+ * Benchmarks the search for trees and stones around random positions with the {@link DijkstraAlgorithm}, like lumberjacks and stonecutters do it.
+ */
+public class DijkstraAlgorithmBenchmark extends Benchmark {
+	private static final int NUMBER_OF_SEARCHES = 64;
+	private static final short MAX_RADIUS = 30;
+	private static final ESearchType[] SEARCH_TYPES = { ESearchType.CUTTABLE_TREE, ESearchType.CUTTABLE_STONE };
+
+	private DijkstraAlgorithm dijkstra;
+	private List<ShortPoint2D> positions;
+	private IPathCalculatable[] requesters;
+	private int nextSearch;
+
+	public DijkstraAlgorithmBenchmark() {
+		super("DijkstraAlgorithm.find");
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		MainGridDataAccessor grid = BenchmarkFixtures.getGrid();
+		short width = grid.getWidth();
+		short height = grid.getHeight();
+		dijkstra = new DijkstraAlgorithm(grid.getDijkstraPathMap(), new BucketQueueAStar(grid.getAStarPathMap(), width, height), width, height);
+		positions = BenchmarkFixtures.createFreePositions(grid, NUMBER_OF_SEARCHES, 5);
+
+		requesters = new IPathCalculatable[NUMBER_OF_SEARCHES];
+		for (int i = 0; i < NUMBER_OF_SEARCHES; i++) {
+			requesters[i] = BenchmarkFixtures.createRequester(positions.get(i));
+		}
+	}
+
+	@Override
+	public int runOperation() {
+		int index = nextSearch;
+		nextSearch = (nextSearch + 1) % NUMBER_OF_SEARCHES;
+
+		ShortPoint2D center = positions.get(index);
+		Path path = dijkstra.find(requesters[index], center.x, center.y, (short) 0, MAX_RADIUS, SEARCH_TYPES[index % SEARCH_TYPES.length]);
+		return path == null ? 0 : path.getLength();
+	}
+}
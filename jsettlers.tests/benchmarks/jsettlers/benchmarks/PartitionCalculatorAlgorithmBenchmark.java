@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+import java.util.BitSet;
+
+import jsettlers.algorithms.partitions.IBlockingProvider;
+import jsettlers.algorithms.partitions.PartitionCalculatorAlgorithm;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+
+/**
+ * Benchmarks the calculation of the blocked partitions of the whole benchmark map with the {@link PartitionCalculatorAlgorithm}.
+ */
+public class PartitionCalculatorAlgorithmBenchmark extends Benchmark {
+	private short width;
+	private short height;
+	private BitSet notBlockingSet;
+
+	public PartitionCalculatorAlgorithmBenchmark() {
+		super("PartitionCalculatorAlgorithm.calculatePartitions");
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		MainGridDataAccessor grid = BenchmarkFixtures.getGrid();
+		width = grid.getWidth();
+		height = grid.getHeight();
+		notBlockingSet = BenchmarkFixtures.getNotBlockingSet(grid);
+	}
+
+	@Override
+	public int runOperation() {
+		PartitionCalculatorAlgorithm partitioner = new PartitionCalculatorAlgorithm(0, 0, width, height, notBlockingSet,
+				IBlockingProvider.DEFAULT_IMPLEMENTATION);
+		partitioner.calculatePartitions();
+		return partitioner.getNumberOfPartitions();
+	}
+}
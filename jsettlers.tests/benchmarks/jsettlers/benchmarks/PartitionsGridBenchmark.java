@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmarks;
+
+import java.util.BitSet;
+import java.util.List;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.map.shapes.MapCircle;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.grid.flags.IBlockingChangedListener;
+import jsettlers.logic.map.grid.partition.IPartitionsGridBlockingProvider;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+
+/**
+ * Benchmarks {@link PartitionsGrid#addTowerAndOccupyArea(byte, MapCircle)} on a partitions grid with the landscape of the benchmark map. Every
+ * operation conquers the area of a tower from the other player and removes the tower again.
+ */
+public class PartitionsGridBenchmark extends Benchmark {
+	private static final int NUMBER_OF_TOWERS = 32;
+
+	private PartitionsGrid partitionsGrid;
+	private List<ShortPoint2D> towerPositions;
+	private int nextTower;
+	private byte nextPlayer;
+
+	public PartitionsGridBenchmark() {
+		super("PartitionsGrid.addTowerAndOccupyArea");
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		MainGridDataAccessor grid = BenchmarkFixtures.getGrid();
+		final short width = grid.getWidth();
+		final BitSet notBlockingSet = BenchmarkFixtures.getNotBlockingSet(grid);
+
+		partitionsGrid = new PartitionsGrid(width, grid.getHeight(), (byte) 2, new IPartitionsGridBlockingProvider() {
+			@Override
+			public boolean isBlocked(int x, int y) {
+				return !notBlockingSet.get(x + y * width);
+			}
+
+			@Override
+			public void registerBlockingChangedListener(IBlockingChangedListener listener) {
+			}
+		});
+		towerPositions = BenchmarkFixtures.createFreePositions(grid, NUMBER_OF_TOWERS, 0);
+	}
+
+	@Override
+	public int runOperation() {
+		ShortPoint2D position = towerPositions.get(nextTower);
+		byte player = nextPlayer;
+
+		partitionsGrid.addTowerAndOccupyArea(player, new MapCircle(position, CommonConstants.TOWER_RADIUS));
+		partitionsGrid.removeTowerAndFreeOccupiedArea(position);
+
+		if (++nextTower >= NUMBER_OF_TOWERS) {
+			nextTower = 0;
+			nextPlayer = (byte) (1 - nextPlayer);
+		}
+		return partitionsGrid.getPlayerIdAt(position.x, position.y);
+	}
+}
@@ -0,0 +1,410 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.client;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.client.task.packets.SyncTasksPacket;
+import jsettlers.network.client.task.packets.TaskPacket;
+import jsettlers.network.common.packets.MapInfoPacket;
+import jsettlers.network.common.packets.MatchInfoPacket;
+import jsettlers.network.infrastructure.channel.AsyncChannel;
+import jsettlers.network.server.GameServerThread;
+import jsettlers.network.server.match.EPlayerState;
+import jsettlers.network.synchronic.timer.INetworkTimerable;
+import jsettlers.network.synchronic.timer.ITaskExecutor;
+
+/**
+ * Load test of the game server: Simulates the given number of clients playing matches on a server and reports the lockstep rate and the latency
+ * of the tasks sent by the clients.
+ * <p />
+ * Arguments (all optional): &lt;number of clients&gt; &lt;players per match&gt; &lt;duration in seconds&gt; &lt;server host&gt;<br>
+ * Without a host, a server is started in this vm.
+ */
+public class NetworkLoadTester {
+	private static final long TASK_SEND_INTERVAL_MS = 200;
+	private static final long STATE_TIMEOUT_MS = 20000;
+
+	private final List<NetworkClient> clients = new ArrayList<NetworkClient>();
+	private final List<AsyncChannel> channels = new ArrayList<AsyncChannel>();
+	private final List<LoadTestClock> clocks = new ArrayList<LoadTestClock>();
+	private final Statistics statistics = new Statistics();
+
+	public static void main(String[] args) throws Exception {
+		int numberOfClients = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int playersPerMatch = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+		int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+		String host = args.length > 3 ? args[3] : null;
+
+		GameServerThread server = null;
+		if (host == null) {
+			server = new GameServerThread(false);
+			server.start();
+			host = "localhost";
+		}
+
+		NetworkLoadTester tester = new NetworkLoadTester();
+		try {
+			tester.connectClients(host, numberOfClients);
+			tester.startMatches(playersPerMatch);
+			tester.run(durationSeconds);
+		} finally {
+			tester.closeClients();
+			if (server != null) {
+				server.shutdown();
+			}
+		}
+		System.exit(0);
+	}
+
+	private void connectClients(String host, int numberOfClients) throws IOException, InterruptedException {
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < numberOfClients; i++) {
+			LoadTestClock clock = new LoadTestClock(i, statistics);
+			AsyncChannel channel = new AsyncChannel(host, NetworkConstants.Server.SERVER_PORT);
+			NetworkClient client = new NetworkClient(channel, null, clock);
+			client.logIn("loadTestPlayer-" + i, "Load Test Player " + i, null);
+
+			clients.add(client);
+			channels.add(channel);
+			clocks.add(clock);
+		}
+
+		waitForState(clients, EPlayerState.LOGGED_IN);
+		System.out.println(String.format("Connected and logged in %d clients in %d ms", numberOfClients, System.currentTimeMillis() - start));
+	}
+
+	private void startMatches(int playersPerMatch) throws InterruptedException {
+		long start = System.currentTimeMillis();
+		int numberOfMatches = 0;
+
+		for (int first = 0; first < clients.size(); first += playersPerMatch) {
+			List<NetworkClient> matchClients = clients.subList(first, Math.min(first + playersPerMatch, clients.size()));
+			NetworkClient host = matchClients.get(0);
+
+			host.openNewMatch("LoadTestMatch-" + first, matchClients.size(), new MapInfoPacket("", "", "", "", matchClients.size()), first, null,
+					null, null);
+			waitForState(matchClients.subList(0, 1), EPlayerState.IN_MATCH);
+
+			MatchInfoPacket matchInfo = host.getMatchInfo();
+			for (NetworkClient client : matchClients.subList(1, matchClients.size())) {
+				client.joinMatch(matchInfo.getId(), null, null, null);
+			}
+			waitForState(matchClients, EPlayerState.IN_MATCH);
+			Thread.sleep(100); // wait until all join updates have been received
+
+			for (NetworkClient client : matchClients) {
+				client.setReadyState(true);
+			}
+			Thread.sleep(100);
+			host.startMatch();
+
+			waitForState(matchClients, EPlayerState.IN_RUNNING_MATCH);
+			for (LoadTestClock clock : clocks.subList(first, first + matchClients.size())) {
+				clock.start();
+			}
+			numberOfMatches++;
+		}
+
+		System.out.println(String.format("Started %d matches in %d ms", numberOfMatches, System.currentTimeMillis() - start));
+	}
+
+	private void run(int durationSeconds) throws InterruptedException {
+		statistics.reset();
+		long bytesReceivedAtStart = getBytesReceived();
+
+		Timer taskSender = new Timer("LoadTestTaskSender", true);
+		for (int i = 0; i < clients.size(); i++) {
+			final NetworkClient client = clients.get(i);
+			final int clientIndex = i;
+
+			taskSender.schedule(new TimerTask() {
+				@Override
+				public void run() {
+					client.scheduleTask(new LoadTestTaskPacket(clientIndex, System.currentTimeMillis()));
+				}
+			}, i * TASK_SEND_INTERVAL_MS / clients.size(), TASK_SEND_INTERVAL_MS);
+		}
+
+		long start = System.currentTimeMillis();
+		for (int second = 1; second <= durationSeconds; second++) {
+			Thread.sleep(1000);
+			if (second % 5 == 0 || second == durationSeconds) {
+				statistics.print(System.currentTimeMillis() - start, clients.size(), getBytesReceived() - bytesReceivedAtStart);
+			}
+		}
+
+		taskSender.cancel();
+	}
+
+	private long getBytesReceived() {
+		long bytesReceived = 0;
+		for (AsyncChannel channel : channels) {
+			bytesReceived += channel.getStatistics().getBytesReceived();
+		}
+		return bytesReceived;
+	}
+
+	private void closeClients() {
+		for (NetworkClient client : clients) {
+			client.close();
+		}
+	}
+
+	private static void waitForState(List<NetworkClient> clients, EPlayerState state) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + STATE_TIMEOUT_MS;
+		for (NetworkClient client : clients) {
+			while (client.getState() != state) {
+				if (System.currentTimeMillis() > timeout) {
+					throw new IllegalStateException("Client did not reach state " + state + " in time. Current state: " + client.getState());
+				}
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	/**
+	 * Collects the results of all clients.
+	 */
+	private static class Statistics {
+		private static final int MAX_LATENCY_MS = 10000;
+
+		private final AtomicLong locksteps = new AtomicLong();
+		private final AtomicLong maxLockstepGap = new AtomicLong();
+		private final AtomicLong stalls = new AtomicLong();
+		private final int[] latencyHistogram = new int[MAX_LATENCY_MS + 1];
+		private long latencySum;
+		private long numberOfTasks;
+
+		synchronized void reset() {
+			locksteps.set(0);
+			maxLockstepGap.set(0);
+			stalls.set(0);
+			for (int i = 0; i < latencyHistogram.length; i++) {
+				latencyHistogram[i] = 0;
+			}
+			latencySum = 0;
+			numberOfTasks = 0;
+		}
+
+		void lockstepsReleased(int numberOfLocksteps, long gapMs, boolean stalled) {
+			locksteps.addAndGet(numberOfLocksteps);
+			if (stalled) {
+				stalls.incrementAndGet();
+			}
+
+			long currentMax;
+			while (gapMs > (currentMax = maxLockstepGap.get()) && !maxLockstepGap.compareAndSet(currentMax, gapMs)) {
+			}
+		}
+
+		synchronized void taskReceived(long latencyMs) {
+			latencyHistogram[(int) Math.min(Math.max(latencyMs, 0), MAX_LATENCY_MS)]++;
+			latencySum += latencyMs;
+			numberOfTasks++;
+		}
+
+		synchronized void print(long durationMs, int numberOfClients, long bytesReceived) {
+			System.out.println(String.format(Locale.ENGLISH, "%6.1f s: %8.1f locksteps/s (%.1f per client)   received per client: %7.1f bytes/s"
+					+ "   max lockstep gap: %5d ms   stalls: %4d   tasks: %7d   latency avg: %6.1f ms   p99: %5d ms   max: %5d ms",
+					durationMs / 1000f, locksteps.get() * 1000f / durationMs, locksteps.get() * 1000f / durationMs / numberOfClients,
+					bytesReceived * 1000f / durationMs / numberOfClients, maxLockstepGap.get(), stalls.get(), numberOfTasks,
+					numberOfTasks > 0 ? (float) latencySum / numberOfTasks : 0f, getLatencyPercentile(0.99f), getLatencyPercentile(1f)));
+		}
+
+		private int getLatencyPercentile(float percentile) {
+			long threshold = (long) Math.ceil(numberOfTasks * percentile);
+			long count = 0;
+			for (int latency = 0; latency < latencyHistogram.length; latency++) {
+				count += latencyHistogram[latency];
+				if (count >= threshold && count > 0) {
+					return latency;
+				}
+			}
+			return 0;
+		}
+	}
+
+	/**
+	 * A clock running in real time after the match has been started. It records the released locksteps instead of executing them and counts a
+	 * stall whenever its time already passed the last released lockstep.
+	 */
+	private static class LoadTestClock implements INetworkClientClock {
+		private final int clientIndex;
+		private final Statistics statistics;
+
+		private volatile long startTime = -1;
+		private volatile int pausedTime;
+		private long lastLockstepTime;
+		private int allowedLockstep = -1;
+
+		LoadTestClock(int clientIndex, Statistics statistics) {
+			this.clientIndex = clientIndex;
+			this.statistics = statistics;
+		}
+
+		void start() {
+			startTime = System.currentTimeMillis();
+			pausedTime = 0;
+		}
+
+		@Override
+		public int getTime() {
+			if (startTime < 0) {
+				return 0;
+			}
+			return (int) (System.currentTimeMillis() - startTime) - pausedTime;
+		}
+
+		@Override
+		public void setTime(int newTime) {
+			startTime = System.currentTimeMillis() - newTime;
+			pausedTime = 0;
+		}
+
+		@Override
+		public void pauseClockFor(int timeDelta) {
+			pausedTime += timeDelta;
+		}
+
+		@Override
+		public void scheduleSyncTasksPacket(SyncTasksPacket packet) {
+			long now = System.currentTimeMillis();
+			int lockstep = packet.getLockstepNumber();
+			boolean stalled = startTime >= 0 && getTime() / NetworkConstants.Client.LOCKSTEP_PERIOD > allowedLockstep;
+			statistics.lockstepsReleased(lockstep - allowedLockstep, lastLockstepTime > 0 ? now - lastLockstepTime : 0, stalled);
+			lastLockstepTime = now;
+			allowedLockstep = lockstep;
+
+			for (TaskPacket task : packet.getTasks()) {
+				if (task instanceof LoadTestTaskPacket && ((LoadTestTaskPacket) task).clientIndex == clientIndex) {
+					statistics.taskReceived(now - ((LoadTestTaskPacket) task).sendTime);
+				}
+			}
+		}
+
+		@Override
+		public boolean isPausing() {
+			return false;
+		}
+
+		@Override
+		public void setTaskExecutor(ITaskExecutor taskExecutor) {
+		}
+
+		@Override
+		public void multiplyGameSpeed(float factor) {
+		}
+
+		@Override
+		public void setGameSpeed(float speedFactor) {
+		}
+
+		@Override
+		public void invertPausing() {
+		}
+
+		@Override
+		public void setPausing(boolean b) {
+		}
+
+		@Override
+		public void fastForward() {
+		}
+
+		@Override
+		public void remove(INetworkTimerable timerable) {
+		}
+
+		@Override
+		public void schedule(INetworkTimerable timerable, short delay) {
+		}
+
+		@Override
+		public void startExecution() {
+		}
+
+		@Override
+		public void stopExecution() {
+		}
+
+		@Override
+		public void setReplayLogStream(DataOutputStream replayFileStream) {
+		}
+
+		@Override
+		public void loadReplayLogFromStream(DataInputStream dataInputStream) {
+		}
+
+		@Override
+		public void saveRemainingTasks(DataOutputStream dos) throws IOException {
+		}
+
+		@Override
+		public void fastForwardTo(int targetGameTime) {
+		}
+	}
+
+	/**
+	 * The task sent by the simulated clients. It is used to measure the time until the task is distributed by the server.
+	 */
+	public static class LoadTestTaskPacket extends TaskPacket {
+		private int clientIndex;
+		private long sendTime;
+
+		public LoadTestTaskPacket() {
+		}
+
+		LoadTestTaskPacket(int clientIndex, long sendTime) {
+			this.clientIndex = clientIndex;
+			this.sendTime = sendTime;
+		}
+
+		@Override
+		protected void serializeTask(DataOutputStream dos) throws IOException {
+			dos.writeInt(clientIndex);
+			dos.writeLong(sendTime);
+		}
+
+		@Override
+		protected void deserializeTask(DataInputStream dis) throws IOException {
+			clientIndex = dis.readInt();
+			sendTime = dis.readLong();
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * clientIndex + (int) (sendTime ^ (sendTime >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof LoadTestTaskPacket)) {
+				return false;
+			}
+			LoadTestTaskPacket other = (LoadTestTaskPacket) obj;
+			return clientIndex == other.clientIndex && sendTime == other.sendTime;
+		}
+	}
+}
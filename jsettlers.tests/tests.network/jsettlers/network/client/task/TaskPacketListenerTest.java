@@ -18,10 +18,12 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.TestUtils;
+import jsettlers.network.client.task.packets.LockstepBatchPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.infrastructure.channel.Channel;
@@ -63,9 +65,9 @@ public class TaskPacketListenerTest {
 		TaskPacket testPacket1 = new TestTaskPacket("tesdfk��l9u8u23jo", 23424, (byte) -2);
 		TaskPacket testPacket2 = new TestTaskPacket("?=?=O\"K�#'*'::�;;�", -2342342, (byte) -67);
 		int lockstep = 23;
-		SyncTasksPacket syncTasksPacket = new SyncTasksPacket(lockstep, Arrays.asList(testPacket1, testPacket2));
+		LockstepBatchPacket batchPacket = new LockstepBatchPacket(lockstep, lockstep, Arrays.asList(testPacket1, testPacket2));
 
-		c2.sendPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, syncTasksPacket);
+		c2.sendPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, batchPacket);
 
 		Thread.sleep(30);
 		List<SyncTasksPacket> packets = taskReceiver.popBufferedPackets();
@@ -76,4 +78,25 @@ public class TaskPacketListenerTest {
 		assertEquals(testPacket1, tasks.get(0));
 		assertEquals(testPacket2, tasks.get(1));
 	}
+
+	@Test
+	public void testReceiveLockstepRange() throws InterruptedException {
+		SyncTasksPacketSchedulerMock taskReceiver = new SyncTasksPacketSchedulerMock();
+		TaskPacketListener listener = new TaskPacketListener(taskReceiver);
+		c1.registerListener(listener);
+
+		TaskPacket testPacket = new TestTaskPacket("sdfsdf", 2342, (byte) 4);
+		c2.sendPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new LockstepBatchPacket(3, 7, Collections.<TaskPacket> emptyList()));
+		Thread.sleep(30);
+		assertEquals(0, taskReceiver.popBufferedPackets().size());
+		assertEquals(7, taskReceiver.getUnlockedLockstepNumber());
+
+		c2.sendPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new LockstepBatchPacket(8, 12, Arrays.asList(testPacket)));
+		Thread.sleep(30);
+		List<SyncTasksPacket> packets = taskReceiver.popBufferedPackets();
+		assertEquals(1, packets.size());
+		assertEquals(8, packets.get(0).getLockstepNumber());
+		assertEquals(Arrays.asList(testPacket), packets.get(0).getTasks());
+		assertEquals(12, taskReceiver.getUnlockedLockstepNumber());
+	}
 }
@@ -19,12 +19,14 @@ import static org.junit.Assert.assertEquals;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkMessage;
 import jsettlers.network.TestUtils;
 import jsettlers.network.client.task.TestTaskPacket;
+import jsettlers.network.client.task.packets.LockstepBatchPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.infrastructure.channel.Channel;
@@ -35,6 +37,7 @@ import jsettlers.network.infrastructure.channel.packet.EmptyPacket;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 import jsettlers.network.infrastructure.channel.ping.PingPacket;
 import jsettlers.network.infrastructure.channel.reject.RejectPacket;
+import jsettlers.network.server.packets.ServersideLockstepBatchPacket;
 import jsettlers.network.server.packets.ServersideSyncTasksPacket;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
@@ -95,10 +98,15 @@ public class PacketSerializationTest {
 				{ new ServersideTaskPacket("sdfsfsdf".getBytes()), d(ServersideTaskPacket.class) },
 				{ new ServersideSyncTasksPacket(23, Arrays.asList(new ServersideTaskPacket("dsfjsfj".getBytes()),
 						new ServersideTaskPacket("ehgdhd".getBytes()))), d(ServersideSyncTasksPacket.class) },
+				{ new ServersideLockstepBatchPacket(23, 23, Arrays.asList(new ServersideTaskPacket("dsfjsfj".getBytes()))),
+						d(ServersideLockstepBatchPacket.class) },
+				{ new ServersideLockstepBatchPacket(2342342, 2342400, new LinkedList<ServersideTaskPacket>()), d(ServersideLockstepBatchPacket.class) },
 
 				{ new TestTaskPacket("tesdfk��l9/&%/%&\"\\u8u23jo", 23424, (byte) -2), TaskPacket.DEFAULT_DESERIALIZER },
 				{ new SyncTasksPacket(234, Arrays.asList((TaskPacket) new TestTaskPacket("dsfdsdf", 23, (byte) -3),
 						(TaskPacket) new TestTaskPacket("dsfs��#��dsdf", 4345, (byte) 5))), d(SyncTasksPacket.class) },
+				{ new LockstepBatchPacket(234, 240, Arrays.asList((TaskPacket) new TestTaskPacket("dsfdsdf", 23, (byte) -3))),
+						d(LockstepBatchPacket.class) },
 
 				{ new BooleanMessagePacket(true), d(BooleanMessagePacket.class) },
 				{ new ChatMessagePacket("authorId(, message)U)(Z", "message'**�##\"\\ppoisudf08u("), d(ChatMessagePacket.class) },
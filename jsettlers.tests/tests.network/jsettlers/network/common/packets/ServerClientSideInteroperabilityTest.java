@@ -15,19 +15,27 @@
 package jsettlers.network.common.packets;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
+import jsettlers.network.NetworkConstants;
 import jsettlers.network.TestUtils;
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.client.task.TestTaskPacket;
+import jsettlers.network.client.task.packets.LockstepBatchPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.infrastructure.channel.Channel;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
 import jsettlers.network.infrastructure.channel.listeners.BufferingPacketListener;
+import jsettlers.network.server.match.Match;
+import jsettlers.network.server.match.Player;
+import jsettlers.network.server.match.lockstep.TaskCollectingListener;
+import jsettlers.network.server.match.lockstep.TaskSendingTimerTask;
+import jsettlers.network.server.packets.ServersideLockstepBatchPacket;
 import jsettlers.network.server.packets.ServersideSyncTasksPacket;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
@@ -112,4 +120,63 @@ public class ServerClientSideInteroperabilityTest {
 		assertEquals(1, clientPackets.size());
 		assertEquals(clientTestTask, clientPackets.get(0));
 	}
+
+	@Test
+	public void testLockstepBatchPackets() throws InterruptedException {
+		BufferingPacketListener<LockstepBatchPacket> clientListener = new BufferingPacketListener<LockstepBatchPacket>(ENetworkKey.TEST_PACKET,
+				new GenericDeserializer<LockstepBatchPacket>(LockstepBatchPacket.class));
+		BufferingPacketListener<ServersideLockstepBatchPacket> serverListener = new BufferingPacketListener<ServersideLockstepBatchPacket>(
+				ENetworkKey.TEST_PACKET,
+				new GenericDeserializer<ServersideLockstepBatchPacket>(ServersideLockstepBatchPacket.class));
+
+		c1.registerListener(clientListener);
+		c2.registerListener(serverListener);
+
+		LockstepBatchPacket clientTestBatch = new LockstepBatchPacket(234, 1000, Arrays.asList((TaskPacket) new TestTaskPacket("dsfdsdf", 23,
+				(byte) -3), (TaskPacket) new TestTaskPacket("iuz)(Z(/TZOJJdf", 987875, (byte) -5)));
+		c1.sendPacket(ENetworkKey.TEST_PACKET, clientTestBatch);
+
+		Thread.sleep(10);
+
+		List<ServersideLockstepBatchPacket> serverPackets = serverListener.popBufferedPackets();
+		assertEquals(1, serverPackets.size());
+		c2.sendPacket(ENetworkKey.TEST_PACKET, serverPackets.get(0));
+
+		Thread.sleep(10);
+
+		List<LockstepBatchPacket> clientPackets = clientListener.popBufferedPackets();
+		assertEquals(1, clientPackets.size());
+		assertEquals(clientTestBatch, clientPackets.get(0));
+	}
+
+	@Test
+	public void testEmptyLockstepsAreSentAsRanges() throws InterruptedException {
+		BufferingPacketListener<LockstepBatchPacket> clientListener = new BufferingPacketListener<LockstepBatchPacket>(
+				ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<LockstepBatchPacket>(LockstepBatchPacket.class));
+		c1.registerListener(clientListener);
+
+		Match match = new Match("testMatch", 1, new MapInfoPacket("mapId", "mapName", "authorId", "authorName", 1), 0L);
+		match.join(new Player(new PlayerInfoPacket("playerId", "playerName", true), c2));
+		TaskSendingTimerTask taskSender = new TaskSendingTimerTask(match.getMatchLogger(), new TaskCollectingListener(), match);
+
+		int acknowledgedLockstep;
+		for (acknowledgedLockstep = 0; acknowledgedLockstep < 10; acknowledgedLockstep++) {
+			taskSender.run();
+			taskSender.receivedLockstepAcknowledge(acknowledgedLockstep);
+		}
+		taskSender.run();
+
+		Thread.sleep(10);
+
+		List<LockstepBatchPacket> batches = clientListener.popBufferedPackets();
+		int nextLockstep = 0;
+		for (LockstepBatchPacket batch : batches) {
+			assertEquals(nextLockstep, batch.getFirstLockstep());
+			assertTrue(batch.getTasks().isEmpty());
+			assertTrue("single empty lockstep " + batch.getFirstLockstep(), batch.getLastLockstep() > batch.getFirstLockstep());
+			nextLockstep = batch.getLastLockstep() + 1;
+		}
+		// the clients never had to wait for the coalesced locksteps
+		assertTrue(nextLockstep >= acknowledgedLockstep + NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS);
+	}
 }
@@ -186,6 +186,27 @@ public class ChannelTest {
 		testConnection(); // now the normal test should still work.
 	}
 
+	@Test
+	public void testSendingFrame() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		c2.registerListener(listener);
+		long packetsSentBefore = c1.getStatistics().getPacketsSent();
+
+		TestPacket testPacket = new TestPacket("frame", 4711);
+		PacketFrame frame = PacketFrame.create(ENetworkKey.TEST_PACKET, testPacket);
+		c1.sendFrame(frame);
+		c1.sendFrame(frame);
+		frame.release();
+
+		Thread.sleep(40);
+
+		assertEquals(2, listener.packets.size());
+		assertEquals(testPacket, listener.packets.get(0));
+		assertEquals(testPacket, listener.packets.get(1));
+		assertTrue(c1.getStatistics().getPacketsSent() >= packetsSentBefore + 2); // the channels are pinging in the background
+		assertTrue(c2.getStatistics().getBytesReceived() >= 2 * frame.getLength());
+	}
+
 	@Test
 	public void testRemovingListener() throws Exception {
 		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.util.Arrays;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.ChannelStatistics;
+import jsettlers.network.infrastructure.channel.IChannelClosedListener;
+import jsettlers.network.infrastructure.channel.PacketFrame;
+import jsettlers.network.infrastructure.channel.TestPacket;
+import jsettlers.network.infrastructure.channel.TestPacketListener;
+import jsettlers.network.infrastructure.log.ConsoleLogger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the class {@link NioChannel}.
+ */
+public class NioChannelTest {
+	private NioEventLoopGroup eventLoopGroup;
+	private NioChannel c1;
+	private NioChannel c2;
+
+	@Before
+	public void setUp() throws IOException {
+		eventLoopGroup = new NioEventLoopGroup("NioChannelTest", 2);
+
+		ServerSocketChannel serverSocket = ServerSocketChannel.open();
+		try {
+			serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			c1 = eventLoopGroup.connect("localhost", serverSocket.socket().getLocalPort());
+			c2 = eventLoopGroup.openChannel(new ConsoleLogger("server"), serverSocket.accept());
+		} finally {
+			serverSocket.close();
+		}
+
+		c1.start();
+		c2.start();
+	}
+
+	@After
+	public void tearDown() {
+		c1.close();
+		c2.close();
+		eventLoopGroup.shutdown();
+	}
+
+	@Test
+	public void testConnection() throws Exception {
+		TestPacketListener listener1 = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener listener2 = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		c1.registerListener(listener1);
+		c2.registerListener(listener2);
+		TestPacket testPackage = new TestPacket("dlkfjs", -23423);
+		c1.sendPacket(ENetworkKey.TEST_PACKET, testPackage);
+		c2.sendPacket(ENetworkKey.TEST_PACKET, testPackage);
+
+		Thread.sleep(80);
+
+		assertEquals(1, listener1.packets.size());
+		assertEquals(testPackage, listener1.packets.get(0));
+
+		assertEquals(1, listener2.packets.size());
+		assertEquals(testPackage, listener2.packets.get(0));
+	}
+
+	@Test
+	public void testMultiPackets() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		c2.registerListener(listener);
+
+		final int NUMBER_OF_PACKETS = 5000;
+
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			c1.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(i));
+		}
+
+		Thread.sleep(200);
+
+		assertEquals(NUMBER_OF_PACKETS, listener.packets.size());
+
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			assertEquals(i, listener.packets.get(i).getTestInt());
+		}
+	}
+
+	@Test
+	public void testPacketsLargerThanBuffer() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		c2.registerListener(listener);
+
+		char[] text = new char[3 * eventLoopGroup.getBufferSize() + 17];
+		Arrays.fill(text, 'x');
+		TestPacket largePacket = new TestPacket(new String(text), 42);
+
+		c1.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(1));
+		c1.sendPacket(ENetworkKey.TEST_PACKET, largePacket);
+		c1.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(2));
+
+		Thread.sleep(100);
+
+		assertEquals(3, listener.packets.size());
+		assertEquals(1, listener.packets.get(0).getTestInt());
+		assertEquals(largePacket, listener.packets.get(1));
+		assertEquals(2, listener.packets.get(2).getTestInt());
+	}
+
+	@Test
+	public void testSendingFrameToMultipleChannels() throws Exception {
+		TestPacketListener listener1 = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener listener2 = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		c1.registerListener(listener1);
+		c2.registerListener(listener2);
+
+		TestPacket testPacket = new TestPacket("frame", 4711);
+		PacketFrame frame = PacketFrame.create(ENetworkKey.TEST_PACKET, testPacket);
+		for (int i = 0; i < 100; i++) {
+			c1.sendFrame(frame);
+			c2.sendFrame(frame);
+		}
+		frame.release();
+
+		Thread.sleep(100);
+
+		assertEquals(100, listener1.packets.size());
+		assertEquals(100, listener2.packets.size());
+		assertEquals(testPacket, listener1.packets.getLast());
+		assertEquals(testPacket, listener2.packets.getLast());
+
+		ChannelStatistics statistics = c1.getStatistics();
+		assertTrue(statistics.getPacketsSent() >= 100);
+		assertTrue(statistics.getBytesSent() >= 100 * frame.getLength());
+		assertTrue(c2.getStatistics().getPacketsReceived() >= 100);
+	}
+
+	@Test
+	public void testCloseOtherSide() throws InterruptedException {
+		final int[] closed = new int[1];
+		c1.setChannelClosedListener(new IChannelClosedListener() {
+			@Override
+			public void channelClosed() {
+				closed[0]++;
+			}
+		});
+
+		assertFalse(c1.isClosed());
+		c2.close();
+		assertTrue(c2.isClosed());
+
+		Thread.sleep(40);
+		assertTrue(c1.isClosed());
+		assertEquals(1, closed[0]);
+	}
+
+	@Test
+	public void testSendingOnClosedChannel() {
+		c1.close();
+		c2.close();
+
+		c1.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket("sdfsdf", 1434));
+		c2.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket("dsfsw", 32423));
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.client.task.TestTaskPacket;
+import jsettlers.network.client.task.packets.SyncTasksPacket;
+import jsettlers.network.client.task.packets.TaskPacket;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link NetworkTimer}.
+ */
+public class NetworkTimerTest {
+
+	@Test
+	public void testTasksExecutedInLockstepOrder() {
+		NetworkTimer timer = new NetworkTimer(true);
+		TaskExecutorMock executor = new TaskExecutorMock();
+		timer.setTaskExecutor(executor);
+
+		TaskPacket task1 = new TestTaskPacket("1", 1, (byte) 1);
+		TaskPacket task2 = new TestTaskPacket("2", 2, (byte) 2);
+		TaskPacket task3 = new TestTaskPacket("3", 3, (byte) 3);
+		timer.scheduleSyncTasksPacket(new SyncTasksPacket(5, Arrays.asList(task3)));
+		timer.scheduleSyncTasksPacket(new SyncTasksPacket(3, Arrays.asList(task1)));
+		timer.scheduleSyncTasksPacket(new SyncTasksPacket(3, Arrays.asList(task2)));
+
+		timer.fastForwardTo(4 * NetworkConstants.Client.LOCKSTEP_PERIOD);
+		assertEquals(Arrays.asList(task1, task2), executor.popBufferedPackets());
+
+		timer.fastForwardTo(10 * NetworkConstants.Client.LOCKSTEP_PERIOD);
+		assertEquals(Arrays.asList(task3), executor.popBufferedPackets());
+		assertEquals(3, timer.getExecutedTasks());
+		assertEquals(3, timer.getExecutedTasksPackets());
+	}
+
+	@Test
+	public void testScheduleAndRemoveTimerable() {
+		NetworkTimer timer = new NetworkTimer(true);
+		final int[] calls = new int[1];
+		INetworkTimerable timerable = new INetworkTimerable() {
+			@Override
+			public void timerEvent() {
+				calls[0]++;
+			}
+		};
+
+		timer.schedule(timerable, (short) 100);
+		timer.fastForwardTo(1000);
+		assertEquals(10, calls[0]);
+
+		timer.remove(timerable);
+		timer.fastForwardTo(2000);
+		assertEquals(10, calls[0]);
+	}
+
+	@Test
+	public void testHighSpeedFactor() throws InterruptedException {
+		NetworkTimer timer = new NetworkTimer(true);
+		timer.setGameSpeed(200);
+		timer.startExecution();
+
+		Thread.sleep(500);
+		timer.stopExecution();
+
+		// 500 ms at 200 times the real time are 100 s of game time, the tolerance covers slow test machines.
+		assertTrue("game time: " + timer.getTime(), timer.getTime() > 20 * 1000);
+	}
+
+	@Test
+	public void testWaitingForLockstep() throws InterruptedException {
+		NetworkTimer timer = new NetworkTimer();
+		timer.setGameSpeed(10);
+		timer.startExecution();
+
+		Thread.sleep(100);
+		assertEquals(1, timer.getLockstepWaits());
+		assertEquals(NetworkTimer.TIME_SLICE, timer.getTime());
+
+		List<TaskPacket> noTasks = Collections.emptyList();
+		timer.scheduleSyncTasksPacket(new SyncTasksPacket(4, noTasks));
+		Thread.sleep(200);
+		assertEquals(2, timer.getLockstepWaits());
+		assertEquals(5 * NetworkConstants.Client.LOCKSTEP_PERIOD, timer.getTime()); // waiting for lockstep 5
+
+		timer.stopExecution();
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link TimerableArray} used by the {@link NetworkTimer}.
+ */
+public class TimerableArrayTest {
+
+	private static class CountingTimerable implements INetworkTimerable {
+		int calls = 0;
+
+		@Override
+		public void timerEvent() {
+			calls++;
+		}
+	}
+
+	@Test
+	public void testPeriods() {
+		TimerableArray timerables = new TimerableArray();
+		CountingTimerable fast = new CountingTimerable();
+		CountingTimerable slow = new CountingTimerable();
+		timerables.add(fast, (short) 10);
+		timerables.add(slow, (short) 120);
+
+		for (int i = 0; i < 12; i++) {
+			timerables.checkExecution(NetworkTimer.TIME_SLICE);
+		}
+
+		assertEquals(60, fast.calls);
+		assertEquals(5, slow.calls);
+	}
+
+	@Test
+	public void testRemove() {
+		TimerableArray timerables = new TimerableArray();
+		CountingTimerable[] counters = new CountingTimerable[20];
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] = new CountingTimerable();
+			timerables.add(counters[i], NetworkTimer.TIME_SLICE);
+		}
+
+		assertTrue(timerables.remove(counters[3]));
+		assertTrue(timerables.remove(counters[19]));
+		assertTrue(timerables.remove(counters[0]));
+		assertFalse(timerables.remove(counters[3]));
+		assertEquals(17, timerables.size());
+
+		timerables.checkExecution(NetworkTimer.TIME_SLICE);
+
+		for (int i = 0; i < counters.length; i++) {
+			assertEquals(i == 0 || i == 3 || i == 19 ? 0 : 1, counters[i].calls);
+		}
+
+		for (int i = 0; i < counters.length; i++) {
+			timerables.remove(counters[i]);
+		}
+		assertEquals(0, timerables.size());
+	}
+
+	@Test
+	public void testRemoveKeepsOrder() {
+		TimerableArray timerables = new TimerableArray();
+		final List<Integer> calledIds = new ArrayList<Integer>();
+		INetworkTimerable[] recorders = new INetworkTimerable[10];
+		for (int i = 0; i < recorders.length; i++) {
+			final int id = i;
+			recorders[i] = new INetworkTimerable() {
+				@Override
+				public void timerEvent() {
+					calledIds.add(id);
+				}
+			};
+			timerables.add(recorders[i], NetworkTimer.TIME_SLICE);
+		}
+
+		timerables.remove(recorders[2]);
+		timerables.remove(recorders[0]);
+		timerables.remove(recorders[9]);
+		timerables.remove(recorders[5]);
+		timerables.checkExecution(NetworkTimer.TIME_SLICE);
+
+		assertEquals(Arrays.asList(1, 3, 4, 6, 7, 8), calledIds);
+
+		timerables.remove(recorders[4]); // the indices of the moved timerables must have been updated
+		calledIds.clear();
+		timerables.checkExecution(NetworkTimer.TIME_SLICE);
+
+		assertEquals(Arrays.asList(1, 3, 6, 7, 8), calledIds);
+	}
+
+	@Test
+	public void testAddingRemovedTimerableBeforeTick() {
+		TimerableArray timerables = new TimerableArray();
+		final List<Integer> calledIds = new ArrayList<Integer>();
+		INetworkTimerable[] recorders = new INetworkTimerable[3];
+		for (int i = 0; i < recorders.length; i++) {
+			final int id = i;
+			recorders[i] = new INetworkTimerable() {
+				@Override
+				public void timerEvent() {
+					calledIds.add(id);
+				}
+			};
+			timerables.add(recorders[i], NetworkTimer.TIME_SLICE);
+		}
+
+		timerables.remove(recorders[0]);
+		timerables.add(recorders[0], NetworkTimer.TIME_SLICE);
+		assertEquals(3, timerables.size());
+
+		timerables.checkExecution(NetworkTimer.TIME_SLICE);
+		timerables.checkExecution(NetworkTimer.TIME_SLICE);
+
+		assertEquals(Arrays.asList(1, 2, 0, 1, 2, 0), calledIds);
+	}
+
+	@Test
+	public void testAddingTwiceReplacesPeriod() {
+		TimerableArray timerables = new TimerableArray();
+		CountingTimerable timerable = new CountingTimerable();
+		timerables.add(timerable, (short) 100);
+		timerables.add(timerable, NetworkTimer.TIME_SLICE);
+
+		timerables.checkExecution(NetworkTimer.TIME_SLICE);
+
+		assertEquals(1, timerables.size());
+		assertEquals(1, timerable.calls);
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Test for the class {@link AiPositions}.
+ */
+public class AiPositionsTest {
+
+	@Test
+	public void testRemoveAndAddAgain() {
+		AiPositions positions = new AiPositions();
+		positions.addNoCollission(3, 4);
+		positions.addNoCollission(1, 2);
+		assertEquals(2, positions.size());
+
+		positions.remove(1, 2);
+		positions.addNoCollission(1, 2);
+		positions.remove(3, 4);
+		positions.remove(3, 4);
+
+		assertEquals(1, positions.size());
+		assertTrue(positions.contains(new ShortPoint2D(1, 2)));
+		assertFalse(positions.contains(new ShortPoint2D(3, 4)));
+	}
+
+	@Test
+	public void testBatchesOfModificationsKeepTheSetSorted() {
+		Random random = new Random(4711);
+		AiPositions positions = new AiPositions();
+		TreeSet<Integer> expected = new TreeSet<Integer>();
+
+		for (int batch = 0; batch < 50; batch++) {
+			for (int i = 0; i < 100; i++) {
+				int x = random.nextInt(50);
+				int y = random.nextInt(50);
+				Integer packed = x << 16 | y;
+
+				if (expected.contains(packed)) {
+					positions.remove(x, y);
+					expected.remove(packed);
+				} else {
+					positions.addNoCollission(x, y);
+					expected.add(packed);
+				}
+			}
+
+			List<Integer> actual = new ArrayList<Integer>();
+			for (ShortPoint2D position : positions) {
+				actual.add(position.x << 16 | position.y);
+			}
+			assertEquals(new ArrayList<Integer>(expected), actual);
+		}
+	}
+}
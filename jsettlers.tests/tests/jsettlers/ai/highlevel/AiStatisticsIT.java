@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import jsettlers.TestUtils;
+import jsettlers.common.CommonConstants;
+import jsettlers.common.ai.EWhatToDoAiType;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.landscape.EResourceType;
+import jsettlers.common.mapobject.EMapObjectType;
+import jsettlers.common.movable.EMovableType;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.graphics.startscreen.interfaces.IStartedGame;
+import jsettlers.logic.GameInstance;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.save.MapList;
+import jsettlers.logic.map.save.loader.MapLoader;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.JSettlersGame;
+import jsettlers.main.replay.ReplayTool;
+import jsettlers.network.client.OfflineNetworkConnector;
+
+/**
+ * Plays a game with AI players and checks that the {@link AiStatistics} of the AI players, which are updated incrementally from the reported
+ * changes of the grid, always match statistics that are calculated from all positions of the map.
+ */
+public class AiStatisticsIT {
+	private static final int MINUTES = 1000 * 60;
+	private static final int CHECK_PERIOD = 5 * MINUTES;
+	private static final int GAME_TIME = 40 * MINUTES;
+
+	static {
+		CommonConstants.ENABLE_CONSOLE_LOGGING = true;
+		TestUtils.setupResourcesManager();
+	}
+
+	@Test
+	public void incrementalStatisticsMatchRecalculatedStatistics() {
+		PlayerSetting[] playerSettings = new PlayerSetting[4];
+		playerSettings[0] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_VERY_HARD);
+		playerSettings[1] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_HARD);
+		playerSettings[2] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_VERY_EASY);
+		playerSettings[3] = new PlayerSetting(false, null);
+
+		MapLoader map = MapList.getDefaultList().getMapById("066d3c28-8f37-41cf-96c1-270109f00b9f");
+		OfflineNetworkConnector networkConnector = ReplayTool.createPausingOfflineNetworkConnector();
+		JSettlersGame game = new JSettlersGame(map, 1l, networkConnector, (byte) 0, playerSettings);
+		game.setHeadless(true);
+		JSettlersGame.GameRunner startingGame = (JSettlersGame.GameRunner) game.start();
+		IStartedGame startedGame = ReplayTool.waitForGameStartup(startingGame);
+
+		GameInstance previousInstance = GameInstance.bind(game.getGameInstance()); // the game logic is executed on this thread
+		try {
+			MainGrid mainGrid = startingGame.getMainGrid();
+			AiStatistics incrementalStatistics = startingGame.getAiExecutor().getAiStatistics();
+			for (int gameTime = CHECK_PERIOD; gameTime <= GAME_TIME; gameTime += CHECK_PERIOD) {
+				networkConnector.getGameClock().fastForwardTo(gameTime);
+				assertStatisticsMatchRecalculation(mainGrid, incrementalStatistics, gameTime);
+			}
+		} finally {
+			GameInstance.bind(previousInstance);
+			ReplayTool.awaitShutdown(startedGame);
+		}
+	}
+
+	private static void assertStatisticsMatchRecalculation(MainGrid mainGrid, AiStatistics incrementalStatistics, int gameTime) {
+		incrementalStatistics.updateStatistics(); // apply the changes since the last step of the AI players
+		AiStatistics recalculatedStatistics = new AiStatistics(mainGrid); // the first update calculates all positions
+		recalculatedStatistics.updateStatistics();
+
+		String time = " after " + (gameTime / MINUTES) + " minutes";
+		for (EMapObjectType cuttableObject : new EMapObjectType[] { EMapObjectType.TREE_ADULT, EMapObjectType.STONE }) {
+			assertEquals(cuttableObject + " in default partition" + time,
+					toList(recalculatedStatistics.getCuttableObjectsInDefaultPartition(cuttableObject)),
+					toList(incrementalStatistics.getCuttableObjectsInDefaultPartition(cuttableObject)));
+		}
+		assertEquals("rivers in default partition" + time, toList(recalculatedStatistics.getRiversInDefaultPartition()),
+				toList(incrementalStatistics.getRiversInDefaultPartition()));
+		for (EResourceType resourceType : EResourceType.values) {
+			assertEquals(resourceType + time, toList(recalculatedStatistics.getResourcePositions(resourceType)),
+					toList(incrementalStatistics.getResourcePositions(resourceType)));
+		}
+
+		byte numberOfPlayers = mainGrid.getPartitionsGrid().getNumberOfPlayers();
+		for (byte playerId = 0; playerId < numberOfPlayers; playerId++) {
+			String player = " of player " + playerId + time;
+			assertEquals("land" + player, toList(recalculatedStatistics.getLandForPlayer(playerId)),
+					toList(incrementalStatistics.getLandForPlayer(playerId)));
+			assertEquals("border land" + player, toList(recalculatedStatistics.getBorderLandNextToFreeLandForPlayer(playerId)),
+					toList(incrementalStatistics.getBorderLandNextToFreeLandForPlayer(playerId)));
+			assertEquals("stones" + player, toList(recalculatedStatistics.getStonesForPlayer(playerId)),
+					toList(incrementalStatistics.getStonesForPlayer(playerId)));
+			assertEquals("trees" + player, toList(recalculatedStatistics.getTreesForPlayer(playerId)),
+					toList(incrementalStatistics.getTreesForPlayer(playerId)));
+			assertEquals("rivers" + player, toList(recalculatedStatistics.getRiversForPlayer(playerId)),
+					toList(incrementalStatistics.getRiversForPlayer(playerId)));
+			assertEquals("enemies in town" + player, toList(recalculatedStatistics.getEnemiesInTownOf(playerId)),
+					toList(incrementalStatistics.getEnemiesInTownOf(playerId)));
+			assertEquals("dead mines" + player, toList(recalculatedStatistics.getDeadMinesOf(playerId)),
+					toList(incrementalStatistics.getDeadMinesOf(playerId)));
+			assertEquals("position of partition" + player, recalculatedStatistics.getPositionOfPartition(playerId),
+					incrementalStatistics.getPositionOfPartition(playerId));
+			assertEquals("numbers" + player, describeNumbers(recalculatedStatistics, playerId), describeNumbers(incrementalStatistics, playerId));
+
+			for (EMovableType movableType : EMovableType.values()) {
+				assertEquals(movableType + player, recalculatedStatistics.getMovablePositionsByTypeForPlayer(movableType, playerId),
+						incrementalStatistics.getMovablePositionsByTypeForPlayer(movableType, playerId));
+			}
+		}
+	}
+
+	private static List<ShortPoint2D> toList(Iterable<ShortPoint2D> positions) {
+		List<ShortPoint2D> list = new ArrayList<ShortPoint2D>();
+		for (ShortPoint2D position : positions) {
+			list.add(position);
+		}
+		return list;
+	}
+
+	private static List<String> describeNumbers(AiStatistics statistics, byte playerId) {
+		List<String> numbers = new ArrayList<String>();
+		for (EBuildingType buildingType : EBuildingType.values) {
+			numbers.add(buildingType + ": " + statistics.getNumberOfBuildingTypeForPlayer(buildingType, playerId) + " finished, "
+					+ statistics.getNumberOfUnoccupiedBuildingTypeForPlayer(buildingType, playerId) + " unoccupied, positions "
+					+ statistics.getBuildingPositionsOfTypeForPlayer(buildingType, playerId));
+		}
+		numbers.add("not finished buildings: " + statistics.getNumberOfNotFinishedBuildingsForPlayer(playerId));
+		numbers.add("not occupied towers: " + statistics.getNumberOfNotOccupiedTowers(playerId));
+		return numbers;
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.borders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Test for the {@link BordersThread}. The calculation is triggered directly without starting the thread.
+ */
+public class BordersThreadTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 30;
+
+	private final TestGrid grid = new TestGrid();
+	private final BordersThread bordersThread = new BordersThread(grid);
+
+	@Test
+	public void testCheckArea() {
+		grid.setPlayers(0, 0, 50, HEIGHT, (byte) 0);
+		grid.setPlayers(50, 0, 50, HEIGHT, (byte) 1);
+
+		bordersThread.checkArea(0, 0, WIDTH, HEIGHT);
+		bordersThread.calculateDirtyPositions();
+
+		assertEquals(WIDTH * HEIGHT, grid.calculatedPositions);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertEquals("x: " + x + " y: " + y, x == 49 || x == 50, grid.isBorder(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testCheckPositionCoalescesRequests() {
+		grid.setPlayers(10, 10, 1, 1, (byte) 2);
+
+		for (int i = 0; i < 100; i++) {
+			bordersThread.checkPosition(10, 10);
+		}
+		bordersThread.calculateDirtyPositions();
+
+		assertEquals(7, grid.calculatedPositions);
+		assertTrue(grid.isBorder(10, 10));
+		assertFalse(grid.isBorder(11, 10)); // not occupied
+	}
+
+	@Test
+	public void testChangedPlayer() {
+		grid.setPlayers(0, 0, WIDTH, HEIGHT, (byte) 0);
+		bordersThread.checkArea(0, 0, WIDTH, HEIGHT);
+		bordersThread.calculateDirtyPositions();
+		assertFalse(grid.isBorder(70, 20));
+
+		grid.setPlayers(70, 20, 1, 1, (byte) 1);
+		bordersThread.checkPosition(70, 20);
+		bordersThread.calculateDirtyPositions();
+
+		assertTrue(grid.isBorder(70, 20));
+		assertTrue(grid.isBorder(71, 20));
+		assertTrue(grid.isBorder(69, 20));
+		assertFalse(grid.isBorder(72, 20));
+
+		grid.setPlayers(70, 20, 1, 1, (byte) 0);
+		bordersThread.checkPosition(70, 20);
+		bordersThread.calculateDirtyPositions();
+
+		assertFalse(grid.isBorder(70, 20));
+		assertFalse(grid.isBorder(71, 20));
+		assertFalse(grid.isBorder(69, 20));
+	}
+
+	@Test
+	public void testCheckAreaIsClipped() {
+		bordersThread.checkArea(-10, -10, (short) 20, (short) 20);
+		bordersThread.checkArea(WIDTH - 5, HEIGHT - 5, (short) 20, (short) 20);
+		bordersThread.calculateDirtyPositions();
+
+		assertEquals(10 * 10 + 5 * 5, grid.calculatedPositions);
+	}
+
+	private static class TestGrid implements IBordersThreadGrid {
+		private final byte[] players = new byte[WIDTH * HEIGHT];
+		private final boolean[] borders = new boolean[WIDTH * HEIGHT];
+		private int calculatedPositions = 0;
+
+		TestGrid() {
+			Arrays.fill(players, (byte) -1);
+		}
+
+		void setPlayers(int x, int y, int width, int height, byte player) {
+			for (int currY = y; currY < y + height; currY++) {
+				Arrays.fill(players, x + currY * WIDTH, x + width + currY * WIDTH, player);
+			}
+		}
+
+		boolean isBorder(int x, int y) {
+			return borders[x + y * WIDTH];
+		}
+
+		@Override
+		public short getWidth() {
+			return WIDTH;
+		}
+
+		@Override
+		public short getHeight() {
+			return HEIGHT;
+		}
+
+		@Override
+		public byte getPlayerIdAt(short x, short y) {
+			return players[x + y * WIDTH];
+		}
+
+		@Override
+		public void setBorderAt(short x, short y, boolean isBorder) {
+			borders[x + y * WIDTH] = isBorder;
+			calculatedPositions++;
+		}
+
+		@Override
+		public boolean isInBounds(short x, short y) {
+			return x >= 0 && x < WIDTH && y >= 0 && y < HEIGHT;
+		}
+
+		@Override
+		public short getBlockedPartition(short x, short y) {
+			return 1;
+		}
+	}
+}
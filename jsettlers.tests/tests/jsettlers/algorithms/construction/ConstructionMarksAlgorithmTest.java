@@ -15,6 +15,7 @@
 package jsettlers.algorithms.construction;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.BitSet;
 
@@ -72,6 +73,59 @@ public class ConstructionMarksAlgorithmTest {
 		}
 	}
 
+	@Test
+	public void testOnlyChangedTilesAreRecalculated() {
+		boolean[][] blocked = new boolean[4 * NewConstructionMarksAlgorithm.TILE_SIZE][4 * NewConstructionMarksAlgorithm.TILE_SIZE];
+		boolean[][] buildingMask = {
+				{ true, true, true },
+				{ true, true, true } };
+		BuildingAreaBitSet buildingSet = new BuildingAreaBitSet(BuildingAreaBitSetTest.createRelativePoints(buildingMask));
+		MapRectangle mapArea = new MapRectangle(-blocked.length, -blocked.length, 3 * blocked.length, 3 * blocked.length);
+
+		TestMap map = new TestMap(blocked);
+		NewConstructionMarksAlgorithm algorithm = new NewConstructionMarksAlgorithm(map, (byte) 0);
+		algorithm.calculateConstructMarks(mapArea, buildingSet, null, null, false);
+		assertMarksCorrect(map, buildingSet);
+
+		map.markingCalls = 0;
+		algorithm.calculateConstructMarks(mapArea, buildingSet, null, null, false);
+		assertEquals(0, map.markingCalls);
+
+		map.blockedSet.set(20 + 20 * map.width);
+		algorithm.positionChangedAt(20, 20);
+		algorithm.calculateConstructMarks(mapArea, buildingSet, null, null, false);
+		assertMarksCorrect(map, buildingSet);
+		assertTrue(map.markingCalls > 0);
+		assertTrue(map.markingCalls <= 4 * NewConstructionMarksAlgorithm.TILE_SIZE * NewConstructionMarksAlgorithm.TILE_SIZE);
+	}
+
+	@Test
+	public void testMarksOfInvisibleTilesAreRemoved() {
+		boolean[][] blocked = new boolean[2 * NewConstructionMarksAlgorithm.TILE_SIZE][4 * NewConstructionMarksAlgorithm.TILE_SIZE];
+		boolean[][] buildingMask = { { true } };
+		BuildingAreaBitSet buildingSet = new BuildingAreaBitSet(BuildingAreaBitSetTest.createRelativePoints(buildingMask));
+
+		TestMap map = new TestMap(blocked);
+		NewConstructionMarksAlgorithm algorithm = new NewConstructionMarksAlgorithm(map, (byte) 0);
+		algorithm.calculateConstructMarks(new MapRectangle(0, 0, 10, 10), buildingSet, null, null, false);
+		assertEquals(1, map.marksSet[0]);
+
+		algorithm.calculateConstructMarks(new MapRectangle(40, 0, 10, 10), buildingSet, null, null, false);
+		assertEquals(-1, map.marksSet[0]);
+		assertEquals(1, map.marksSet[45]);
+
+		algorithm.removeConstructionMarks();
+		assertEquals(-1, map.marksSet[45]);
+	}
+
+	private void assertMarksCorrect(TestMap map, BuildingAreaBitSet buildingSet) {
+		for (int y = 0; y < map.height; y++) {
+			for (int x = 0; x < map.width; x++) {
+				assertEquals(x + "|" + y, canCostructAt(map, x, y, buildingSet), map.marksSet[x + y * map.width] > 0);
+			}
+		}
+	}
+
 	@SuppressWarnings("unused")
 	private void print(TestMap map, boolean[][] blocked, BuildingAreaBitSet buildingSet) {
 		System.out.println("blocked | marksSet | canConstruct");
@@ -135,6 +189,7 @@ public class ConstructionMarksAlgorithmTest {
 
 		int[] marksSet;
 		BitSet blockedSet;
+		int markingCalls;
 
 		public TestMap(boolean[][] blocked) {
 			height = (short) blocked.length;
@@ -152,6 +207,7 @@ public class ConstructionMarksAlgorithmTest {
 
 		@Override
 		public void setConstructMarking(int x, int y, boolean set, boolean binaryConstructionMarkValues, RelativePoint[] flattenPositions) {
+			markingCalls++;
 			if (isInBounds(x, y))
 				marksSet[x + y * width] = set ? 1 : -1;
 		}
@@ -195,6 +251,15 @@ public class ConstructionMarksAlgorithmTest {
 			return 0;
 		}
 
+		@Override
+		public void setConstructionChangedListener(IConstructionChangedListener listener) {
+		}
+
+		@Override
+		public int getPartitionsVersion() {
+			return 0;
+		}
+
 		@Override
 		public boolean canPlayerConstructOnPartition(byte playerId, short partitionId) {
 			return true;
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.List;
+
+import jsettlers.common.CommonConstants;
+
+import org.junit.Test;
+
+/**
+ * Test for the {@link FogOfWar}. The view circles are drawn and removed directly without starting the thread.
+ */
+public class FogOfWarTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 100;
+	private static final byte DIM_DOWN_SPEED = 10;
+	private static final short VIEW_DISTANCE = 10;
+
+	private final FogOfWar fogOfWar = new FogOfWar(WIDTH, HEIGHT);
+
+	@Test
+	public void testRemovedCircleIsDimmedDown() {
+		FogOfWar.CircleDrawer drawer = fogOfWar.new CircleDrawer();
+		drawer.drawCircle(50, 50, VIEW_DISTANCE);
+		assertTrue(getSight(fogOfWar, 50, 50) >= CommonConstants.FOG_OF_WAR_VISIBLE);
+
+		drawer.removeCircle(50, 50, VIEW_DISTANCE);
+		dimDownCompletely(drawer, Collections.<FogOfWar.DrawnView> emptyList());
+
+		assertEquals(CommonConstants.FOG_OF_WAR_EXPLORED, getSight(fogOfWar, 50, 50));
+		assertNoPositionBrighterThanExplored(fogOfWar);
+	}
+
+	@Test
+	public void testLoadedSightIsDimmedDown() throws IOException, ClassNotFoundException {
+		FogOfWar.CircleDrawer drawer = fogOfWar.new CircleDrawer();
+		drawer.drawCircle(20, 20, VIEW_DISTANCE);
+		drawer.drawCircle(70, 70, VIEW_DISTANCE);
+
+		FogOfWar loadedFogOfWar = saveAndLoad(fogOfWar);
+		assertTrue(getSight(loadedFogOfWar, 20, 20) >= CommonConstants.FOG_OF_WAR_VISIBLE);
+
+		// only the viewer at (70, 70) still exists after loading
+		FogOfWar.CircleDrawer loadedDrawer = loadedFogOfWar.new CircleDrawer();
+		loadedDrawer.drawCircle(70, 70, VIEW_DISTANCE);
+		dimDownCompletely(loadedDrawer, Collections.singletonList(createDrawnView(70, 70, VIEW_DISTANCE)));
+
+		FogOfWar expectedFogOfWar = new FogOfWar(WIDTH, HEIGHT);
+		expectedFogOfWar.new CircleDrawer().drawCircle(70, 70, VIEW_DISTANCE);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int expectedSight = Math.max(getSight(expectedFogOfWar, x, y), Math.min(getSight(fogOfWar, x, y), CommonConstants.FOG_OF_WAR_EXPLORED));
+				assertEquals("x: " + x + " y: " + y, expectedSight, getSight(loadedFogOfWar, x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testLoadedSightWithoutViewersIsDimmedDown() throws IOException, ClassNotFoundException {
+		FogOfWar.CircleDrawer drawer = fogOfWar.new CircleDrawer();
+		drawer.drawCircle(50, 50, VIEW_DISTANCE);
+
+		FogOfWar loadedFogOfWar = saveAndLoad(fogOfWar);
+		dimDownCompletely(loadedFogOfWar.new CircleDrawer(), Collections.<FogOfWar.DrawnView> emptyList());
+
+		assertEquals(CommonConstants.FOG_OF_WAR_EXPLORED, getSight(loadedFogOfWar, 50, 50));
+		assertNoPositionBrighterThanExplored(loadedFogOfWar);
+	}
+
+	private static void dimDownCompletely(FogOfWar.CircleDrawer drawer, List<FogOfWar.DrawnView> drawnViews) {
+		for (int i = 0; i < CommonConstants.FOG_OF_WAR_VISIBLE / DIM_DOWN_SPEED + 1; i++) {
+			drawer.dimDown(DIM_DOWN_SPEED, drawnViews);
+		}
+	}
+
+	private static void assertNoPositionBrighterThanExplored(FogOfWar fogOfWar) {
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertTrue("x: " + x + " y: " + y, getSight(fogOfWar, x, y) <= CommonConstants.FOG_OF_WAR_EXPLORED);
+			}
+		}
+	}
+
+	private static int getSight(FogOfWar fogOfWar, int x, int y) {
+		return fogOfWar.sight[x + y * WIDTH];
+	}
+
+	private static FogOfWar.DrawnView createDrawnView(int x, int y, short distance) {
+		FogOfWar.DrawnView drawnView = new FogOfWar.DrawnView();
+		drawnView.x = (short) x;
+		drawnView.y = (short) y;
+		drawnView.distance = distance;
+		return drawnView;
+	}
+
+	private static FogOfWar saveAndLoad(FogOfWar fogOfWar) throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(bytes);
+		oos.writeObject(fogOfWar);
+		oos.close();
+
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		try {
+			return (FogOfWar) ois.readObject();
+		} finally {
+			ois.close();
+		}
+	}
+}
@@ -15,6 +15,10 @@
 package jsettlers.algorithms.path.astar;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.BitSet;
+
 import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.Path;
 import jsettlers.common.position.ShortPoint2D;
@@ -57,6 +61,35 @@ public class BucketQueueAStarTest {
 		}
 	}
 
+	@Test
+	public void testFindPathToNearest() {
+		BitSet targets = new BitSet(WIDTH * HEIGHT);
+		targets.set(getFlatIdx(60, 50));
+		targets.set(getFlatIdx(50, 53));
+		targets.set(getFlatIdx(40, 40));
+
+		Path path = aStar.findPathToNearest(getPathable((short) 50, (short) 50), (short) 50, (short) 50, targets);
+
+		assertEquals(3, path.getLength());
+		assertEquals(new ShortPoint2D(50, 53), path.getTargetPos());
+	}
+
+	@Test
+	public void testFindPathToNearestIgnoresStart() {
+		BitSet targets = new BitSet(WIDTH * HEIGHT);
+		targets.set(getFlatIdx(50, 50));
+
+		assertNull(aStar.findPathToNearest(getPathable((short) 50, (short) 50), (short) 50, (short) 50, targets));
+
+		targets.set(getFlatIdx(55, 50));
+		assertEquals(new ShortPoint2D(55, 50), aStar.findPathToNearest(getPathable((short) 50, (short) 50), (short) 50, (short) 50, targets)
+				.getTargetPos());
+	}
+
+	private static int getFlatIdx(int x, int y) {
+		return y * WIDTH + x;
+	}
+
 	private Path findPath(short sx, short sy, short tx, short ty) {
 		return aStar.findPath(getPathable(sx, sy), new ShortPoint2D(tx, ty));
 	}
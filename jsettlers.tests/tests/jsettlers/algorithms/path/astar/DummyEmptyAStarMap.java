@@ -14,6 +14,8 @@
  *******************************************************************************/
 package jsettlers.algorithms.path.astar;
 
+import java.util.Arrays;
+
 import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.astar.IAStarPathMap;
 import jsettlers.common.Color;
@@ -27,9 +29,14 @@ import jsettlers.common.Color;
 public class DummyEmptyAStarMap implements IAStarPathMap {
 
 	private final boolean[][] blocked;
+	private final short[][] blockedPartitions;
 
 	public DummyEmptyAStarMap(short width, short height) {
 		this.blocked = new boolean[width][height];
+		this.blockedPartitions = new short[width][height];
+		for (short[] column : blockedPartitions) {
+			Arrays.fill(column, (short) 1);
+		}
 	}
 
 	@Override
@@ -62,6 +69,10 @@ public class DummyEmptyAStarMap implements IAStarPathMap {
 
 	@Override
 	public short getBlockedPartition(int x, int y) {
-		return 1;
+		return blockedPartitions[x][y];
+	}
+
+	public void setBlockedPartition(int x, int y, short blockedPartition) {
+		blockedPartitions[x][y] = blockedPartition;
 	}
 }
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.DummyEmptyAStarMap;
+import jsettlers.algorithms.path.hierarchical.HierarchicalAStar;
+import jsettlers.common.position.ShortPoint2D;
+
+import org.junit.Test;
+
+/**
+ * Test for the class {@link CachingAStar}.
+ */
+public class CachingAStarTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 100;
+
+	private final DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+	private final RecordingPathMap recordingMap = new RecordingPathMap(map, WIDTH, HEIGHT);
+	private final CachingAStar aStar = new CachingAStar(recordingMap, new BucketQueueAStar(recordingMap, WIDTH, HEIGHT), WIDTH, HEIGHT, 120);
+
+	@Test
+	public void testHitReturnsEqualPath() {
+		Path first = findPath(10, 10, 50, 10);
+		Path second = findPath(10, 10, 50, 10);
+
+		assertNotSame(first, second);
+		assertEquals(first.toString(), second.toString());
+		assertEquals(1, aStar.getHits());
+		assertEquals(1, aStar.getMisses());
+	}
+
+	@Test
+	public void testHitDoesNotShareProgress() {
+		Path first = findPath(10, 10, 50, 10);
+		first.goToNextStep();
+		first.goToNextStep();
+
+		Path second = findPath(10, 10, 50, 10);
+		assertEquals(new ShortPoint2D(first.getX(0), first.getY(0)), second.getNextPos());
+	}
+
+	@Test
+	public void testBlockingOnPathInvalidates() {
+		Path first = findPath(10, 10, 50, 10);
+
+		map.setBlocked(first.getX(20), first.getY(20), true);
+		aStar.invalidatePosition(first.getX(20), first.getY(20));
+
+		Path second = findPath(10, 10, 50, 10);
+		assertEquals(0, aStar.getHits());
+		assertEquals(1, aStar.getInvalidations());
+		assertPathAvoids(second, first.getX(20), first.getY(20));
+	}
+
+	@Test
+	public void testBlockingElsewhereKeepsPath() {
+		findPath(10, 10, 50, 10);
+
+		map.setBlocked(80, 80, true);
+		aStar.invalidatePosition(80, 80);
+
+		findPath(10, 10, 50, 10);
+		assertEquals(1, aStar.getHits());
+		assertEquals(0, aStar.getInvalidations());
+	}
+
+	@Test
+	public void testOpenedShortcutInvalidates() {
+		for (int y = 0; y < 60; y++) {
+			map.setBlocked(30, y, true);
+		}
+		Path detour = findPath(10, 10, 50, 10);
+
+		map.setBlocked(30, 10, false);
+		aStar.invalidatePosition(30, 10);
+
+		Path path = findPath(10, 10, 50, 10);
+		assertEquals(0, aStar.getHits());
+		assertTrue(path.getLength() < detour.getLength());
+		assertEquals(new BucketQueueAStar(map, WIDTH, HEIGHT).findPath(getPathable(10, 10), (short) 10, (short) 10, (short) 50, (short) 10)
+				.toString(), path.toString());
+	}
+
+	@Test
+	public void testOpenedShortcutInvalidatesHierarchicalPath() {
+		final short width = 160;
+		final short height = 160;
+		DummyEmptyAStarMap map = new DummyEmptyAStarMap(width, height);
+		RecordingPathMap recordingMap = new RecordingPathMap(map, width, height);
+		HierarchicalAStar hierarchicalAStar = new HierarchicalAStar(recordingMap, new BucketQueueAStar(recordingMap, width, height), width, height);
+		hierarchicalAStar.setClusterUsageListener(recordingMap);
+		CachingAStar aStar = new CachingAStar(recordingMap, hierarchicalAStar, width, height);
+
+		for (int y = 0; y < height; y++) {
+			map.setBlocked(85, y, true);
+		}
+		map.setBlocked(85, 150, false);
+		findPath(aStar, 10, 10, 150, 10); // builds the abstract graph
+		Path detour = findPath(aStar, 8, 80, 150, 80);
+
+		// the abstract search passed the cluster of the new gap, but the search did not read its positions
+		map.setBlocked(85, 30, false);
+		hierarchicalAStar.invalidatePosition(85, 30);
+		aStar.invalidatePosition(85, 30);
+
+		Path path = findPath(aStar, 8, 80, 150, 80);
+		Path expected = new HierarchicalAStar(map, new BucketQueueAStar(map, width, height), width, height).findPath(getPathable(8, 80),
+				(short) 8, (short) 80, (short) 150, (short) 80);
+		assertEquals(expected.toString(), path.toString());
+		assertTrue(path.getLength() < detour.getLength());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		findPath(10, 10, 50, 10); // 40 steps and a few regions
+		findPath(10, 20, 50, 20); // 40 steps and a few regions
+		findPath(10, 10, 50, 10); // hit, makes the second path the least recently used one
+		findPath(10, 30, 50, 30); // 40 steps and a few regions, exceeds the limit of 120
+
+		assertEquals(1, aStar.getEvictions());
+		assertEquals(2, aStar.getSize());
+
+		findPath(10, 10, 50, 10);
+		assertEquals(2, aStar.getHits());
+		findPath(10, 20, 50, 20);
+		assertEquals(2, aStar.getHits());
+	}
+
+	private Path findPath(int sx, int sy, int tx, int ty) {
+		return findPath(aStar, sx, sy, tx, ty);
+	}
+
+	private static Path findPath(CachingAStar aStar, int sx, int sy, int tx, int ty) {
+		return aStar.findPath(getPathable(sx, sy), (short) sx, (short) sy, (short) tx, (short) ty);
+	}
+
+	private static void assertPathAvoids(Path path, int x, int y) {
+		for (int i = 0; i < path.getLength(); i++) {
+			assertFalse(path.getX(i) == x && path.getY(i) == y);
+		}
+	}
+
+	private static IPathCalculatable getPathable(final int x, final int y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public byte getPlayerId() {
+				return 0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.dijkstra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.DummyEmptyAStarMap;
+import jsettlers.algorithms.path.dijkstra.DijkstraAlgorithm.DijkstraContinuableRequest;
+import jsettlers.common.material.ESearchType;
+import jsettlers.common.position.ShortPoint2D;
+
+import org.junit.Test;
+
+/**
+ * Test for the class {@link DijkstraAlgorithm}.
+ */
+public class DijkstraAlgorithmTest {
+	private static final short WIDTH = 200;
+	private static final short HEIGHT = 200;
+
+	private final Set<ShortPoint2D> fittingPositions = new HashSet<ShortPoint2D>();
+	private int openedPositions = 0;
+	private final DummyEmptyAStarMap aStarMap = new DummyEmptyAStarMap(WIDTH, HEIGHT) {
+		@Override
+		public void markAsOpen(int x, int y) {
+			openedPositions++;
+		}
+	};
+	private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(new IDijkstraPathMap() {
+		@Override
+		public boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester) {
+			return fittingPositions.contains(new ShortPoint2D(x, y));
+		}
+
+		@Override
+		public void setDijkstraSearched(int x, int y) {
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			return aStarMap.isBlocked(requester, x, y);
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return aStarMap.getBlockedPartition(x, y);
+		}
+	}, new BucketQueueAStar(aStarMap, WIDTH, HEIGHT), WIDTH, HEIGHT);
+
+	@Test
+	public void testNothingFound() {
+		fittingPositions.add(new ShortPoint2D(150, 100));
+
+		assertNull(dijkstra.find(getPathable(100, 100), (short) 100, (short) 100, (short) 0, (short) 30, null));
+	}
+
+	@Test
+	public void testFindsClosestReachable() {
+		fittingPositions.add(new ShortPoint2D(120, 100));
+		fittingPositions.add(new ShortPoint2D(110, 110));
+		fittingPositions.add(new ShortPoint2D(118, 115));
+		aStarMap.setBlocked(110, 110, true);
+
+		Path path = dijkstra.find(getPathable(100, 100), (short) 100, (short) 100, (short) 1, (short) 30, null);
+		assertEquals(new ShortPoint2D(118, 115), path.getTargetPos());
+		assertEquals(18, path.getLength());
+	}
+
+	@Test
+	public void testUnreachableCandidatesAreNotSearched() {
+		fittingPositions.add(new ShortPoint2D(110, 110));
+		fittingPositions.add(new ShortPoint2D(120, 100));
+		fittingPositions.add(new ShortPoint2D(100, 100));
+		aStarMap.setBlocked(110, 110, true);
+		aStarMap.setBlockedPartition(120, 100, (short) 2);
+
+		assertNull(dijkstra.find(getPathable(100, 100), (short) 100, (short) 100, (short) 0, (short) 30, null));
+		assertEquals(0, openedPositions);
+	}
+
+	@Test
+	public void testRepeatedSearches() {
+		fittingPositions.add(new ShortPoint2D(105, 100));
+		assertEquals(new ShortPoint2D(105, 100), dijkstra.find(getPathable(100, 100), (short) 100, (short) 100, (short) 0, (short) 30, null)
+				.getTargetPos());
+
+		fittingPositions.clear();
+		fittingPositions.add(new ShortPoint2D(100, 108));
+		assertEquals(new ShortPoint2D(100, 108), dijkstra.find(getPathable(100, 100), (short) 100, (short) 100, (short) 0, (short) 30, null)
+				.getTargetPos());
+	}
+
+	@Test
+	public void testContinuableRequestFindsReachableCandidate() {
+		fittingPositions.add(new ShortPoint2D(100, 102));
+		fittingPositions.add(new ShortPoint2D(102, 100));
+		aStarMap.setBlocked(100, 102, true);
+
+		DijkstraContinuableRequest request = new DijkstraContinuableRequest(getPathable(100, 100), (short) 100, (short) 100, (short) 1, (short) 30);
+		assertEquals(new ShortPoint2D(102, 100), dijkstra.find(request).getTargetPos());
+	}
+
+	@Test
+	public void testContinuableRequestDoesNotSearchUnreachableCandidates() {
+		fittingPositions.add(new ShortPoint2D(101, 100));
+		fittingPositions.add(new ShortPoint2D(100, 102));
+		fittingPositions.add(new ShortPoint2D(103, 103));
+		aStarMap.setBlocked(101, 100, true);
+		aStarMap.setBlockedPartition(100, 102, (short) 2);
+		aStarMap.setBlockedPartition(103, 103, (short) 2);
+
+		DijkstraContinuableRequest request = new DijkstraContinuableRequest(getPathable(100, 100), (short) 100, (short) 100, (short) 1, (short) 30);
+		for (int i = 0; i < 10; i++) {
+			assertNull(dijkstra.find(request));
+		}
+		assertEquals(0, openedPositions);
+	}
+
+	private static IPathCalculatable getPathable(final int x, final int y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public byte getPlayerId() {
+				return 0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+	}
+}
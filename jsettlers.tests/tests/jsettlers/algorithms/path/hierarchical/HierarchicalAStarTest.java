@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.hierarchical;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.DummyEmptyAStarMap;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.position.ShortPoint2D;
+
+import org.junit.Test;
+
+/**
+ * Test for the class {@link HierarchicalAStar}.
+ */
+public class HierarchicalAStarTest {
+	private static final short WIDTH = 200;
+	private static final short HEIGHT = 200;
+
+	private final DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+	private final BucketQueueAStar flatAStar = new BucketQueueAStar(map, WIDTH, HEIGHT);
+	private final HierarchicalAStar aStar = new HierarchicalAStar(map, new BucketQueueAStar(map, WIDTH, HEIGHT), WIDTH, HEIGHT);
+
+	@Test
+	public void testEmptyMap() {
+		assertValidPath(10, 10, 180, 150);
+		assertValidPath(190, 20, 5, 170);
+	}
+
+	@Test
+	public void testRandomObstacles() {
+		Random random = new Random(1234);
+		for (int i = 0; i < 4000; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+		map.setBlocked(3, 3, false);
+
+		for (int i = 0; i < 30; i++) {
+			int tx = random.nextInt(WIDTH);
+			int ty = random.nextInt(HEIGHT);
+			if (!map.isBlocked(null, tx, ty)) {
+				assertValidPath(3, 3, tx, ty);
+			}
+		}
+	}
+
+	@Test
+	public void testWallWithGap() {
+		for (int y = 0; y < HEIGHT; y++) {
+			map.setBlocked(100, y, true);
+		}
+		map.setBlocked(100, 190, false);
+
+		assertValidPath(20, 20, 180, 20);
+	}
+
+	@Test
+	public void testInvalidatePosition() {
+		for (int y = 0; y < HEIGHT; y++) {
+			map.setBlocked(100, y, true);
+		}
+		map.setBlocked(100, 190, false);
+		assertValidPath(20, 20, 180, 20);
+
+		map.setBlocked(100, 190, true);
+		aStar.invalidatePosition(100, 190);
+		assertNull(aStar.findPath(getPathable(20, 20), (short) 20, (short) 20, (short) 180, (short) 20));
+
+		map.setBlocked(100, 30, false);
+		aStar.invalidatePosition(100, 30);
+		assertValidPath(20, 20, 180, 20);
+	}
+
+	private void assertValidPath(int sx, int sy, int tx, int ty) {
+		Path expected = flatAStar.findPath(getPathable(sx, sy), (short) sx, (short) sy, (short) tx, (short) ty);
+		Path path = aStar.findPath(getPathable(sx, sy), (short) sx, (short) sy, (short) tx, (short) ty);
+
+		if (expected == null) {
+			assertNull(path);
+			return;
+		}
+
+		assertNotNull(path);
+		assertEquals(new ShortPoint2D(tx, ty), path.getTargetPos());
+		assertTrue(path.getLength() >= expected.getLength());
+
+		short x = (short) sx;
+		short y = (short) sy;
+		while (path.hasNextStep()) {
+			short nextX = path.nextX();
+			short nextY = path.nextY();
+			assertNotNull(EDirection.getDirection(x, y, nextX, nextY));
+			assertFalse(map.isBlocked(null, nextX, nextY));
+			x = nextX;
+			y = nextY;
+			path.goToNextStep();
+		}
+	}
+
+	private static IPathCalculatable getPathable(final int x, final int y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public byte getPlayerId() {
+				return 0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests that the state of multiple {@link GameInstance}s is kept separate.
+ */
+public class GameInstanceTest {
+
+	@After
+	public void unbind() {
+		GameInstance.bind(null);
+	}
+
+	@Test
+	public void testBoundInstancesAreIsolated() {
+		GameInstance first = new GameInstance();
+		GameInstance second = new GameInstance();
+
+		GameInstance.bind(first);
+		MatchConstants.init(new NetworkTimer(true), 1);
+		RescheduleTimer.schedule(MatchConstants.clock());
+		RescheduleTimer firstTimer = RescheduleTimer.getRunning();
+
+		GameInstance.bind(second);
+		MatchConstants.init(new NetworkTimer(true), 2);
+		assertNull(RescheduleTimer.getRunning());
+		assertSame(second.getRandom(), MatchConstants.random());
+
+		GameInstance.bind(first);
+		assertSame(first.getClock(), MatchConstants.clock());
+		assertSame(firstTimer, RescheduleTimer.getRunning());
+		assertNotSame(first.getRandom(), second.getRandom());
+	}
+
+	@Test
+	public void testRestoringTheDefaultInstance() {
+		GameInstance initial = GameInstance.current();
+		GameInstance first = new GameInstance();
+		GameInstance second = new GameInstance();
+
+		assertSame(initial, GameInstance.setDefault(first));
+		assertSame(first, GameInstance.setDefault(second));
+
+		GameInstance.restoreDefault(first, initial); // the first game ends while the second one is running
+		assertSame(second, GameInstance.current());
+
+		GameInstance.restoreDefault(second, first);
+		assertSame(first, GameInstance.current());
+
+		GameInstance.setDefault(initial);
+	}
+
+	@Test
+	public void testBindingIsInheritedByNewThreads() throws InterruptedException {
+		final GameInstance instance = new GameInstance();
+		final AtomicReference<GameInstance> seenInstance = new AtomicReference<GameInstance>();
+
+		GameInstance previous = GameInstance.bind(instance);
+		assertNull(previous);
+
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				seenInstance.set(GameInstance.current());
+			}
+		});
+		thread.start();
+		thread.join();
+
+		assertSame(instance, seenInstance.get());
+		assertSame(instance, GameInstance.bind(null));
+		assertNotSame(instance, GameInstance.current());
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import jsettlers.TestUtils;
+import jsettlers.algorithms.construction.IConstructionChangedListener;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.map.shapes.FreeMapArea;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.GameInstance;
+import jsettlers.logic.buildings.Building;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link MainGrid} informs the construction marks about all positions whose protection changes when buildings are placed and
+ * removed.
+ */
+public class ConstructionChangesTest {
+	private static final short WIDTH = 40;
+	private static final short HEIGHT = 40;
+	private static final ShortPoint2D POSITION = new ShortPoint2D(20, 20);
+
+	static {
+		TestUtils.setupResourcesManager();
+	}
+
+	private final RecordingListener listener = new RecordingListener();
+	private GameInstance previousInstance;
+	private MainGrid grid;
+
+	@Before
+	public void setUp() {
+		previousInstance = GameInstance.bind(new GameInstance());
+		MatchConstants.init(new NetworkTimer(true), 0);
+
+		grid = new MainGrid("test", "test", WIDTH, HEIGHT, (byte) 1);
+		grid.constructionMarksGrid.setConstructionChangedListener(listener);
+	}
+
+	@After
+	public void tearDown() {
+		GameInstance.bind(previousInstance);
+	}
+
+	@Test
+	public void testPlacingAConstructionSiteNotifiesProtectedPositions() {
+		createBuilding(false);
+
+		assertProtectedTilesNotified();
+		for (ShortPoint2D position : new FreeMapArea(POSITION, EBuildingType.LUMBERJACK.getProtectedTiles())) {
+			assertTrue(position.toString(), grid.flagsGrid.isProtected(position.x, position.y));
+		}
+	}
+
+	@Test
+	public void testRemovingAConstructionSiteNotifiesProtectedPositions() {
+		Building building = createBuilding(false);
+		listener.changedPositions.clear();
+
+		building.kill();
+
+		assertProtectedTilesNotified();
+		for (ShortPoint2D position : new FreeMapArea(POSITION, EBuildingType.LUMBERJACK.getProtectedTiles())) {
+			assertFalse(position.toString(), grid.flagsGrid.isProtected(position.x, position.y));
+		}
+	}
+
+	@Test
+	public void testRemovingAFinishedBuildingNotifiesProtectedPositions() {
+		Building building = createBuilding(true);
+		listener.changedPositions.clear();
+
+		building.kill(); // the returned materials keep some positions protected
+
+		assertProtectedTilesNotified();
+	}
+
+	private Building createBuilding(boolean fullyConstructed) {
+		return grid.constructBuildingAt(POSITION, EBuildingType.LUMBERJACK, grid.partitionsGrid.getPlayer((byte) 0), fullyConstructed);
+	}
+
+	private void assertProtectedTilesNotified() {
+		for (ShortPoint2D position : new FreeMapArea(POSITION, EBuildingType.LUMBERJACK.getProtectedTiles())) {
+			assertTrue(position.toString(), listener.changedPositions.get(position.x + position.y * WIDTH));
+		}
+	}
+
+	private static class RecordingListener implements IConstructionChangedListener {
+		final BitSet changedPositions = new BitSet(WIDTH * HEIGHT);
+
+		@Override
+		public void positionChangedAt(int x, int y) {
+			changedPositions.set(x + y * WIDTH);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import jsettlers.TestUtils;
+import jsettlers.common.CommonConstants;
+import jsettlers.common.ai.EWhatToDoAiType;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.material.EMaterialType;
+import jsettlers.common.movable.EMovableType;
+import jsettlers.graphics.startscreen.interfaces.IStartedGame;
+import jsettlers.logic.GameInstance;
+import jsettlers.logic.buildings.Building;
+import jsettlers.logic.map.grid.partition.Partition;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.map.grid.partition.data.IPartitionBuildingCounts;
+import jsettlers.logic.map.save.MapList;
+import jsettlers.logic.map.save.loader.MapLoader;
+import jsettlers.logic.player.EconomyStatistic;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.JSettlersGame;
+import jsettlers.main.replay.ReplayTool;
+import jsettlers.network.client.OfflineNetworkConnector;
+
+/**
+ * Plays a game with AI players and checks that the {@link EconomyStatistic}s and the building counts of the partitions, which are updated
+ * incrementally, always match the numbers counted from the buildings, movables and partitions of the game.
+ */
+public class EconomyStatisticIT {
+	private static final int MINUTES = 1000 * 60;
+	private static final int CHECK_PERIOD = 5 * MINUTES;
+	private static final int GAME_TIME = 40 * MINUTES;
+
+	static {
+		CommonConstants.ENABLE_CONSOLE_LOGGING = true;
+		TestUtils.setupResourcesManager();
+	}
+
+	@Test
+	public void incrementalCountersMatchRecountedCounters() {
+		PlayerSetting[] playerSettings = new PlayerSetting[4];
+		playerSettings[0] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_VERY_HARD);
+		playerSettings[1] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_HARD);
+		playerSettings[2] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_VERY_EASY);
+		playerSettings[3] = new PlayerSetting(false, null);
+
+		MapLoader map = MapList.getDefaultList().getMapById("066d3c28-8f37-41cf-96c1-270109f00b9f");
+		OfflineNetworkConnector networkConnector = ReplayTool.createPausingOfflineNetworkConnector();
+		JSettlersGame game = new JSettlersGame(map, 1l, networkConnector, (byte) 0, playerSettings);
+		game.setHeadless(true);
+		JSettlersGame.GameRunner startingGame = (JSettlersGame.GameRunner) game.start();
+		IStartedGame startedGame = ReplayTool.waitForGameStartup(startingGame);
+
+		GameInstance previousInstance = GameInstance.bind(game.getGameInstance()); // the game logic is executed on this thread
+		try {
+			MainGrid mainGrid = startingGame.getMainGrid();
+			for (int gameTime = CHECK_PERIOD; gameTime <= GAME_TIME; gameTime += CHECK_PERIOD) {
+				networkConnector.getGameClock().fastForwardTo(gameTime);
+				assertCountersMatchRecount(mainGrid, gameTime);
+				assertPartitionCountersMatchRecount(mainGrid, gameTime);
+			}
+		} finally {
+			GameInstance.bind(previousInstance);
+			ReplayTool.awaitShutdown(startedGame);
+		}
+	}
+
+	private static void assertCountersMatchRecount(MainGrid mainGrid, int gameTime) {
+		byte numberOfPlayers = mainGrid.getPartitionsGrid().getNumberOfPlayers();
+		List<List<String>> incrementalCounters = new ArrayList<List<String>>();
+		for (byte playerId = 0; playerId < numberOfPlayers; playerId++) {
+			incrementalCounters.add(describeCounters(mainGrid.getPartitionsGrid().getPlayer(playerId).getEconomyStatistic()));
+		}
+
+		mainGrid.recountEconomyStatistics();
+
+		for (byte playerId = 0; playerId < numberOfPlayers; playerId++) {
+			List<String> recountedCounters = describeCounters(mainGrid.getPartitionsGrid().getPlayer(playerId).getEconomyStatistic());
+			assertEquals("counters of player " + playerId + " after " + (gameTime / MINUTES) + " minutes", recountedCounters,
+					incrementalCounters.get(playerId));
+		}
+	}
+
+	private static List<String> describeCounters(EconomyStatistic statistic) {
+		List<String> counters = new ArrayList<String>();
+		for (EMovableType movableType : EMovableType.values()) {
+			counters.add(movableType + ": " + statistic.getNumberOf(movableType) + ", jobless: " + statistic.getNumberOfJobless(movableType));
+		}
+		for (EBuildingType buildingType : EBuildingType.values) {
+			counters.add(buildingType + ": " + statistic.getNumberOfBuildings(buildingType) + " finished, "
+					+ statistic.getNumberOfBuildingsUnderConstruction(buildingType) + " under construction");
+		}
+		counters.add("buildings: " + statistic.getNumberOfBuildings());
+		return counters;
+	}
+
+	private static void assertPartitionCountersMatchRecount(MainGrid mainGrid, int gameTime) {
+		PartitionsGrid partitionsGrid = mainGrid.getPartitionsGrid();
+		Map<Partition, Partition> partitions = new IdentityHashMap<Partition, Partition>();
+		for (int y = 0; y < mainGrid.getHeight(); y++) {
+			for (int x = 0; x < mainGrid.getWidth(); x++) {
+				Partition partition = partitionsGrid.getPartitionAt(x, y);
+				partitions.put(partition, partition);
+			}
+		}
+
+		String time = " after " + (gameTime / MINUTES) + " minutes";
+		for (byte playerId = 0; playerId < partitionsGrid.getNumberOfPlayers(); playerId++) {
+			int[] offeredMaterials = new int[EMaterialType.NUMBER_OF_MATERIALS];
+			for (Partition partition : partitions.keySet()) {
+				if (partition.getPlayerId() == playerId) {
+					for (EMaterialType materialType : EMaterialType.values) {
+						offeredMaterials[materialType.ordinal] += partition.getMaterialCounts().getAmountOf(materialType);
+					}
+				}
+			}
+
+			EconomyStatistic statistic = partitionsGrid.getPlayer(playerId).getEconomyStatistic();
+			for (EMaterialType materialType : EMaterialType.values) {
+				assertEquals(materialType + " of player " + playerId + time, offeredMaterials[materialType.ordinal],
+						statistic.getAmountOf(materialType));
+			}
+		}
+
+		Map<Partition, List<Building>> buildingsOfPartitions = new IdentityHashMap<Partition, List<Building>>();
+		for (Partition partition : partitions.keySet()) {
+			buildingsOfPartitions.put(partition, new ArrayList<Building>());
+		}
+		for (Building building : Building.getAllBuildings()) {
+			buildingsOfPartitions.get(partitionsGrid.getPartitionAt(building.getPos().x, building.getPos().y)).add(building);
+		}
+
+		for (Map.Entry<Partition, List<Building>> partitionBuildings : buildingsOfPartitions.entrySet()) {
+			IPartitionBuildingCounts buildingCounts = partitionBuildings.getKey().getBuildingCounts();
+			for (EBuildingType buildingType : EBuildingType.values) {
+				int finished = 0;
+				int underConstruction = 0;
+				for (Building building : partitionBuildings.getValue()) {
+					if (building.getBuildingType() == buildingType) {
+						if (building.isConstructionFinished()) {
+							finished++;
+						} else {
+							underConstruction++;
+						}
+					}
+				}
+
+				String partition = buildingType + " in partition of player " + partitionBuildings.getKey().getPlayerId() + time;
+				assertEquals(partition + " finished", finished, buildingCounts.getNumberOfBuildings(buildingType));
+				assertEquals(partition + " under construction", underConstruction,
+						buildingCounts.getNumberOfBuildingsUnderConstruction(buildingType));
+			}
+		}
+	}
+}
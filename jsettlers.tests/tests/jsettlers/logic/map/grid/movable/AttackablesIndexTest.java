@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.movable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import jsettlers.common.map.shapes.HexBorderArea;
+import jsettlers.common.map.shapes.HexGridArea;
+import jsettlers.common.position.ShortPoint2D;
+
+import org.junit.Test;
+
+/**
+ * Tests for the class {@link AttackablesIndex}.
+ */
+public class AttackablesIndexTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 80;
+
+	@Test
+	public void testOrdinalsFollowHexGridAreaOrder() {
+		for (int minRadius = 0; minRadius <= AttackablesIndex.MAX_SEARCH_RADIUS; minRadius += 7) {
+			int lastOrdinal = -1;
+			for (ShortPoint2D curr : new HexGridArea(0, 0, minRadius, AttackablesIndex.MAX_SEARCH_RADIUS)) {
+				int ordinal = AttackablesIndex.getOrdinal(curr.x, curr.y);
+				assertTrue(curr + " with start radius " + minRadius, ordinal > lastOrdinal);
+				lastOrdinal = ordinal;
+			}
+		}
+	}
+
+	@Test
+	public void testRingsMatchHexBorderArea() {
+		for (int radius = 1; radius <= AttackablesIndex.MAX_SEARCH_RADIUS; radius++) {
+			Set<ShortPoint2D> ring = new HashSet<ShortPoint2D>();
+			for (ShortPoint2D curr : new HexGridArea(0, 0, radius, radius)) {
+				ring.add(curr);
+			}
+
+			Set<ShortPoint2D> border = new HashSet<ShortPoint2D>();
+			for (ShortPoint2D curr : new HexBorderArea((short) 0, (short) 0, (short) radius)) {
+				border.add(curr);
+			}
+
+			assertEquals("radius " + radius, ring, border);
+		}
+	}
+
+	@Test
+	public void testClosestMatchesHexGridAreaSearch() {
+		Random random = new Random(42);
+		AttackablesIndex<Integer> index = new AttackablesIndex<Integer>(WIDTH, HEIGHT);
+		Integer[] grid = new Integer[WIDTH * HEIGHT];
+		byte[] players = new byte[WIDTH * HEIGHT];
+
+		for (int i = 0; i < 300; i++) {
+			int x = random.nextInt(WIDTH);
+			int y = random.nextInt(HEIGHT);
+			int idx = x + y * WIDTH;
+			if (grid[idx] != null) {
+				index.remove(x, y, players[idx], grid[idx]);
+			}
+			grid[idx] = i;
+			players[idx] = (byte) random.nextInt(3);
+			index.add(x, y, players[idx], grid[idx]);
+		}
+		for (int i = 0; i < 100; i++) {
+			int x = random.nextInt(WIDTH);
+			int y = random.nextInt(HEIGHT);
+			int idx = x + y * WIDTH;
+			if (grid[idx] != null) {
+				assertTrue(index.remove(x, y, players[idx], grid[idx]));
+				grid[idx] = null;
+			}
+		}
+
+		ClosestFinder finder = new ClosestFinder();
+		for (int i = 0; i < 500; i++) {
+			int centerX = random.nextInt(WIDTH);
+			int centerY = random.nextInt(HEIGHT);
+			int minRadius = random.nextInt(10);
+			int maxRadius = minRadius + random.nextInt(AttackablesIndex.MAX_SEARCH_RADIUS - minRadius + 1);
+			byte player = (byte) random.nextInt(3);
+
+			Integer expected = null;
+			for (ShortPoint2D curr : new HexGridArea(centerX, centerY, minRadius, maxRadius)) {
+				if (0 <= curr.x && curr.x < WIDTH && 0 <= curr.y && curr.y < HEIGHT) {
+					int idx = curr.x + curr.y * WIDTH;
+					if (grid[idx] != null && players[idx] != player) {
+						expected = grid[idx];
+						break;
+					}
+				}
+			}
+
+			finder.closest = null;
+			index.visit(centerX, centerY, minRadius, maxRadius, player, finder);
+			assertSame(expected, finder.closest);
+		}
+	}
+
+	private static class ClosestFinder implements AttackablesIndex.IVisitor<Integer> {
+		private Integer closest;
+		private int closestOrdinal;
+
+		@Override
+		public void visit(Integer object, int x, int y, int ordinal) {
+			if (closest == null || ordinal < closestOrdinal) {
+				closest = object;
+				closestOrdinal = ordinal;
+			}
+		}
+	}
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.datastructures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Random;
+
+import jsettlers.common.position.ILocatable;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.MathUtils;
+
+import org.junit.Test;
+
+/**
+ * Test for the class {@link PositionableList}. The results are compared with a linear search through the insertion order.
+ */
+public class PositionableListTest {
+	private static final short SIZE = 300;
+
+	private final Random random = new Random(42);
+	private final PositionableList<TestObject> list = new PositionableList<TestObject>(SIZE, SIZE);
+	private final ArrayList<TestObject> expected = new ArrayList<TestObject>();
+
+	@Test
+	public void testFindsNearestLikeLinearSearch() {
+		insertRandomObjects(500);
+
+		for (int i = 0; i < 400; i++) {
+			ShortPoint2D position = randomPosition();
+			TestObject expectedObject = getNearestLinear(position);
+			assertSame(expectedObject, list.removeObjectNextTo(position));
+			expected.remove(expectedObject);
+		}
+		assertEquals(expected.size(), list.size());
+	}
+
+	@Test
+	public void testEqualDistancesReturnFirstInserted() {
+		for (int i = 0; i < 50; i++) {
+			insert(new TestObject(100 + i % 2 * 20, 100));
+		}
+
+		for (int i = 0; i < 50; i++) {
+			assertSame(expected.remove(0), list.removeObjectNextTo(new ShortPoint2D(110, 100)));
+		}
+		assertNull(list.removeObjectNextTo(new ShortPoint2D(110, 100)));
+	}
+
+	@Test
+	public void testPositionChanged() {
+		insertRandomObjects(100);
+
+		for (TestObject object : expected) {
+			ShortPoint2D oldPosition = object.position;
+			object.position = randomPosition();
+			list.positionChanged(object, oldPosition);
+		}
+
+		for (int i = 0; i < 100; i++) {
+			ShortPoint2D position = randomPosition();
+			TestObject expectedObject = getNearestLinear(position);
+			assertSame(expectedObject, list.removeObjectNextTo(position));
+			expected.remove(expectedObject);
+		}
+	}
+
+	@Test
+	public void testObjectsAtPosition() {
+		insertRandomObjects(100);
+		TestObject first = new TestObject(10, 10);
+		TestObject second = new TestObject(10, 10);
+		insert(first);
+		insert(second);
+
+		assertSame(first, list.getObjectAt(new ShortPoint2D(10, 10)));
+		assertSame(first, list.removeObjectAt(new ShortPoint2D(10, 10)));
+		assertSame(second, list.removeObjectAt(new ShortPoint2D(10, 10)));
+		assertNull(list.getObjectAt(new ShortPoint2D(10, 10)));
+	}
+
+	@Test
+	public void testAddAllKeepsOrder() {
+		insertRandomObjects(50);
+		PositionableList<TestObject> other = new PositionableList<TestObject>(SIZE, SIZE);
+		for (int i = 0; i < 50; i++) {
+			TestObject object = new TestObject(randomPosition());
+			other.insert(object);
+			expected.add(object);
+		}
+
+		list.addAll(other);
+		assertIterationOrder(list);
+	}
+
+	@Test
+	public void testSerialization() throws IOException, ClassNotFoundException {
+		insertRandomObjects(100);
+
+		ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(byteStream);
+		oos.writeObject(list);
+		oos.writeObject(expected);
+		oos.close();
+
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+		@SuppressWarnings("unchecked")
+		PositionableList<TestObject> readList = (PositionableList<TestObject>) ois.readObject();
+		@SuppressWarnings("unchecked")
+		ArrayList<TestObject> readExpected = (ArrayList<TestObject>) ois.readObject();
+
+		expected.clear();
+		expected.addAll(readExpected);
+		assertIterationOrder(readList);
+
+		ShortPoint2D position = randomPosition();
+		assertSame(getNearestLinear(position), readList.getObjectCloseTo(position));
+	}
+
+	@Test
+	public void testSerializationWithObjectsReferencingTheList() throws IOException, ClassNotFoundException {
+		PositionableList<ListMember> members = new PositionableList<ListMember>(SIZE, SIZE);
+		members.insert(new ListMember(members, new ShortPoint2D(10, 10)));
+		members.insert(new ListMember(members, new ShortPoint2D(40, 40)));
+
+		ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(byteStream);
+		oos.writeObject(members.getObjectCloseTo(new ShortPoint2D(0, 0)));
+		oos.close();
+
+		// the list is read while its first member is read, so the member's position is not yet set when the list is deserialized
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+		ListMember member = (ListMember) ois.readObject();
+
+		assertEquals(2, member.list.size());
+		assertSame(member, member.list.getObjectCloseTo(new ShortPoint2D(12, 12)));
+		assertEquals(new ShortPoint2D(40, 40), member.list.getObjectCloseTo(new ShortPoint2D(38, 38)).getPos());
+	}
+
+	private void assertIterationOrder(PositionableList<TestObject> list) {
+		int i = 0;
+		for (TestObject curr : list) {
+			assertSame(expected.get(i++), curr);
+		}
+		assertEquals(expected.size(), i);
+	}
+
+	private void insertRandomObjects(int count) {
+		for (int i = 0; i < count; i++) {
+			insert(new TestObject(randomPosition()));
+		}
+	}
+
+	private void insert(TestObject object) {
+		list.insert(object);
+		expected.add(object);
+	}
+
+	private TestObject getNearestLinear(ShortPoint2D position) {
+		TestObject best = null;
+		int bestDistance = Integer.MAX_VALUE;
+		for (TestObject curr : expected) {
+			int distance = MathUtils.squareHypot(position, curr.getPos());
+			if (distance < bestDistance) {
+				bestDistance = distance;
+				best = curr;
+			}
+		}
+		return best;
+	}
+
+	private ShortPoint2D randomPosition() {
+		return new ShortPoint2D(random.nextInt(SIZE), random.nextInt(SIZE));
+	}
+
+	private static class ListMember implements ILocatable, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		// serialization writes the fields in alphabetical order, so the list is written before the position
+		private final PositionableList<ListMember> list;
+		private final ShortPoint2D position;
+
+		ListMember(PositionableList<ListMember> list, ShortPoint2D position) {
+			this.list = list;
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+	}
+
+	private static class TestObject implements ILocatable, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private ShortPoint2D position;
+
+		TestObject(int x, int y) {
+			this(new ShortPoint2D(x, y));
+		}
+
+		TestObject(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+	}
+}
@@ -31,7 +31,7 @@ import jsettlers.logic.map.grid.partition.manager.settings.PartitionManagerSetti
  * 
  */
 public class MaterialsManagerTest {
-	private final OffersList offersList = new OffersList(null);
+	private final OffersList offersList = new OffersList(null, (short) 100, (short) 100);
 	private final JoblessSupplierMock joblessSupplier = new JoblessSupplierMock();
 	private final MaterialsManager manager = new MaterialsManager(joblessSupplier, offersList, new PartitionManagerSettings());
 
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.statistics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests for the ring buffer of {@link StatisticHistory}.
+ */
+public class StatisticHistoryTest {
+
+	@Test
+	public void testSamplesAreReturnedFromOldestToNewest() {
+		StatisticHistory history = new StatisticHistory(4, 2);
+		int[] sample = new int[2];
+		for (int i = 0; i < 3; i++) {
+			sample[0] = i;
+			sample[1] = 10 * i;
+			history.add(1000 * i, sample);
+		}
+
+		assertEquals(3, history.size());
+		assertEquals(0, history.getTime(0));
+		assertEquals(2000, history.getTime(2));
+		assertEquals(20, history.getValue(2, 1));
+		assertArrayEquals(new int[] { 0, 1, 2 }, history.getValues(0));
+	}
+
+	@Test
+	public void testOldestSamplesAreOverwritten() {
+		StatisticHistory history = new StatisticHistory(4, 1);
+		for (int i = 0; i < 10; i++) {
+			history.add(i, new int[] { i });
+		}
+
+		assertEquals(4, history.size());
+		assertEquals(6, history.getTime(0));
+		assertArrayEquals(new int[] { 6, 7, 8, 9 }, history.getValues(0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testReadingBehindTheNewestSampleFails() {
+		StatisticHistory history = new StatisticHistory(4, 1);
+		history.add(0, new int[] { 0 });
+		history.getValue(1, 0);
+	}
+}
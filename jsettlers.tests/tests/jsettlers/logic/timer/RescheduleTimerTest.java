@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test for the class {@link RescheduleTimer}.
+ */
+public class RescheduleTimerTest {
+	private static final int TIME_SLICE = RescheduleTimer.getTimeSlice();
+
+	private final RescheduleTimer timer = new RescheduleTimer();
+	private final List<Integer> executions = new ArrayList<Integer>();
+	private int tick = 0;
+
+	@Test
+	public void testShortDelays() {
+		timer.addTimerable(new TestTimerable(1, -1), 3 * TIME_SLICE);
+		timer.addTimerable(new TestTimerable(2, -1), 1);
+		timer.addTimerable(new TestTimerable(3, -1), 3 * TIME_SLICE);
+
+		assertEquals(1, timer.getSlotOccupancy(1));
+		assertEquals(2, timer.getSlotOccupancy(3));
+
+		runTicks(5);
+		assertExecutions(2, 1, 1, 3, 3, 3);
+	}
+
+	@Test
+	public void testRescheduling() {
+		timer.addTimerable(new TestTimerable(1, 2 * TIME_SLICE), TIME_SLICE);
+
+		runTicks(6);
+		assertExecutions(1, 1, 1, 3, 1, 5);
+		assertEquals(1, timer.getLastSlotLoad());
+		assertEquals(1, timer.getMaxSlotLoad());
+	}
+
+	@Test
+	public void testOverflowLevels() {
+		int[] delaySlots = { RescheduleTimer.getNumberOfSlots() - 1, RescheduleTimer.getNumberOfSlots(), 3 * RescheduleTimer.getNumberOfSlots() + 7,
+				100 * RescheduleTimer.getNumberOfSlots() + 13 };
+
+		runTicks(17); // do not start at a slot boundary
+		for (int i = 0; i < delaySlots.length; i++) {
+			timer.addTimerable(new TestTimerable(i, -1), delaySlots[i] * TIME_SLICE);
+		}
+		assertEquals(3, timer.getOverflowOccupancy());
+
+		runTicks(delaySlots[delaySlots.length - 1] + 1);
+
+		assertEquals(0, timer.getOverflowOccupancy());
+		assertEquals(2 * delaySlots.length, executions.size());
+		for (int i = 0; i < delaySlots.length; i++) {
+			assertEquals(i, (int) executions.get(2 * i));
+			assertEquals(17 + delaySlots[i], (int) executions.get(2 * i + 1));
+		}
+	}
+
+	@Test
+	public void testMaximumDelay() {
+		timer.addTimerable(new TestTimerable(1, -1), Integer.MAX_VALUE);
+		assertEquals(1, timer.getOverflowOccupancy());
+	}
+
+	private void runTicks(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			timer.timerEvent();
+			tick++;
+		}
+	}
+
+	private void assertExecutions(int... expected) {
+		assertEquals(expected.length, executions.size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], (int) executions.get(i));
+		}
+	}
+
+	private class TestTimerable implements IScheduledTimerable {
+		private static final long serialVersionUID = 1L;
+
+		private final int id;
+		private final int rescheduleDelay;
+
+		TestTimerable(int id, int rescheduleDelay) {
+			this.id = id;
+			this.rescheduleDelay = rescheduleDelay;
+		}
+
+		@Override
+		public int timerEvent() {
+			executions.add(id);
+			executions.add(tick);
+			return rescheduleDelay;
+		}
+
+		@Override
+		public void kill() {
+		}
+	}
+}
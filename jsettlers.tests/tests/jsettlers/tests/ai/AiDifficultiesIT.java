@@ -81,6 +81,7 @@ public class AiDifficultiesIT {
 		}
 		ensureRuntimePerformance("to apply rules", startingGame.getAiExecutor().getApplyRulesStopWatch(), 50, 2500);
 		ensureRuntimePerformance("tp update statistics", startingGame.getAiExecutor().getUpdateStatisticsStopWatch(), 50, 2500);
+		System.out.println("updated positions per statistics update: " + startingGame.getAiExecutor().getAverageNumberOfUpdatedPositions());
 	}
 
 	private void holdBattleBetween(EWhatToDoAiType expectedWinner, EWhatToDoAiType expectedLooser, int maximumTimeToWin) {
@@ -116,6 +117,7 @@ public class AiDifficultiesIT {
 
 		ensureRuntimePerformance("to apply rules", startingGame.getAiExecutor().getApplyRulesStopWatch(), 50, 3000);
 		ensureRuntimePerformance("tp update statistics", startingGame.getAiExecutor().getUpdateStatisticsStopWatch(), 50, 2500);
+		System.out.println("updated positions per statistics update: " + startingGame.getAiExecutor().getAverageNumberOfUpdatedPositions());
 	}
 
 	private void ensureRuntimePerformance(String description, StatisticsStopWatch stopWatch, long median, int max) {
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2015
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.tests.ai;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jsettlers.TestUtils;
+import jsettlers.common.CommonConstants;
+import jsettlers.common.ai.EWhatToDoAiType;
+import jsettlers.logic.map.save.MapList;
+import jsettlers.logic.map.save.loader.MapLoader;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.JSettlersGame;
+import jsettlers.main.replay.ReplayTool;
+import jsettlers.network.client.OfflineNetworkConnector;
+
+/**
+ * Checks that the AI players make the same decisions, no matter how many worker threads apply their rules.
+ */
+public class AiWorkerThreadsIT {
+	private static final float GAME_TIME_MINUTES = 20;
+	private static final int MANY_WORKER_THREADS = 4;
+
+	static {
+		CommonConstants.ENABLE_CONSOLE_LOGGING = true;
+		TestUtils.setupResourcesManager();
+	}
+
+	private final int defaultMaxWorkerThreads = CommonConstants.MAX_AI_WORKER_THREADS;
+
+	@After
+	public void restoreWorkerThreads() {
+		CommonConstants.MAX_AI_WORKER_THREADS = defaultMaxWorkerThreads;
+	}
+
+	@Test
+	public void oneAndManyWorkerThreadsCreateTheSameSavegame() throws IOException, NoSuchAlgorithmException {
+		byte[] sequentialHash = playAndHashSavegame(1);
+		byte[] parallelHash = playAndHashSavegame(MANY_WORKER_THREADS);
+
+		assertArrayEquals("the AI players decided differently on " + MANY_WORKER_THREADS + " worker threads", sequentialHash, parallelHash);
+	}
+
+	private byte[] playAndHashSavegame(int maxWorkerThreads) throws IOException, NoSuchAlgorithmException {
+		CommonConstants.MAX_AI_WORKER_THREADS = maxWorkerThreads;
+
+		PlayerSetting[] playerSettings = new PlayerSetting[4];
+		playerSettings[0] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_VERY_HARD);
+		playerSettings[1] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_HARD);
+		playerSettings[2] = new PlayerSetting(true, EWhatToDoAiType.ROMAN_EASY);
+		playerSettings[3] = new PlayerSetting(false, null);
+
+		MapLoader map = MapList.getDefaultList().getMapById("066d3c28-8f37-41cf-96c1-270109f00b9f");
+		OfflineNetworkConnector networkConnector = ReplayTool.createPausingOfflineNetworkConnector();
+		JSettlersGame game = new JSettlersGame(map, 1l, networkConnector, (byte) 0, playerSettings);
+		MapLoader savegame = ReplayTool.playGameToTargetTimeAndGetSavegame(GAME_TIME_MINUTES, networkConnector, game);
+
+		// the header contains the creation date, so only the game state is compared
+		MessageDigest digest = MessageDigest.getInstance("SHA-1");
+		try (InputStream stream = savegame.getMapDataStream()) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return digest.digest();
+	}
+}
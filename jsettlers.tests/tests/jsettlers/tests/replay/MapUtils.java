@@ -7,10 +7,12 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 
 import jsettlers.common.map.MapLoadException;
+import jsettlers.logic.GameInstance;
 import jsettlers.logic.constants.ExtendedRandom;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.save.MapFileHeader;
 import jsettlers.logic.map.save.loader.MapLoader;
+import jsettlers.network.synchronic.timer.NetworkTimer;
 import jsettlers.tests.utils.CountingInputStream;
 
 public class MapUtils {
@@ -18,6 +20,18 @@ public class MapUtils {
 	static void compareMapFiles(MapLoader expectedSavegame, MapLoader actualSavegame) throws IOException, MapLoadException, ClassNotFoundException {
 		System.out.println("Comparing expected '" + expectedSavegame + "' with actual '" + actualSavegame + "' (uncompressed!)");
 
+		// the match state of the savegames is read into an own game instance, because the replayed game has already ended
+		GameInstance previousInstance = GameInstance.bind(new GameInstance());
+		try {
+			MatchConstants.init(new NetworkTimer(true), 0);
+			compareMapFileContents(expectedSavegame, actualSavegame);
+		} finally {
+			GameInstance.bind(previousInstance);
+		}
+	}
+
+	private static void compareMapFileContents(MapLoader expectedSavegame, MapLoader actualSavegame) throws IOException, MapLoadException,
+			ClassNotFoundException {
 		try (InputStream expectedStream = MapLoader.getMapInputStream(expectedSavegame.getFile());
 				CountingInputStream actualStream = new CountingInputStream(MapLoader.getMapInputStream(actualSavegame.getFile()))) {
 			MapFileHeader expectedHeader = MapFileHeader.readFromStream(expectedStream);
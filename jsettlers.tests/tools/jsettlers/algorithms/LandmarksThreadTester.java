@@ -23,6 +23,7 @@ import jsettlers.common.CommonConstants;
 import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.map.EDebugColorModes;
 import jsettlers.common.map.IGraphicsBackgroundListener;
+import jsettlers.common.map.IGraphicsChangeListener;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.map.partition.IPartitionData;
 import jsettlers.common.mapobject.IMapObject;
@@ -215,6 +216,10 @@ public class LandmarksThreadTester {
 		public void setBackgroundListener(IGraphicsBackgroundListener backgroundListener) {
 		}
 
+		@Override
+		public void setChangeListener(IGraphicsChangeListener changeListener) {
+		}
+
 		@Override
 		public IPartitionData getPartitionData(int x, int y) {
 			return null;
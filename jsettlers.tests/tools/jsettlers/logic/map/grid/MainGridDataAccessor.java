@@ -14,6 +14,9 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid;
 
+import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.algorithms.path.dijkstra.IDijkstraPathMap;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.grid.flags.FlagsGrid;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
@@ -45,4 +48,16 @@ public class MainGridDataAccessor {
 	public PartitionsGrid getPartitionsGrid() {
 		return grid.partitionsGrid;
 	}
+
+	public IAStarPathMap getAStarPathMap() {
+		return grid.new PathfinderGrid();
+	}
+
+	public IDijkstraPathMap getDijkstraPathMap() {
+		return grid.new PathfinderGrid();
+	}
+
+	public AbstractConstructionMarkableMap getConstructionMarksGrid() {
+		return grid.constructionMarksGrid;
+	}
 }
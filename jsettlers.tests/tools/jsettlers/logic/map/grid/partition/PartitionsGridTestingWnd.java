@@ -24,6 +24,7 @@ import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.logging.MilliStopWatch;
 import jsettlers.common.map.EDebugColorModes;
 import jsettlers.common.map.IGraphicsBackgroundListener;
+import jsettlers.common.map.IGraphicsChangeListener;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.map.partition.IPartitionData;
 import jsettlers.common.map.shapes.FreeMapArea;
@@ -156,6 +157,10 @@ public class PartitionsGridTestingWnd {
 			public void setBackgroundListener(IGraphicsBackgroundListener backgroundListener) {
 			}
 
+			@Override
+			public void setChangeListener(IGraphicsChangeListener changeListener) {
+			}
+
 			@Override
 			public int nextDrawableX(int x, int y, int maxX) {
 				return x + 1;